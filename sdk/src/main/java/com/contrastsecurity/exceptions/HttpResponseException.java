@@ -20,11 +20,13 @@ package com.contrastsecurity.exceptions;
  * #L%
  */
 
-import java.io.ByteArrayOutputStream;
+import com.contrastsecurity.http.TransportRequest;
+import com.contrastsecurity.http.TransportResponse;
+import com.contrastsecurity.sdk.internal.BufferPool;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
-import java.nio.charset.StandardCharsets;
+import java.net.URL;
 import java.util.Objects;
 
 /**
@@ -57,6 +59,34 @@ public class HttpResponseException extends ContrastException {
     return factory.create(message, method, path, code, status, body);
   }
 
+  /**
+   * Static factory method that captures the status line and body of the given {@code
+   * TransportResponse} to create a new exception. Closes the response.
+   *
+   * @param request request that elicited the response
+   * @param response response from which to derive status line and body information
+   * @param message error message provided by the caller
+   * @return new {@code HttpResponseException}
+   * @throws IOException when fails to read the body of the response
+   */
+  public static HttpResponseException fromResponse(
+      final TransportRequest request, final TransportResponse response, final String message)
+      throws IOException {
+    final String method = request.method().name();
+    final String path = new URL(request.url()).getPath();
+    final int code = response.code();
+    final ExceptionFactory factory = factoryFromResponseCode(code);
+    final String status = response.status();
+    final String body;
+    try (InputStream is = response.body()) {
+      final String read = readBody(is);
+      body = read == null || read.isEmpty() ? null : read;
+    } finally {
+      response.close();
+    }
+    return factory.create(message, method, path, code, status, body);
+  }
+
   /**
    * Maps HTTP response codes to the constructor for the appropriate concrete type.
    *
@@ -83,26 +113,26 @@ public class HttpResponseException extends ContrastException {
    */
   private static String readBody(final HttpURLConnection connection, final int code)
       throws IOException {
-    final String body;
     try (InputStream is =
-            code >= HttpURLConnection.HTTP_BAD_REQUEST
-                ? connection.getErrorStream()
-                : connection.getInputStream();
-        ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-      // check if there is a body to read
-      if (is == null) {
-        body = null;
-      } else {
-        // read the entire body, because error responses should always be small and fit into memory
-        final byte[] buffer = new byte[4096];
-        int read;
-        while ((read = is.read(buffer)) > 0) {
-          bos.write(buffer, 0, read);
-        }
-        body = bos.toString(StandardCharsets.UTF_8.name());
-      }
+        code >= HttpURLConnection.HTTP_BAD_REQUEST
+            ? connection.getErrorStream()
+            : connection.getInputStream()) {
+      return readBody(is);
     }
-    return body;
+  }
+
+  /**
+   * Reads the given body stream in its entirety without closing it.
+   *
+   * @return body as a string, or {@code null} if the stream is {@code null}
+   */
+  private static String readBody(final InputStream is) throws IOException {
+    // check if there is a body to read
+    if (is == null) {
+      return null;
+    }
+    // read the entire body, because error responses should always be small and fit into memory
+    return BufferPool.shared().readString(is);
   }
 
   /** Functional interface that describes the constructor shared by this class and its subclasses */
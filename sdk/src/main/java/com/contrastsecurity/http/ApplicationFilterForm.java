@@ -100,6 +100,29 @@ public class ApplicationFilterForm extends FilterForm {
     this.includeMerged = true;
   }
 
+  /**
+   * Copies the given form, such as to request another page of the same listing. Lists and sets are
+   * shared with the original.
+   *
+   * @param form the form to copy
+   */
+  public ApplicationFilterForm(ApplicationFilterForm form) {
+    super(form);
+    this.filterText = form.filterText;
+    this.filterAppCode = form.filterAppCode;
+    this.filterServers = form.filterServers;
+    this.filterTechs = form.filterTechs;
+    this.filterTags = form.filterTags;
+    this.filterLanguages = form.filterLanguages;
+    this.filterCompliance = form.filterCompliance;
+    this.environment = form.environment;
+    this.filterVulnSeverities = form.filterVulnSeverities;
+    this.includeArchived = form.includeArchived;
+    this.includeOnlyLicensed = form.includeOnlyLicensed;
+    this.quickFilter = form.quickFilter;
+    this.includeMerged = form.includeMerged;
+  }
+
   public String getFilterText() {
     return filterText;
   }
@@ -0,0 +1,96 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helpers with which transports honor the {@link Deadline} and {@link CancellationToken} of a
+ * {@link TransportRequest}.
+ */
+final class CallGuard {
+
+  /**
+   * @throws CallCancelledException when the request has been cancelled
+   * @throws DeadlineExceededException when the request's deadline has passed
+   */
+  static void check(final TransportRequest request) throws InterruptedIOException {
+    final CancellationToken cancellation = request.cancellation();
+    if (cancellation != null && cancellation.isCancelled()) {
+      throw new CallCancelledException("Call cancelled: " + request);
+    }
+    final Deadline deadline = request.deadline();
+    if (deadline != null && deadline.isExpired()) {
+      throw new DeadlineExceededException("Deadline exceeded: " + request);
+    }
+  }
+
+  /**
+   * @return whether the request's deadline, if any, leaves more than the given time
+   */
+  static boolean hasTime(final TransportRequest request, final long millis) {
+    final Deadline deadline = request.deadline();
+    return deadline == null || deadline.remainingNanos() > TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  /**
+   * Caps the given timeout so that it expires no later than the request's deadline.
+   *
+   * @param timeout timeout in milliseconds, where 0 means no timeout and a negative value means the
+   *     transport's default
+   * @return capped timeout, which is the given timeout when the request has no deadline
+   */
+  static int cap(final TransportRequest request, final int timeout) {
+    final Deadline deadline = request.deadline();
+    if (deadline == null) {
+      return timeout;
+    }
+    final long remaining = Math.max(1, Math.min(Integer.MAX_VALUE, deadline.remainingMillis()));
+    return timeout > 0 ? (int) Math.min(timeout, remaining) : (int) remaining;
+  }
+
+  /**
+   * Waits for the given time, waking early when the request is cancelled.
+   *
+   * @throws CallCancelledException when the request is cancelled
+   * @throws DeadlineExceededException when the request's deadline passes
+   * @throws InterruptedIOException when the thread is interrupted
+   */
+  static void sleep(final TransportRequest request, final long nanos, final String reason)
+      throws InterruptedIOException {
+    if (nanos > 0) {
+      final CountDownLatch cancelled = new CountDownLatch(1);
+      final CancellationToken token = request.cancellation();
+      try (CancellationToken.Registration ignored =
+          token == null ? () -> {} : token.onCancel(cancelled::countDown)) {
+        cancelled.await(nanos, TimeUnit.NANOSECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting " + reason);
+      }
+    }
+    check(request);
+  }
+
+  private CallGuard() {}
+}
@@ -0,0 +1,106 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Signals that the calls it is attached to should stop. Cancelling a token aborts calls that are in
+ * progress, closing their connections and failing them with a {@link CallCancelledException}, and
+ * fails calls that start afterwards immediately. A token may be shared by many calls, and is
+ * cancelled at most once.
+ */
+public final class CancellationToken {
+
+  /**
+   * @return new token that has not been cancelled
+   */
+  public static CancellationToken create() {
+    return new CancellationToken();
+  }
+
+  private final Set<Runnable> callbacks = new LinkedHashSet<>();
+  private volatile boolean cancelled;
+
+  private CancellationToken() {}
+
+  /** Cancels the calls attached to this token. Has no effect when already cancelled. */
+  public void cancel() {
+    final List<Runnable> pending;
+    synchronized (callbacks) {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      pending = new ArrayList<>(callbacks);
+      callbacks.clear();
+    }
+    for (final Runnable callback : pending) {
+      callback.run();
+    }
+  }
+
+  /**
+   * @return {@code true} when this token has been cancelled
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Registers a callback to run when this token is cancelled. The callback runs on the thread that
+   * cancels the token, or immediately on the calling thread when the token is already cancelled.
+   *
+   * @param callback the callback to run
+   * @return registration that removes the callback when closed
+   * @throws NullPointerException when {@code callback} is {@code null}
+   */
+  public Registration onCancel(final Runnable callback) {
+    Objects.requireNonNull(callback);
+    synchronized (callbacks) {
+      if (!cancelled) {
+        // wrap the callback so that registering the same callback twice yields distinct entries
+        final Runnable entry = callback::run;
+        callbacks.add(entry);
+        return () -> {
+          synchronized (callbacks) {
+            callbacks.remove(entry);
+          }
+        };
+      }
+    }
+    callback.run();
+    return () -> {};
+  }
+
+  /** Registration of a cancellation callback. */
+  @FunctionalInterface
+  public interface Registration extends AutoCloseable {
+
+    /** Removes the callback, if it has not already run. */
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,93 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An absolute point in time by which a call must complete. Unlike a socket timeout, which bounds
+ * each read, a deadline bounds the whole call: connecting, writing the request, waiting for and
+ * reading the response, and parsing it.
+ *
+ * <p>Deadlines are measured with {@link System#nanoTime()}, so they are not affected by changes to
+ * the system clock once created.
+ */
+public final class Deadline {
+
+  /**
+   * @param timeout time from now until the deadline
+   * @return new deadline
+   * @throws NullPointerException when {@code timeout} is {@code null}
+   */
+  public static Deadline after(final Duration timeout) {
+    return new Deadline(System.nanoTime() + Objects.requireNonNull(timeout).toNanos());
+  }
+
+  /**
+   * @param instant the deadline as measured by the system clock
+   * @return new deadline
+   * @throws NullPointerException when {@code instant} is {@code null}
+   */
+  public static Deadline at(final Instant instant) {
+    return after(Duration.between(Instant.now(), Objects.requireNonNull(instant)));
+  }
+
+  private final long nanos;
+
+  private Deadline(final long nanos) {
+    this.nanos = nanos;
+  }
+
+  /**
+   * @return time remaining until the deadline, which is negative once the deadline has passed
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(remainingNanos());
+  }
+
+  /**
+   * @return {@code true} when the deadline has passed
+   */
+  public boolean isExpired() {
+    return remainingNanos() <= 0;
+  }
+
+  /**
+   * @return time remaining until the deadline in milliseconds, rounded up, or 0 when the deadline
+   *     has passed
+   */
+  long remainingMillis() {
+    final long remaining = remainingNanos();
+    return remaining <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(remaining + 999_999);
+  }
+
+  long remainingNanos() {
+    return nanos - System.nanoTime();
+  }
+
+  @Override
+  public String toString() {
+    return "Deadline{remaining=" + remaining() + '}';
+  }
+}
@@ -83,6 +83,23 @@ public class FilterForm {
     this.status = "";
   }
 
+  /**
+   * Copies the given form, such as to request another page of the same listing. Lists and sets are
+   * shared with the original.
+   *
+   * @param form the form to copy
+   */
+  public FilterForm(FilterForm form) {
+    this.expand = form.expand;
+    this.limit = form.limit;
+    this.offset = form.offset;
+    this.startDate = form.startDate;
+    this.endDate = form.endDate;
+    this.severities = form.severities;
+    this.sort = form.sort;
+    this.status = form.status;
+  }
+
   public String getStatus() {
     return status;
   }
@@ -0,0 +1,48 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * Service provider interface for the component that exchanges HTTP messages with the Contrast API
+ * on behalf of the {@link com.contrastsecurity.sdk.ContrastSDK}.
+ *
+ * <p>The SDK uses {@link URLConnectionTransport} by default. Users who need a different HTTP
+ * client, for example the {@code java.net.http.HttpClient} available on Java 11+, may provide their
+ * own implementation via {@link com.contrastsecurity.sdk.ContrastSDK.Builder#withTransport}.
+ *
+ * <p>Implementations must be thread-safe, because a single transport is shared by every request the
+ * SDK makes.
+ */
+public interface HttpTransport {
+
+  /**
+   * Sends the given request and waits for the status line and headers of the response. Responses
+   * with error status codes are returned rather than thrown, so that the caller may decide how to
+   * handle them.
+   *
+   * @param request the request to send
+   * @return the response, which the caller is expected to close
+   * @throws IOException when an IO error occurs while sending the request or receiving the response
+   */
+  TransportResponse send(TransportRequest request) throws IOException;
+}
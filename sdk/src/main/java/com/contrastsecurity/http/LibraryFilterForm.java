@@ -87,6 +87,29 @@ public class LibraryFilterForm extends FilterForm {
     this.severities = new ArrayList<>();
   }
 
+  /**
+   * Copies the given form, such as to request another page of the same listing. Lists and sets are
+   * shared with the original.
+   *
+   * @param form the form to copy
+   */
+  public LibraryFilterForm(LibraryFilterForm form) {
+    super(form);
+    this.apps = form.apps;
+    this.servers = form.servers;
+    this.tags = form.tags;
+    this.q = form.q;
+    this.languages = form.languages;
+    this.licenses = form.licenses;
+    this.grades = form.grades;
+    this.quickFilter = form.quickFilter;
+    this.includeUsed = form.includeUsed;
+    this.includeUnused = form.includeUnused;
+    this.environments = form.environments;
+    this.statuses = form.statuses;
+    this.severities = form.severities;
+  }
+
   public List<String> getApps() {
     return apps;
   }
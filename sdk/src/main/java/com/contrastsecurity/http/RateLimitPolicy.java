@@ -0,0 +1,200 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Immutable configuration for {@link RateLimitingTransport}.
+ *
+ * <p>Each organization has its own token bucket that refills at the current rate and holds up to
+ * {@link #burst()} tokens. The rate adapts with additive increase, multiplicative decrease (AIMD):
+ * a response that completes in less than {@link #latencyThreshold()} raises the rate so that it
+ * grows by about {@link #increment()} requests per second for every second of sustained traffic,
+ * while a 429 response or a slow response multiplies the rate by {@link #decreaseFactor()}. The
+ * rate never leaves the range between {@link #minRate()} and {@link #maxRate()}.
+ */
+public final class RateLimitPolicy {
+
+  /**
+   * @return new {@link Builder} initialized with the default policy
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return the default policy
+   */
+  public static RateLimitPolicy defaults() {
+    return builder().build();
+  }
+
+  private final double initialRate;
+  private final double minRate;
+  private final double maxRate;
+  private final int burst;
+  private final double increment;
+  private final double decreaseFactor;
+  private final Duration latencyThreshold;
+
+  private RateLimitPolicy(final Builder builder) {
+    this.initialRate = builder.initialRate;
+    this.minRate = builder.minRate;
+    this.maxRate = builder.maxRate;
+    this.burst = builder.burst;
+    this.increment = builder.increment;
+    this.decreaseFactor = builder.decreaseFactor;
+    this.latencyThreshold = builder.latencyThreshold;
+  }
+
+  /**
+   * @return requests per second each organization starts with
+   */
+  public double initialRate() {
+    return initialRate;
+  }
+
+  /**
+   * @return lowest requests per second the rate decreases to
+   */
+  public double minRate() {
+    return minRate;
+  }
+
+  /**
+   * @return highest requests per second the rate increases to
+   */
+  public double maxRate() {
+    return maxRate;
+  }
+
+  /**
+   * @return number of requests that may be sent at once after a period of inactivity
+   */
+  public int burst() {
+    return burst;
+  }
+
+  /**
+   * @return requests per second added to the rate for every second of successful traffic
+   */
+  public double increment() {
+    return increment;
+  }
+
+  /**
+   * @return factor by which the rate is multiplied when Contrast is overloaded
+   */
+  public double decreaseFactor() {
+    return decreaseFactor;
+  }
+
+  /**
+   * @return response time beyond which a response is treated as a sign of overload
+   */
+  public Duration latencyThreshold() {
+    return latencyThreshold;
+  }
+
+  /** Builder for {@link RateLimitPolicy}. */
+  public static final class Builder {
+
+    private double initialRate = 10;
+    private double minRate = 0.5;
+    private double maxRate = 100;
+    private int burst = 10;
+    private double increment = 1;
+    private double decreaseFactor = 0.5;
+    private Duration latencyThreshold = Duration.ofSeconds(5);
+
+    private Builder() {}
+
+    /**
+     * @param initialRate requests per second each organization starts with
+     * @param minRate lowest requests per second the rate decreases to
+     * @param maxRate highest requests per second the rate increases to
+     * @return this
+     * @throws IllegalArgumentException when the rates are not positive or {@code initialRate} is
+     *     not between {@code minRate} and {@code maxRate}
+     */
+    public Builder rate(final double initialRate, final double minRate, final double maxRate) {
+      if (minRate <= 0 || minRate > initialRate || initialRate > maxRate) {
+        throw new IllegalArgumentException(
+            "rates must satisfy 0 < minRate <= initialRate <= maxRate");
+      }
+      this.initialRate = initialRate;
+      this.minRate = minRate;
+      this.maxRate = maxRate;
+      return this;
+    }
+
+    /**
+     * @param burst number of requests that may be sent at once after a period of inactivity
+     * @return this
+     * @throws IllegalArgumentException when {@code burst} is not positive
+     */
+    public Builder burst(final int burst) {
+      if (burst <= 0) {
+        throw new IllegalArgumentException("burst must be positive");
+      }
+      this.burst = burst;
+      return this;
+    }
+
+    /**
+     * @param increment requests per second added to the rate for every second of successful traffic
+     * @param decreaseFactor factor by which the rate is multiplied when Contrast is overloaded
+     * @return this
+     * @throws IllegalArgumentException when {@code increment} is negative or {@code decreaseFactor}
+     *     is not between 0 and 1
+     */
+    public Builder aimd(final double increment, final double decreaseFactor) {
+      if (increment < 0) {
+        throw new IllegalArgumentException("increment must not be negative");
+      }
+      if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+        throw new IllegalArgumentException("decreaseFactor must be between 0 and 1");
+      }
+      this.increment = increment;
+      this.decreaseFactor = decreaseFactor;
+      return this;
+    }
+
+    /**
+     * @param latencyThreshold response time beyond which a response is treated as a sign of
+     *     overload
+     * @return this
+     */
+    public Builder latencyThreshold(final Duration latencyThreshold) {
+      this.latencyThreshold = Objects.requireNonNull(latencyThreshold);
+      return this;
+    }
+
+    /**
+     * @return new {@link RateLimitPolicy}
+     */
+    public RateLimitPolicy build() {
+      return new RateLimitPolicy(this);
+    }
+  }
+}
@@ -0,0 +1,236 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link HttpTransport} decorator that limits the rate of requests to each Contrast organization
+ * with a token bucket whose rate adapts to how Contrast responds. See {@link RateLimitPolicy}.
+ *
+ * <p>The organization is taken from the request URL, so that traffic to one organization does not
+ * slow down another. Requests that are not scoped to an organization, such as requests for the
+ * user's profile, share a separate bucket, which the monitoring methods refer to with a {@code
+ * null} organization ID. Requests over the limit wait in the calling thread until a token becomes
+ * available.
+ */
+public final class RateLimitingTransport implements HttpTransport {
+
+  private final HttpTransport delegate;
+  private final RateLimitPolicy policy;
+  private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * @param delegate transport that sends each request
+   * @param policy rate limit policy
+   * @throws NullPointerException when any argument is {@code null}
+   */
+  public RateLimitingTransport(final HttpTransport delegate, final RateLimitPolicy policy) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.policy = Objects.requireNonNull(policy);
+  }
+
+  @Override
+  public TransportResponse send(final TransportRequest request) throws IOException {
+    final Bucket bucket =
+        buckets.computeIfAbsent(key(organizationId(request.url())), k -> new Bucket());
+    bucket.acquire(request);
+    final long start = System.nanoTime();
+    final TransportResponse response;
+    try {
+      response = delegate.send(request);
+    } catch (final SocketTimeoutException e) {
+      bucket.decrease();
+      throw e;
+    }
+    // measure from when the request was sent rather than from when it began waiting for a pooled
+    // connection, so that local contention for connections does not lower the rate
+    final long sent =
+        response instanceof TimedResponse ? ((TimedResponse) response).sentNanos() : start;
+    final long latency = System.nanoTime() - sent;
+    if (response.code() == TOO_MANY_REQUESTS || latency > policy.latencyThreshold().toNanos()) {
+      bucket.decrease();
+    } else {
+      bucket.increase();
+    }
+    return response;
+  }
+
+  /**
+   * @param organizationId ID of the organization, or {@code null} for requests that are not scoped
+   *     to an organization
+   * @return current rate limit in requests per second
+   */
+  public double rate(final String organizationId) {
+    final Bucket bucket = buckets.get(key(organizationId));
+    return bucket == null ? policy.initialRate() : bucket.rate();
+  }
+
+  /**
+   * @param organizationId ID of the organization, or {@code null} for requests that are not scoped
+   *     to an organization
+   * @return number of requests currently waiting for the rate limit
+   */
+  public int queueDepth(final String organizationId) {
+    final Bucket bucket = buckets.get(key(organizationId));
+    return bucket == null ? 0 : bucket.waiting();
+  }
+
+  /**
+   * @return IDs of the organizations that have been sent requests. Does not include {@code null}
+   *     for requests that are not scoped to an organization.
+   */
+  public Set<String> organizations() {
+    final Set<String> organizations = new HashSet<>(buckets.keySet());
+    organizations.remove(UNSCOPED);
+    return Collections.unmodifiableSet(organizations);
+  }
+
+  private static String key(final String organizationId) {
+    return organizationId == null ? UNSCOPED : organizationId;
+  }
+
+  /**
+   * Extracts the organization ID from the path of a Contrast API URL.
+   *
+   * <p>Visible for testing
+   *
+   * @return organization ID, or {@code null} when the request is not scoped to an organization
+   */
+  static String organizationId(final String url) {
+    final String path;
+    try {
+      path = new URL(url).getPath();
+    } catch (final MalformedURLException e) {
+      return null;
+    }
+    final Matcher ng = NG_PATH.matcher(path);
+    if (ng.find() && !UNSCOPED_NG_SEGMENTS.contains(ng.group(1))) {
+      return ng.group(1);
+    }
+    if (path.contains("/profile/")) {
+      return null;
+    }
+    final Matcher organizations = ORGANIZATIONS_PATH.matcher(path);
+    return organizations.find() ? organizations.group(1) : null;
+  }
+
+  /**
+   * Token bucket with an adaptive rate. Callers that find the bucket empty reserve a future token
+   * by driving the balance negative, so that waiting callers are served in the order they arrived.
+   */
+  private final class Bucket {
+
+    private double rate = policy.initialRate();
+    private double tokens = policy.burst();
+    private long refilled = System.nanoTime();
+    private long decreased;
+    private int waiting;
+
+    void acquire(final TransportRequest request) throws InterruptedIOException {
+      final long wait;
+      synchronized (this) {
+        refill();
+        tokens -= 1;
+        wait = tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+        if (wait > 0) {
+          if (!CallGuard.hasTime(request, TimeUnit.NANOSECONDS.toMillis(wait))) {
+            // fail fast rather than wait for a token the request has no time to use
+            tokens += 1;
+            throw new DeadlineExceededException(
+                "Deadline exceeded waiting for rate limit: " + request);
+          }
+          waiting++;
+        }
+      }
+      if (wait <= 0) {
+        return;
+      }
+      try {
+        CallGuard.sleep(request, wait, "for the rate limit");
+      } catch (final InterruptedIOException e) {
+        synchronized (this) {
+          tokens += 1;
+        }
+        throw e;
+      } finally {
+        synchronized (this) {
+          waiting--;
+        }
+      }
+    }
+
+    synchronized void increase() {
+      rate = Math.min(policy.maxRate(), rate + policy.increment() / rate);
+    }
+
+    /**
+     * Decreases the rate at most once per interval in which the current rate sends a full burst, so
+     * that a burst of concurrent failures caused by the same overload counts only once.
+     */
+    synchronized void decrease() {
+      final long now = System.nanoTime();
+      final long interval = (long) (policy.burst() / rate * TimeUnit.SECONDS.toNanos(1));
+      if (decreased != 0 && now - decreased < interval) {
+        return;
+      }
+      refill();
+      decreased = now;
+      rate = Math.max(policy.minRate(), rate * policy.decreaseFactor());
+    }
+
+    synchronized double rate() {
+      return rate;
+    }
+
+    synchronized int waiting() {
+      return waiting;
+    }
+
+    private void refill() {
+      final long now = System.nanoTime();
+      final double elapsed = (now - refilled) / (double) TimeUnit.SECONDS.toNanos(1);
+      tokens = Math.min(policy.burst(), tokens + elapsed * rate);
+      refilled = now;
+    }
+  }
+
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final String UNSCOPED = "";
+  private static final Pattern NG_PATH = Pattern.compile("/ng/([^/]+)/");
+  private static final Pattern ORGANIZATIONS_PATH = Pattern.compile("/organizations/([^/]+)");
+  private static final Set<String> UNSCOPED_NG_SEGMENTS =
+      new HashSet<>(Arrays.asList("global", "profile", "integrations"));
+}
@@ -0,0 +1,114 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/** The body of a {@link TransportRequest}. */
+public interface RequestBody {
+
+  /**
+   * Creates a body from the given string.
+   *
+   * @param content the body content, which is encoded in UTF-8
+   * @param mediaType the media type of the content
+   * @return new {@code RequestBody}
+   * @throws NullPointerException when any argument is {@code null}
+   */
+  static RequestBody of(final String content, final MediaType mediaType) {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    final String contentType = mediaType.getType();
+    return new RequestBody() {
+      @Override
+      public String contentType() {
+        return contentType;
+      }
+
+      @Override
+      public long contentLength() {
+        return bytes.length;
+      }
+
+      @Override
+      public void writeTo(final OutputStream os) throws IOException {
+        Objects.requireNonNull(os).write(bytes, 0, bytes.length);
+      }
+    };
+  }
+
+  /**
+   * Creates a JSON body that serializes the given object directly to the request stream, without
+   * first building the JSON as a {@code String} or {@code byte[]}. The object is serialized each
+   * time the body is written, so it should not change until the request completes.
+   *
+   * @param gson the {@code Gson} that serializes the object
+   * @param src the object to serialize
+   * @return new {@code RequestBody} with content type {@link MediaType#JSON}
+   * @throws NullPointerException when any argument is {@code null}
+   */
+  static RequestBody json(final Gson gson, final Object src) {
+    Objects.requireNonNull(gson);
+    Objects.requireNonNull(src);
+    final String contentType = MediaType.JSON.getType();
+    return new RequestBody() {
+      @Override
+      public String contentType() {
+        return contentType;
+      }
+
+      @Override
+      public void writeTo(final OutputStream os) throws IOException {
+        final JsonWriter writer =
+            gson.newJsonWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        gson.toJson(src, src.getClass(), writer);
+        // flush without closing, because the caller owns the stream
+        writer.flush();
+      }
+    };
+  }
+
+  /**
+   * @return value for the Content-Type header
+   */
+  String contentType();
+
+  /**
+   * @return length of the body in bytes, or -1 if the length is not known ahead of time
+   */
+  default long contentLength() {
+    return -1;
+  }
+
+  /**
+   * Writes the body to the given stream. Transports may call this more than once for the same
+   * request e.g. when following a redirect, so implementations should be repeatable.
+   *
+   * @param os stream to which the body is written. Implementations should not close the stream.
+   * @throws IOException when fails to write the body
+   */
+  void writeTo(OutputStream os) throws IOException;
+}
@@ -0,0 +1,274 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable configuration for {@link RetryingTransport}.
+ *
+ * <p>Failed attempts are retried after an exponential backoff with full jitter: the delay before
+ * retry {@code n} is a random duration between zero and {@code min(maxBackoff, initialBackoff *
+ * multiplier^(n-1))}. When the server includes a {@code Retry-After} header, that delay is used
+ * instead.
+ *
+ * <p>Each call has a retry budget of {@link #maxAttempts()} attempts and {@link #maxRetryTime()} of
+ * total elapsed time; when either runs out, the last failure is returned to the caller. In
+ * addition, all calls share a throttle in the style of gRPC retry throttling: every failed attempt
+ * costs one token and every success earns back {@link #throttleTokenRatio()} tokens, and retries
+ * stop while fewer than half of {@link #throttleMaxTokens()} remain. This keeps retries from
+ * multiplying the load on a Contrast instance that is already failing.
+ */
+public final class RetryPolicy {
+
+  /**
+   * @return new {@link Builder} initialized with the default policy
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return the default policy
+   */
+  public static RetryPolicy defaults() {
+    return builder().build();
+  }
+
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final double multiplier;
+  private final Duration maxRetryTime;
+  private final Set<Integer> retryableStatusCodes;
+  private final Set<HttpMethod> retryableMethods;
+  private final int throttleMaxTokens;
+  private final double throttleTokenRatio;
+
+  private RetryPolicy(final Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.initialBackoff = builder.initialBackoff;
+    this.maxBackoff = builder.maxBackoff;
+    this.multiplier = builder.multiplier;
+    this.maxRetryTime = builder.maxRetryTime;
+    this.retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(builder.statusCodes));
+    this.retryableMethods = Collections.unmodifiableSet(EnumSet.copyOf(builder.methods));
+    this.throttleMaxTokens = builder.throttleMaxTokens;
+    this.throttleTokenRatio = builder.throttleTokenRatio;
+  }
+
+  /**
+   * @return maximum number of attempts per call, including the first
+   */
+  public int maxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * @return upper bound of the delay before the first retry
+   */
+  public Duration initialBackoff() {
+    return initialBackoff;
+  }
+
+  /**
+   * @return upper bound of the delay before any retry
+   */
+  public Duration maxBackoff() {
+    return maxBackoff;
+  }
+
+  /**
+   * @return factor by which the backoff grows after each retry
+   */
+  public double multiplier() {
+    return multiplier;
+  }
+
+  /**
+   * @return maximum time a call may spend on retries, measured from the start of the first attempt
+   */
+  public Duration maxRetryTime() {
+    return maxRetryTime;
+  }
+
+  /**
+   * @return response status codes that are retried
+   */
+  public Set<Integer> retryableStatusCodes() {
+    return retryableStatusCodes;
+  }
+
+  /**
+   * @return request methods that are retried. Defaults to the idempotent methods.
+   */
+  public Set<HttpMethod> retryableMethods() {
+    return retryableMethods;
+  }
+
+  /**
+   * @return capacity of the token bucket shared by all calls
+   */
+  public int throttleMaxTokens() {
+    return throttleMaxTokens;
+  }
+
+  /**
+   * @return tokens earned back by each successful attempt
+   */
+  public double throttleTokenRatio() {
+    return throttleTokenRatio;
+  }
+
+  /**
+   * Computes the upper bound of the delay before the given retry.
+   *
+   * @param retry number of the retry, starting at 1
+   * @return upper bound of the delay in milliseconds
+   */
+  long backoffCeilingMillis(final int retry) {
+    final double ceiling = initialBackoff.toMillis() * Math.pow(multiplier, retry - 1);
+    return (long) Math.min(ceiling, maxBackoff.toMillis());
+  }
+
+  /** Builder for {@link RetryPolicy}. */
+  public static final class Builder {
+
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+    private double multiplier = 2.0;
+    private Duration maxRetryTime = Duration.ofMinutes(2);
+    private Set<Integer> statusCodes = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+    private Set<HttpMethod> methods =
+        EnumSet.of(
+            HttpMethod.GET,
+            HttpMethod.HEAD,
+            HttpMethod.OPTIONS,
+            HttpMethod.PUT,
+            HttpMethod.DELETE,
+            HttpMethod.TRACE);
+    private int throttleMaxTokens = 10;
+    private double throttleTokenRatio = 0.1;
+
+    private Builder() {}
+
+    /**
+     * @param maxAttempts maximum number of attempts per call, including the first. 1 disables
+     *     retries.
+     * @return this
+     * @throws IllegalArgumentException when {@code maxAttempts} is not positive
+     */
+    public Builder maxAttempts(final int maxAttempts) {
+      if (maxAttempts <= 0) {
+        throw new IllegalArgumentException("maxAttempts must be positive");
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * @param initialBackoff upper bound of the delay before the first retry
+     * @param maxBackoff upper bound of the delay before any retry
+     * @param multiplier factor by which the backoff grows after each retry
+     * @return this
+     * @throws IllegalArgumentException when the durations are negative or the multiplier is less
+     *     than 1
+     */
+    public Builder backoff(
+        final Duration initialBackoff, final Duration maxBackoff, final double multiplier) {
+      if (initialBackoff.isNegative() || maxBackoff.isNegative()) {
+        throw new IllegalArgumentException("backoff must not be negative");
+      }
+      if (multiplier < 1) {
+        throw new IllegalArgumentException("multiplier must be at least 1");
+      }
+      this.initialBackoff = initialBackoff;
+      this.maxBackoff = maxBackoff;
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /**
+     * @param maxRetryTime maximum time a call may spend on retries, measured from the start of the
+     *     first attempt
+     * @return this
+     */
+    public Builder maxRetryTime(final Duration maxRetryTime) {
+      this.maxRetryTime = Objects.requireNonNull(maxRetryTime);
+      return this;
+    }
+
+    /**
+     * @param codes response status codes to retry
+     * @return this
+     */
+    public Builder retryableStatusCodes(final Integer... codes) {
+      this.statusCodes = new HashSet<>(Arrays.asList(codes));
+      return this;
+    }
+
+    /**
+     * Overrides the request methods to retry. Only include non-idempotent methods such as POST when
+     * the requests are known to be safe to repeat, like the POST requests the SDK uses for
+     * searching traces.
+     *
+     * @param methods request methods to retry
+     * @return this
+     * @throws IllegalArgumentException when no methods are given
+     */
+    public Builder retryableMethods(final HttpMethod... methods) {
+      if (methods.length == 0) {
+        throw new IllegalArgumentException("at least one method is required");
+      }
+      this.methods = EnumSet.copyOf(Arrays.asList(methods));
+      return this;
+    }
+
+    /**
+     * @param maxTokens capacity of the token bucket shared by all calls
+     * @param tokenRatio tokens earned back by each successful attempt
+     * @return this
+     * @throws IllegalArgumentException when either argument is not positive
+     */
+    public Builder throttle(final int maxTokens, final double tokenRatio) {
+      if (maxTokens <= 0 || tokenRatio <= 0) {
+        throw new IllegalArgumentException("throttle parameters must be positive");
+      }
+      this.throttleMaxTokens = maxTokens;
+      this.throttleTokenRatio = tokenRatio;
+      return this;
+    }
+
+    /**
+     * @return new {@link RetryPolicy}
+     */
+    public RetryPolicy build() {
+      return new RetryPolicy(this);
+    }
+  }
+}
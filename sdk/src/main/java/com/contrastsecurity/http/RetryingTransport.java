@@ -0,0 +1,195 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLHandshakeException;
+
+/**
+ * {@link HttpTransport} decorator that retries failed attempts according to a {@link RetryPolicy}.
+ *
+ * <p>An attempt fails when the delegate throws an {@link IOException} that is likely to be
+ * transient, such as a refused connection or a read timeout, or when the response has one of the
+ * policy's retryable status codes. Only requests with one of the policy's retryable methods are
+ * retried. When the retry budget runs out, the caller receives the last failed response or
+ * exception. A request is not retried when it has been cancelled or when its deadline would pass
+ * before the next attempt.
+ */
+public final class RetryingTransport implements HttpTransport {
+
+  private final HttpTransport delegate;
+  private final RetryPolicy policy;
+  private final Object lock = new Object();
+  private double tokens;
+
+  /**
+   * @param delegate transport that sends each attempt
+   * @param policy retry policy
+   * @throws NullPointerException when any argument is {@code null}
+   */
+  public RetryingTransport(final HttpTransport delegate, final RetryPolicy policy) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.policy = Objects.requireNonNull(policy);
+    this.tokens = policy.throttleMaxTokens();
+  }
+
+  @Override
+  public TransportResponse send(final TransportRequest request) throws IOException {
+    if (!policy.retryableMethods().contains(request.method())) {
+      return delegate.send(request);
+    }
+    final long start = System.nanoTime();
+    IOException previous = null;
+    for (int attempt = 1; ; attempt++) {
+      final TransportResponse response;
+      try {
+        response = delegate.send(request);
+      } catch (final IOException e) {
+        if (previous != null) {
+          e.addSuppressed(previous);
+        }
+        if (!isTransient(e)) {
+          throw e;
+        }
+        onFailure();
+        final long delay = jitteredBackoff(attempt);
+        if (!mayRetry(request, attempt, start, delay)) {
+          throw e;
+        }
+        previous = e;
+        CallGuard.sleep(request, TimeUnit.MILLISECONDS.toNanos(delay), "to retry");
+        continue;
+      }
+      if (!policy.retryableStatusCodes().contains(response.code())) {
+        onSuccess();
+        return response;
+      }
+      onFailure();
+      final Long retryAfter = retryAfterMillis(response.header("Retry-After"));
+      final long delay = retryAfter == null ? jitteredBackoff(attempt) : retryAfter;
+      if (!mayRetry(request, attempt, start, delay)) {
+        return response;
+      }
+      response.close();
+      CallGuard.sleep(request, TimeUnit.MILLISECONDS.toNanos(delay), "to retry");
+    }
+  }
+
+  /**
+   * @return current number of tokens in the shared retry throttle
+   */
+  public double throttleTokens() {
+    synchronized (lock) {
+      return tokens;
+    }
+  }
+
+  private boolean mayRetry(
+      final TransportRequest request, final int attempt, final long start, final long delay) {
+    if (attempt >= policy.maxAttempts()) {
+      return false;
+    }
+    final CancellationToken cancellation = request.cancellation();
+    if (cancellation != null && cancellation.isCancelled()) {
+      return false;
+    }
+    if (!CallGuard.hasTime(request, delay)) {
+      return false;
+    }
+    final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    if (elapsed + delay > policy.maxRetryTime().toMillis()) {
+      return false;
+    }
+    synchronized (lock) {
+      return tokens > policy.throttleMaxTokens() / 2.0;
+    }
+  }
+
+  private void onSuccess() {
+    synchronized (lock) {
+      tokens = Math.min(policy.throttleMaxTokens(), tokens + policy.throttleTokenRatio());
+    }
+  }
+
+  private void onFailure() {
+    synchronized (lock) {
+      tokens = Math.max(0, tokens - 1);
+    }
+  }
+
+  private long jitteredBackoff(final int retry) {
+    final long ceiling = policy.backoffCeilingMillis(retry);
+    return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  /**
+   * Determines whether the given failure may succeed if retried. Interrupts and failures caused by
+   * configuration errors are not retried, but timeouts are.
+   */
+  private static boolean isTransient(final IOException e) {
+    if (e instanceof InterruptedIOException) {
+      return e instanceof SocketTimeoutException;
+    }
+    return !(e instanceof UnknownHostException
+        || e instanceof MalformedURLException
+        || e instanceof ProtocolException
+        || e instanceof SSLHandshakeException);
+  }
+
+  /**
+   * Parses the value of a {@code Retry-After} header, which is either a number of seconds or an
+   * HTTP date.
+   *
+   * <p>Visible for testing
+   *
+   * @return delay in milliseconds, or {@code null} when the value is absent or malformed
+   */
+  static Long retryAfterMillis(final String value) {
+    if (value == null || value.trim().isEmpty()) {
+      return null;
+    }
+    final String trimmed = value.trim();
+    try {
+      return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(trimmed)));
+    } catch (final NumberFormatException ignored) {
+      // not a number of seconds, so try an HTTP date
+    }
+    try {
+      final Instant date =
+          ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      return Math.max(0, date.toEpochMilli() - System.currentTimeMillis());
+    } catch (final DateTimeParseException e) {
+      return null;
+    }
+  }
+}
@@ -65,6 +65,22 @@ public class ServerFilterForm extends FilterForm {
     this.tags = new ArrayList<>();
   }
 
+  /**
+   * Copies the given form, such as to request another page of the same listing. Lists and sets are
+   * shared with the original.
+   *
+   * @param form the form to copy
+   */
+  public ServerFilterForm(ServerFilterForm form) {
+    super(form);
+    this.q = form.q;
+    this.includeArchived = form.includeArchived;
+    this.applicationIds = form.applicationIds;
+    this.logLevels = form.logLevels;
+    this.tags = form.tags;
+    this.quickFilter = form.quickFilter;
+  }
+
   public String getQ() {
     return q;
   }
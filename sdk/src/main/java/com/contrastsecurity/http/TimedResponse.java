@@ -0,0 +1,34 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * {@link TransportResponse} that knows when its request left the transport, after any wait for a
+ * connection from a pool. {@link RateLimitingTransport} uses it to measure the response time of
+ * Contrast alone, so that contention for local connections is not mistaken for a slow server.
+ */
+interface TimedResponse extends TransportResponse {
+
+  /**
+   * @return value of {@link System#nanoTime()} when the transport began sending the request
+   */
+  long sentNanos();
+}
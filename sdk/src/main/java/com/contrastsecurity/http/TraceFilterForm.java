@@ -118,6 +118,33 @@ public class TraceFilterForm {
     this.untracked = false;
   }
 
+  /**
+   * Copies the given form, such as to request another page of the same listing. Lists and sets are
+   * shared with the original.
+   *
+   * @param form the form to copy
+   */
+  public TraceFilterForm(TraceFilterForm form) {
+    this.filterText = form.filterText;
+    this.startDate = form.startDate;
+    this.endDate = form.endDate;
+    this.filterTags = form.filterTags;
+    this.severities = form.severities;
+    this.status = form.status;
+    this.vulnTypes = form.vulnTypes;
+    this.appVersionTags = form.appVersionTags;
+    this.serverIds = form.serverIds;
+    this.environments = form.environments;
+    this.urls = form.urls;
+    this.modules = form.modules;
+    this.expand = form.expand;
+    this.limit = form.limit;
+    this.offset = form.offset;
+    this.sort = form.sort;
+    this.tracked = form.tracked;
+    this.untracked = form.untracked;
+  }
+
   /**
    * Translate the filters to one or more URL query arguments
    *
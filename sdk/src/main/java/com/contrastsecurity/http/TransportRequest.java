@@ -0,0 +1,223 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/** An immutable HTTP request to be sent by an {@link HttpTransport}. */
+public final class TransportRequest {
+
+  /**
+   * @param method HTTP method
+   * @param url absolute URL of the request
+   * @return new {@link Builder}
+   * @throws NullPointerException when any argument is {@code null}
+   */
+  public static Builder builder(final HttpMethod method, final String url) {
+    return new Builder(method, url);
+  }
+
+  private final HttpMethod method;
+  private final String url;
+  private final Map<String, String> headers;
+  private final RequestBody body;
+  private final int connectTimeout;
+  private final int readTimeout;
+  private final Deadline deadline;
+  private final CancellationToken cancellation;
+
+  private TransportRequest(final Builder builder) {
+    this.method = builder.method;
+    this.url = builder.url;
+    this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(builder.headers));
+    this.body = builder.body;
+    this.connectTimeout = builder.connectTimeout;
+    this.readTimeout = builder.readTimeout;
+    this.deadline = builder.deadline;
+    this.cancellation = builder.cancellation;
+  }
+
+  /**
+   * @return HTTP method
+   */
+  public HttpMethod method() {
+    return method;
+  }
+
+  /**
+   * @return absolute URL of the request
+   */
+  public String url() {
+    return url;
+  }
+
+  /**
+   * @return unmodifiable map of request headers in the order they were added
+   */
+  public Map<String, String> headers() {
+    return headers;
+  }
+
+  /**
+   * @return request body, or {@code null} if the request has no body
+   */
+  public RequestBody body() {
+    return body;
+  }
+
+  /**
+   * @return connect timeout in milliseconds, or a negative value to use the transport's default
+   */
+  public int connectTimeout() {
+    return connectTimeout;
+  }
+
+  /**
+   * @return read timeout in milliseconds, or a negative value to use the transport's default
+   */
+  public int readTimeout() {
+    return readTimeout;
+  }
+
+  /**
+   * @return deadline by which the whole exchange, including reading the response body, must
+   *     complete, or {@code null} if there is no deadline
+   */
+  public Deadline deadline() {
+    return deadline;
+  }
+
+  /**
+   * @return token that aborts the exchange when cancelled, or {@code null} if the exchange cannot
+   *     be cancelled
+   */
+  public CancellationToken cancellation() {
+    return cancellation;
+  }
+
+  /**
+   * @return new {@link Builder} initialized with the values of this request
+   */
+  public Builder toBuilder() {
+    final Builder builder = new Builder(method, url);
+    builder.headers.putAll(headers);
+    builder.body = body;
+    builder.connectTimeout = connectTimeout;
+    builder.readTimeout = readTimeout;
+    builder.deadline = deadline;
+    builder.cancellation = cancellation;
+    return builder;
+  }
+
+  @Override
+  public String toString() {
+    return method + " " + url;
+  }
+
+  /** Builder for {@link TransportRequest}. */
+  public static final class Builder {
+
+    private final HttpMethod method;
+    private final String url;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private RequestBody body;
+    private int connectTimeout = -1;
+    private int readTimeout = -1;
+    private Deadline deadline;
+    private CancellationToken cancellation;
+
+    private Builder(final HttpMethod method, final String url) {
+      this.method = Objects.requireNonNull(method);
+      this.url = Objects.requireNonNull(url);
+    }
+
+    /**
+     * Sets a request header, replacing any previous value for the same name.
+     *
+     * @param name header name
+     * @param value header value
+     * @return this
+     * @throws NullPointerException when any argument is {@code null}
+     */
+    public Builder header(final String name, final String value) {
+      headers.put(Objects.requireNonNull(name), Objects.requireNonNull(value));
+      return this;
+    }
+
+    /**
+     * @param body request body, or {@code null} for no body
+     * @return this
+     */
+    public Builder body(final RequestBody body) {
+      this.body = body;
+      return this;
+    }
+
+    /**
+     * @param connectTimeout connect timeout in milliseconds, or a negative value to use the
+     *     transport's default
+     * @return this
+     */
+    public Builder connectTimeout(final int connectTimeout) {
+      this.connectTimeout = connectTimeout;
+      return this;
+    }
+
+    /**
+     * @param readTimeout read timeout in milliseconds, or a negative value to use the transport's
+     *     default
+     * @return this
+     */
+    public Builder readTimeout(final int readTimeout) {
+      this.readTimeout = readTimeout;
+      return this;
+    }
+
+    /**
+     * @param deadline deadline by which the whole exchange must complete, or {@code null} for no
+     *     deadline
+     * @return this
+     */
+    public Builder deadline(final Deadline deadline) {
+      this.deadline = deadline;
+      return this;
+    }
+
+    /**
+     * @param cancellation token that aborts the exchange when cancelled, or {@code null}
+     * @return this
+     */
+    public Builder cancellation(final CancellationToken cancellation) {
+      this.cancellation = cancellation;
+      return this;
+    }
+
+    /**
+     * @return new {@link TransportRequest}
+     */
+    public TransportRequest build() {
+      return new TransportRequest(this);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An HTTP response received by an {@link HttpTransport}. Callers must close either the response or
+ * its body stream so that the transport may release the underlying connection.
+ */
+public interface TransportResponse extends Closeable {
+
+  /**
+   * @return code from the status line e.g. 200
+   */
+  int code();
+
+  /**
+   * @return message from the status line e.g. OK, or {@code null} if there is no such message
+   */
+  String status();
+
+  /**
+   * @param name case-insensitive header name
+   * @return value of the given response header, or {@code null} if there is no such header
+   */
+  String header(String name);
+
+  /**
+   * Opens the body of the response. For error status codes, this is the error body. Closing the
+   * returned stream closes this response.
+   *
+   * @return stream for reading the body, which is empty when the response has no body
+   * @throws IOException when fails to open the body
+   */
+  InputStream body() throws IOException;
+}
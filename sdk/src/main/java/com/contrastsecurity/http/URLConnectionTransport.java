@@ -0,0 +1,510 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link HttpTransport} implemented with {@link HttpURLConnection}.
+ *
+ * <p>{@code HttpURLConnection} keeps idle connections alive in a JVM-wide cache that holds at most
+ * {@code http.maxConnections} (default 5) connections per destination. When more requests than that
+ * are in flight at once, the surplus connections are closed after use, and every subsequent request
+ * pays for a new TCP connection and TLS handshake. The {@link #pooled(Proxy, int)} variant bounds
+ * the number of connections in flight so that every connection is returned to the keep-alive cache
+ * and reused.
+ *
+ * <p>Unless the request sets its own {@code Accept-Encoding} header, the transport asks for gzip or
+ * deflate compressed responses and decompresses them transparently, so callers always read the
+ * decoded body.
+ */
+public final class URLConnectionTransport implements HttpTransport {
+
+  /**
+   * @param proxy proxy through which to make connections
+   * @return new transport that does not limit the number of concurrent connections
+   * @throws NullPointerException when {@code proxy} is {@code null}
+   */
+  public static URLConnectionTransport create(final Proxy proxy) {
+    return new URLConnectionTransport(proxy, null);
+  }
+
+  /**
+   * @param proxy proxy through which to make connections
+   * @return new transport that limits the number of concurrent connections to the size of the JVM's
+   *     keep-alive cache
+   * @throws NullPointerException when {@code proxy} is {@code null}
+   */
+  public static URLConnectionTransport pooled(final Proxy proxy) {
+    return pooled(proxy, Integer.getInteger("http.maxConnections", DEFAULT_MAX_CONNECTIONS));
+  }
+
+  /**
+   * @param proxy proxy through which to make connections
+   * @param maxConnections maximum number of connections in flight at once. Requests beyond this
+   *     limit wait for a connection to be released, which happens when its response is closed, so a
+   *     thread that makes a request while holding an open response can wait forever once every
+   *     connection is held that way; requests with a deadline or cancellation token stop waiting
+   *     when it expires. Should not exceed the {@code http.maxConnections} system property, else
+   *     surplus connections are not kept alive.
+   * @return new transport that limits the number of concurrent connections
+   * @throws IllegalArgumentException when {@code maxConnections} is not positive
+   * @throws NullPointerException when {@code proxy} is {@code null}
+   */
+  public static URLConnectionTransport pooled(final Proxy proxy, final int maxConnections) {
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("maxConnections must be positive");
+    }
+    return new URLConnectionTransport(proxy, new Semaphore(maxConnections, true));
+  }
+
+  private final Proxy proxy;
+  private final Semaphore permits;
+
+  private URLConnectionTransport(final Proxy proxy, final Semaphore permits) {
+    this.proxy = Objects.requireNonNull(proxy);
+    this.permits = permits;
+  }
+
+  @Override
+  public TransportResponse send(final TransportRequest request) throws IOException {
+    CallGuard.check(request);
+    acquire(request);
+    final long sentNanos = System.nanoTime();
+    boolean sent = false;
+    HttpURLConnection connection = null;
+    Watchdog watchdog = null;
+    try {
+      connection = open(request);
+      watchdog = new Watchdog(request, connection);
+      final RequestBody body = request.body();
+      if (body != null) {
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", body.contentType());
+        if (body.contentLength() < 0) {
+          // stream bodies of unknown length, which may be large, to the socket instead of letting
+          // HttpURLConnection buffer them in memory to compute the Content-Length
+          connection.setChunkedStreamingMode(0);
+        }
+        try (OutputStream os = connection.getOutputStream()) {
+          body.writeTo(os);
+        }
+      }
+      final int code = connection.getResponseCode();
+      watchdog.check();
+      final Response response =
+          new Response(connection, code, negotiated(request), watchdog, sentNanos);
+      sent = true;
+      return response;
+    } catch (final IOException e) {
+      throw watchdog == null ? e : watchdog.translate(e);
+    } finally {
+      if (!sent) {
+        if (watchdog != null) {
+          watchdog.close();
+        }
+        if (connection != null) {
+          connection.disconnect();
+        }
+        release();
+      }
+    }
+  }
+
+  private HttpURLConnection open(final TransportRequest request) throws IOException {
+    final HttpURLConnection connection =
+        (HttpURLConnection) new URL(request.url()).openConnection(proxy);
+    connection.setRequestMethod(request.method().name());
+    for (final Map.Entry<String, String> header : request.headers().entrySet()) {
+      connection.setRequestProperty(header.getKey(), header.getValue());
+    }
+    if (negotiated(request)) {
+      connection.setRequestProperty(ACCEPT_ENCODING, SUPPORTED_ENCODINGS);
+    }
+    connection.setUseCaches(false);
+    final int connectTimeout = CallGuard.cap(request, request.connectTimeout());
+    if (connectTimeout >= 0) {
+      connection.setConnectTimeout(connectTimeout);
+    }
+    final int readTimeout = CallGuard.cap(request, request.readTimeout());
+    if (readTimeout >= 0) {
+      connection.setReadTimeout(readTimeout);
+    }
+    return connection;
+  }
+
+  /**
+   * Determines whether this transport negotiates the content encoding for the given request.
+   * Callers that set their own {@code Accept-Encoding} header receive the response body as sent.
+   */
+  private static boolean negotiated(final TransportRequest request) {
+    for (final String name : request.headers().keySet()) {
+      if (ACCEPT_ENCODING.equalsIgnoreCase(name)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Wraps the given body in a stream that decodes the given content encoding.
+   *
+   * @return decoded body, or the given body when it is empty or not encoded with gzip or deflate
+   */
+  private static InputStream decode(final InputStream is, final String encoding)
+      throws IOException {
+    final PushbackInputStream pushback = new PushbackInputStream(is, 2);
+    final int b0 = pushback.read();
+    if (b0 < 0) {
+      return pushback;
+    }
+    final int b1 = pushback.read();
+    if (b1 >= 0) {
+      pushback.unread(b1);
+    }
+    pushback.unread(b0);
+    if (!encoding.trim().equalsIgnoreCase("deflate")) {
+      return new GZIPInputStream(pushback, BUFFER_SIZE);
+    }
+    // HTTP specifies that deflate bodies are zlib streams, but some servers send raw deflate data,
+    // so check for a zlib header before choosing how to inflate
+    final boolean zlib = b1 >= 0 && (b0 & 0x0F) == 8 && ((b0 << 8) | b1) % 31 == 0;
+    return new InflaterInputStream(pushback, new Inflater(!zlib), BUFFER_SIZE) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          inf.end();
+        }
+      }
+    };
+  }
+
+  private void acquire(final TransportRequest request) throws InterruptedIOException {
+    if (permits == null) {
+      return;
+    }
+    try {
+      if (request.deadline() == null && request.cancellation() == null) {
+        permits.acquire();
+        return;
+      }
+      // poll so that a request waiting for a connection still honors its deadline and cancellation
+      while (!permits.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        CallGuard.check(request);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a connection");
+    }
+  }
+
+  private void release() {
+    if (permits != null) {
+      permits.release();
+    }
+  }
+
+  /**
+   * {@link TransportResponse} backed by an {@code HttpURLConnection}. Closing the response closes
+   * the body stream without disconnecting, which returns the connection to the keep-alive cache.
+   */
+  private final class Response implements TimedResponse {
+
+    private final HttpURLConnection connection;
+    private final int code;
+    private final boolean decoded;
+    private final Watchdog watchdog;
+    private final long sentNanos;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private InputStream body;
+
+    private Response(
+        final HttpURLConnection connection,
+        final int code,
+        final boolean negotiated,
+        final Watchdog watchdog,
+        final long sentNanos) {
+      this.connection = connection;
+      this.code = code;
+      this.decoded = negotiated && isSupported(connection.getContentEncoding());
+      this.watchdog = watchdog;
+      this.sentNanos = sentNanos;
+    }
+
+    @Override
+    public long sentNanos() {
+      return sentNanos;
+    }
+
+    @Override
+    public int code() {
+      return code;
+    }
+
+    @Override
+    public String status() {
+      try {
+        return connection.getResponseMessage();
+      } catch (final IOException e) {
+        return null;
+      }
+    }
+
+    /**
+     * Hides the {@code Content-Encoding} and {@code Content-Length} headers of decoded responses,
+     * because they describe the encoded body rather than the body callers read.
+     */
+    @Override
+    public String header(final String name) {
+      if (decoded
+          && ("Content-Encoding".equalsIgnoreCase(name)
+              || "Content-Length".equalsIgnoreCase(name))) {
+        return null;
+      }
+      return connection.getHeaderField(name);
+    }
+
+    @Override
+    public synchronized InputStream body() throws IOException {
+      if (body == null) {
+        InputStream is;
+        try {
+          is = raw();
+          if (is == null) {
+            is = new ByteArrayInputStream(new byte[0]);
+          } else if (decoded) {
+            is = decode(is, connection.getContentEncoding());
+          }
+        } catch (final IOException e) {
+          throw watchdog.translate(e);
+        }
+        body =
+            new FilterInputStream(is) {
+              @Override
+              public int read() throws IOException {
+                watchdog.check();
+                try {
+                  return super.read();
+                } catch (final IOException e) {
+                  throw watchdog.translate(e);
+                }
+              }
+
+              @Override
+              public int read(final byte[] b, final int off, final int len) throws IOException {
+                watchdog.check();
+                try {
+                  return super.read(b, off, len);
+                } catch (final IOException e) {
+                  throw watchdog.translate(e);
+                }
+              }
+
+              @Override
+              public void close() throws IOException {
+                try {
+                  super.close();
+                } finally {
+                  Response.this.close();
+                }
+              }
+            };
+      }
+      return body;
+    }
+
+    private InputStream raw() throws IOException {
+      return code >= HttpURLConnection.HTTP_BAD_REQUEST
+          ? connection.getErrorStream()
+          : connection.getInputStream();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        final InputStream is;
+        synchronized (this) {
+          // avoid decoding a body that was never read
+          is = body != null ? body : raw();
+        }
+        if (is != null && !watchdog.aborted()) {
+          is.close();
+        }
+      } finally {
+        watchdog.close();
+        release();
+      }
+    }
+  }
+
+  /**
+   * Aborts an exchange by disconnecting its connection when the request's deadline passes or its
+   * cancellation token is cancelled, so that a thread blocked connecting, writing or reading wakes
+   * up at once instead of waiting for a socket timeout.
+   */
+  private static final class Watchdog {
+
+    private final TransportRequest request;
+    private final HttpURLConnection connection;
+    private final ScheduledFuture<?> timer;
+    private final CancellationToken.Registration registration;
+    private volatile InterruptedIOException aborted;
+
+    private Watchdog(final TransportRequest request, final HttpURLConnection connection) {
+      this.request = request;
+      this.connection = connection;
+      final Deadline deadline = request.deadline();
+      timer =
+          deadline == null
+              ? null
+              : Timer.EXECUTOR.schedule(
+                  () -> abort(new DeadlineExceededException("Deadline exceeded: " + request)),
+                  Math.max(0, deadline.remainingNanos()),
+                  TimeUnit.NANOSECONDS);
+      final CancellationToken token = request.cancellation();
+      registration =
+          token == null
+              ? null
+              : token.onCancel(
+                  () -> abort(new CallCancelledException("Call cancelled: " + request)));
+    }
+
+    private void abort(final InterruptedIOException reason) {
+      synchronized (this) {
+        if (aborted != null) {
+          return;
+        }
+        aborted = reason;
+      }
+      connection.disconnect();
+    }
+
+    boolean aborted() {
+      return aborted != null;
+    }
+
+    /** Throws the reason for aborting the exchange, if it has been aborted. */
+    void check() throws InterruptedIOException {
+      final InterruptedIOException reason = translateIfAborted(null);
+      if (reason != null) {
+        throw reason;
+      }
+      CallGuard.check(request);
+    }
+
+    /**
+     * @return exception that gives the reason the exchange was aborted, caused by the given
+     *     exception, or {@code null} when the exchange has not been aborted
+     */
+    private InterruptedIOException translateIfAborted(final IOException e) {
+      InterruptedIOException reason = aborted;
+      if (reason == null && request.deadline() != null && request.deadline().isExpired()) {
+        // a socket timeout capped to the deadline may fire before the watchdog does
+        reason = new DeadlineExceededException("Deadline exceeded: " + request);
+      }
+      if (reason == null) {
+        return null;
+      }
+      final InterruptedIOException translated =
+          reason instanceof CallCancelledException
+              ? new CallCancelledException(reason.getMessage())
+              : new DeadlineExceededException(reason.getMessage());
+      if (e != null) {
+        translated.initCause(e);
+      }
+      return translated;
+    }
+
+    /**
+     * Replaces an exception caused by aborting the exchange with an exception that gives the reason
+     * for aborting it.
+     */
+    IOException translate(final IOException e) {
+      final InterruptedIOException translated = translateIfAborted(e);
+      return translated == null ? e : translated;
+    }
+
+    void close() {
+      if (timer != null) {
+        timer.cancel(false);
+      }
+      if (registration != null) {
+        registration.close();
+      }
+    }
+  }
+
+  /** Lazily started daemon thread that enforces deadlines. */
+  private static final class Timer {
+    private static final ScheduledThreadPoolExecutor EXECUTOR;
+
+    static {
+      EXECUTOR =
+          new ScheduledThreadPoolExecutor(
+              1,
+              runnable -> {
+                final Thread thread = new Thread(runnable, "contrast-sdk-deadline");
+                thread.setDaemon(true);
+                return thread;
+              });
+      EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+  }
+
+  private static boolean isSupported(final String encoding) {
+    if (encoding == null) {
+      return false;
+    }
+    final String normalized = encoding.trim().toLowerCase(Locale.ROOT);
+    return normalized.equals("gzip") || normalized.equals("x-gzip") || normalized.equals("deflate");
+  }
+
+  private static final int DEFAULT_MAX_CONNECTIONS = 5;
+  private static final int BUFFER_SIZE = 8192;
+  private static final long POLL_MILLIS = 50;
+  private static final String ACCEPT_ENCODING = "Accept-Encoding";
+  private static final String SUPPORTED_ENCODINGS = "gzip, deflate";
+}
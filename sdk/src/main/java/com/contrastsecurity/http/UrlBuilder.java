@@ -226,6 +226,18 @@ public class UrlBuilder {
         "/ng/%s/traces/%s/filter%s", organizationId, appId, buildExpand(expandValues));
   }
 
+  public String getTracesWithBodyUrl(
+      String organizationId,
+      String appId,
+      EnumSet<TraceFilterForm.TraceExpandValue> expandValues,
+      int offset,
+      int limit) {
+    String expand = buildExpand(expandValues);
+    return String.format(
+        "/ng/%s/traces/%s/filter%s%slimit=%d&offset=%d",
+        organizationId, appId, expand, expand.isEmpty() ? "?" : "&", limit, offset);
+  }
+
   public String getSessionMetadataForApplicationUrl(
       String organizationId, String appId, TraceFilterForm form)
       throws UnsupportedEncodingException {
@@ -36,6 +36,10 @@ public class Application {
   @SerializedName("app_id")
   private String id = null;
 
+  void setId(String id) {
+    this.id = id;
+  }
+
   /**
    * Return the archived status of the application
    *
@@ -47,6 +51,10 @@ public class Application {
 
   private boolean archived = false;
 
+  void setArchived(boolean archived) {
+    this.archived = archived;
+  }
+
   /**
    * Return the importance of the application
    *
@@ -58,6 +66,10 @@ public class Application {
 
   private int importance = 0;
 
+  void setImportance(int importance) {
+    this.importance = importance;
+  }
+
   /**
    * Return the defend status of the application
    *
@@ -69,6 +81,10 @@ public class Application {
 
   private boolean defend = false;
 
+  void setDefend(boolean defend) {
+    this.defend = defend;
+  }
+
   /**
    * Return the creation date of the application
    *
@@ -80,6 +96,10 @@ public class Application {
 
   private long created = 0;
 
+  void setCreated(long created) {
+    this.created = created;
+  }
+
   /**
    * Return the status of the application
    *
@@ -91,6 +111,10 @@ public class Application {
 
   private String status = null;
 
+  void setStatus(String status) {
+    this.status = status;
+  }
+
   /**
    * Return the paid license level of the application.
    *
@@ -102,6 +126,10 @@ public class Application {
 
   private License license = null;
 
+  void setLicense(License license) {
+    this.license = license;
+  }
+
   /**
    * Return the path of the web application, e.g., /AcmeApp
    *
@@ -113,6 +141,10 @@ public class Application {
 
   private String path = null;
 
+  void setPath(String path) {
+    this.path = path;
+  }
+
   /**
    * Return the notes of the application
    *
@@ -124,6 +156,10 @@ public class Application {
 
   private String notes = "";
 
+  void setNotes(String notes) {
+    this.notes = notes;
+  }
+
   /**
    * Return the human-readable name of the web application. Note that this method will return "ROOT"
    * for apps that run at the root of the app when Contrast can't find a human-readable
@@ -137,6 +173,10 @@ public class Application {
 
   private String name = null;
 
+  void setName(String name) {
+    this.name = name;
+  }
+
   /**
    * Return the language of the application, e.g., Java.
    *
@@ -148,6 +188,10 @@ public class Application {
 
   private String language;
 
+  void setLanguage(String language) {
+    this.language = language;
+  }
+
   /**
    * Return the group name the application belongs to
    *
@@ -160,6 +204,10 @@ public class Application {
   @SerializedName("group_name")
   private String groupName = null;
 
+  void setGroupName(String groupName) {
+    this.groupName = groupName;
+  }
+
   /**
    * Return the time the application was last monitored by Contrast.
    *
@@ -172,6 +220,10 @@ public class Application {
   @SerializedName("last_seen")
   private long lastSeen;
 
+  void setLastSeen(long lastSeen) {
+    this.lastSeen = lastSeen;
+  }
+
   /**
    * Return the modules under this application
    *
@@ -184,6 +236,10 @@ public class Application {
   @SerializedName("total_modules")
   private Integer modules;
 
+  void setModules(Integer modules) {
+    this.modules = modules;
+  }
+
   /**
    * Return the master status of this application
    *
@@ -195,6 +251,10 @@ public class Application {
 
   private boolean master = false;
 
+  void setMaster(boolean master) {
+    this.master = master;
+  }
+
   /**
    * Return the scores of the application
    *
@@ -207,6 +267,10 @@ public class Application {
   @SerializedName("scores")
   private Scores scores;
 
+  void setScores(Scores scores) {
+    this.scores = scores;
+  }
+
   /**
    * Return the trace breakdown of the application
    *
@@ -219,6 +283,10 @@ public class Application {
   @SerializedName("trace_breakdown")
   private TraceBreakdown traceBreakdown;
 
+  void setTraceBreakdown(TraceBreakdown traceBreakdown) {
+    this.traceBreakdown = traceBreakdown;
+  }
+
   /**
    * Total lines of code size in shorthand notation.
    *
@@ -231,6 +299,10 @@ public class Application {
   @SerializedName("size_shorthand")
   private String sizeShorthand = "";
 
+  void setSizeShorthand(String sizeShorthand) {
+    this.sizeShorthand = sizeShorthand;
+  }
+
   /**
    * Total lines of code size.
    *
@@ -242,6 +314,10 @@ public class Application {
 
   private long size;
 
+  void setSize(long size) {
+    this.size = size;
+  }
+
   /**
    * Total custom classes lines of code size in shorthand notation.
    *
@@ -254,6 +330,10 @@ public class Application {
   @SerializedName("code_shorthand")
   private String codeShorthand = "";
 
+  void setCodeShorthand(String codeShorthand) {
+    this.codeShorthand = codeShorthand;
+  }
+
   /**
    * Total custom classes lines of code size.
    *
@@ -265,6 +345,10 @@ public class Application {
 
   private long code;
 
+  void setCode(long code) {
+    this.code = code;
+  }
+
   /**
    * Application's override Url
    *
@@ -277,6 +361,10 @@ public class Application {
   @SerializedName("override_url")
   private String overrideUrl = null;
 
+  void setOverrideUrl(String overrideUrl) {
+    this.overrideUrl = overrideUrl;
+  }
+
   /**
    * Application's short name.
    *
@@ -289,6 +377,10 @@ public class Application {
   @SerializedName("short_name")
   private String shortName = null;
 
+  void setShortName(String shortName) {
+    this.shortName = shortName;
+  }
+
   /**
    * Application's attack label.
    *
@@ -301,6 +393,10 @@ public class Application {
   @SerializedName("attack_label")
   private String attackLabel = "";
 
+  void setAttackLabel(String attackLabel) {
+    this.attackLabel = attackLabel;
+  }
+
   /**
    * Application's tags.
    *
@@ -313,6 +409,10 @@ public class Application {
   @SerializedName("tags")
   private String[] tags;
 
+  void setTags(String[] tags) {
+    this.tags = tags;
+  }
+
   /**
    * Application metadata.
    *
@@ -324,4 +424,8 @@ public class Application {
 
   @SerializedName("metadataEntities")
   private MetadataEntity[] metadataEntities;
+
+  void setMetadataEntities(MetadataEntity[] metadataEntities) {
+    this.metadataEntities = metadataEntities;
+  }
 }
@@ -0,0 +1,200 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link Application}. When constructed with a set of fields,
+ * skips every other field without deserializing it.
+ */
+final class ApplicationTypeAdapter extends TypeAdapter<Application> {
+
+  private final Set<String> fields;
+  private final UnaryOperator<String> strings;
+  private final TypeAdapter<License> licenseAdapter;
+  private final TypeAdapter<Scores> scoresAdapter;
+  private final TypeAdapter<TraceBreakdown> traceBreakdownAdapter;
+  private final TypeAdapter<String[]> stringArrayAdapter;
+  private final TypeAdapter<MetadataEntity[]> metadataEntityArrayAdapter;
+
+  ApplicationTypeAdapter(
+      final Gson gson, final Set<String> fields, final UnaryOperator<String> strings) {
+    this.fields = fields;
+    this.strings = strings;
+    licenseAdapter = gson.getAdapter(License.class);
+    scoresAdapter = gson.getAdapter(Scores.class);
+    traceBreakdownAdapter = gson.getAdapter(TraceBreakdown.class);
+    stringArrayAdapter = gson.getAdapter(String[].class);
+    metadataEntityArrayAdapter = gson.getAdapter(MetadataEntity[].class);
+  }
+
+  @Override
+  public Application read(final JsonReader reader) throws IOException {
+    final Application value = new Application();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (fields != null && !fields.contains(name)) {
+        reader.skipValue();
+        continue;
+      }
+      switch (name) {
+        case "app_id":
+          value.setId(JsonValues.readString(reader));
+          break;
+        case "archived":
+          if (JsonValues.skipNull(reader)) {
+            value.setArchived(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "importance":
+          if (JsonValues.skipNull(reader)) {
+            value.setImportance(JsonValues.readInt(reader));
+          }
+          break;
+        case "defend":
+          if (JsonValues.skipNull(reader)) {
+            value.setDefend(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "created":
+          if (JsonValues.skipNull(reader)) {
+            value.setCreated(JsonValues.readLong(reader));
+          }
+          break;
+        case "status":
+          value.setStatus(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "license":
+          value.setLicense(licenseAdapter.read(reader));
+          break;
+        case "path":
+          value.setPath(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "notes":
+          value.setNotes(JsonValues.readString(reader));
+          break;
+        case "name":
+          value.setName(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "language":
+          value.setLanguage(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "group_name":
+          value.setGroupName(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "last_seen":
+          if (JsonValues.skipNull(reader)) {
+            value.setLastSeen(JsonValues.readLong(reader));
+          }
+          break;
+        case "total_modules":
+          value.setModules(JsonValues.readNullableInt(reader));
+          break;
+        case "master":
+          if (JsonValues.skipNull(reader)) {
+            value.setMaster(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "scores":
+          value.setScores(scoresAdapter.read(reader));
+          break;
+        case "trace_breakdown":
+          value.setTraceBreakdown(traceBreakdownAdapter.read(reader));
+          break;
+        case "size_shorthand":
+          value.setSizeShorthand(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "size":
+          if (JsonValues.skipNull(reader)) {
+            value.setSize(JsonValues.readLong(reader));
+          }
+          break;
+        case "code_shorthand":
+          value.setCodeShorthand(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "code":
+          if (JsonValues.skipNull(reader)) {
+            value.setCode(JsonValues.readLong(reader));
+          }
+          break;
+        case "override_url":
+          value.setOverrideUrl(JsonValues.readString(reader));
+          break;
+        case "short_name":
+          value.setShortName(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "attack_label":
+          value.setAttackLabel(JsonValues.readString(reader));
+          break;
+        case "tags":
+          value.setTags(stringArrayAdapter.read(reader));
+          break;
+        case "metadataEntities":
+          value.setMetadataEntities(metadataEntityArrayAdapter.read(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+
+  @Override
+  public void write(final JsonWriter writer, final Application value) throws IOException {
+    writer.beginObject();
+    writer.name("app_id").value(value.getId());
+    writer.name("archived").value(value.getArchived());
+    writer.name("importance").value(value.getImportance());
+    writer.name("defend").value(value.getDefend());
+    writer.name("created").value(value.getCreated());
+    writer.name("status").value(value.getStatus());
+    licenseAdapter.write(writer.name("license"), value.getLicense());
+    writer.name("path").value(value.getPath());
+    writer.name("notes").value(value.getNotes());
+    writer.name("name").value(value.getName());
+    writer.name("language").value(value.getLanguage());
+    writer.name("group_name").value(value.getGroupName());
+    writer.name("last_seen").value(value.getLastSeen());
+    writer.name("total_modules").value(value.getModules());
+    writer.name("master").value(value.getMaster());
+    scoresAdapter.write(writer.name("scores"), value.getScores());
+    traceBreakdownAdapter.write(writer.name("trace_breakdown"), value.getTraceBreakdown());
+    writer.name("size_shorthand").value(value.getSizeShorthand());
+    writer.name("size").value(value.getSize());
+    writer.name("code_shorthand").value(value.getCodeShorthand());
+    writer.name("code").value(value.getCode());
+    writer.name("override_url").value(value.getOverrideUrl());
+    writer.name("short_name").value(value.getShortName());
+    writer.name("attack_label").value(value.getAttackLabel());
+    stringArrayAdapter.write(writer.name("tags"), value.getTags());
+    metadataEntityArrayAdapter.write(writer.name("metadataEntities"), value.getMetadataEntities());
+    writer.endObject();
+  }
+}
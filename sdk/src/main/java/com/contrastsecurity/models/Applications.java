@@ -31,15 +31,27 @@ public class Applications {
 
   private Integer count = null;
 
+  void setCount(Integer count) {
+    this.count = count;
+  }
+
   public List<Application> getApplications() {
     return applications;
   }
 
   private List<Application> applications;
 
+  void setApplications(List<Application> applications) {
+    this.applications = applications;
+  }
+
   public Application getApplication() {
     return application;
   }
 
   private Application application;
+
+  void setApplication(Application application) {
+    this.application = application;
+  }
 }
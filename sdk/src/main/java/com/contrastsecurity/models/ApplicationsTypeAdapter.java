@@ -0,0 +1,84 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link Applications}. When constructed with a set of fields,
+ * skips every other field without deserializing it.
+ */
+final class ApplicationsTypeAdapter extends TypeAdapter<Applications> {
+
+  private final Set<String> fields;
+  private final TypeAdapter<List<Application>> applicationListAdapter;
+  private final TypeAdapter<Application> applicationAdapter;
+
+  ApplicationsTypeAdapter(final Gson gson, final Set<String> fields) {
+    this.fields = fields;
+    applicationListAdapter = gson.getAdapter(new TypeToken<List<Application>>() {});
+    applicationAdapter = gson.getAdapter(Application.class);
+  }
+
+  @Override
+  public Applications read(final JsonReader reader) throws IOException {
+    final Applications value = new Applications();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (fields != null && !fields.contains(name)) {
+        reader.skipValue();
+        continue;
+      }
+      switch (name) {
+        case "count":
+          value.setCount(JsonValues.readNullableInt(reader));
+          break;
+        case "applications":
+          value.setApplications(applicationListAdapter.read(reader));
+          break;
+        case "application":
+          value.setApplication(applicationAdapter.read(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+
+  @Override
+  public void write(final JsonWriter writer, final Applications value) throws IOException {
+    writer.beginObject();
+    writer.name("count").value(value.getCount());
+    applicationListAdapter.write(writer.name("applications"), value.getApplications());
+    applicationAdapter.write(writer.name("application"), value.getApplication());
+    writer.endObject();
+  }
+}
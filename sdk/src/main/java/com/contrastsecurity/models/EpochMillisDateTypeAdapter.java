@@ -0,0 +1,50 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * {@code TypeAdapter} that writes a {@link Date} as milliseconds since the epoch, as Contrast
+ * expects in request bodies and as the query forms already send dates, instead of Gson's
+ * locale-dependent default format.
+ */
+final class EpochMillisDateTypeAdapter extends TypeAdapter<Date> {
+
+  @Override
+  public void write(final JsonWriter writer, final Date value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+    } else {
+      writer.value(value.getTime());
+    }
+  }
+
+  @Override
+  public Date read(final JsonReader reader) throws IOException {
+    final Long time = JsonValues.readNullableLong(reader);
+    return time == null ? null : new Date(time);
+  }
+}
@@ -0,0 +1,126 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Static helpers used by the model {@code TypeAdapter}s to read scalar values with the same
+ * leniency as Gson's built-in adapters, so that a model reads the same whether or not its adapter
+ * is registered.
+ */
+final class JsonValues {
+
+  /**
+   * Consumes the next value when it is {@code null}. Used before reading a primitive field, which
+   * Gson leaves at its default value when the JSON value is {@code null}.
+   *
+   * @return {@code true} when the next value is not {@code null} and remains to be read
+   */
+  static boolean skipNull(final JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return the next value as a string, or {@code null} when it is {@code null}. Booleans and
+   *     numbers are converted to strings.
+   */
+  static String readString(final JsonReader reader) throws IOException {
+    final JsonToken token = reader.peek();
+    if (token == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    if (token == JsonToken.BOOLEAN) {
+      return Boolean.toString(reader.nextBoolean());
+    }
+    return reader.nextString();
+  }
+
+  /**
+   * @return the next value as a boolean. Strings are parsed with {@link Boolean#parseBoolean}.
+   */
+  static boolean readBoolean(final JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.STRING) {
+      return Boolean.parseBoolean(reader.nextString());
+    }
+    return reader.nextBoolean();
+  }
+
+  static int readInt(final JsonReader reader) throws IOException {
+    try {
+      return reader.nextInt();
+    } catch (final NumberFormatException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  static long readLong(final JsonReader reader) throws IOException {
+    try {
+      return reader.nextLong();
+    } catch (final NumberFormatException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  static double readDouble(final JsonReader reader) throws IOException {
+    return reader.nextDouble();
+  }
+
+  static Integer readNullableInt(final JsonReader reader) throws IOException {
+    return skipNull(reader) ? readInt(reader) : null;
+  }
+
+  static Long readNullableLong(final JsonReader reader) throws IOException {
+    return skipNull(reader) ? readLong(reader) : null;
+  }
+
+  /**
+   * @return the next value as a list of strings, each passed through {@code strings}, or {@code
+   *     null} when the value is {@code null}
+   */
+  static List<String> readStringList(final JsonReader reader, final UnaryOperator<String> strings)
+      throws IOException {
+    if (!skipNull(reader)) {
+      return null;
+    }
+    final List<String> list = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      list.add(strings.apply(readString(reader)));
+    }
+    reader.endArray();
+    return list;
+  }
+
+  /** static members only */
+  private JsonValues() {}
+}
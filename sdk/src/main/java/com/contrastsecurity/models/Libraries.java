@@ -25,27 +25,53 @@ import java.util.List;
 /** Base class for api calls for libraries. */
 public class Libraries {
 
+  public Integer getCount() {
+    return count;
+  }
+
+  Integer count = null;
+
+  void setCount(Integer count) {
+    this.count = count;
+  }
+
   public String getAverageScoreLetter() {
     return averageScoreLetter;
   }
 
   private String averageScoreLetter = null;
 
+  void setAverageScoreLetter(String averageScoreLetter) {
+    this.averageScoreLetter = averageScoreLetter;
+  }
+
   public Integer getAverageScore() {
     return averageScore;
   }
 
   private Integer averageScore = null;
 
+  void setAverageScore(Integer averageScore) {
+    this.averageScore = averageScore;
+  }
+
   public Integer getAverageMonths() {
     return averageMonths;
   }
 
   private Integer averageMonths = null;
 
+  void setAverageMonths(Integer averageMonths) {
+    this.averageMonths = averageMonths;
+  }
+
   public List<Library> getLibraries() {
     return libraries;
   }
 
   private List<Library> libraries;
+
+  void setLibraries(List<Library> libraries) {
+    this.libraries = libraries;
+  }
 }
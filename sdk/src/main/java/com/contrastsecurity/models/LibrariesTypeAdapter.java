@@ -0,0 +1,90 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link Libraries}. When constructed with a set of fields, skips
+ * every other field without deserializing it.
+ */
+final class LibrariesTypeAdapter extends TypeAdapter<Libraries> {
+
+  private final Set<String> fields;
+  private final TypeAdapter<List<Library>> libraryListAdapter;
+
+  LibrariesTypeAdapter(final Gson gson, final Set<String> fields) {
+    this.fields = fields;
+    libraryListAdapter = gson.getAdapter(new TypeToken<List<Library>>() {});
+  }
+
+  @Override
+  public Libraries read(final JsonReader reader) throws IOException {
+    final Libraries value = new Libraries();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (fields != null && !fields.contains(name)) {
+        reader.skipValue();
+        continue;
+      }
+      switch (name) {
+        case "count":
+          value.setCount(JsonValues.readNullableInt(reader));
+          break;
+        case "averageScoreLetter":
+          value.setAverageScoreLetter(JsonValues.readString(reader));
+          break;
+        case "averageScore":
+          value.setAverageScore(JsonValues.readNullableInt(reader));
+          break;
+        case "averageMonths":
+          value.setAverageMonths(JsonValues.readNullableInt(reader));
+          break;
+        case "libraries":
+          value.setLibraries(libraryListAdapter.read(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+
+  @Override
+  public void write(final JsonWriter writer, final Libraries value) throws IOException {
+    writer.beginObject();
+    writer.name("count").value(value.getCount());
+    writer.name("averageScoreLetter").value(value.getAverageScoreLetter());
+    writer.name("averageScore").value(value.getAverageScore());
+    writer.name("averageMonths").value(value.getAverageMonths());
+    libraryListAdapter.write(writer.name("libraries"), value.getLibraries());
+    writer.endObject();
+  }
+}
@@ -38,6 +38,10 @@ public class Library {
   @SerializedName("file_name")
   private String fileName;
 
+  void setFileName(String fileName) {
+    this.fileName = fileName;
+  }
+
   /**
    * Return the version of this library according to the library authority like Maven Central or
    * NuGet.
@@ -50,24 +54,40 @@ public class Library {
 
   private String version;
 
+  void setVersion(String version) {
+    this.version = version;
+  }
+
   public List<Application> getApplications() {
     return apps;
   }
 
   private List<Application> apps;
 
+  void setApplications(List<Application> apps) {
+    this.apps = apps;
+  }
+
   public List<Server> getServers() {
     return servers;
   }
 
   private List<Server> servers;
 
+  void setServers(List<Server> servers) {
+    this.servers = servers;
+  }
+
   public List<LibraryVulnerability> getVulnerabilities() {
     return vulns;
   }
 
   private List<LibraryVulnerability> vulns;
 
+  void setVulnerabilities(List<LibraryVulnerability> vulns) {
+    this.vulns = vulns;
+  }
+
   /**
    * Return the number of classes in this library.
    *
@@ -80,6 +100,10 @@ public class Library {
   @SerializedName("class_count")
   private int classCount;
 
+  void setClassCount(int classCount) {
+    this.classCount = classCount;
+  }
+
   /**
    * Return the number of classes used by this library. Right now, this only returns the maximum
    * number of classes used by any one instance of the running application. In the future, this will
@@ -95,6 +119,10 @@ public class Library {
   @SerializedName("classes_used")
   private int classesUsed;
 
+  void setClassedUsed(int classesUsed) {
+    this.classesUsed = classesUsed;
+  }
+
   /**
    * Return the blob of MANIFEST.MF in plaintext.
    *
@@ -106,51 +134,125 @@ public class Library {
 
   private String manifest;
 
+  void setManifest(String manifest) {
+    this.manifest = manifest;
+  }
+
   @SerializedName("library_id")
   private long libraryId;
 
+  void setLibraryId(long libraryId) {
+    this.libraryId = libraryId;
+  }
+
   private String grade;
+
+  void setGrade(String grade) {
+    this.grade = grade;
+  }
+
   private String hash;
+
+  void setHash(String hash) {
+    this.hash = hash;
+  }
+
   private String group;
 
+  void setGroup(String group) {
+    this.group = group;
+  }
+
   @SerializedName("file_version")
   private String fileVersion;
 
+  void setFileVersion(String fileVersion) {
+    this.fileVersion = fileVersion;
+  }
+
   @SerializedName("app_id")
   private String appId;
 
+  void setAppId(String appId) {
+    this.appId = appId;
+  }
+
   @SerializedName("app_name")
   private String appName;
 
+  void setAppName(String appName) {
+    this.appName = appName;
+  }
+
   @SerializedName("app_context_path")
   private String appContextPath;
 
+  void setAppContextPath(String appContextPath) {
+    this.appContextPath = appContextPath;
+  }
+
   @SerializedName("app_language")
   private String appLanguage;
 
+  void setAppLanguage(String appLanguage) {
+    this.appLanguage = appLanguage;
+  }
+
   @SerializedName("latest_version")
   private String latestVersion;
 
+  void setLatestVersion(String latestVersion) {
+    this.latestVersion = latestVersion;
+  }
+
   @SerializedName("release_date")
   private long releaseDate;
 
+  void setReleaseDate(long releaseDate) {
+    this.releaseDate = releaseDate;
+  }
+
   @SerializedName("latest_release_date")
   private long latestReleaseDate;
 
+  void setLatestReleaseDate(long latestReleaseDate) {
+    this.latestReleaseDate = latestReleaseDate;
+  }
+
   @SerializedName("total_vulnerabilities")
   private int totalVulnerabilities;
 
+  void setTotalVulnerabilities(int totalVulnerabilities) {
+    this.totalVulnerabilities = totalVulnerabilities;
+  }
+
   @SerializedName("high_vulnerabilities")
   private int highVulnerabilities;
 
+  void setHighVulnerabilities(int highVulnerabilities) {
+    this.highVulnerabilities = highVulnerabilities;
+  }
+
   private boolean custom;
 
+  void setCustom(boolean custom) {
+    this.custom = custom;
+  }
+
   @SerializedName("lib_score")
   private double libScore;
 
+  void setLibScore(double libScore) {
+    this.libScore = libScore;
+  }
+
   @SerializedName("months_outdated")
   private int monthsOutdated;
 
+  void setMonthsOutdated(int monthsOutdated) {
+    this.monthsOutdated = monthsOutdated;
+  }
+
   public long getLibraryId() {
     return libraryId;
   }
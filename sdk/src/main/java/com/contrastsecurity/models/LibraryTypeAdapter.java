@@ -0,0 +1,200 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link Library}. When constructed with a set of fields, skips
+ * every other field without deserializing it. Values that repeat across many librarys, such as
+ * {@code status}, pass through the given string canonicalizer.
+ */
+final class LibraryTypeAdapter extends TypeAdapter<Library> {
+
+  private final Set<String> fields;
+  private final UnaryOperator<String> strings;
+  private final TypeAdapter<List<Application>> applicationListAdapter;
+  private final TypeAdapter<List<Server>> serverListAdapter;
+  private final TypeAdapter<List<LibraryVulnerability>> libraryVulnerabilityListAdapter;
+
+  LibraryTypeAdapter(
+      final Gson gson, final Set<String> fields, final UnaryOperator<String> strings) {
+    this.fields = fields;
+    this.strings = strings;
+    applicationListAdapter = gson.getAdapter(new TypeToken<List<Application>>() {});
+    serverListAdapter = gson.getAdapter(new TypeToken<List<Server>>() {});
+    libraryVulnerabilityListAdapter =
+        gson.getAdapter(new TypeToken<List<LibraryVulnerability>>() {});
+  }
+
+  @Override
+  public Library read(final JsonReader reader) throws IOException {
+    final Library value = new Library();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (fields != null && !fields.contains(name)) {
+        reader.skipValue();
+        continue;
+      }
+      switch (name) {
+        case "file_name":
+          value.setFileName(JsonValues.readString(reader));
+          break;
+        case "version":
+          value.setVersion(JsonValues.readString(reader));
+          break;
+        case "apps":
+          value.setApplications(applicationListAdapter.read(reader));
+          break;
+        case "servers":
+          value.setServers(serverListAdapter.read(reader));
+          break;
+        case "vulns":
+          value.setVulnerabilities(libraryVulnerabilityListAdapter.read(reader));
+          break;
+        case "class_count":
+          if (JsonValues.skipNull(reader)) {
+            value.setClassCount(JsonValues.readInt(reader));
+          }
+          break;
+        case "classes_used":
+          if (JsonValues.skipNull(reader)) {
+            value.setClassedUsed(JsonValues.readInt(reader));
+          }
+          break;
+        case "manifest":
+          value.setManifest(JsonValues.readString(reader));
+          break;
+        case "library_id":
+          if (JsonValues.skipNull(reader)) {
+            value.setLibraryId(JsonValues.readLong(reader));
+          }
+          break;
+        case "grade":
+          value.setGrade(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "hash":
+          value.setHash(JsonValues.readString(reader));
+          break;
+        case "group":
+          value.setGroup(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "file_version":
+          value.setFileVersion(JsonValues.readString(reader));
+          break;
+        case "app_id":
+          value.setAppId(JsonValues.readString(reader));
+          break;
+        case "app_name":
+          value.setAppName(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "app_context_path":
+          value.setAppContextPath(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "app_language":
+          value.setAppLanguage(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "latest_version":
+          value.setLatestVersion(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "release_date":
+          if (JsonValues.skipNull(reader)) {
+            value.setReleaseDate(JsonValues.readLong(reader));
+          }
+          break;
+        case "latest_release_date":
+          if (JsonValues.skipNull(reader)) {
+            value.setLatestReleaseDate(JsonValues.readLong(reader));
+          }
+          break;
+        case "total_vulnerabilities":
+          if (JsonValues.skipNull(reader)) {
+            value.setTotalVulnerabilities(JsonValues.readInt(reader));
+          }
+          break;
+        case "high_vulnerabilities":
+          if (JsonValues.skipNull(reader)) {
+            value.setHighVulnerabilities(JsonValues.readInt(reader));
+          }
+          break;
+        case "custom":
+          if (JsonValues.skipNull(reader)) {
+            value.setCustom(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "lib_score":
+          if (JsonValues.skipNull(reader)) {
+            value.setLibScore(JsonValues.readDouble(reader));
+          }
+          break;
+        case "months_outdated":
+          if (JsonValues.skipNull(reader)) {
+            value.setMonthsOutdated(JsonValues.readInt(reader));
+          }
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+
+  @Override
+  public void write(final JsonWriter writer, final Library value) throws IOException {
+    writer.beginObject();
+    writer.name("file_name").value(value.getFileName());
+    writer.name("version").value(value.getVersion());
+    applicationListAdapter.write(writer.name("apps"), value.getApplications());
+    serverListAdapter.write(writer.name("servers"), value.getServers());
+    libraryVulnerabilityListAdapter.write(writer.name("vulns"), value.getVulnerabilities());
+    writer.name("class_count").value(value.getClassCount());
+    writer.name("classes_used").value(value.getClassedUsed());
+    writer.name("manifest").value(value.getManifest());
+    writer.name("library_id").value(value.getLibraryId());
+    writer.name("grade").value(value.getGrade());
+    writer.name("hash").value(value.getHash());
+    writer.name("group").value(value.getGroup());
+    writer.name("file_version").value(value.getFileVersion());
+    writer.name("app_id").value(value.getAppId());
+    writer.name("app_name").value(value.getAppName());
+    writer.name("app_context_path").value(value.getAppContextPath());
+    writer.name("app_language").value(value.getAppLanguage());
+    writer.name("latest_version").value(value.getLatestVersion());
+    writer.name("release_date").value(value.getReleaseDate());
+    writer.name("latest_release_date").value(value.getLatestReleaseDate());
+    writer.name("total_vulnerabilities").value(value.getTotalVulnerabilities());
+    writer.name("high_vulnerabilities").value(value.getHighVulnerabilities());
+    writer.name("custom").value(value.getCustom());
+    writer.name("lib_score").value(value.getLibScore());
+    writer.name("months_outdated").value(value.getMonthsOutdated());
+    writer.endObject();
+  }
+}
@@ -0,0 +1,226 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link MetadataEntity}, which reads each metadata field of an
+ * {@link Application} into the subclass named by its {@code type}: {@link FreeformMetadata} for
+ * {@code STRING}, {@link NumericMetadata} for {@code NUMERIC} and {@link PointOfContactMetadata}
+ * for {@code PERSON_OF_CONTACT}, whose contact details are read from its {@code subfields}. Fields
+ * of any other type are read as {@code null}.
+ *
+ * <p>Reads the same values as {@link com.contrastsecurity.utils.MetadataDeserializer}, but in a
+ * single pass over the response: it neither builds a {@code JsonElement} tree for each field nor
+ * deserializes the field a second time once it knows the type. Because {@code type} may follow the
+ * other members, their values are held until the end of the object.
+ *
+ * <p>Registered by the SDK's {@code GsonFactory}.
+ */
+public final class MetadataEntityTypeAdapter extends TypeAdapter<MetadataEntity> {
+
+  private static final String PERSON_OF_CONTACT = "PERSON_OF_CONTACT";
+
+  @Override
+  public void write(final JsonWriter writer, final MetadataEntity entity) throws IOException {
+    if (entity == null) {
+      writer.nullValue();
+      return;
+    }
+    writer.beginObject();
+    writer.name("fieldName").value(entity.getFieldName());
+    if (entity instanceof PointOfContactMetadata) {
+      final PointOfContactMetadata contact = (PointOfContactMetadata) entity;
+      writer.name("type").value(PERSON_OF_CONTACT);
+      writer.name("subfields").beginArray();
+      writeSubfield(writer, "CONTACT_NAME", contact.getContactName());
+      writeSubfield(writer, "EMAIL", contact.getEmail());
+      writeSubfield(writer, "PHONE", contact.getPhoneNo());
+      writer.endArray();
+    } else if (entity instanceof NumericMetadata) {
+      writer.name("type").value(MetadataEntity.MetadataType.NUMERIC.name());
+      writer.name("fieldValue").value(((NumericMetadata) entity).getFieldValue());
+    } else if (entity instanceof FreeformMetadata) {
+      writer.name("type").value(MetadataEntity.MetadataType.STRING.name());
+      writer.name("fieldValue").value(((FreeformMetadata) entity).getFieldValue());
+    }
+    writer.endObject();
+  }
+
+  @Override
+  public MetadataEntity read(final JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    try {
+      return readObject(reader);
+    } catch (final IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  private static MetadataEntity readObject(final JsonReader reader) throws IOException {
+    String type = null;
+    String fieldName = null;
+    String fieldValue = null;
+    boolean structuredValue = false;
+    final PointOfContactMetadata contact = new PointOfContactMetadata();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "type":
+          type = JsonValues.readString(reader);
+          break;
+        case "fieldName":
+          fieldName = JsonValues.readString(reader);
+          break;
+        case "fieldValue":
+          final JsonToken token = reader.peek();
+          structuredValue = token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY;
+          if (structuredValue) {
+            reader.skipValue();
+            fieldValue = null;
+          } else {
+            fieldValue = JsonValues.readString(reader);
+          }
+          break;
+        case "subfields":
+          if (JsonValues.skipNull(reader)) {
+            readSubfields(reader, contact);
+          }
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    if (type == null) {
+      return null;
+    }
+    switch (type) {
+      case "STRING":
+        checkScalar(structuredValue, reader);
+        final FreeformMetadata freeform = new FreeformMetadata();
+        freeform.fieldName = fieldName;
+        freeform.fieldValue = fieldValue;
+        return freeform;
+      case "NUMERIC":
+        checkScalar(structuredValue, reader);
+        final NumericMetadata numeric = new NumericMetadata();
+        numeric.fieldName = fieldName;
+        numeric.fieldValue = fieldValue == null ? null : parseLong(fieldValue);
+        return numeric;
+      case PERSON_OF_CONTACT:
+        contact.setFieldName(fieldName);
+        return contact;
+      default:
+        return null;
+    }
+  }
+
+  /** Reads the contact details of a point of contact from its {@code subfields}. */
+  private static void readSubfields(final JsonReader reader, final PointOfContactMetadata contact)
+      throws IOException {
+    reader.beginArray();
+    while (reader.hasNext()) {
+      String type = null;
+      String value = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "type":
+            type = JsonValues.readString(reader);
+            break;
+          case "fieldValue":
+            value = JsonValues.readString(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      if (type == null) {
+        continue;
+      }
+      switch (type) {
+        case "CONTACT_NAME":
+          contact.setContactName(value);
+          break;
+        case "EMAIL":
+          contact.setEmail(value);
+          break;
+        case "PHONE":
+          contact.setPhoneNo(value);
+          break;
+        default:
+          break;
+      }
+    }
+    reader.endArray();
+  }
+
+  private static void writeSubfield(final JsonWriter writer, final String type, final String value)
+      throws IOException {
+    if (value == null) {
+      return;
+    }
+    writer.beginObject();
+    writer.name("type").value(type);
+    writer.name("fieldValue").value(value);
+    writer.endObject();
+  }
+
+  private static void checkScalar(final boolean structuredValue, final JsonReader reader) {
+    if (structuredValue) {
+      throw new JsonSyntaxException(
+          "Expected a string or number fieldValue at " + reader.getPath());
+    }
+  }
+
+  /**
+   * Parses a {@code NUMERIC} value as Gson's {@code Long} adapter does, which also accepts numbers
+   * written with a fraction or an exponent when their value is a whole number.
+   */
+  private static long parseLong(final String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (final NumberFormatException e) {
+      try {
+        final double asDouble = Double.parseDouble(value);
+        final long asLong = (long) asDouble;
+        if (asLong == asDouble) {
+          return asLong;
+        }
+      } catch (final NumberFormatException ignored) {
+        // reported below
+      }
+      throw new JsonSyntaxException(e);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link TypeAdapterFactory} for the models that the SDK reads in bulk: {@link Traces}, {@link
+ * Libraries}, {@link Applications} and {@link Servers}, and the elements they contain.
+ *
+ * <p>Gson otherwise binds these models by reflection: the first time a {@code Gson} instance sees
+ * one of these types, it inspects every field and annotation of the type and of each type it
+ * contains, and it then sets every value through reflective field access. The adapters created here
+ * read and write each field directly instead, and accept the same input and produce the same output
+ * as the reflective adapters. Other models continue to use reflection.
+ *
+ * <p>A factory created with {@link #projecting(Map)} reads only the given fields of each model and
+ * skips the others with {@link JsonReader#skipValue()}, so that callers that need only a few fields
+ * of a large listing do not pay to deserialize the rest.
+ *
+ * <p>Registered by the SDK's {@code GsonFactory}; applications that deserialize these models with
+ * their own {@code Gson} may register it too.
+ */
+public final class ModelTypeAdapterFactory implements TypeAdapterFactory {
+
+  /** Models for which this factory creates adapters. */
+  private static final Set<Class<?>> MODELS =
+      Collections.unmodifiableSet(
+          new HashSet<>(
+              Arrays.asList(
+                  Trace.class,
+                  Traces.class,
+                  Library.class,
+                  Libraries.class,
+                  Application.class,
+                  Applications.class,
+                  Server.class,
+                  Servers.class)));
+
+  /**
+   * Creates a factory whose adapters skip the fields that are not in the given projection. Models
+   * absent from the projection are read in full.
+   *
+   * @param fields for each model, the serialized names of the fields to read
+   * @return new factory
+   * @throws IllegalArgumentException when the projection includes a model this factory does not
+   *     support
+   */
+  public static ModelTypeAdapterFactory projecting(final Map<Class<?>, Set<String>> fields) {
+    final Map<Class<?>, Set<String>> copy = new HashMap<>();
+    for (final Map.Entry<Class<?>, Set<String>> entry : fields.entrySet()) {
+      if (!supports(entry.getKey())) {
+        throw new IllegalArgumentException(
+            entry.getKey().getName() + " does not support projection");
+      }
+      copy.put(entry.getKey(), Collections.unmodifiableSet(new HashSet<>(entry.getValue())));
+    }
+    return new ModelTypeAdapterFactory(copy, UnaryOperator.identity());
+  }
+
+  /**
+   * @param type model type
+   * @return {@code true} when this factory creates an adapter for the given type
+   */
+  public static boolean supports(final Class<?> type) {
+    return MODELS.contains(type);
+  }
+
+  private final Map<Class<?>, Set<String>> projection;
+  private final UnaryOperator<String> strings;
+
+  /** Creates a factory whose adapters read every field. */
+  public ModelTypeAdapterFactory() {
+    this(Collections.emptyMap(), UnaryOperator.identity());
+  }
+
+  private ModelTypeAdapterFactory(
+      final Map<Class<?>, Set<String>> projection, final UnaryOperator<String> strings) {
+    this.projection = projection;
+    this.strings = strings;
+  }
+
+  /**
+   * Creates a copy of this factory whose adapters pass values that repeat across many models, such
+   * as the severity and status of each trace, through the given canonicalizer, so that equal values
+   * can share one instance.
+   *
+   * @param strings returns the canonical instance of a string, or {@code null} for {@code null}
+   * @return new factory
+   */
+  public ModelTypeAdapterFactory canonicalizing(final UnaryOperator<String> strings) {
+    return new ModelTypeAdapterFactory(projection, Objects.requireNonNull(strings));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
+    final Class<? super T> raw = type.getRawType();
+    final Set<String> fields = projection.get(raw);
+    final TypeAdapter<?> adapter;
+    if (raw == Trace.class) {
+      adapter = new TraceTypeAdapter(gson, fields, strings);
+    } else if (raw == Traces.class) {
+      adapter = new TracesTypeAdapter(gson, fields);
+    } else if (raw == Library.class) {
+      adapter = new LibraryTypeAdapter(gson, fields, strings);
+    } else if (raw == Libraries.class) {
+      adapter = new LibrariesTypeAdapter(gson, fields);
+    } else if (raw == Application.class) {
+      adapter = new ApplicationTypeAdapter(gson, fields, strings);
+    } else if (raw == Applications.class) {
+      adapter = new ApplicationsTypeAdapter(gson, fields);
+    } else if (raw == Server.class) {
+      adapter = new ServerTypeAdapter(gson, fields, strings);
+    } else if (raw == Servers.class) {
+      adapter = new ServersTypeAdapter(gson, fields);
+    } else {
+      return null;
+    }
+    return (TypeAdapter<T>) new SyntaxCheckingAdapter<>(adapter).nullSafe();
+  }
+
+  /**
+   * Reports a value of the wrong JSON type as a {@link JsonSyntaxException}, as the reflective
+   * adapters do, rather than as the {@link IllegalStateException} thrown by {@link JsonReader}.
+   */
+  private static final class SyntaxCheckingAdapter<T> extends TypeAdapter<T> {
+
+    private final TypeAdapter<T> delegate;
+
+    private SyntaxCheckingAdapter(final TypeAdapter<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(final JsonWriter writer, final T value) throws IOException {
+      delegate.write(writer, value);
+    }
+
+    @Override
+    public T read(final JsonReader reader) throws IOException {
+      try {
+        return delegate.read(reader);
+      } catch (final IllegalStateException e) {
+        throw new JsonSyntaxException(e);
+      }
+    }
+  }
+}
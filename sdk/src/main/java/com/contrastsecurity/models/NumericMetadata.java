@@ -29,7 +29,7 @@ public class NumericMetadata extends MetadataEntity {
   }
 
   @SerializedName("fieldValue")
-  private Long fieldValue;
+  Long fieldValue;
 
   public Long getFieldValue() {
     return fieldValue;
@@ -38,6 +38,10 @@ public class Server {
   @SerializedName("server_id")
   private long serverId;
 
+  void setServerId(long serverId) {
+    this.serverId = serverId;
+  }
+
   /**
    * Return the name of this server.
    *
@@ -49,6 +53,10 @@ public class Server {
 
   private String name;
 
+  void setName(String name) {
+    this.name = name;
+  }
+
   /**
    * Return the hostname of this server.
    *
@@ -60,6 +68,10 @@ public class Server {
 
   private String hostname;
 
+  void setHostname(String hostname) {
+    this.hostname = hostname;
+  }
+
   /**
    * Return the last time this server was restarted.
    *
@@ -72,6 +84,10 @@ public class Server {
   @SerializedName("last_startup")
   private long lastStartup;
 
+  void setLastStartup(long lastStartup) {
+    this.lastStartup = lastStartup;
+  }
+
   /**
    * Return the list of applications in this server
    *
@@ -83,6 +99,10 @@ public class Server {
 
   private List<Application> applications;
 
+  void setApplications(List<Application> applications) {
+    this.applications = applications;
+  }
+
   /**
    * Return the last time a trace was received from this server.
    *
@@ -95,6 +115,10 @@ public class Server {
   @SerializedName("last_trace_received")
   private long lastTraceReceived;
 
+  void setLastTraceReceived(long lastTraceReceived) {
+    this.lastTraceReceived = lastTraceReceived;
+  }
+
   /**
    * Return the last time any activity was received from this server.
    *
@@ -107,6 +131,10 @@ public class Server {
   @SerializedName("last_activity")
   private long lastActivity;
 
+  void setLastActivity(long lastActivity) {
+    this.lastActivity = lastActivity;
+  }
+
   /**
    * Return the number of applications for this server
    *
@@ -119,6 +147,10 @@ public class Server {
   @SerializedName("num_apps")
   private long numApps;
 
+  void setNumberApps(long numApps) {
+    this.numApps = numApps;
+  }
+
   /**
    * Return the path on disk of this server, e.g., /opt/tomcat6/
    *
@@ -130,6 +162,10 @@ public class Server {
 
   private String path;
 
+  void setPath(String path) {
+    this.path = path;
+  }
+
   /**
    * Return the status of this server Values: ONLINE,OFFLINE
    *
@@ -141,6 +177,10 @@ public class Server {
 
   private String status;
 
+  void setStatus(String status) {
+    this.status = status;
+  }
+
   /**
    * Return the Contrast "server code" for the server, e.g., "jboss5".
    *
@@ -152,6 +192,10 @@ public class Server {
 
   private String type;
 
+  void setType(String type) {
+    this.type = type;
+  }
+
   /**
    * Return the version of the Contrast agent that's monitoring this server.
    *
@@ -164,6 +208,10 @@ public class Server {
   @SerializedName("agent_version")
   private String agentVersion;
 
+  void setAgentVersion(String agentVersion) {
+    this.agentVersion = agentVersion;
+  }
+
   /**
    * If the agent on this server is out of date.
    *
@@ -176,6 +224,10 @@ public class Server {
   @SerializedName("out_of_date")
   private boolean agentOutOfDate;
 
+  void setAgentOutOfDate(boolean agentOutOfDate) {
+    this.agentOutOfDate = agentOutOfDate;
+  }
+
   /**
    * Return the latest available version of the agent.
    *
@@ -188,6 +240,10 @@ public class Server {
   @SerializedName("latest_agent_version")
   private String latestAgentVersion;
 
+  void setLatestAgentVersion(String latestAgentVersion) {
+    this.latestAgentVersion = latestAgentVersion;
+  }
+
   /**
    * Return the server assess value
    *
@@ -199,6 +255,10 @@ public class Server {
 
   private boolean assess;
 
+  void setAssess(boolean assess) {
+    this.assess = assess;
+  }
+
   /**
    * Return is the server changing Assess on restart
    *
@@ -211,6 +271,10 @@ public class Server {
   // @SerializedName("assess_pending")
   private boolean assessPending;
 
+  void setAssessPending(boolean assessPending) {
+    this.assessPending = assessPending;
+  }
+
   /**
    * Return the server defend value
    *
@@ -222,6 +286,10 @@ public class Server {
 
   private boolean defend;
 
+  void setDefend(boolean defend) {
+    this.defend = defend;
+  }
+
   /**
    * Return is the server changing Defend on restart
    *
@@ -234,6 +302,10 @@ public class Server {
   // @SerializedName("defend_pending")
   private boolean defendPending;
 
+  void setDefendPending(boolean defendPending) {
+    this.defendPending = defendPending;
+  }
+
   /**
    * Return the server's container
    *
@@ -245,6 +317,10 @@ public class Server {
 
   private String container;
 
+  void setContainer(String container) {
+    this.container = container;
+  }
+
   /**
    * Return the server's environment type TODO values
    *
@@ -256,6 +332,10 @@ public class Server {
 
   private String environment;
 
+  void setEnvironment(String environment) {
+    this.environment = environment;
+  }
+
   /**
    * Return Is server changing Log Enhancers on restart
    *
@@ -268,6 +348,10 @@ public class Server {
   // @SerializedName("defend_pending")
   private boolean logEnhancerPending;
 
+  void setLogEnhancerPending(boolean logEnhancerPending) {
+    this.logEnhancerPending = logEnhancerPending;
+  }
+
   /**
    * Return the server log level
    *
@@ -279,6 +363,10 @@ public class Server {
 
   private String logLevel;
 
+  void setLogLevel(String logLevel) {
+    this.logLevel = logLevel;
+  }
+
   /**
    * Return the server tags
    *
@@ -290,6 +378,10 @@ public class Server {
 
   private List<String> tags;
 
+  void setTags(List<String> tags) {
+    this.tags = tags;
+  }
+
   /**
    * Return the path to the servers log
    *
@@ -301,6 +393,10 @@ public class Server {
 
   private String logPath;
 
+  void setLogPath(String logPath) {
+    this.logPath = logPath;
+  }
+
   /**
    * Return Is server changing any settings on restart
    *
@@ -312,6 +408,10 @@ public class Server {
 
   private boolean noPending;
 
+  void setNoPending(boolean noPending) {
+    this.noPending = noPending;
+  }
+
   /**
    * Return if the server has assess sensors
    *
@@ -323,6 +423,10 @@ public class Server {
 
   private boolean assessSensors;
 
+  void setAssessSensors(boolean assessSensors) {
+    this.assessSensors = assessSensors;
+  }
+
   /**
    * Return the last assess update for this server
    *
@@ -334,4 +438,8 @@ public class Server {
 
   @SerializedName("assess_last_update")
   private long assessLastUpdate;
+
+  void setAssessLastUpdate(long assessLastUpdate) {
+    this.assessLastUpdate = assessLastUpdate;
+  }
 }
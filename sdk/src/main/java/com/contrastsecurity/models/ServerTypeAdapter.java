@@ -0,0 +1,213 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link Server}. When constructed with a set of fields, skips
+ * every other field without deserializing it. Values that repeat across many servers, such as
+ * {@code status}, pass through the given string canonicalizer.
+ */
+final class ServerTypeAdapter extends TypeAdapter<Server> {
+
+  private final Set<String> fields;
+  private final UnaryOperator<String> strings;
+  private final TypeAdapter<List<Application>> applicationListAdapter;
+  private final TypeAdapter<List<String>> stringListAdapter;
+
+  ServerTypeAdapter(
+      final Gson gson, final Set<String> fields, final UnaryOperator<String> strings) {
+    this.fields = fields;
+    this.strings = strings;
+    applicationListAdapter = gson.getAdapter(new TypeToken<List<Application>>() {});
+    stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+  }
+
+  @Override
+  public Server read(final JsonReader reader) throws IOException {
+    final Server value = new Server();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (fields != null && !fields.contains(name)) {
+        reader.skipValue();
+        continue;
+      }
+      switch (name) {
+        case "server_id":
+          if (JsonValues.skipNull(reader)) {
+            value.setServerId(JsonValues.readLong(reader));
+          }
+          break;
+        case "name":
+          value.setName(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "hostname":
+          value.setHostname(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "last_startup":
+          if (JsonValues.skipNull(reader)) {
+            value.setLastStartup(JsonValues.readLong(reader));
+          }
+          break;
+        case "applications":
+          value.setApplications(applicationListAdapter.read(reader));
+          break;
+        case "last_trace_received":
+          if (JsonValues.skipNull(reader)) {
+            value.setLastTraceReceived(JsonValues.readLong(reader));
+          }
+          break;
+        case "last_activity":
+          if (JsonValues.skipNull(reader)) {
+            value.setLastActivity(JsonValues.readLong(reader));
+          }
+          break;
+        case "num_apps":
+          if (JsonValues.skipNull(reader)) {
+            value.setNumberApps(JsonValues.readLong(reader));
+          }
+          break;
+        case "path":
+          value.setPath(JsonValues.readString(reader));
+          break;
+        case "status":
+          value.setStatus(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "type":
+          value.setType(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "agent_version":
+          value.setAgentVersion(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "out_of_date":
+          if (JsonValues.skipNull(reader)) {
+            value.setAgentOutOfDate(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "latest_agent_version":
+          value.setLatestAgentVersion(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "assess":
+          if (JsonValues.skipNull(reader)) {
+            value.setAssess(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "assessPending":
+          if (JsonValues.skipNull(reader)) {
+            value.setAssessPending(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "defend":
+          if (JsonValues.skipNull(reader)) {
+            value.setDefend(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "defendPending":
+          if (JsonValues.skipNull(reader)) {
+            value.setDefendPending(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "container":
+          value.setContainer(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "environment":
+          value.setEnvironment(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "logEnhancerPending":
+          if (JsonValues.skipNull(reader)) {
+            value.setLogEnhancerPending(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "logLevel":
+          value.setLogLevel(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "tags":
+          value.setTags(JsonValues.readStringList(reader, strings));
+          break;
+        case "logPath":
+          value.setLogPath(JsonValues.readString(reader));
+          break;
+        case "noPending":
+          if (JsonValues.skipNull(reader)) {
+            value.setNoPending(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "assessSensors":
+          if (JsonValues.skipNull(reader)) {
+            value.setAssessSensors(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "assess_last_update":
+          if (JsonValues.skipNull(reader)) {
+            value.setAssessLastUpdate(JsonValues.readLong(reader));
+          }
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+
+  @Override
+  public void write(final JsonWriter writer, final Server value) throws IOException {
+    writer.beginObject();
+    writer.name("server_id").value(value.getServerId());
+    writer.name("name").value(value.getName());
+    writer.name("hostname").value(value.getHostname());
+    writer.name("last_startup").value(value.getLastStartup());
+    applicationListAdapter.write(writer.name("applications"), value.getApplications());
+    writer.name("last_trace_received").value(value.getLastTraceReceived());
+    writer.name("last_activity").value(value.getLastActivity());
+    writer.name("num_apps").value(value.getNumberApps());
+    writer.name("path").value(value.getPath());
+    writer.name("status").value(value.getStatus());
+    writer.name("type").value(value.getType());
+    writer.name("agent_version").value(value.getAgentVersion());
+    writer.name("out_of_date").value(value.isAgentOutOfDate());
+    writer.name("latest_agent_version").value(value.getLatestAgentVersion());
+    writer.name("assess").value(value.getAssess());
+    writer.name("assessPending").value(value.getAssessPending());
+    writer.name("defend").value(value.getDefend());
+    writer.name("defendPending").value(value.getDefendPending());
+    writer.name("container").value(value.getContainer());
+    writer.name("environment").value(value.getEnvironment());
+    writer.name("logEnhancerPending").value(value.getLogEnhancerPending());
+    writer.name("logLevel").value(value.getLogLevel());
+    stringListAdapter.write(writer.name("tags"), value.getTags());
+    writer.name("logPath").value(value.getLogPath());
+    writer.name("noPending").value(value.getNoPending());
+    writer.name("assessSensors").value(value.getAssessSensors());
+    writer.name("assess_last_update").value(value.getAssessLastUpdate());
+    writer.endObject();
+  }
+}
@@ -24,6 +24,21 @@ import java.util.List;
 
 /** Base class for api calls with servers */
 public class Servers {
+  /**
+   * Return the total number of servers that match the filter
+   *
+   * @return number of servers, of which the response may hold only one page
+   */
+  public Integer getCount() {
+    return count;
+  }
+
+  Integer count = null;
+
+  void setCount(Integer count) {
+    this.count = count;
+  }
+
   /**
    * Return the servers objects
    *
@@ -34,4 +49,8 @@ public class Servers {
   }
 
   private List<Server> servers;
+
+  void setServers(List<Server> servers) {
+    this.servers = servers;
+  }
 }
@@ -0,0 +1,78 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link Servers}. When constructed with a set of fields, skips
+ * every other field without deserializing it.
+ */
+final class ServersTypeAdapter extends TypeAdapter<Servers> {
+
+  private final Set<String> fields;
+  private final TypeAdapter<List<Server>> serverListAdapter;
+
+  ServersTypeAdapter(final Gson gson, final Set<String> fields) {
+    this.fields = fields;
+    serverListAdapter = gson.getAdapter(new TypeToken<List<Server>>() {});
+  }
+
+  @Override
+  public Servers read(final JsonReader reader) throws IOException {
+    final Servers value = new Servers();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (fields != null && !fields.contains(name)) {
+        reader.skipValue();
+        continue;
+      }
+      switch (name) {
+        case "count":
+          value.setCount(JsonValues.readNullableInt(reader));
+          break;
+        case "servers":
+          value.setServers(serverListAdapter.read(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+
+  @Override
+  public void write(final JsonWriter writer, final Servers value) throws IOException {
+    writer.beginObject();
+    writer.name("count").value(value.getCount());
+    serverListAdapter.write(writer.name("servers"), value.getServers());
+    writer.endObject();
+  }
+}
@@ -37,6 +37,10 @@ public class Trace {
 
   private String title;
 
+  void setTitle(String title) {
+    this.title = title;
+  }
+
   /**
    * Return any arbitrarily-formatted 'evidence' for this trace. Many rules won't cause any evidence
    * to be created.
@@ -49,6 +53,10 @@ public class Trace {
 
   private String evidence;
 
+  void setEvidence(String evidence) {
+    this.evidence = evidence;
+  }
+
   /**
    * Return the language of application this trace was discovered in.
    *
@@ -60,6 +68,10 @@ public class Trace {
 
   private String language;
 
+  void setLanguage(String language) {
+    this.language = language;
+  }
+
   /**
    * Return the status of this trace, like "Reported", "Verified", "Suspicious", etc.
    *
@@ -71,12 +83,20 @@ public class Trace {
 
   private String status;
 
+  void setStatus(String status) {
+    this.status = status;
+  }
+
   public String getSubStatus() {
     return subStatus;
   }
 
   private String subStatus;
 
+  void setSubStatus(String subStatus) {
+    this.subStatus = subStatus;
+  }
+
   /**
    * Return the simple, numeric hash of this trace
    *
@@ -88,6 +108,10 @@ public class Trace {
 
   private String hash;
 
+  void setHash(String hash) {
+    this.hash = hash;
+  }
+
   /**
    * Return the UUID for this trace.
    *
@@ -99,6 +123,10 @@ public class Trace {
 
   private String uuid;
 
+  void setUuid(String uuid) {
+    this.uuid = uuid;
+  }
+
   /**
    * Return the name of the rule that caused this trace.
    *
@@ -111,6 +139,10 @@ public class Trace {
   @SerializedName("rule_name")
   private String rule;
 
+  void setRule(String rule) {
+    this.rule = rule;
+  }
+
   /**
    * Return the HTTP request that caused this trace to occur.
    *
@@ -122,6 +154,10 @@ public class Trace {
 
   private HttpRequest request;
 
+  void setRequest(HttpRequest request) {
+    this.request = request;
+  }
+
   /**
    * The events that make up the vulnerability. Some traces will only have an evidence field and no
    * events.
@@ -134,6 +170,10 @@ public class Trace {
 
   private List<TraceEvent> events;
 
+  void setEvents(List<TraceEvent> events) {
+    this.events = events;
+  }
+
   /**
    * Return the overall severity of this trace.
    *
@@ -145,6 +185,10 @@ public class Trace {
 
   private String severity;
 
+  void setSeverity(String severity) {
+    this.severity = severity;
+  }
+
   /**
    * Return the likelihood of this trace
    *
@@ -156,6 +200,10 @@ public class Trace {
 
   private String likelihood;
 
+  void setLikelihood(String likelihood) {
+    this.likelihood = likelihood;
+  }
+
   /**
    * Return the impact of this trace
    *
@@ -167,6 +215,10 @@ public class Trace {
 
   private String impact;
 
+  void setImpact(String impact) {
+    this.impact = impact;
+  }
+
   /**
    * Return the confidence rating for this trace
    *
@@ -178,6 +230,10 @@ public class Trace {
 
   private String confidence;
 
+  void setConfidence(String confidence) {
+    this.confidence = confidence;
+  }
+
   /**
    * Return the First time this Trace was seen
    *
@@ -190,6 +246,10 @@ public class Trace {
   @SerializedName("first_time_seen")
   private Long firstTimeSeen;
 
+  void setFirstTimeSeen(Long firstTimeSeen) {
+    this.firstTimeSeen = firstTimeSeen;
+  }
+
   /**
    * Return the Last time this Trace was seen
    *
@@ -202,6 +262,10 @@ public class Trace {
   @SerializedName("last_time_seen")
   private Long lastTimeSeen;
 
+  void setLastTimeSeen(Long lastTimeSeen) {
+    this.lastTimeSeen = lastTimeSeen;
+  }
+
   /**
    * Return the Application for this trace
    *
@@ -213,6 +277,10 @@ public class Trace {
 
   private Application application;
 
+  void setApplication(Application application) {
+    this.application = application;
+  }
+
   /**
    * Return the category for this trace
    *
@@ -224,6 +292,10 @@ public class Trace {
 
   private String category;
 
+  void setCategory(String category) {
+    this.category = category;
+  }
+
   /**
    * Return the closed time this Trace was seen
    *
@@ -236,6 +308,10 @@ public class Trace {
   @SerializedName("closed_time")
   private Long closedTime;
 
+  void setClosedTime(Long closedTime) {
+    this.closedTime = closedTime;
+  }
+
   /**
    * Return the parent application id for this trace
    *
@@ -247,6 +323,10 @@ public class Trace {
 
   private String parentApplicationId;
 
+  void setParentApplicationId(String parentApplicationId) {
+    this.parentApplicationId = parentApplicationId;
+  }
+
   /**
    * Return the platform for this trace
    *
@@ -258,6 +338,10 @@ public class Trace {
 
   private String platform;
 
+  void setPlatform(String platform) {
+    this.platform = platform;
+  }
+
   /**
    * Return the list of servers this traces is in
    *
@@ -269,6 +353,10 @@ public class Trace {
 
   private List<Server> servers;
 
+  void setServers(List<Server> servers) {
+    this.servers = servers;
+  }
+
   /**
    * Return the total number of traces received for the trace
    *
@@ -281,6 +369,10 @@ public class Trace {
   @SerializedName("total_traces_received")
   private Long totalTotalTracesReceived;
 
+  void setTotalTracesReceived(Long totalTotalTracesReceived) {
+    this.totalTotalTracesReceived = totalTotalTracesReceived;
+  }
+
   /**
    * Return if the Trace is visible
    *
@@ -292,6 +384,10 @@ public class Trace {
 
   private boolean visible;
 
+  void setVisible(boolean visible) {
+    this.visible = visible;
+  }
+
   /**
    * Return the notes for the trace
    *
@@ -303,6 +399,10 @@ public class Trace {
 
   private List<TraceNote> notes;
 
+  void setTraceNotes(List<TraceNote> notes) {
+    this.notes = notes;
+  }
+
   /**
    * Return the card for the trace
    *
@@ -314,6 +414,10 @@ public class Trace {
 
   private Card card;
 
+  void setCard(Card card) {
+    this.card = card;
+  }
+
   /**
    * Return the server environments for this trace. This provides lightweight access to server
    * environment data without requiring the full servers expand.
@@ -328,6 +432,10 @@ public class Trace {
   @SerializedName("server_environments")
   private List<String> serverEnvironments;
 
+  void setServerEnvironments(List<String> serverEnvironments) {
+    this.serverEnvironments = serverEnvironments;
+  }
+
   public List<String> getServerEnvironments() {
     return serverEnvironments;
   }
@@ -343,6 +451,10 @@ public class Trace {
   @SerializedName("tags")
   private List<String> tags;
 
+  void setTags(List<String> tags) {
+    this.tags = tags;
+  }
+
   /**
    * Return the session metadata for this trace. Session metadata contains custom key-value pairs
    * collected by the Contrast agent during the session when this vulnerability was detected.
@@ -361,6 +473,10 @@ public class Trace {
   @SerializedName("session_metadata")
   private List<SessionMetadata> sessionMetadata;
 
+  void setSessionMetadata(List<SessionMetadata> sessionMetadata) {
+    this.sessionMetadata = sessionMetadata;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
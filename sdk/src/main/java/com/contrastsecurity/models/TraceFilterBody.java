@@ -22,6 +22,7 @@ package com.contrastsecurity.models;
 
 import com.contrastsecurity.http.RuleSeverity;
 import com.contrastsecurity.http.ServerEnvironment;
+import com.google.gson.annotations.JsonAdapter;
 import java.util.Date;
 import java.util.List;
 import lombok.Getter;
@@ -32,8 +33,13 @@ import lombok.Setter;
 public class TraceFilterBody {
   private List<String> appVersionTags;
   private String applicationId;
+
+  @JsonAdapter(EpochMillisDateTypeAdapter.class)
   private Date startDate;
+
+  @JsonAdapter(EpochMillisDateTypeAdapter.class)
   private Date endDate;
+
   private List<ServerEnvironment> environments;
   private List<String> filterTags;
   private String filterText;
@@ -48,4 +54,33 @@ public class TraceFilterBody {
   private List<String> urls;
   private List<String> vulnTypes;
   private String agentSessionId;
+
+  public TraceFilterBody() {}
+
+  /**
+   * Copies the given filters, such as to request the same vulnerabilities over another time range.
+   * Lists are shared with the original.
+   *
+   * @param body the filters to copy
+   */
+  public TraceFilterBody(TraceFilterBody body) {
+    this.appVersionTags = body.appVersionTags;
+    this.applicationId = body.applicationId;
+    this.startDate = body.startDate;
+    this.endDate = body.endDate;
+    this.environments = body.environments;
+    this.filterTags = body.filterTags;
+    this.filterText = body.filterText;
+    this.metadataFilters = body.metadataFilters;
+    this.modules = body.modules;
+    this.quickFilter = body.quickFilter;
+    this.servers = body.servers;
+    this.severities = body.severities;
+    this.timestampFilter = body.timestampFilter;
+    this.tracked = body.tracked;
+    this.untracked = body.untracked;
+    this.urls = body.urls;
+    this.vulnTypes = body.vulnTypes;
+    this.agentSessionId = body.agentSessionId;
+  }
 }
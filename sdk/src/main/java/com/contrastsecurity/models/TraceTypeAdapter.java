@@ -0,0 +1,206 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Streaming {@code TypeAdapter} for {@link Trace}. When constructed with a set of fields, skips
+ * every other field without deserializing it. Values that repeat across many traces, such as {@code
+ * status}, pass through the given string canonicalizer.
+ */
+final class TraceTypeAdapter extends TypeAdapter<Trace> {
+
+  private final Set<String> fields;
+  private final UnaryOperator<String> strings;
+  private final TypeAdapter<HttpRequest> httpRequestAdapter;
+  private final TypeAdapter<List<TraceEvent>> traceEventListAdapter;
+  private final TypeAdapter<Application> applicationAdapter;
+  private final TypeAdapter<List<Server>> serverListAdapter;
+  private final TypeAdapter<List<TraceNote>> traceNoteListAdapter;
+  private final TypeAdapter<Card> cardAdapter;
+  private final TypeAdapter<List<String>> stringListAdapter;
+  private final TypeAdapter<List<SessionMetadata>> sessionMetadataListAdapter;
+
+  TraceTypeAdapter(final Gson gson, final Set<String> fields, final UnaryOperator<String> strings) {
+    this.fields = fields;
+    this.strings = strings;
+    httpRequestAdapter = gson.getAdapter(HttpRequest.class);
+    traceEventListAdapter = gson.getAdapter(new TypeToken<List<TraceEvent>>() {});
+    applicationAdapter = gson.getAdapter(Application.class);
+    serverListAdapter = gson.getAdapter(new TypeToken<List<Server>>() {});
+    traceNoteListAdapter = gson.getAdapter(new TypeToken<List<TraceNote>>() {});
+    cardAdapter = gson.getAdapter(Card.class);
+    stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+    sessionMetadataListAdapter = gson.getAdapter(new TypeToken<List<SessionMetadata>>() {});
+  }
+
+  @Override
+  public Trace read(final JsonReader reader) throws IOException {
+    final Trace value = new Trace();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (fields != null && !fields.contains(name)) {
+        reader.skipValue();
+        continue;
+      }
+      switch (name) {
+        case "title":
+          value.setTitle(JsonValues.readString(reader));
+          break;
+        case "evidence":
+          value.setEvidence(JsonValues.readString(reader));
+          break;
+        case "language":
+          value.setLanguage(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "status":
+          value.setStatus(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "subStatus":
+          value.setSubStatus(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "hash":
+          value.setHash(JsonValues.readString(reader));
+          break;
+        case "uuid":
+          value.setUuid(JsonValues.readString(reader));
+          break;
+        case "rule_name":
+          value.setRule(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "request":
+          value.setRequest(httpRequestAdapter.read(reader));
+          break;
+        case "events":
+          value.setEvents(traceEventListAdapter.read(reader));
+          break;
+        case "severity":
+          value.setSeverity(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "likelihood":
+          value.setLikelihood(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "impact":
+          value.setImpact(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "confidence":
+          value.setConfidence(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "first_time_seen":
+          value.setFirstTimeSeen(JsonValues.readNullableLong(reader));
+          break;
+        case "last_time_seen":
+          value.setLastTimeSeen(JsonValues.readNullableLong(reader));
+          break;
+        case "application":
+          value.setApplication(applicationAdapter.read(reader));
+          break;
+        case "category":
+          value.setCategory(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "closed_time":
+          value.setClosedTime(JsonValues.readNullableLong(reader));
+          break;
+        case "parentApplicationId":
+          value.setParentApplicationId(JsonValues.readString(reader));
+          break;
+        case "platform":
+          value.setPlatform(strings.apply(JsonValues.readString(reader)));
+          break;
+        case "servers":
+          value.setServers(serverListAdapter.read(reader));
+          break;
+        case "total_traces_received":
+          value.setTotalTracesReceived(JsonValues.readNullableLong(reader));
+          break;
+        case "visible":
+          if (JsonValues.skipNull(reader)) {
+            value.setVisible(JsonValues.readBoolean(reader));
+          }
+          break;
+        case "notes":
+          value.setTraceNotes(traceNoteListAdapter.read(reader));
+          break;
+        case "card":
+          value.setCard(cardAdapter.read(reader));
+          break;
+        case "server_environments":
+          value.setServerEnvironments(JsonValues.readStringList(reader, strings));
+          break;
+        case "tags":
+          value.setTags(JsonValues.readStringList(reader, strings));
+          break;
+        case "session_metadata":
+          value.setSessionMetadata(sessionMetadataListAdapter.read(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return value;
+  }
+
+  @Override
+  public void write(final JsonWriter writer, final Trace value) throws IOException {
+    writer.beginObject();
+    writer.name("title").value(value.getTitle());
+    writer.name("evidence").value(value.getEvidence());
+    writer.name("language").value(value.getLanguage());
+    writer.name("status").value(value.getStatus());
+    writer.name("subStatus").value(value.getSubStatus());
+    writer.name("hash").value(value.getHash());
+    writer.name("uuid").value(value.getUuid());
+    writer.name("rule_name").value(value.getRule());
+    httpRequestAdapter.write(writer.name("request"), value.getRequest());
+    traceEventListAdapter.write(writer.name("events"), value.getEvents());
+    writer.name("severity").value(value.getSeverity());
+    writer.name("likelihood").value(value.getLikelihood());
+    writer.name("impact").value(value.getImpact());
+    writer.name("confidence").value(value.getConfidence());
+    writer.name("first_time_seen").value(value.getFirstTimeSeen());
+    writer.name("last_time_seen").value(value.getLastTimeSeen());
+    applicationAdapter.write(writer.name("application"), value.getApplication());
+    writer.name("category").value(value.getCategory());
+    writer.name("closed_time").value(value.getClosedTime());
+    writer.name("parentApplicationId").value(value.getParentApplicationId());
+    writer.name("platform").value(value.getPlatform());
+    serverListAdapter.write(writer.name("servers"), value.getServers());
+    writer.name("total_traces_received").value(value.getTotalTracesReceived());
+    writer.name("visible").value(value.getVisible());
+    traceNoteListAdapter.write(writer.name("notes"), value.getTraceNotes());
+    cardAdapter.write(writer.name("card"), value.getCard());
+    stringListAdapter.write(writer.name("server_environments"), value.getServerEnvironments());
+    stringListAdapter.write(writer.name("tags"), value.getTags());
+    sessionMetadataListAdapter.write(writer.name("session_metadata"), value.getSessionMetadata());
+    writer.endObject();
+  }
+}
@@ -36,6 +36,10 @@ public class Traces {
 
   private Integer count;
 
+  void setCount(Integer count) {
+    this.count = count;
+  }
+
   /**
    * Return the trace objects
    *
@@ -46,4 +50,8 @@ public class Traces {
   }
 
   private List<Trace> traces;
+
+  void setTraces(List<Trace> traces) {
+    this.traces = traces;
+  }
 }
@@ -0,0 +1,583 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.http.ApplicationFilterForm;
+import com.contrastsecurity.http.FilterForm;
+import com.contrastsecurity.http.LibraryFilterForm;
+import com.contrastsecurity.http.SecurityCheckForm;
+import com.contrastsecurity.http.ServerFilterForm;
+import com.contrastsecurity.http.TraceFilterForm;
+import com.contrastsecurity.http.TraceFilterKeycode;
+import com.contrastsecurity.http.TraceFilterType;
+import com.contrastsecurity.models.AgentType;
+import com.contrastsecurity.models.Application;
+import com.contrastsecurity.models.Applications;
+import com.contrastsecurity.models.AssessLicenseOverview;
+import com.contrastsecurity.models.Coverage;
+import com.contrastsecurity.models.EventSummaryResponse;
+import com.contrastsecurity.models.GenericResponse;
+import com.contrastsecurity.models.GlobalProperties;
+import com.contrastsecurity.models.HttpRequestResponse;
+import com.contrastsecurity.models.JobOutcomePolicy;
+import com.contrastsecurity.models.Libraries;
+import com.contrastsecurity.models.LibraryScores;
+import com.contrastsecurity.models.LibraryStats;
+import com.contrastsecurity.models.MetadataFilterResponse;
+import com.contrastsecurity.models.NotificationsResponse;
+import com.contrastsecurity.models.Organizations;
+import com.contrastsecurity.models.RecommendationResponse;
+import com.contrastsecurity.models.RouteCoverageBySessionIDAndMetadataRequest;
+import com.contrastsecurity.models.RouteCoverageResponse;
+import com.contrastsecurity.models.Rules;
+import com.contrastsecurity.models.SecurityCheck;
+import com.contrastsecurity.models.ServerTagsResponse;
+import com.contrastsecurity.models.Servers;
+import com.contrastsecurity.models.StoryResponse;
+import com.contrastsecurity.models.Tag;
+import com.contrastsecurity.models.Tags;
+import com.contrastsecurity.models.TagsResponse;
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.models.TraceFilterBody;
+import com.contrastsecurity.models.TraceListing;
+import com.contrastsecurity.models.TraceNotesResponse;
+import com.contrastsecurity.models.Traces;
+import com.contrastsecurity.models.TracesWithResponse;
+import com.contrastsecurity.models.Users;
+import com.contrastsecurity.models.VulnerabilityTrend;
+import com.contrastsecurity.models.dtm.ApplicationCreateRequest;
+import com.contrastsecurity.models.dtm.AttestationCreateRequest;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Asynchronous counterpart to {@link ContrastSDK}. Every operation returns a {@link
+ * CompletableFuture} that completes with the result of the corresponding {@code ContrastSDK}
+ * operation, or completes exceptionally with the exception e.g. {@link IOException} or {@link
+ * com.contrastsecurity.exceptions.HttpResponseException} that the operation would have thrown.
+ *
+ * <p>Operations run on the {@link Executor} given to {@link ContrastSDK.Builder#buildAsync}, one
+ * thread per call: each operation makes the same blocking call as {@code ContrastSDK} and occupies
+ * an executor thread until it completes, whatever the {@link
+ * com.contrastsecurity.http.HttpTransport}, so the number of calls in flight is at most the number
+ * of executor threads. Pair a bounded executor with {@link ContrastSDK.Builder#withConnectionPool}
+ * so that a fixed number of threads share a fixed number of kept-alive connections, and further
+ * calls wait in the executor's queue.
+ */
+public final class AsyncContrastSDK {
+
+  /**
+   * A call to make with the underlying {@link ContrastSDK}.
+   *
+   * @param <T> type of the call's result
+   */
+  @FunctionalInterface
+  public interface Call<T> {
+
+    /**
+     * @param sdk the SDK with which to make the call
+     * @return result of the call
+     * @throws IOException when an IO error occurs while making the call
+     * @throws Exception when the call fails for any other reason e.g. {@link
+     *     com.contrastsecurity.exceptions.ApplicationCreateException}
+     */
+    T call(ContrastSDK sdk) throws Exception;
+  }
+
+  private final ContrastSDK sdk;
+  private final Executor executor;
+
+  /**
+   * Constructor. Users should obtain an {@code AsyncContrastSDK} via {@link
+   * ContrastSDK.Builder#buildAsync}.
+   *
+   * @param sdk the SDK that makes the calls
+   * @param executor the executor on which to make calls
+   */
+  AsyncContrastSDK(final ContrastSDK sdk, final Executor executor) {
+    this.sdk = Objects.requireNonNull(sdk);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * @return the synchronous {@link ContrastSDK} that makes the calls
+   */
+  public ContrastSDK sync() {
+    return sdk;
+  }
+
+  /**
+   * Makes an arbitrary call with the underlying {@link ContrastSDK} on this SDK's executor. Useful
+   * for operations that do not have an asynchronous variant.
+   *
+   * @param call the call to make
+   * @param <T> type of the call's result
+   * @return future that completes with the result of the call
+   */
+  public <T> CompletableFuture<T> submit(final Call<T> call) {
+    Objects.requireNonNull(call);
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              future.complete(call.call(sdk));
+            } catch (final Throwable e) {
+              future.completeExceptionally(e);
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getGlobalProperties()}. */
+  public CompletableFuture<GlobalProperties> getGlobalProperties() {
+    return submit(ContrastSDK::getGlobalProperties);
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getAssessLicensing(String)}. */
+  public CompletableFuture<AssessLicenseOverview> getAssessLicensing(final String organizationId) {
+    return submit(sdk -> sdk.getAssessLicensing(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getYearlyVulnTrend(String)}. */
+  public CompletableFuture<VulnerabilityTrend> getYearlyVulnTrend(final String organizationId) {
+    return submit(sdk -> sdk.getYearlyVulnTrend(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getYearlyNewVulnTrend(String)}. */
+  public CompletableFuture<VulnerabilityTrend> getYearlyNewVulnTrend(final String organizationId) {
+    return submit(sdk -> sdk.getYearlyNewVulnTrend(organizationId));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getYearlyVulnTrendForApplication(String, String)}.
+   */
+  public CompletableFuture<VulnerabilityTrend> getYearlyVulnTrendForApplication(
+      final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getYearlyVulnTrendForApplication(organizationId, appId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getProfileOrganizations()}. */
+  public CompletableFuture<Organizations> getProfileOrganizations() {
+    return submit(ContrastSDK::getProfileOrganizations);
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getOrganizationUsers(String)}. */
+  public CompletableFuture<Users> getOrganizationUsers(final String organizationId) {
+    return submit(sdk -> sdk.getOrganizationUsers(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getProfileDefaultOrganizations()}. */
+  public CompletableFuture<Organizations> getProfileDefaultOrganizations() {
+    return submit(ContrastSDK::getProfileDefaultOrganizations);
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#createApplication(String,
+   * ApplicationCreateRequest)}.
+   */
+  public CompletableFuture<Application> createApplication(
+      final String organizationId, final ApplicationCreateRequest request) {
+    return submit(sdk -> sdk.createApplication(organizationId, request));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getApplicationByNameAndLanguage(String, String,
+   * AgentType)}.
+   */
+  public CompletableFuture<Application> getApplicationByNameAndLanguage(
+      final String orgId, final String appName, final AgentType language) {
+    return submit(sdk -> sdk.getApplicationByNameAndLanguage(orgId, appName, language));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getApplication(String, String)}. */
+  public CompletableFuture<Applications> getApplication(
+      final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getApplication(organizationId, appId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getApplication(String, String, EnumSet)}. */
+  public CompletableFuture<Applications> getApplication(
+      final String organizationId,
+      final String appId,
+      final EnumSet<FilterForm.ApplicationExpandValues> expandValues) {
+    return submit(sdk -> sdk.getApplication(organizationId, appId, expandValues));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getApplications(String)}. */
+  public CompletableFuture<Applications> getApplications(final String organizationId) {
+    return submit(sdk -> sdk.getApplications(organizationId));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getFilteredApplications(String,
+   * ApplicationFilterForm)}.
+   */
+  public CompletableFuture<Applications> getFilteredApplications(
+      final String organizationId, final ApplicationFilterForm applicationFilterForm) {
+    return submit(sdk -> sdk.getFilteredApplications(organizationId, applicationFilterForm));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getLicensedApplications(String)}. */
+  public CompletableFuture<Applications> getLicensedApplications(final String organizationId) {
+    return submit(sdk -> sdk.getLicensedApplications(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getApplicationsNames(String)}. */
+  public CompletableFuture<Applications> getApplicationsNames(final String organizationId) {
+    return submit(sdk -> sdk.getApplicationsNames(organizationId));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getRouteCoverage(String, String,
+   * RouteCoverageBySessionIDAndMetadataRequest)}.
+   */
+  public CompletableFuture<RouteCoverageResponse> getRouteCoverage(
+      final String organizationId,
+      final String appId,
+      final RouteCoverageBySessionIDAndMetadataRequest metadata) {
+    return submit(sdk -> sdk.getRouteCoverage(organizationId, appId, metadata));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getCoverage(String, String)}. */
+  public CompletableFuture<Coverage> getCoverage(final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getCoverage(organizationId, appId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getLibraries(String, LibraryFilterForm)}. */
+  public CompletableFuture<Libraries> getLibraries(
+      final String organizationId, final LibraryFilterForm filterForm) {
+    return submit(sdk -> sdk.getLibraries(organizationId, filterForm));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getLibrariesWithFilter(String, LibraryFilterForm)}.
+   */
+  public CompletableFuture<Libraries> getLibrariesWithFilter(
+      final String organizationId, final LibraryFilterForm filterForm) {
+    return submit(sdk -> sdk.getLibrariesWithFilter(organizationId, filterForm));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getLibraries(String, String)}. */
+  public CompletableFuture<Libraries> getLibraries(
+      final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getLibraries(organizationId, appId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getLibraries(String, String, EnumSet)}. */
+  public CompletableFuture<Libraries> getLibraries(
+      final String organizationId,
+      final String appId,
+      final EnumSet<FilterForm.LibrariesExpandValues> expandValues) {
+    return submit(sdk -> sdk.getLibraries(organizationId, appId, expandValues));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getLibrariesWithFilter(String, String,
+   * LibraryFilterForm)}.
+   */
+  public CompletableFuture<Libraries> getLibrariesWithFilter(
+      final String organizationId, final String appId, final LibraryFilterForm filterForm) {
+    return submit(sdk -> sdk.getLibrariesWithFilter(organizationId, appId, filterForm));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getLibraryScores(String)}. */
+  public CompletableFuture<LibraryScores> getLibraryScores(final String organizationId) {
+    return submit(sdk -> sdk.getLibraryScores(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getLibraryStats(String)}. */
+  public CompletableFuture<LibraryStats> getLibraryStats(final String organizationId) {
+    return submit(sdk -> sdk.getLibraryStats(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getServers(String, ServerFilterForm)}. */
+  public CompletableFuture<Servers> getServers(
+      final String organizationId, final ServerFilterForm filterForm) {
+    return submit(sdk -> sdk.getServers(organizationId, filterForm));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getServersWithFilter(String, ServerFilterForm)}. */
+  public CompletableFuture<Servers> getServersWithFilter(
+      final String organizationId, final ServerFilterForm filterForm) {
+    return submit(sdk -> sdk.getServersWithFilter(organizationId, filterForm));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getTraces(String, String, TraceFilterForm)}.
+   *
+   * @deprecated see {@link ContrastSDK#getTraces(String, String, TraceFilterForm)}
+   */
+  @Deprecated
+  public CompletableFuture<Traces> getTraces(
+      final String organizationId, final String appId, final TraceFilterForm form) {
+    return submit(sdk -> sdk.getTraces(organizationId, appId, form));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getTraces(String, String, TraceFilterBody)}. */
+  public CompletableFuture<Traces> getTraces(
+      final String organizationId, final String appId, final TraceFilterBody filters) {
+    return submit(sdk -> sdk.getTraces(organizationId, appId, filters));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getTraces(String, String, TraceFilterBody,
+   * EnumSet)}.
+   */
+  public CompletableFuture<Traces> getTraces(
+      final String organizationId,
+      final String appId,
+      final TraceFilterBody filters,
+      final EnumSet<TraceFilterForm.TraceExpandValue> expand) {
+    return submit(sdk -> sdk.getTraces(organizationId, appId, filters, expand));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getTracesWithResponse(String, String,
+   * TraceFilterForm)}.
+   */
+  public CompletableFuture<TracesWithResponse> getTracesWithResponse(
+      final String organizationId, final String appId, final TraceFilterForm form) {
+    return submit(sdk -> sdk.getTracesWithResponse(organizationId, appId, form));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getTrace(String, String, String)}. */
+  public CompletableFuture<Trace> getTrace(
+      final String organizationId, final String appId, final String traceId) {
+    return submit(sdk -> sdk.getTrace(organizationId, appId, traceId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getTrace(String, String, String, EnumSet)}. */
+  public CompletableFuture<Trace> getTrace(
+      final String organizationId,
+      final String appId,
+      final String traceId,
+      final EnumSet<TraceFilterForm.TraceExpandValue> expand) {
+    return submit(sdk -> sdk.getTrace(organizationId, appId, traceId, expand));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getNotes(String, String, String, TraceFilterForm)}.
+   */
+  public CompletableFuture<TraceNotesResponse> getNotes(
+      final String organizationId,
+      final String appId,
+      final String traceId,
+      final TraceFilterForm form) {
+    return submit(sdk -> sdk.getNotes(organizationId, appId, traceId, form));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getRecommendation(String, String)}. */
+  public CompletableFuture<RecommendationResponse> getRecommendation(
+      final String organizationId, final String traceId) {
+    return submit(sdk -> sdk.getRecommendation(organizationId, traceId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getStory(String, String)}. */
+  public CompletableFuture<StoryResponse> getStory(
+      final String organizationId, final String traceId) {
+    return submit(sdk -> sdk.getStory(organizationId, traceId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getEventSummary(String, String)}. */
+  public CompletableFuture<EventSummaryResponse> getEventSummary(
+      final String organizationId, final String traceId) {
+    return submit(sdk -> sdk.getEventSummary(organizationId, traceId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getHttpRequest(String, String)}. */
+  public CompletableFuture<HttpRequestResponse> getHttpRequest(
+      final String organizationId, final String traceId) {
+    return submit(sdk -> sdk.getHttpRequest(organizationId, traceId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getVulnTagsByApplication(String, String)}. */
+  public CompletableFuture<TagsResponse> getVulnTagsByApplication(
+      final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getVulnTagsByApplication(organizationId, appId));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getSessionMetadataForApplication(String, String,
+   * TraceFilterForm)}.
+   */
+  public CompletableFuture<MetadataFilterResponse> getSessionMetadataForApplication(
+      final String organizationId, final String appId, final TraceFilterForm form) {
+    return submit(sdk -> sdk.getSessionMetadataForApplication(organizationId, appId, form));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#generateAttestationReport(String, String,
+   * AttestationCreateRequest)}.
+   */
+  public CompletableFuture<GenericResponse> generateAttestationReport(
+      final String organizationId, final String appId, final AttestationCreateRequest request) {
+    return submit(sdk -> sdk.generateAttestationReport(organizationId, appId, request));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#downloadAttestationReport(String, String, String)}.
+   */
+  public CompletableFuture<Void> downloadAttestationReport(
+      final String organizationId, final String userId, final String reportId) {
+    return submit(
+        sdk -> {
+          sdk.downloadAttestationReport(organizationId, userId, reportId);
+          return null;
+        });
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getNotifications(String, TraceFilterForm)}. */
+  public CompletableFuture<NotificationsResponse> getNotifications(
+      final String organizationId, final TraceFilterForm form) {
+    return submit(sdk -> sdk.getNotifications(organizationId, form));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getServerTags(String, String)}. */
+  public CompletableFuture<ServerTagsResponse> getServerTags(
+      final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getServerTags(organizationId, appId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#deleteVulnerabilityTag(String, String, Tag)}. */
+  public CompletableFuture<TagsResponse> deleteVulnerabilityTag(
+      final String organizationId, final String traceId, final Tag tag) {
+    return submit(sdk -> sdk.deleteVulnerabilityTag(organizationId, traceId, tag));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getTagsByTrace(String, String)}. */
+  public CompletableFuture<TagsResponse> getTagsByTrace(
+      final String organizationId, final String traceId) {
+    return submit(sdk -> sdk.getTagsByTrace(organizationId, traceId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getTraceTagsByOrganization(String)}. */
+  public CompletableFuture<TagsResponse> getTraceTagsByOrganization(final String organizationId) {
+    return submit(sdk -> sdk.getTraceTagsByOrganization(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#createTag(String, Tags)}. */
+  public CompletableFuture<TagsResponse> createTag(final String organizationId, final Tags tags) {
+    return submit(sdk -> sdk.createTag(organizationId, tags));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#clearNotifications(String)}. */
+  public CompletableFuture<GenericResponse> clearNotifications(final String organizationId) {
+    return submit(sdk -> sdk.clearNotifications(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getTracesInOrg(String, TraceFilterForm)}. */
+  public CompletableFuture<Traces> getTracesInOrg(
+      final String organizationId, final TraceFilterForm form) {
+    return submit(sdk -> sdk.getTracesInOrg(organizationId, form));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getTraceFilters(String, String)}. */
+  public CompletableFuture<TraceListing> getTraceFilters(
+      final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getTraceFilters(organizationId, appId));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getTraceFiltersByType(String, String,
+   * TraceFilterType)}.
+   */
+  public CompletableFuture<TraceListing> getTraceFiltersByType(
+      final String organizationId, final String appId, final TraceFilterType type) {
+    return submit(sdk -> sdk.getTraceFiltersByType(organizationId, appId, type));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getTracesWithFilter(String, String, TraceFilterType,
+   * TraceFilterKeycode, TraceFilterForm)}.
+   */
+  public CompletableFuture<Traces> getTracesWithFilter(
+      final String organizationId,
+      final String appId,
+      final TraceFilterType traceFilterType,
+      final TraceFilterKeycode keycode,
+      final TraceFilterForm form) {
+    return submit(
+        sdk -> sdk.getTracesWithFilter(organizationId, appId, traceFilterType, keycode, form));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#setTraceStatus(String, String)}. */
+  public CompletableFuture<GenericResponse> setTraceStatus(
+      final String organizationId, final String statusRequest) {
+    return submit(sdk -> sdk.setTraceStatus(organizationId, statusRequest));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getTraceFilterByRule(String, String, List)}.
+   *
+   * @deprecated see {@link ContrastSDK#getTraceFilterByRule(String, String, List)}
+   */
+  @Deprecated
+  public CompletableFuture<Traces> getTraceFilterByRule(
+      final String organizationId, final String appId, final List<String> ruleNames) {
+    return submit(sdk -> sdk.getTraceFilterByRule(organizationId, appId, ruleNames));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#makeSecurityCheck(String, SecurityCheckForm)}. */
+  public CompletableFuture<SecurityCheck> makeSecurityCheck(
+      final String organizationId, final SecurityCheckForm securityCheckForm) {
+    return submit(sdk -> sdk.makeSecurityCheck(organizationId, securityCheckForm));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getEnabledJobOutcomePolicies(String)}. */
+  public CompletableFuture<List<JobOutcomePolicy>> getEnabledJobOutcomePolicies(
+      final String organizationId) {
+    return submit(sdk -> sdk.getEnabledJobOutcomePolicies(organizationId));
+  }
+
+  /**
+   * Asynchronous variant of {@link ContrastSDK#getEnabledJoboutcomePoliciesByApplication(String,
+   * String)}.
+   */
+  public CompletableFuture<List<JobOutcomePolicy>> getEnabledJoboutcomePoliciesByApplication(
+      final String organizationId, final String appId) {
+    return submit(sdk -> sdk.getEnabledJoboutcomePoliciesByApplication(organizationId, appId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getRules(String)}. */
+  public CompletableFuture<Rules> getRules(final String organizationId) {
+    return submit(sdk -> sdk.getRules(organizationId));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getAgent(AgentType, String, String)}. */
+  public CompletableFuture<byte[]> getAgent(
+      final AgentType type, final String organizationId, final String profileName) {
+    return submit(sdk -> sdk.getAgent(type, organizationId, profileName));
+  }
+
+  /** Asynchronous variant of {@link ContrastSDK#getAgent(AgentType, String)}. */
+  public CompletableFuture<byte[]> getAgent(final AgentType type, final String organizationId) {
+    return submit(sdk -> sdk.getAgent(type, organizationId));
+  }
+}
@@ -0,0 +1,198 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link CloseableIterator} over the outcomes of one request per key, made on an executor with a
+ * bounded number of requests in flight. Each of up to {@code concurrency} workers requests the next
+ * key not yet requested until none remain, so no more than {@code concurrency} requests are in
+ * flight at once. Completed outcomes wait in a queue of {@code concurrency} entries, and a worker
+ * whose outcome does not fit waits for the caller to consume one before requesting its next key, so
+ * memory use is bounded too however slowly the caller consumes the outcomes. Outcomes are returned
+ * in the order the requests complete, and a failed request yields a failed {@link BulkResult}
+ * without stopping the others.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the results
+ */
+final class BulkIterator<K, V> implements CloseableIterator<BulkResult<K, V>> {
+
+  /**
+   * Makes the request for one key. Called on the executor, possibly for several keys at once.
+   *
+   * @param <K> type of the keys
+   * @param <V> type of the results
+   */
+  @FunctionalInterface
+  interface Request<K, V> {
+
+    /**
+     * @param key the key to request
+     * @return result for the key
+     * @throws Exception when the request fails
+     */
+    V fetch(K key) throws Exception;
+  }
+
+  /**
+   * Starts the requests and opens an iterator over their outcomes.
+   *
+   * @param keys keys to request, in the order to request them
+   * @param concurrency maximum number of requests in flight
+   * @param executor executor on which to make the requests
+   * @param request makes the request for one key
+   * @param <K> type of the keys
+   * @param <V> type of the results
+   * @return new iterator
+   * @throws IllegalArgumentException when {@code concurrency} is not positive
+   * @throws RejectedExecutionException when the executor rejects the requests
+   */
+  static <K, V> BulkIterator<K, V> open(
+      final Collection<? extends K> keys,
+      final int concurrency,
+      final Executor executor,
+      final Request<K, V> request) {
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("concurrency must be positive");
+    }
+    final int workers = Math.min(concurrency, keys.size());
+    final BulkIterator<K, V> iterator =
+        new BulkIterator<>(keys, request, new ArrayBlockingQueue<>(Math.max(1, workers)));
+    try {
+      for (int i = 0; i < workers; i++) {
+        executor.execute(iterator::work);
+      }
+    } catch (final RejectedExecutionException e) {
+      iterator.close();
+      throw e;
+    }
+    return iterator;
+  }
+
+  private final ConcurrentLinkedQueue<K> pending;
+  private final Request<K, V> request;
+  private final BlockingQueue<BulkResult<K, V>> completed;
+  private int remaining;
+  private volatile boolean open = true;
+
+  private BulkIterator(
+      final Collection<? extends K> keys,
+      final Request<K, V> request,
+      final BlockingQueue<BulkResult<K, V>> completed) {
+    this.pending = new ConcurrentLinkedQueue<>(keys);
+    this.request = Objects.requireNonNull(request);
+    this.completed = completed;
+    this.remaining = pending.size();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return open && remaining > 0;
+  }
+
+  /**
+   * Waits for the next request to complete.
+   *
+   * @return outcome of the request
+   * @throws UncheckedIOException wrapping an {@link InterruptedIOException} when the thread is
+   *     interrupted while waiting, in which case the iterator is closed
+   */
+  @Override
+  public BulkResult<K, V> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final BulkResult<K, V> result;
+    try {
+      result = completed.take();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new UncheckedIOException(new InterruptedIOException("interrupted awaiting result"));
+    }
+    remaining--;
+    return result;
+  }
+
+  /**
+   * Stops iterating. Requests in flight complete, but no further keys are requested, and outcomes
+   * not yet consumed are discarded so that workers waiting to queue theirs are released.
+   */
+  @Override
+  public void close() {
+    open = false;
+    pending.clear();
+    completed.clear();
+  }
+
+  private void work() {
+    K key;
+    while (open && (key = pending.poll()) != null) {
+      BulkResult<K, V> result;
+      try {
+        result = BulkResult.success(key, request.fetch(key));
+      } catch (final Exception e) {
+        result = BulkResult.failure(key, e);
+      } catch (final Error e) {
+        complete(BulkResult.failure(key, e));
+        throw e;
+      }
+      complete(result);
+    }
+  }
+
+  /**
+   * Queues an outcome for the caller, waiting while the queue is full. Keeps waiting when
+   * interrupted, because the caller counts on every outcome until the iterator is closed, and
+   * closing the iterator makes room.
+   */
+  private void complete(final BulkResult<K, V> result) {
+    boolean interrupted = false;
+    try {
+      while (open) {
+        try {
+          completed.put(result);
+          break;
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (!open) {
+        completed.clear();
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
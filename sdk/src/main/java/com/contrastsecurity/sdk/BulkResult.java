@@ -0,0 +1,88 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Objects;
+
+/**
+ * Outcome of one request of a bulk operation, such as {@link ContrastSDK#getTracesById}: either the
+ * result for the requested key, or the exception with which the request failed. A failed request
+ * does not stop the others.
+ *
+ * @param <K> type of the requested keys
+ * @param <V> type of the results
+ */
+public final class BulkResult<K, V> {
+
+  static <K, V> BulkResult<K, V> success(final K key, final V value) {
+    return new BulkResult<>(key, value, null);
+  }
+
+  static <K, V> BulkResult<K, V> failure(final K key, final Throwable error) {
+    return new BulkResult<>(key, null, Objects.requireNonNull(error));
+  }
+
+  private final K key;
+  private final V value;
+  private final Throwable error;
+
+  private BulkResult(final K key, final V value, final Throwable error) {
+    this.key = key;
+    this.value = value;
+    this.error = error;
+  }
+
+  /**
+   * @return the requested key
+   */
+  public K key() {
+    return key;
+  }
+
+  /**
+   * @return {@code true} when the request succeeded
+   */
+  public boolean succeeded() {
+    return error == null;
+  }
+
+  /**
+   * @return result of the request, or {@code null} when it failed
+   */
+  public V value() {
+    return value;
+  }
+
+  /**
+   * @return exception with which the request failed, e.g. {@link java.io.IOException} or {@link
+   *     com.contrastsecurity.exceptions.HttpResponseException}, or {@code null} when it succeeded
+   */
+  public Throwable error() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return succeeded()
+        ? "BulkResult{key=" + key + ", value=" + value + "}"
+        : "BulkResult{key=" + key + ", error=" + error + "}";
+  }
+}
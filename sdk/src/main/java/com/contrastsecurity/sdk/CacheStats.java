@@ -0,0 +1,108 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/** Immutable snapshot of the counters of a {@link CachingContrastSDK}. */
+public final class CacheStats {
+
+  private final long hits;
+  private final long staleHits;
+  private final long misses;
+  private final long evictions;
+  private final long refreshes;
+  private final long weight;
+
+  CacheStats(
+      final long hits,
+      final long staleHits,
+      final long misses,
+      final long evictions,
+      final long refreshes,
+      final long weight) {
+    this.hits = hits;
+    this.staleHits = staleHits;
+    this.misses = misses;
+    this.evictions = evictions;
+    this.refreshes = refreshes;
+    this.weight = weight;
+  }
+
+  /**
+   * @return number of calls answered with a fresh cached result, including calls that waited for a
+   *     fetch already in progress
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * @return number of calls answered with an expired result while it was refreshed in the
+   *     background
+   */
+  public long staleHits() {
+    return staleHits;
+  }
+
+  /**
+   * @return number of calls that fetched the result from Contrast
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * @return number of results evicted to stay within the maximum weight
+   */
+  public long evictions() {
+    return evictions;
+  }
+
+  /**
+   * @return number of background refreshes that completed successfully
+   */
+  public long refreshes() {
+    return refreshes;
+  }
+
+  /**
+   * @return total weight of the cached results
+   */
+  public long weight() {
+    return weight;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStats{hits="
+        + hits
+        + ", staleHits="
+        + staleHits
+        + ", misses="
+        + misses
+        + ", evictions="
+        + evictions
+        + ", refreshes="
+        + refreshes
+        + ", weight="
+        + weight
+        + '}';
+  }
+}
@@ -0,0 +1,409 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.exceptions.UnauthorizedException;
+import com.contrastsecurity.models.Applications;
+import com.contrastsecurity.models.AssessLicenseOverview;
+import com.contrastsecurity.models.JobOutcomePolicy;
+import com.contrastsecurity.models.Organizations;
+import com.contrastsecurity.models.Rules;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.ToIntFunction;
+
+/**
+ * Caching decorator for the {@link ContrastSDK} operations that read slow-changing resources.
+ *
+ * <p>Each result is cached for the time-to-live configured for its {@link Operation}. Concurrent
+ * calls for a result that is not cached share a single fetch, so a burst of identical calls costs
+ * one round trip to Contrast. When stale-while-revalidate is enabled, a call for a result that
+ * expired less than the configured window ago returns the expired result at once and refreshes it
+ * on the configured executor. Failures are never cached.
+ *
+ * <p>The cache evicts the least recently used results when the total weight of the cached results
+ * exceeds the configured maximum. By default each result weighs 1, so the maximum weight is a
+ * maximum number of results.
+ *
+ * <p>Cached results are shared by all callers, so callers must not modify them.
+ */
+public final class CachingContrastSDK {
+
+  /** Operations whose results {@link CachingContrastSDK} caches. */
+  public enum Operation {
+    ASSESS_LICENSING,
+    ENABLED_JOB_OUTCOME_POLICIES,
+    PROFILE_ORGANIZATIONS,
+    APPLICATIONS_NAMES,
+    RULES
+  }
+
+  /**
+   * @param sdk the SDK that fetches results that are not cached
+   * @return new {@link Builder}
+   * @throws NullPointerException when {@code sdk} is {@code null}
+   */
+  public static Builder builder(final ContrastSDK sdk) {
+    return new Builder(sdk);
+  }
+
+  private final ContrastSDK sdk;
+  private final Map<Operation, Long> ttls;
+  private final long staleWhileRevalidate;
+  private final Executor refreshExecutor;
+  private final long maxWeight;
+  private final ToIntFunction<Object> weigher;
+  private final Object lock = new Object();
+  private final LinkedHashMap<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long weight;
+  private long hits;
+  private long staleHits;
+  private long misses;
+  private long evictions;
+  private long refreshes;
+
+  private CachingContrastSDK(final Builder builder) {
+    this.sdk = builder.sdk;
+    this.ttls = new EnumMap<>(Operation.class);
+    for (final Operation operation : Operation.values()) {
+      final Duration ttl = builder.ttls.getOrDefault(operation, builder.defaultTtl);
+      ttls.put(operation, ttl.toNanos());
+    }
+    this.staleWhileRevalidate = builder.staleWhileRevalidate.toNanos();
+    this.refreshExecutor = builder.refreshExecutor;
+    this.maxWeight = builder.maxWeight;
+    this.weigher = builder.weigher;
+  }
+
+  /**
+   * @return the underlying {@link ContrastSDK}, for operations that are not cached
+   */
+  public ContrastSDK sync() {
+    return sdk;
+  }
+
+  /** Cached variant of {@link ContrastSDK#getAssessLicensing(String)}. */
+  public AssessLicenseOverview getAssessLicensing(final String organizationId)
+      throws IOException, UnauthorizedException {
+    return get(
+        Operation.ASSESS_LICENSING, sdk -> sdk.getAssessLicensing(organizationId), organizationId);
+  }
+
+  /** Cached variant of {@link ContrastSDK#getEnabledJobOutcomePolicies(String)}. */
+  public List<JobOutcomePolicy> getEnabledJobOutcomePolicies(final String organizationId)
+      throws IOException, UnauthorizedException {
+    return get(
+        Operation.ENABLED_JOB_OUTCOME_POLICIES,
+        sdk -> sdk.getEnabledJobOutcomePolicies(organizationId),
+        organizationId);
+  }
+
+  /** Cached variant of {@link ContrastSDK#getProfileOrganizations()}. */
+  public Organizations getProfileOrganizations() throws IOException, UnauthorizedException {
+    return get(Operation.PROFILE_ORGANIZATIONS, ContrastSDK::getProfileOrganizations);
+  }
+
+  /** Cached variant of {@link ContrastSDK#getApplicationsNames(String)}. */
+  public Applications getApplicationsNames(final String organizationId)
+      throws IOException, UnauthorizedException {
+    return get(
+        Operation.APPLICATIONS_NAMES,
+        sdk -> sdk.getApplicationsNames(organizationId),
+        organizationId);
+  }
+
+  /** Cached variant of {@link ContrastSDK#getRules(String)}. */
+  public Rules getRules(final String organizationId) throws IOException, UnauthorizedException {
+    return get(Operation.RULES, sdk -> sdk.getRules(organizationId), organizationId);
+  }
+
+  /**
+   * @return snapshot of the cache counters
+   */
+  public CacheStats stats() {
+    synchronized (lock) {
+      return new CacheStats(hits, staleHits, misses, evictions, refreshes, weight);
+    }
+  }
+
+  /** Removes all cached results. Fetches in progress complete, but their results are not cached. */
+  public void invalidateAll() {
+    synchronized (lock) {
+      entries.clear();
+      weight = 0;
+    }
+  }
+
+  private <T> T get(
+      final Operation operation, final AsyncContrastSDK.Call<T> call, final Object... args)
+      throws IOException {
+    final List<Object> key = key(operation, args);
+    final long now = System.nanoTime();
+    final Entry entry;
+    final boolean load;
+    boolean refresh = false;
+    synchronized (lock) {
+      final Entry cached = entries.get(key);
+      if (cached != null && !cached.future.isDone()) {
+        hits++;
+        entry = cached;
+        load = false;
+      } else if (cached != null && now - cached.loaded < ttls.get(operation)) {
+        hits++;
+        entry = cached;
+        load = false;
+      } else if (cached != null
+          && now - cached.loaded < ttls.get(operation) + staleWhileRevalidate) {
+        staleHits++;
+        if (!cached.refreshing) {
+          cached.refreshing = true;
+          refresh = true;
+        }
+        entry = cached;
+        load = false;
+      } else {
+        misses++;
+        if (cached != null) {
+          remove(key, cached);
+        }
+        entry = new Entry();
+        entries.put(key, entry);
+        load = true;
+      }
+    }
+    if (refresh) {
+      refresh(key, entry, call);
+    }
+    if (load) {
+      final T value;
+      try {
+        value = call.call(sdk);
+      } catch (final Exception e) {
+        synchronized (lock) {
+          if (entries.get(key) == entry) {
+            entries.remove(key);
+          }
+        }
+        entry.future.completeExceptionally(e);
+        throw rethrow(e);
+      }
+      store(key, entry, value);
+      return value;
+    }
+    try {
+      @SuppressWarnings("unchecked")
+      final T value = (T) entry.future.get();
+      return value;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a cached result");
+    } catch (final ExecutionException e) {
+      throw rethrow(e.getCause());
+    }
+  }
+
+  private <T> void refresh(
+      final List<Object> key, final Entry stale, final AsyncContrastSDK.Call<T> call) {
+    try {
+      refreshExecutor.execute(
+          () -> {
+            final T value;
+            try {
+              value = call.call(sdk);
+            } catch (final Exception e) {
+              synchronized (lock) {
+                stale.refreshing = false;
+              }
+              return;
+            }
+            final Entry fresh = new Entry();
+            synchronized (lock) {
+              if (entries.get(key) != stale) {
+                return;
+              }
+              remove(key, stale);
+              entries.put(key, fresh);
+              refreshes++;
+            }
+            store(key, fresh, value);
+          });
+    } catch (final RejectedExecutionException e) {
+      synchronized (lock) {
+        stale.refreshing = false;
+      }
+    }
+  }
+
+  private void store(final List<Object> key, final Entry entry, final Object value) {
+    synchronized (lock) {
+      entry.loaded = System.nanoTime();
+      if (entries.get(key) == entry) {
+        entry.weight = weigher.applyAsInt(value);
+        weight += entry.weight;
+        evict();
+      }
+    }
+    entry.future.complete(value);
+  }
+
+  /** Evicts least recently used results until the cache fits within its maximum weight. */
+  private void evict() {
+    final Iterator<Map.Entry<List<Object>, Entry>> it = entries.entrySet().iterator();
+    while (weight > maxWeight && it.hasNext()) {
+      final Entry eldest = it.next().getValue();
+      if (!eldest.future.isDone() && eldest.weight == 0) {
+        continue;
+      }
+      it.remove();
+      weight -= eldest.weight;
+      evictions++;
+    }
+  }
+
+  private void remove(final List<Object> key, final Entry entry) {
+    entries.remove(key);
+    weight -= entry.weight;
+  }
+
+  private static List<Object> key(final Operation operation, final Object... args) {
+    final Object[] key = new Object[args.length + 1];
+    key[0] = operation;
+    System.arraycopy(args, 0, key, 1, args.length);
+    return Arrays.asList(key);
+  }
+
+  private static IOException rethrow(final Throwable e) throws IOException {
+    if (e instanceof IOException) {
+      throw (IOException) e;
+    }
+    if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    }
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+    throw new IllegalStateException("Unexpected checked exception", e);
+  }
+
+  /** Cached result, or a fetch in progress when the future is not yet done. */
+  private static final class Entry {
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+    private long loaded;
+    private int weight;
+    private boolean refreshing;
+  }
+
+  /** Builder for {@link CachingContrastSDK}. */
+  public static final class Builder {
+
+    private final ContrastSDK sdk;
+    private final Map<Operation, Duration> ttls = new EnumMap<>(Operation.class);
+    private Duration defaultTtl = Duration.ofMinutes(5);
+    private Duration staleWhileRevalidate = Duration.ZERO;
+    private Executor refreshExecutor;
+    private long maxWeight = 1000;
+    private ToIntFunction<Object> weigher = value -> 1;
+
+    private Builder(final ContrastSDK sdk) {
+      this.sdk = Objects.requireNonNull(sdk);
+    }
+
+    /**
+     * @param ttl time-to-live of the results of operations without their own time-to-live. Defaults
+     *     to 5 minutes.
+     * @return this
+     * @throws IllegalArgumentException when {@code ttl} is negative
+     */
+    public Builder defaultTtl(final Duration ttl) {
+      this.defaultTtl = requireNonNegative(ttl);
+      return this;
+    }
+
+    /**
+     * @param operation operation whose time-to-live to set
+     * @param ttl time-to-live of the results of the operation
+     * @return this
+     * @throws IllegalArgumentException when {@code ttl} is negative
+     */
+    public Builder ttl(final Operation operation, final Duration ttl) {
+      ttls.put(Objects.requireNonNull(operation), requireNonNegative(ttl));
+      return this;
+    }
+
+    /**
+     * Returns expired results for up to the given window after they expire while refreshing them in
+     * the background. Disabled by default.
+     *
+     * @param window how long after expiry an expired result may still be returned
+     * @param executor executor on which to refresh expired results
+     * @return this
+     * @throws IllegalArgumentException when {@code window} is negative
+     * @throws NullPointerException when {@code executor} is {@code null}
+     */
+    public Builder staleWhileRevalidate(final Duration window, final Executor executor) {
+      this.staleWhileRevalidate = requireNonNegative(window);
+      this.refreshExecutor = Objects.requireNonNull(executor);
+      return this;
+    }
+
+    /**
+     * @param maxWeight maximum total weight of the cached results. Defaults to 1000.
+     * @param weigher computes the weight of a result
+     * @return this
+     * @throws IllegalArgumentException when {@code maxWeight} is not positive
+     * @throws NullPointerException when {@code weigher} is {@code null}
+     */
+    public Builder maximumWeight(final long maxWeight, final ToIntFunction<Object> weigher) {
+      if (maxWeight <= 0) {
+        throw new IllegalArgumentException("maxWeight must be positive");
+      }
+      this.maxWeight = maxWeight;
+      this.weigher = Objects.requireNonNull(weigher);
+      return this;
+    }
+
+    /**
+     * @return new {@link CachingContrastSDK}
+     */
+    public CachingContrastSDK build() {
+      return new CachingContrastSDK(this);
+    }
+
+    private static Duration requireNonNegative(final Duration duration) {
+      if (duration.isNegative()) {
+        throw new IllegalArgumentException("duration must not be negative");
+      }
+      return duration;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Iterator} over results that are read from an open response as the caller advances. Callers
+ * must close the iterator, preferably with try-with-resources, to release the connection when they
+ * stop before the last element; the iterator closes itself once it is exhausted.
+ *
+ * <p>Because {@link Iterator} methods cannot throw checked exceptions, communication problems while
+ * reading the response are thrown as {@link UncheckedIOException}.
+ *
+ * @param <T> type of the elements
+ */
+public interface CloseableIterator<T> extends Iterator<T>, Closeable {
+
+  /**
+   * Returns a sequential {@link Stream} over the remaining elements. Closing the stream closes this
+   * iterator.
+   *
+   * @return new {@code Stream} backed by this iterator
+   */
+  default Stream<T> stream() {
+    final Spliterator<T> spliterator =
+        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false)
+        .onClose(
+            () -> {
+              try {
+                close();
+              } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+}
@@ -0,0 +1,248 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.http.TransportRequest;
+import com.contrastsecurity.http.TransportResponse;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in cache of GET responses that {@link ContrastSDK} revalidates with conditional requests.
+ *
+ * <p>When Contrast includes an {@code ETag} or {@code Last-Modified} validator in a response, the
+ * cache keeps the validator together with the object deserialized from the response. The next
+ * request for the same URL carries the validator in an {@code If-None-Match} or {@code
+ * If-Modified-Since} header, and when Contrast answers {@code 304 Not Modified} the SDK returns the
+ * cached object instead of downloading and parsing the body again. Responses marked {@code
+ * Cache-Control: no-store} are not cached.
+ *
+ * <p>The cache holds at most a fixed number of entries and, optionally, a fixed number of bytes,
+ * and evicts the least recently used entries when either bound is exceeded. An entry weighs the
+ * number of bytes of the response body it was parsed from, which grows with the size of the cached
+ * object, so that a few large listings cannot hold much more memory than the byte bound allows; a
+ * response larger than the byte bound is not cached. A cache may be shared by several {@code
+ * ContrastSDK} instances, because entries are keyed by user as well as URL. Cached objects are
+ * returned to every caller that requests the same resource, so callers must not modify them.
+ */
+public final class ConditionalRequestCache {
+
+  /**
+   * @param maxEntries maximum number of responses to cache
+   * @return new, empty cache bounded by number of entries only
+   * @throws IllegalArgumentException when {@code maxEntries} is not positive
+   */
+  public static ConditionalRequestCache create(final int maxEntries) {
+    return create(maxEntries, Long.MAX_VALUE);
+  }
+
+  /**
+   * @param maxEntries maximum number of responses to cache
+   * @param maxBytes maximum total size of the response bodies of the cached responses
+   * @return new, empty cache
+   * @throws IllegalArgumentException when {@code maxEntries} or {@code maxBytes} is not positive
+   */
+  public static ConditionalRequestCache create(final int maxEntries, final long maxBytes) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes must be positive");
+    }
+    return new ConditionalRequestCache(maxEntries, maxBytes);
+  }
+
+  private final int maxEntries;
+  private final long maxBytes;
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  private ConditionalRequestCache(final int maxEntries, final long maxBytes) {
+    this.maxEntries = maxEntries;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @return number of requests answered with {@code 304 Not Modified} from the cache
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * @return number of requests that downloaded a full response
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * @return number of entries evicted to make room for newer entries
+   */
+  public long evictions() {
+    return evictions.get();
+  }
+
+  /**
+   * @return number of cached responses
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return total size in bytes of the response bodies of the cached responses
+   */
+  public synchronized long bytes() {
+    return bytes;
+  }
+
+  /** Removes all cached responses. */
+  public synchronized void clear() {
+    entries.clear();
+    bytes = 0;
+  }
+
+  /**
+   * @return cached entry for the given key, or {@code null} when there is none
+   */
+  synchronized Entry lookup(final String key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Records that the server confirmed the cached entry is still current.
+   *
+   * @return the cached object
+   */
+  <T> T hit(final Entry entry, final Class<T> type) {
+    hits.incrementAndGet();
+    return type.cast(entry.value);
+  }
+
+  /**
+   * Records a full response, caching the deserialized object when the response has a validator.
+   *
+   * @param size number of bytes of the response body from which the object was deserialized
+   */
+  void store(
+      final String key, final TransportResponse response, final Object value, final long size) {
+    misses.incrementAndGet();
+    final String etag = response.header("ETag");
+    final String lastModified = response.header("Last-Modified");
+    final String cacheControl = response.header("Cache-Control");
+    final boolean noStore = cacheControl != null && cacheControl.contains("no-store");
+    synchronized (this) {
+      final Entry previous = entries.remove(key);
+      if (previous != null) {
+        bytes -= previous.size;
+      }
+      if (value == null || noStore || (etag == null && lastModified == null) || size > maxBytes) {
+        return;
+      }
+      entries.put(key, new Entry(etag, lastModified, value, size));
+      bytes += size;
+      final Iterator<Entry> eldest = entries.values().iterator();
+      while (entries.size() > maxEntries || bytes > maxBytes) {
+        bytes -= eldest.next().size;
+        eldest.remove();
+        evictions.incrementAndGet();
+      }
+    }
+  }
+
+  /** Cached response validators and the object deserialized from the response. */
+  static final class Entry {
+
+    private final String etag;
+    private final String lastModified;
+    private final Object value;
+    private final long size;
+
+    private Entry(
+        final String etag, final String lastModified, final Object value, final long size) {
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.value = value;
+      this.size = size;
+    }
+
+    /** Adds the conditional request headers that revalidate this entry to the given request. */
+    void addValidators(final TransportRequest.Builder request) {
+      if (etag != null) {
+        request.header("If-None-Match", etag);
+      }
+      if (lastModified != null) {
+        request.header("If-Modified-Since", lastModified);
+      }
+    }
+  }
+
+  /** Counts the bytes read from a response body, to weigh the entry cached from it. */
+  static final class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    CountingInputStream(final InputStream in) {
+      super(in);
+    }
+
+    /**
+     * @return number of bytes read so far
+     */
+    long count() {
+      return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int b = super.read();
+      if (b >= 0) {
+        count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      final int n = super.read(b, off, len);
+      if (n > 0) {
+        count += n;
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final long skipped = super.skip(n);
+      count += skipped;
+      return skipped;
+    }
+  }
+}
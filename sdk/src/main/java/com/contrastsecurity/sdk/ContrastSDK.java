@@ -26,22 +26,30 @@ import com.contrastsecurity.exceptions.UnauthorizedException;
 import com.contrastsecurity.http.ApplicationFilterForm;
 import com.contrastsecurity.http.FilterForm;
 import com.contrastsecurity.http.HttpMethod;
+import com.contrastsecurity.http.HttpTransport;
 import com.contrastsecurity.http.JobOutcomePolicyListResponse;
 import com.contrastsecurity.http.LibraryFilterForm;
 import com.contrastsecurity.http.MediaType;
+import com.contrastsecurity.http.RateLimitPolicy;
+import com.contrastsecurity.http.RateLimitingTransport;
+import com.contrastsecurity.http.RequestBody;
 import com.contrastsecurity.http.RequestConstants;
+import com.contrastsecurity.http.RetryPolicy;
+import com.contrastsecurity.http.RetryingTransport;
 import com.contrastsecurity.http.SecurityCheckForm;
 import com.contrastsecurity.http.SecurityCheckResponse;
 import com.contrastsecurity.http.ServerFilterForm;
 import com.contrastsecurity.http.TraceFilterForm;
 import com.contrastsecurity.http.TraceFilterKeycode;
 import com.contrastsecurity.http.TraceFilterType;
+import com.contrastsecurity.http.TransportRequest;
+import com.contrastsecurity.http.TransportResponse;
+import com.contrastsecurity.http.URLConnectionTransport;
 import com.contrastsecurity.http.UrlBuilder;
 import com.contrastsecurity.models.AgentType;
 import com.contrastsecurity.models.Application;
 import com.contrastsecurity.models.Applications;
 import com.contrastsecurity.models.AssessLicenseOverview;
-import com.contrastsecurity.models.Chapter;
 import com.contrastsecurity.models.Coverage;
 import com.contrastsecurity.models.EventDetails;
 import com.contrastsecurity.models.EventResource;
@@ -51,19 +59,20 @@ import com.contrastsecurity.models.GlobalProperties;
 import com.contrastsecurity.models.HttpRequestResponse;
 import com.contrastsecurity.models.JobOutcomePolicy;
 import com.contrastsecurity.models.Libraries;
+import com.contrastsecurity.models.Library;
 import com.contrastsecurity.models.LibraryScores;
 import com.contrastsecurity.models.LibraryStats;
 import com.contrastsecurity.models.MakeRequestResponse;
-import com.contrastsecurity.models.MetadataEntity;
 import com.contrastsecurity.models.MetadataFilterResponse;
+import com.contrastsecurity.models.ModelTypeAdapterFactory;
 import com.contrastsecurity.models.NotificationsResponse;
 import com.contrastsecurity.models.Organizations;
-import com.contrastsecurity.models.PropertyResource;
 import com.contrastsecurity.models.RecommendationResponse;
 import com.contrastsecurity.models.RouteCoverageBySessionIDAndMetadataRequest;
 import com.contrastsecurity.models.RouteCoverageResponse;
 import com.contrastsecurity.models.Rules;
 import com.contrastsecurity.models.SecurityCheck;
+import com.contrastsecurity.models.Server;
 import com.contrastsecurity.models.ServerTagsResponse;
 import com.contrastsecurity.models.Servers;
 import com.contrastsecurity.models.StoryResponse;
@@ -81,38 +90,32 @@ import com.contrastsecurity.models.Users;
 import com.contrastsecurity.models.VulnerabilityTrend;
 import com.contrastsecurity.models.dtm.ApplicationCreateRequest;
 import com.contrastsecurity.models.dtm.AttestationCreateRequest;
+import com.contrastsecurity.sdk.internal.BufferPool;
 import com.contrastsecurity.sdk.internal.GsonFactory;
 import com.contrastsecurity.sdk.scan.ScanManager;
 import com.contrastsecurity.sdk.scan.ScanManagerImpl;
 import com.contrastsecurity.utils.ContrastSDKUtils;
-import com.contrastsecurity.utils.MetadataDeserializer;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.Proxy;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Getter;
@@ -128,13 +131,19 @@ public class ContrastSDK {
   private final String user;
   @Getter private String restApiURL;
   private final UrlBuilder urlBuilder;
-  private final Gson gson;
+  private Gson gson;
   Proxy proxy;
   private final String userAgent;
+  private final HttpTransport transport;
+  @Getter private RateLimitingTransport rateLimiter;
+  private ConditionalRequestCache cache;
+  private RequestCoalescer coalescer;
+  private StringPool stringPool;
+  private Map<Projection, Gson> projections = projectionCache();
+  private RequestOptions options;
 
   private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
   private int readTimeout = DEFAULT_READ_TIMEOUT;
-  private static final int BUFFER_SIZE = 4096;
 
   public static class Builder {
     private final String user;
@@ -143,6 +152,13 @@ public class ContrastSDK {
     private Proxy proxy;
     private String restApiURL;
     private UserAgentProduct product;
+    private HttpTransport transport;
+    private int maxConnections;
+    private RetryPolicy retryPolicy;
+    private RateLimitPolicy rateLimitPolicy;
+    private ConditionalRequestCache cache;
+    private RequestCoalescer coalescer;
+    private StringPool stringPool;
 
     public Builder(String user, String serviceKey, String apiKey) {
       this.user = user;
@@ -176,12 +192,146 @@ public class ContrastSDK {
       return this;
     }
 
+    /**
+     * Replaces the default {@link URLConnectionTransport} with a custom {@link HttpTransport} for
+     * exchanging HTTP messages with the Contrast API. The proxy configured with {@link
+     * #withProxy(Proxy)} does not apply to custom transports.
+     *
+     * @param transport custom transport
+     * @return this
+     */
+    public Builder withTransport(HttpTransport transport) {
+      this.transport = transport;
+      return this;
+    }
+
+    /**
+     * Limits the number of connections in flight to the Contrast API so that every connection is
+     * kept alive and reused. See {@link URLConnectionTransport#pooled(Proxy, int)}. Has no effect
+     * when a custom transport is configured with {@link #withTransport(HttpTransport)}.
+     *
+     * <p>A connection stays in use until its response is closed, including while a streaming
+     * iterator such as {@link ContrastSDK#streamTraces(String, String, TraceFilterForm)} is open,
+     * so callers must not open more iterators at once than there are connections, nor make other
+     * calls while holding that many open. Give calls a deadline with {@link RequestOptions} to
+     * bound how long they wait for a connection.
+     *
+     * @param maxConnections maximum number of concurrent connections
+     * @return this
+     * @throws IllegalArgumentException when {@code maxConnections} is not positive
+     */
+    public Builder withConnectionPool(int maxConnections) {
+      if (maxConnections <= 0) {
+        throw new IllegalArgumentException("maxConnections must be positive");
+      }
+      this.maxConnections = maxConnections;
+      return this;
+    }
+
+    /**
+     * Retries requests that fail with transient errors, such as 429, 502 and 503 responses or
+     * connection failures, according to the given policy. See {@link RetryingTransport}.
+     *
+     * @param retryPolicy retry policy, or {@code null} to disable retries
+     * @return this
+     */
+    public Builder withRetryPolicy(RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
+      return this;
+    }
+
+    /**
+     * Limits the rate of requests to each organization according to the given policy, adapting the
+     * rate to 429 responses and response times. See {@link RateLimitingTransport}. The limiter is
+     * available from {@code ContrastSDK.getRateLimiter()} for monitoring. When retries are also
+     * enabled, every attempt counts against the rate limit.
+     *
+     * @param rateLimitPolicy rate limit policy, or {@code null} to disable rate limiting
+     * @return this
+     */
+    public Builder withRateLimit(RateLimitPolicy rateLimitPolicy) {
+      this.rateLimitPolicy = rateLimitPolicy;
+      return this;
+    }
+
+    /**
+     * Caches GET responses that carry an {@code ETag} or {@code Last-Modified} validator and
+     * revalidates them with conditional requests, so that unchanged resources are neither
+     * downloaded nor parsed again. See {@link ConditionalRequestCache}.
+     *
+     * @param cache cache to use, or {@code null} to disable caching
+     * @return this
+     */
+    public Builder withConditionalRequestCache(ConditionalRequestCache cache) {
+      this.cache = cache;
+      return this;
+    }
+
+    /**
+     * Coalesces identical GET requests that are in flight at the same time, so that concurrent
+     * callers share one request and one deserialized result. See {@link RequestCoalescer}.
+     *
+     * @param coalescer coalescer to use, or {@code null} to disable coalescing
+     * @return this
+     */
+    public Builder withRequestCoalescing(RequestCoalescer coalescer) {
+      this.coalescer = coalescer;
+      return this;
+    }
+
+    /**
+     * Deduplicates the strings that repeat throughout large results, such as the severity and
+     * status of each trace, so that results kept in memory take less space. See {@link StringPool}.
+     *
+     * @param stringPool pool to use, or {@code null} to disable deduplication
+     * @return this
+     */
+    public Builder withStringPool(StringPool stringPool) {
+      this.stringPool = stringPool;
+      return this;
+    }
+
     public ContrastSDK build() {
-      ContrastSDK sdk = new ContrastSDK(this.user, this.serviceKey, this.apiKey, this.product);
+      HttpTransport transport;
+      if (this.transport != null) {
+        transport = this.transport;
+      } else if (maxConnections > 0) {
+        transport = URLConnectionTransport.pooled(this.proxy, maxConnections);
+      } else {
+        transport = URLConnectionTransport.create(this.proxy);
+      }
+      RateLimitingTransport rateLimiter = null;
+      if (rateLimitPolicy != null) {
+        rateLimiter = new RateLimitingTransport(transport, rateLimitPolicy);
+        transport = rateLimiter;
+      }
+      if (retryPolicy != null) {
+        transport = new RetryingTransport(transport, retryPolicy);
+      }
+      ContrastSDK sdk =
+          new ContrastSDK(this.user, this.serviceKey, this.apiKey, this.product, transport);
+      sdk.rateLimiter = rateLimiter;
+      sdk.cache = this.cache;
+      sdk.coalescer = this.coalescer;
+      if (stringPool != null) {
+        sdk.stringPool = stringPool;
+        sdk.gson = GsonFactory.builder(sdk.models(null)).create();
+      }
       sdk.restApiURL = this.restApiURL;
       sdk.proxy = this.proxy;
       return sdk;
     }
+
+    /**
+     * Builds an {@link AsyncContrastSDK} that makes calls on the given executor.
+     *
+     * @param executor the executor on which to make calls
+     * @return new {@link AsyncContrastSDK}
+     * @throws NullPointerException when {@code executor} is {@code null}
+     */
+    public AsyncContrastSDK buildAsync(Executor executor) {
+      return new AsyncContrastSDK(build(), executor);
+    }
   }
 
   /**
@@ -194,7 +344,11 @@ public class ContrastSDK {
    * @param apiKey API Key
    */
   private ContrastSDK(
-      String user, String serviceKey, String apiKey, final UserAgentProduct component) {
+      String user,
+      String serviceKey,
+      String apiKey,
+      final UserAgentProduct component,
+      final HttpTransport transport) {
     this.user = user;
     this.serviceKey = serviceKey;
     this.apiKey = apiKey;
@@ -202,8 +356,57 @@ public class ContrastSDK {
     this.restApiURL = DEFAULT_API_URL;
     ContrastSDKUtils.validateUrl(this.restApiURL);
     this.urlBuilder = UrlBuilder.getInstance();
-    this.gson = GsonFactory.create();
+    this.gson = GsonFactory.shared();
     this.proxy = Proxy.NO_PROXY;
+    this.transport = Objects.requireNonNull(transport);
+  }
+
+  /**
+   * Copies the given SDK with different request options.
+   *
+   * @param sdk the SDK to copy
+   * @param options request options for the copy
+   */
+  private ContrastSDK(final ContrastSDK sdk, final RequestOptions options) {
+    this.user = sdk.user;
+    this.serviceKey = sdk.serviceKey;
+    this.apiKey = sdk.apiKey;
+    this.userAgent = sdk.userAgent;
+    this.restApiURL = sdk.restApiURL;
+    this.urlBuilder = sdk.urlBuilder;
+    this.stringPool = sdk.stringPool;
+    this.projections = sdk.projections;
+    this.gson = options.projection() == null ? sdk.gson : sdk.projected(options.projection());
+    this.proxy = sdk.proxy;
+    this.transport = sdk.transport;
+    this.rateLimiter = sdk.rateLimiter;
+    this.cache = sdk.cache;
+    this.coalescer = sdk.coalescer;
+    this.connectionTimeout = sdk.connectionTimeout;
+    this.readTimeout = sdk.readTimeout;
+    this.options = options;
+  }
+
+  /**
+   * Returns a view of this SDK that applies the given options, such as a deadline or cancellation
+   * token, to every call made through it. The view shares this SDK's configuration and connections,
+   * and is cheap to create for each call or batch of calls, for example:
+   *
+   * <pre>{@code
+   * Traces traces =
+   *     contrast
+   *         .withOptions(RequestOptions.builder().timeout(Duration.ofSeconds(30)).build())
+   *         .getTraces(orgId, appId, form);
+   * }</pre>
+   *
+   * <p>Timeouts set on this SDK after the view is created do not apply to the view.
+   *
+   * @param options options for calls made through the view
+   * @return new view of this SDK
+   * @throws NullPointerException when {@code options} is {@code null}
+   */
+  public ContrastSDK withOptions(final RequestOptions options) {
+    return new ContrastSDK(this, Objects.requireNonNull(options));
   }
 
   /** visible for testing */
@@ -229,10 +432,7 @@ public class ContrastSDK {
    * @throws IOException if there was a communication problem
    */
   public GlobalProperties getGlobalProperties() throws IOException, UnauthorizedException {
-    try (InputStream is = makeRequest(HttpMethod.GET, this.urlBuilder.getGlobalPropertiesUrl());
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, GlobalProperties.class);
-    }
+    return get(this.urlBuilder.getGlobalPropertiesUrl(), GlobalProperties.class);
   }
 
   /**
@@ -245,11 +445,7 @@ public class ContrastSDK {
    */
   public AssessLicenseOverview getAssessLicensing(String organizationId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, this.urlBuilder.getAssessLicensingUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, AssessLicenseOverview.class);
-    }
+    return get(this.urlBuilder.getAssessLicensingUrl(organizationId), AssessLicenseOverview.class);
   }
   /**
    * Get Total (Total Open and Total Closed each month) Vulnerability Trend for an Organizations.
@@ -261,11 +457,7 @@ public class ContrastSDK {
    */
   public VulnerabilityTrend getYearlyVulnTrend(String organizationId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, this.urlBuilder.getYearlyVulnTrendUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, VulnerabilityTrend.class);
-    }
+    return get(this.urlBuilder.getYearlyVulnTrendUrl(organizationId), VulnerabilityTrend.class);
   }
 
   /**
@@ -278,12 +470,7 @@ public class ContrastSDK {
    */
   public VulnerabilityTrend getYearlyNewVulnTrend(String organizationId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, this.urlBuilder.getYearlyNewVulnTrendUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, VulnerabilityTrend.class);
-    }
+    return get(this.urlBuilder.getYearlyNewVulnTrendUrl(organizationId), VulnerabilityTrend.class);
   }
 
   /**
@@ -297,13 +484,9 @@ public class ContrastSDK {
    */
   public VulnerabilityTrend getYearlyVulnTrendForApplication(String organizationId, String appId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                this.urlBuilder.getYearlyVulnTrendForApplicationUrl(organizationId, appId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, VulnerabilityTrend.class);
-    }
+    return get(
+        this.urlBuilder.getYearlyVulnTrendForApplicationUrl(organizationId, appId),
+        VulnerabilityTrend.class);
   }
 
   /**
@@ -314,12 +497,7 @@ public class ContrastSDK {
    * @throws IOException if there was a communication problem
    */
   public Organizations getProfileOrganizations() throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, this.urlBuilder.getProfileOrganizationsUrl());
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, Organizations.class);
-    }
+    return get(this.urlBuilder.getProfileOrganizationsUrl(), Organizations.class);
   }
 
   /**
@@ -332,12 +510,7 @@ public class ContrastSDK {
    */
   public Users getOrganizationUsers(String organizationId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, this.urlBuilder.getOrganizationUsersUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, Users.class);
-    }
+    return get(this.urlBuilder.getOrganizationUsersUrl(organizationId), Users.class);
   }
 
   /**
@@ -348,12 +521,7 @@ public class ContrastSDK {
    * @throws IOException if there was a communication problem
    */
   public Organizations getProfileDefaultOrganizations() throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, this.urlBuilder.getProfileDefaultOrganizationUrl());
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, Organizations.class);
-    }
+    return get(this.urlBuilder.getProfileDefaultOrganizationUrl(), Organizations.class);
   }
 
   /**
@@ -371,10 +539,9 @@ public class ContrastSDK {
             makeCreateRequest(
                 HttpMethod.POST,
                 urlBuilder.getCreateApplicationUrl(organizationId),
-                this.gson.toJson(request),
-                MediaType.JSON,
+                RequestBody.json(gson, request),
                 false);
-        InputStreamReader reader = new InputStreamReader(is)) {
+        InputStreamReader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       Applications response = this.gson.fromJson(reader, Applications.class);
       return response.getApplication();
     }
@@ -392,14 +559,11 @@ public class ContrastSDK {
    */
   public Application getApplicationByNameAndLanguage(
       String orgId, String appName, AgentType language) throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getApplicationByNameAndLanguageUrl(orgId, appName, language.name()));
-        InputStreamReader reader = new InputStreamReader(is)) {
-      Applications response = this.gson.fromJson(reader, Applications.class);
-      return response.getApplication();
-    }
+    Applications response =
+        get(
+            urlBuilder.getApplicationByNameAndLanguageUrl(orgId, appName, language.name()),
+            Applications.class);
+    return response.getApplication();
   }
 
   /**
@@ -408,41 +572,31 @@ public class ContrastSDK {
    * @param method
    * @param path
    * @param body
-   * @param mediaType
    * @return
    * @throws IOException
    * @throws UnauthorizedException
    * @throws ApplicationCreateException
    */
   private InputStream makeCreateRequest(
-      HttpMethod method, String path, String body, MediaType mediaType, boolean setAcceptType)
+      HttpMethod method, String path, RequestBody body, boolean setAcceptType)
       throws IOException, UnauthorizedException, ApplicationCreateException {
-    String url = restApiURL + path;
-
-    HttpURLConnection connection = makeConnection(url, method.toString());
-    if (mediaType != null
-        && body != null
-        && (method.equals(HttpMethod.PUT) || method.equals(HttpMethod.POST))) {
-      connection.setDoOutput(true);
-      connection.setRequestProperty("Content-Type", mediaType.getType());
+    TransportRequest.Builder request = newRequest(method, path);
+    if (body != null && (method.equals(HttpMethod.PUT) || method.equals(HttpMethod.POST))) {
+      request.body(body);
       if (setAcceptType) {
-        connection.setRequestProperty("Accept", mediaType.getType());
+        request.header("Accept", body.contentType());
       }
-      OutputStream os = connection.getOutputStream();
-      byte[] bodyByte = body.getBytes("utf-8");
-      os.write(bodyByte, 0, bodyByte.length);
     }
-    int rc = connection.getResponseCode();
-    InputStream is;
+    TransportResponse response = transport.send(request.build());
+    int rc = response.code();
     if (CREATE_APPLICATION_ERROR_RESPONSE.contains(rc)) {
-      is = connection.getErrorStream();
-      String message = getErrorMessage(is);
+      String message = getErrorMessage(response.body());
       throw new ApplicationCreateException(rc, message);
     } else if (rc >= BAD_REQUEST && rc < SERVER_ERROR) {
+      response.close();
       throw new UnauthorizedException(rc);
     }
-    is = connection.getInputStream();
-    return is;
+    return response.body();
   }
 
   /**
@@ -453,15 +607,11 @@ public class ContrastSDK {
    * @throws IOException
    */
   private String getErrorMessage(InputStream errorStream) throws IOException {
-    InputStreamReader streamReader = new InputStreamReader(errorStream);
-    StringBuilder builder = new StringBuilder();
-    try (BufferedReader bufferedReader = new BufferedReader(streamReader)) {
-      String line;
-      while ((line = bufferedReader.readLine()) != null) {
-        builder.append(line);
-      }
+    String body;
+    try (InputStream is = errorStream) {
+      body = BufferPool.shared().readString(is);
     }
-    JsonObject json = this.gson.fromJson(builder.toString(), JsonObject.class);
+    JsonObject json = this.gson.fromJson(body, JsonObject.class);
     return json.get("messages").getAsString();
   }
 
@@ -492,14 +642,8 @@ public class ContrastSDK {
   public Applications getApplication(
       String organizationId, String appId, EnumSet<FilterForm.ApplicationExpandValues> expandValues)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                this.urlBuilder.getApplicationUrl(organizationId, appId, expandValues));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, Applications.class);
-    }
+    return get(
+        this.urlBuilder.getApplicationUrl(organizationId, appId, expandValues), Applications.class);
   }
 
   /**
@@ -512,11 +656,7 @@ public class ContrastSDK {
    */
   public Applications getApplications(String organizationId)
       throws UnauthorizedException, IOException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getApplicationsUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Applications.class);
-    }
+    return get(urlBuilder.getApplicationsUrl(organizationId), Applications.class);
   }
 
   /**
@@ -531,13 +671,9 @@ public class ContrastSDK {
   public Applications getFilteredApplications(
       String organizationId, ApplicationFilterForm applicationFilterForm)
       throws UnauthorizedException, IOException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getApplicationFilterUrl(organizationId, applicationFilterForm));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Applications.class);
-    }
+    return get(
+        urlBuilder.getApplicationFilterUrl(organizationId, applicationFilterForm),
+        Applications.class);
   }
 
   /**
@@ -550,20 +686,12 @@ public class ContrastSDK {
    */
   public Applications getLicensedApplications(String organizationId)
       throws UnauthorizedException, IOException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getLicensedApplicationsUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Applications.class);
-    }
+    return get(urlBuilder.getLicensedApplicationsUrl(organizationId), Applications.class);
   }
 
   public Applications getApplicationsNames(String organizationId)
       throws UnauthorizedException, IOException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getApplicationsNameUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Applications.class);
-    }
+    return get(urlBuilder.getApplicationsNameUrl(organizationId), Applications.class);
   }
 
   /**
@@ -585,9 +713,8 @@ public class ContrastSDK {
                 : makeRequestWithBody(
                     HttpMethod.POST,
                     urlBuilder.getRouteCoverageWithMetadataUrl(organizationId, appId),
-                    this.gson.toJson(metadata),
-                    MediaType.JSON);
-        Reader reader = new InputStreamReader(is)) {
+                    RequestBody.json(gson, metadata));
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return this.gson.fromJson(reader, RouteCoverageResponse.class);
     }
   }
@@ -603,11 +730,7 @@ public class ContrastSDK {
    */
   public Coverage getCoverage(String organizationId, String appId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getCoverageUrl(organizationId, appId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Coverage.class);
-    }
+    return get(urlBuilder.getCoverageUrl(organizationId, appId), Coverage.class);
   }
 
   /**
@@ -621,11 +744,7 @@ public class ContrastSDK {
    */
   public Libraries getLibraries(String organizationId, LibraryFilterForm filterForm)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getLibrariesUrl(organizationId, filterForm));
-        Reader reader = new InputStreamReader(is)) {
-      return gson.fromJson(reader, Libraries.class);
-    }
+    return get(urlBuilder.getLibrariesUrl(organizationId, filterForm), Libraries.class);
   }
 
   /**
@@ -639,12 +758,7 @@ public class ContrastSDK {
    */
   public Libraries getLibrariesWithFilter(String organizationId, LibraryFilterForm filterForm)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getLibrariesFilterUrl(organizationId, filterForm));
-        Reader reader = new InputStreamReader(is)) {
-      return gson.fromJson(reader, Libraries.class);
-    }
+    return get(urlBuilder.getLibrariesFilterUrl(organizationId, filterForm), Libraries.class);
   }
 
   public Libraries getLibraries(String organizationId, String appId)
@@ -665,12 +779,7 @@ public class ContrastSDK {
   public Libraries getLibraries(
       String organizationId, String appId, EnumSet<FilterForm.LibrariesExpandValues> expandValues)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getLibrariesUrl(organizationId, appId, expandValues));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Libraries.class);
-    }
+    return get(urlBuilder.getLibrariesUrl(organizationId, appId, expandValues), Libraries.class);
   }
 
   /**
@@ -685,13 +794,8 @@ public class ContrastSDK {
   public Libraries getLibrariesWithFilter(
       String organizationId, String appId, LibraryFilterForm filterForm)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getLibrariesFilterUrl(organizationId, appId, filterForm));
-        Reader reader = new InputStreamReader(is)) {
-      return gson.fromJson(reader, Libraries.class);
-    }
+    return get(
+        urlBuilder.getLibrariesFilterUrl(organizationId, appId, filterForm), Libraries.class);
   }
 
   /**
@@ -704,12 +808,7 @@ public class ContrastSDK {
    */
   public LibraryScores getLibraryScores(String organizationId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getLibraryScoresUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, LibraryScores.class);
-    }
+    return get(urlBuilder.getLibraryScoresUrl(organizationId), LibraryScores.class);
   }
   /**
    * Return the library Stats for an Organization.
@@ -721,12 +820,7 @@ public class ContrastSDK {
    */
   public LibraryStats getLibraryStats(String organizationId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getLibraryStatsUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, LibraryStats.class);
-    }
+    return get(urlBuilder.getLibraryStatsUrl(organizationId), LibraryStats.class);
   }
 
   /**
@@ -740,12 +834,7 @@ public class ContrastSDK {
    */
   public Servers getServers(String organizationId, ServerFilterForm filterForm)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getServersUrl(organizationId, filterForm));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, Servers.class);
-    }
+    return get(urlBuilder.getServersUrl(organizationId, filterForm), Servers.class);
   }
 
   /**
@@ -759,13 +848,7 @@ public class ContrastSDK {
    */
   public Servers getServersWithFilter(String organizationId, ServerFilterForm filterForm)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getServersFilterUrl(organizationId, filterForm));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, Servers.class);
-    }
+    return get(urlBuilder.getServersFilterUrl(organizationId, filterForm), Servers.class);
   }
 
   /**
@@ -782,12 +865,7 @@ public class ContrastSDK {
   @Deprecated
   public Traces getTraces(String organizationId, String appId, TraceFilterForm form)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getTracesByApplicationUrl(organizationId, appId, form));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Traces.class);
-    }
+    return get(urlBuilder.getTracesByApplicationUrl(organizationId, appId, form), Traces.class);
   }
 
   /**
@@ -827,13 +905,60 @@ public class ContrastSDK {
             makeRequestWithBody(
                 HttpMethod.POST,
                 urlBuilder.getTracesWithBodyUrl(organizationId, appId, expand),
-                this.gson.toJson(filters),
-                MediaType.JSON);
-        Reader reader = new InputStreamReader(is)) {
+                RequestBody.json(gson, filters));
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return this.gson.fromJson(reader, Traces.class);
     }
   }
 
+  /**
+   * Streams the vulnerabilities in the application whose ID is passed in. Unlike {@link
+   * #getTraces(String, String, TraceFilterForm)}, each Trace is parsed from the response only when
+   * the iterator reaches it, so memory use does not grow with the number of results.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param form FilterForm query parameters
+   * @return iterator over the Trace's, which the caller must close
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> streamTraces(
+      String organizationId, String appId, TraceFilterForm form)
+      throws IOException, UnauthorizedException {
+    return streamTraces(
+        makeRequest(
+            HttpMethod.GET, urlBuilder.getTracesByApplicationUrl(organizationId, appId, form)));
+  }
+
+  /**
+   * Streams the vulnerabilities in the application that match specific metadata filters with
+   * expanded fields. Unlike {@link #getTraces(String, String, TraceFilterBody, EnumSet)}, each
+   * Trace is parsed from the response only when the iterator reaches it, so memory use does not
+   * grow with the number of results or the size of the expanded fields.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param filters TraceMetadataFilters filters to query on
+   * @param expand the fields to expand (e.g., SESSION_METADATA, SERVER_ENVIRONMENTS), or {@code
+   *     null}
+   * @return iterator over the Trace's, which the caller must close
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> streamTraces(
+      String organizationId,
+      String appId,
+      TraceFilterBody filters,
+      EnumSet<TraceFilterForm.TraceExpandValue> expand)
+      throws IOException, UnauthorizedException {
+    return streamTraces(
+        makeRequestWithBody(
+            HttpMethod.POST,
+            urlBuilder.getTracesWithBodyUrl(organizationId, appId, expand),
+            RequestBody.json(gson, filters)));
+  }
+
   /**
    * Get the vulnerabilities in the application whose ID is passed in.
    *
@@ -850,7 +975,7 @@ public class ContrastSDK {
     MakeRequestResponse mrr =
         makeRequestWithResponse(
             HttpMethod.GET, urlBuilder.getTracesByApplicationUrl(organizationId, appId, form));
-    try (Reader reader = new InputStreamReader(mrr.is)) {
+    try (Reader reader = new InputStreamReader(mrr.is, StandardCharsets.UTF_8)) {
       TracesWithResponse twr = new TracesWithResponse();
       twr.t = this.gson.fromJson(reader, Traces.class);
       twr.rc = mrr.rc;
@@ -891,13 +1016,68 @@ public class ContrastSDK {
       String traceId,
       EnumSet<TraceFilterForm.TraceExpandValue> expand)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getTraceUrl(organizationId, appId, traceId, expand));
-        Reader reader = new InputStreamReader(is)) {
-      TraceResponse response = this.gson.fromJson(reader, TraceResponse.class);
-      return response.getTrace();
-    }
+    TraceResponse response =
+        get(urlBuilder.getTraceUrl(organizationId, appId, traceId, expand), TraceResponse.class);
+    return response.getTrace();
+  }
+
+  /**
+   * Gets many vulnerabilities by their IDs with expanded fields, making up to {@code concurrency}
+   * requests at once on the SDK's shared pool of daemon threads. See {@link #getTracesById(String,
+   * String, Collection, EnumSet, int, Executor)}.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param traceIds the IDs of the vulnerabilities (trace UUIDs)
+   * @param expand the fields to expand (e.g., APPLICATION, EVENTS, NOTES, REQUEST, SERVERS,
+   *     SERVER_ENVIRONMENTS, SESSION_METADATA), or {@code null}
+   * @param concurrency maximum number of requests in flight
+   * @return iterator over the outcome for each ID, in the order the requests complete
+   */
+  public CloseableIterator<BulkResult<String, Trace>> getTracesById(
+      String organizationId,
+      String appId,
+      Collection<String> traceIds,
+      EnumSet<TraceFilterForm.TraceExpandValue> expand,
+      int concurrency) {
+    return getTracesById(
+        organizationId, appId, traceIds, expand, concurrency, Paging.defaults().executor());
+  }
+
+  /**
+   * Gets many vulnerabilities by their IDs with expanded fields, as {@link #getTrace(String,
+   * String, String, EnumSet)} does for one. The requests are made on the given executor, up to
+   * {@code concurrency} at a time, and the outcome of each is returned as soon as it completes, so
+   * the caller can process the first vulnerabilities while the others are still being requested. A
+   * failed request yields a failed {@link BulkResult} with the exception it threw, without stopping
+   * the others.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param traceIds the IDs of the vulnerabilities (trace UUIDs)
+   * @param expand the fields to expand (e.g., APPLICATION, EVENTS, NOTES, REQUEST, SERVERS,
+   *     SERVER_ENVIRONMENTS, SESSION_METADATA), or {@code null}
+   * @param concurrency maximum number of requests in flight
+   * @param executor executor on which to make the requests
+   * @return iterator over the outcome for each ID, in the order the requests complete, which the
+   *     caller must close if it stops early
+   * @throws IllegalArgumentException when {@code concurrency} is not positive
+   */
+  public CloseableIterator<BulkResult<String, Trace>> getTracesById(
+      String organizationId,
+      String appId,
+      Collection<String> traceIds,
+      EnumSet<TraceFilterForm.TraceExpandValue> expand,
+      int concurrency,
+      Executor executor) {
+    Objects.requireNonNull(executor);
+    EnumSet<TraceFilterForm.TraceExpandValue> fields =
+        expand == null ? null : EnumSet.copyOf(expand);
+    return BulkIterator.open(
+        traceIds,
+        concurrency,
+        executor,
+        traceId -> getTrace(organizationId, appId, traceId, fields));
   }
 
   /**
@@ -914,13 +1094,9 @@ public class ContrastSDK {
   public TraceNotesResponse getNotes(
       String organizationId, String appId, String traceId, TraceFilterForm form)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getNotesByApplicationUrl(organizationId, appId, traceId, form));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, TraceNotesResponse.class);
-    }
+    return get(
+        urlBuilder.getNotesByApplicationUrl(organizationId, appId, traceId, form),
+        TraceNotesResponse.class);
   }
 
   /**
@@ -935,12 +1111,9 @@ public class ContrastSDK {
    */
   public RecommendationResponse getRecommendation(String organizationId, String traceId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getRecommendationByTraceId(organizationId, traceId));
-        Reader reader = new InputStreamReader(is)) {
-      return gson.fromJson(reader, RecommendationResponse.class);
-    }
+    return get(
+        urlBuilder.getRecommendationByTraceId(organizationId, traceId),
+        RecommendationResponse.class);
   }
 
   /**
@@ -955,58 +1128,7 @@ public class ContrastSDK {
    */
   public StoryResponse getStory(String organizationId, String traceId)
       throws IOException, UnauthorizedException {
-    final String inputString;
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getStoryByTraceId(organizationId, traceId));
-        ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-      final byte[] buffer = new byte[4096];
-      int read;
-      while ((read = is.read(buffer)) > 0) {
-        bos.write(buffer, 0, read);
-      }
-      inputString = bos.toString(StandardCharsets.UTF_8.name());
-    }
-    StoryResponse story = gson.fromJson(inputString, StoryResponse.class);
-    JsonObject object = (JsonObject) new JsonParser().parse(inputString);
-    JsonObject storyObject = (JsonObject) object.get("story");
-    if (storyObject != null) {
-      JsonArray chaptersArray = (JsonArray) storyObject.get("chapters");
-      List<Chapter> chapters = story.getStory().getChapters();
-      if (chapters == null) {
-        chapters = new ArrayList<>();
-      } else {
-        chapters.clear();
-      }
-      for (int i = 0; i < chaptersArray.size(); i++) {
-        JsonObject member = (JsonObject) chaptersArray.get(i);
-        Chapter chapter = gson.fromJson(member, Chapter.class);
-        chapters.add(chapter);
-        JsonObject properties = (JsonObject) member.get("properties");
-        if (properties != null) {
-          Set<Entry<String, JsonElement>> entries = properties.entrySet();
-          Iterator<Entry<String, JsonElement>> iter = entries.iterator();
-          List<PropertyResource> propertyResources = new ArrayList<>();
-          chapter.setPropertyResources(propertyResources);
-          while (iter.hasNext()) {
-            Entry<String, JsonElement> prop = iter.next();
-            // String key = prop.getKey();
-            JsonElement entryValue = prop.getValue();
-            if (entryValue != null && entryValue.isJsonObject()) {
-              JsonObject obj = (JsonObject) entryValue;
-              JsonElement name = obj.get("name");
-              JsonElement value = obj.get("value");
-              if (name != null && value != null) {
-                PropertyResource propertyResource = new PropertyResource();
-                propertyResource.setName(name.getAsString());
-                propertyResource.setValue(value.getAsString());
-                propertyResources.add(propertyResource);
-              }
-            }
-          }
-        }
-      }
-    }
-    return story;
+    return get(urlBuilder.getStoryByTraceId(organizationId, traceId), StoryResponse.class);
   }
 
   /**
@@ -1020,20 +1142,23 @@ public class ContrastSDK {
    */
   public EventSummaryResponse getEventSummary(String organizationId, String traceId)
       throws IOException, UnauthorizedException {
+    EventSummaryResponse eventResource;
+    // close the summary before requesting the details, so that it does not hold a pooled connection
+    // while the details wait for one
     try (InputStream is =
             makeRequest(HttpMethod.GET, urlBuilder.getEventSummary(organizationId, traceId));
-        Reader reader = new InputStreamReader(is)) {
-      EventSummaryResponse eventResource = gson.fromJson(reader, EventSummaryResponse.class);
-      for (EventResource event : eventResource.getEvents()) {
-        if (event.getCollapsedEvents() != null && !event.getCollapsedEvents().isEmpty()) {
-          getCollapsedEventsDetails(event, organizationId, traceId);
-        } else {
-          EventDetails eventDetails = getEventDetails(event, organizationId, traceId);
-          event.setEvent(eventDetails.getEvent());
-        }
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+      eventResource = gson.fromJson(reader, EventSummaryResponse.class);
+    }
+    for (EventResource event : eventResource.getEvents()) {
+      if (event.getCollapsedEvents() != null && !event.getCollapsedEvents().isEmpty()) {
+        getCollapsedEventsDetails(event, organizationId, traceId);
+      } else {
+        EventDetails eventDetails = getEventDetails(event, organizationId, traceId);
+        event.setEvent(eventDetails.getEvent());
       }
-      return eventResource;
     }
+    return eventResource;
   }
 
   /**
@@ -1068,13 +1193,8 @@ public class ContrastSDK {
    */
   private EventDetails getEventDetails(EventResource event, String organizationId, String traceId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getEventDetails(organizationId, traceId, event.getId()));
-        Reader reader = new InputStreamReader(is)) {
-      return gson.fromJson(reader, EventDetails.class);
-    }
+    return get(
+        urlBuilder.getEventDetails(organizationId, traceId, event.getId()), EventDetails.class);
   }
 
   /**
@@ -1088,12 +1208,8 @@ public class ContrastSDK {
    */
   public HttpRequestResponse getHttpRequest(String organizationId, String traceId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getHttpRequestByTraceId(organizationId, traceId));
-        Reader reader = new InputStreamReader(is)) {
-      return gson.fromJson(reader, HttpRequestResponse.class);
-    }
+    return get(
+        urlBuilder.getHttpRequestByTraceId(organizationId, traceId), HttpRequestResponse.class);
   }
 
   /**
@@ -1107,12 +1223,7 @@ public class ContrastSDK {
    */
   public TagsResponse getVulnTagsByApplication(String organizationId, String appId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getTraceTagsByApplicationUrl(organizationId, appId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, TagsResponse.class);
-    }
+    return get(urlBuilder.getTraceTagsByApplicationUrl(organizationId, appId), TagsResponse.class);
   }
 
   /**
@@ -1128,13 +1239,9 @@ public class ContrastSDK {
   public MetadataFilterResponse getSessionMetadataForApplication(
       String organizationId, String appId, TraceFilterForm form)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getSessionMetadataForApplicationUrl(organizationId, appId, form));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, MetadataFilterResponse.class);
-    }
+    return get(
+        urlBuilder.getSessionMetadataForApplicationUrl(organizationId, appId, form),
+        MetadataFilterResponse.class);
   }
 
   /**
@@ -1153,10 +1260,9 @@ public class ContrastSDK {
             makeCreateRequest(
                 HttpMethod.POST,
                 urlBuilder.getAttestationReportByApplicationUrl(organizationId, appId),
-                this.gson.toJson(request),
-                MediaType.JSON,
+                RequestBody.json(gson, request),
                 true);
-        Reader reader = new InputStreamReader(is)) {
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return this.gson.fromJson(reader, GenericResponse.class);
     }
   }
@@ -1189,12 +1295,7 @@ public class ContrastSDK {
    */
   public NotificationsResponse getNotifications(String organizationId, TraceFilterForm form)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getNotificationsUrl(organizationId, form));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, NotificationsResponse.class);
-    }
+    return get(urlBuilder.getNotificationsUrl(organizationId, form), NotificationsResponse.class);
   }
 
   /**
@@ -1208,11 +1309,7 @@ public class ContrastSDK {
    */
   public ServerTagsResponse getServerTags(String organizationId, String appId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getServerTagsUrl(organizationId, appId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, ServerTagsResponse.class);
-    }
+    return get(urlBuilder.getServerTagsUrl(organizationId, appId), ServerTagsResponse.class);
   }
 
   /**
@@ -1229,8 +1326,8 @@ public class ContrastSDK {
       throws IOException, UnauthorizedException {
     String tagsUrl = urlBuilder.deleteTag(organizationId, traceId);
     try (InputStream is =
-            makeRequestWithBody(HttpMethod.DELETE, tagsUrl, gson.toJson(tag), MediaType.JSON);
-        Reader reader = new InputStreamReader(is)) {
+            makeRequestWithBody(HttpMethod.DELETE, tagsUrl, RequestBody.json(gson, tag));
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return gson.fromJson(reader, TagsResponse.class);
     }
   }
@@ -1247,11 +1344,7 @@ public class ContrastSDK {
    */
   public TagsResponse getTagsByTrace(String organizationId, String traceId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getTagsByTrace(organizationId, traceId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, TagsResponse.class);
-    }
+    return get(urlBuilder.getTagsByTrace(organizationId, traceId), TagsResponse.class);
   }
 
   /**
@@ -1265,11 +1358,7 @@ public class ContrastSDK {
    */
   public TagsResponse getTraceTagsByOrganization(String organizationId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getOrCreateTagsByOrganization(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, TagsResponse.class);
-    }
+    return get(urlBuilder.getOrCreateTagsByOrganization(organizationId), TagsResponse.class);
   }
 
   /**
@@ -1282,18 +1371,13 @@ public class ContrastSDK {
    */
   public TagsResponse createTag(String organizationId, Tags tags)
       throws IOException, UnauthorizedException {
-    Gson gson =
-        new GsonBuilder()
-            .registerTypeAdapter(MetadataEntity.class, new MetadataDeserializer())
-            .create();
     String tagsUrl = urlBuilder.getOrCreateTagsByOrganization(organizationId);
     try (InputStream is =
             makeRequestWithBody(
                 HttpMethod.PUT,
                 tagsUrl,
-                gson.toJson(tags.setTagNamesAndGetTagObject()),
-                MediaType.JSON);
-        Reader reader = new InputStreamReader(is)) {
+                RequestBody.json(gson, tags.setTagNamesAndGetTagObject()));
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return gson.fromJson(reader, TagsResponse.class);
     }
   }
@@ -1310,7 +1394,7 @@ public class ContrastSDK {
       throws IOException, UnauthorizedException {
     try (InputStream is =
             makeRequest(HttpMethod.PUT, urlBuilder.clearNotificationsUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return this.gson.fromJson(reader, GenericResponse.class);
     }
   }
@@ -1326,12 +1410,269 @@ public class ContrastSDK {
    */
   public Traces getTracesInOrg(String organizationId, TraceFilterForm form)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getTracesByOrganizationUrl(organizationId, form));
-        Reader reader = new InputStreamReader(is)) {
+    return get(urlBuilder.getTracesByOrganizationUrl(organizationId, form), Traces.class);
+  }
 
-      return this.gson.fromJson(reader, Traces.class);
+  /**
+   * Streams the vulnerabilities in the organization whose ID is passed in. Unlike {@link
+   * #getTracesInOrg(String, TraceFilterForm)}, each Trace is parsed from the response only when the
+   * iterator reaches it, so memory use does not grow with the number of results.
+   *
+   * @param organizationId the ID of the organization
+   * @param form FilterForm query parameters
+   * @return iterator over the Trace's, which the caller must close
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> streamTracesInOrg(String organizationId, TraceFilterForm form)
+      throws IOException, UnauthorizedException {
+    return streamTraces(
+        makeRequest(HttpMethod.GET, urlBuilder.getTracesByOrganizationUrl(organizationId, form)));
+  }
+
+  /**
+   * Reads every vulnerability in the organization whose ID is passed in, requesting the listing
+   * page by page. The first page is requested before this method returns and reports the total
+   * number of vulnerabilities; later pages are requested ahead of the caller, up to {@link
+   * Paging#pagesInFlight()} at a time, and their Trace's are returned in order.
+   *
+   * @param organizationId the ID of the organization
+   * @param form FilterForm query parameters, whose limit and offset are replaced by those of each
+   *     page; may be {@code null}
+   * @param paging page size, pages in flight and executor
+   * @return iterator over the Trace's, which the caller must close if it stops early
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> pageTracesInOrg(
+      String organizationId, TraceFilterForm form, Paging paging)
+      throws IOException, UnauthorizedException {
+    return PagedIterator.open(
+        (offset, limit) ->
+            tracePage(getTracesInOrg(organizationId, copyWithPage(form, offset, limit))),
+        paging);
+  }
+
+  /**
+   * Reads every vulnerability in the application whose ID is passed in, requesting the listing page
+   * by page as {@link #pageTracesInOrg(String, TraceFilterForm, Paging)} does.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param form FilterForm query parameters, whose limit and offset are replaced by those of each
+   *     page; may be {@code null}
+   * @param paging page size, pages in flight and executor
+   * @return iterator over the Trace's, which the caller must close if it stops early
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> pageTraces(
+      String organizationId, String appId, TraceFilterForm form, Paging paging)
+      throws IOException, UnauthorizedException {
+    return PagedIterator.open(
+        (offset, limit) ->
+            tracePage(getTraces(organizationId, appId, copyWithPage(form, offset, limit))),
+        paging);
+  }
+
+  /**
+   * Reads every vulnerability in the application that matches the metadata filters, requesting the
+   * listing page by page as {@link #pageTracesInOrg(String, TraceFilterForm, Paging)} does.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param filters TraceMetadataFilters filters to query on
+   * @param expand the fields to expand (e.g., SESSION_METADATA, SERVER_ENVIRONMENTS), or {@code
+   *     null}
+   * @param paging page size, pages in flight and executor
+   * @return iterator over the Trace's, which the caller must close if it stops early
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> pageTraces(
+      String organizationId,
+      String appId,
+      TraceFilterBody filters,
+      EnumSet<TraceFilterForm.TraceExpandValue> expand,
+      Paging paging)
+      throws IOException, UnauthorizedException {
+    return PagedIterator.open(
+        (offset, limit) -> {
+          try (InputStream is =
+                  makeRequestWithBody(
+                      HttpMethod.POST,
+                      urlBuilder.getTracesWithBodyUrl(organizationId, appId, expand, offset, limit),
+                      RequestBody.json(gson, filters));
+              Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+            return tracePage(gson.fromJson(reader, Traces.class));
+          }
+        },
+        paging);
+  }
+
+  /**
+   * Reads every application in the organization that matches the filter, requesting the listing
+   * page by page as {@link #pageTracesInOrg(String, TraceFilterForm, Paging)} does.
+   *
+   * @param organizationId the ID of the organization
+   * @param form Query params to add more info to response, whose limit and offset are replaced by
+   *     those of each page; may be {@code null}
+   * @param paging page size, pages in flight and executor
+   * @return iterator over the Application's, which the caller must close if it stops early
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Application> pageFilteredApplications(
+      String organizationId, ApplicationFilterForm form, Paging paging)
+      throws IOException, UnauthorizedException {
+    return PagedIterator.open(
+        (offset, limit) ->
+            applicationPage(
+                getFilteredApplications(
+                    organizationId,
+                    withPage(
+                        form == null
+                            ? new ApplicationFilterForm()
+                            : new ApplicationFilterForm(form),
+                        offset,
+                        limit))),
+        paging);
+  }
+
+  /**
+   * Reads every library of the Contrast organization that matches the filter, requesting the
+   * listing page by page as {@link #pageTracesInOrg(String, TraceFilterForm, Paging)} does.
+   *
+   * @param organizationId the ID of the organization
+   * @param form FilterForm query parameters, whose limit and offset are replaced by those of each
+   *     page; may be {@code null}
+   * @param paging page size, pages in flight and executor
+   * @return iterator over the Library objects, which the caller must close if it stops early
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Library> pageLibrariesWithFilter(
+      String organizationId, LibraryFilterForm form, Paging paging)
+      throws IOException, UnauthorizedException {
+    return PagedIterator.open(
+        (offset, limit) ->
+            libraryPage(
+                getLibrariesWithFilter(
+                    organizationId,
+                    withPage(
+                        form == null ? new LibraryFilterForm() : new LibraryFilterForm(form),
+                        offset,
+                        limit))),
+        paging);
+  }
+
+  /**
+   * Reads every library of the monitored Contrast application that matches the filter, requesting
+   * the listing page by page as {@link #pageTracesInOrg(String, TraceFilterForm, Paging)} does.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param form FilterForm query parameters, whose limit and offset are replaced by those of each
+   *     page; may be {@code null}
+   * @param paging page size, pages in flight and executor
+   * @return iterator over the Library objects, which the caller must close if it stops early
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Library> pageLibrariesWithFilter(
+      String organizationId, String appId, LibraryFilterForm form, Paging paging)
+      throws IOException, UnauthorizedException {
+    return PagedIterator.open(
+        (offset, limit) ->
+            libraryPage(
+                getLibrariesWithFilter(
+                    organizationId,
+                    appId,
+                    withPage(
+                        form == null ? new LibraryFilterForm() : new LibraryFilterForm(form),
+                        offset,
+                        limit))),
+        paging);
+  }
+
+  /**
+   * Reads every server of the organization that matches the filter, requesting the listing page by
+   * page as {@link #pageTracesInOrg(String, TraceFilterForm, Paging)} does.
+   *
+   * @param organizationId the ID of the organization
+   * @param form FilterForm query parameters, whose limit and offset are replaced by those of each
+   *     page; may be {@code null}
+   * @param paging page size, pages in flight and executor
+   * @return iterator over the Server objects, which the caller must close if it stops early
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Server> pageServersWithFilter(
+      String organizationId, ServerFilterForm form, Paging paging)
+      throws IOException, UnauthorizedException {
+    return PagedIterator.open(
+        (offset, limit) ->
+            serverPage(
+                getServersWithFilter(
+                    organizationId,
+                    withPage(
+                        form == null ? new ServerFilterForm() : new ServerFilterForm(form),
+                        offset,
+                        limit))),
+        paging);
+  }
+
+  /**
+   * Reads every vulnerability in the organization whose ID is passed in into a column-oriented
+   * {@link TraceTable}, requesting the listing page by page with {@link Paging#defaults()}. See
+   * {@link #getTraceTableInOrg(String, TraceFilterForm, Paging)}.
+   *
+   * @param organizationId the ID of the organization
+   * @param form FilterForm query parameters, whose limit and offset are replaced by those of each
+   *     page; may be {@code null}
+   * @return table of the vulnerabilities
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public TraceTable getTraceTableInOrg(String organizationId, TraceFilterForm form)
+      throws IOException, UnauthorizedException {
+    return getTraceTableInOrg(organizationId, form, Paging.defaults());
+  }
+
+  /**
+   * Reads every vulnerability in the organization whose ID is passed in into a column-oriented
+   * {@link TraceTable}, for counting and grouping large result sets in memory. The listing is
+   * requested page by page as {@link #pageTracesInOrg(String, TraceFilterForm, Paging)} does, and
+   * each page is parsed reading only the fields the table holds, so that only the pages in flight
+   * are held as Trace's. To group by application, expand the application in {@code form}.
+   *
+   * @param organizationId the ID of the organization
+   * @param form FilterForm query parameters, whose limit and offset are replaced by those of each
+   *     page; may be {@code null}
+   * @param paging page size, pages in flight and executor
+   * @return table of the vulnerabilities
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public TraceTable getTraceTableInOrg(String organizationId, TraceFilterForm form, Paging paging)
+      throws IOException, UnauthorizedException {
+    Gson tableGson = projected(TraceTable.PROJECTION);
+    try (CloseableIterator<Trace> traces =
+        PagedIterator.open(
+            (offset, limit) -> {
+              try (InputStream is =
+                      makeRequest(
+                          HttpMethod.GET,
+                          urlBuilder.getTracesByOrganizationUrl(
+                              organizationId, copyWithPage(form, offset, limit)));
+                  Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+                return tracePage(tableGson.fromJson(reader, Traces.class));
+              }
+            },
+            paging)) {
+      return TraceTable.from(traces);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
     }
   }
 
@@ -1346,25 +1687,15 @@ public class ContrastSDK {
    */
   public TraceListing getTraceFilters(String organizationId, String appId)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getTraceListingUrl(organizationId, appId, TraceFilterType.VULNTYPE));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, TraceListing.class);
-    }
+    return get(
+        urlBuilder.getTraceListingUrl(organizationId, appId, TraceFilterType.VULNTYPE),
+        TraceListing.class);
   }
 
   public TraceListing getTraceFiltersByType(
       String organizationId, String appId, TraceFilterType type)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET, urlBuilder.getTraceListingUrl(organizationId, appId, type));
-        Reader reader = new InputStreamReader(is)) {
-
-      return this.gson.fromJson(reader, TraceListing.class);
-    }
+    return get(urlBuilder.getTraceListingUrl(organizationId, appId, type), TraceListing.class);
   }
 
   /**
@@ -1386,14 +1717,37 @@ public class ContrastSDK {
       TraceFilterKeycode keycode,
       TraceFilterForm form)
       throws IOException, UnauthorizedException {
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getTracesWithFilterUrl(
-                    organizationId, appId, traceFilterType, keycode, form));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Traces.class);
-    }
+    return get(
+        urlBuilder.getTracesWithFilterUrl(organizationId, appId, traceFilterType, keycode, form),
+        Traces.class);
+  }
+
+  /**
+   * Streams the vulnerabilities in the application whose ID is passed in with a filter. Unlike
+   * {@link #getTracesWithFilter(String, String, TraceFilterType, TraceFilterKeycode,
+   * TraceFilterForm)}, each Trace is parsed from the response only when the iterator reaches it.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param traceFilterType filter type
+   * @param keycode id or key to filter on
+   * @param form FilterForm query parameters
+   * @return iterator over the Trace's, which the caller must close
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> streamTracesWithFilter(
+      String organizationId,
+      String appId,
+      TraceFilterType traceFilterType,
+      TraceFilterKeycode keycode,
+      TraceFilterForm form)
+      throws IOException, UnauthorizedException {
+    return streamTraces(
+        makeRequest(
+            HttpMethod.GET,
+            urlBuilder.getTracesWithFilterUrl(
+                organizationId, appId, traceFilterType, keycode, form)));
   }
 
   public GenericResponse setTraceStatus(String organizationId, String statusRequest)
@@ -1404,7 +1758,7 @@ public class ContrastSDK {
                 urlBuilder.setTraceStatus(organizationId),
                 statusRequest,
                 MediaType.JSON);
-        Reader reader = new InputStreamReader(is)) {
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return this.gson.fromJson(reader, GenericResponse.class);
     }
   }
@@ -1424,13 +1778,28 @@ public class ContrastSDK {
       throws IOException, UnauthorizedException {
     TraceFilterForm ruleNameForm = new TraceFilterForm();
     ruleNameForm.setVulnTypes(ruleNames);
-    try (InputStream is =
-            makeRequest(
-                HttpMethod.GET,
-                urlBuilder.getTracesByApplicationUrl(organizationId, appId, ruleNameForm));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Traces.class);
-    }
+    return get(
+        urlBuilder.getTracesByApplicationUrl(organizationId, appId, ruleNameForm), Traces.class);
+  }
+
+  /**
+   * Streams the vulnerabilities in the application by the rule. Unlike {@link
+   * #getTraceFilterByRule(String, String, List)}, each Trace is parsed from the response only when
+   * the iterator reaches it.
+   *
+   * @param organizationId the ID of the organization
+   * @param appId the ID of the application
+   * @param ruleNames FilterForm query parameters
+   * @return iterator over the Trace's, which the caller must close
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem
+   */
+  public CloseableIterator<Trace> streamTraceFilterByRule(
+      String organizationId, String appId, List<String> ruleNames)
+      throws IOException, UnauthorizedException {
+    TraceFilterForm ruleNameForm = new TraceFilterForm();
+    ruleNameForm.setVulnTypes(ruleNames);
+    return streamTraces(organizationId, appId, ruleNameForm);
   }
 
   /**
@@ -1448,9 +1817,8 @@ public class ContrastSDK {
             makeRequestWithBody(
                 HttpMethod.POST,
                 urlBuilder.getSecurityCheckUrl(organizationId),
-                this.gson.toJson(securityCheckForm),
-                MediaType.JSON);
-        Reader reader = new InputStreamReader(is)) {
+                RequestBody.json(gson, securityCheckForm));
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       SecurityCheckResponse response = this.gson.fromJson(reader, SecurityCheckResponse.class);
       return response.getSecurityCheck();
     }
@@ -1469,7 +1837,7 @@ public class ContrastSDK {
     try (InputStream is =
             makeRequest(
                 HttpMethod.GET, urlBuilder.getEnabledJobOutcomePolicyListUrl(organizationId));
-        Reader reader = new InputStreamReader(is)) {
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       JobOutcomePolicyListResponse response =
           this.gson.fromJson(reader, JobOutcomePolicyListResponse.class);
       return response.getPolicies();
@@ -1489,7 +1857,7 @@ public class ContrastSDK {
             makeRequest(
                 HttpMethod.GET,
                 urlBuilder.getEnabledJobOutcomePolicyListUrlByApplication(organizationId, appId));
-        Reader reader = new InputStreamReader(is)) {
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       JobOutcomePolicyListResponse response =
           this.gson.fromJson(reader, JobOutcomePolicyListResponse.class);
       return response.getPolicies();
@@ -1505,10 +1873,7 @@ public class ContrastSDK {
    * @throws IOException if there was a communication problem
    */
   public Rules getRules(String organizationId) throws IOException, UnauthorizedException {
-    try (InputStream is = makeRequest(HttpMethod.GET, urlBuilder.getRules(organizationId));
-        Reader reader = new InputStreamReader(is)) {
-      return this.gson.fromJson(reader, Rules.class);
-    }
+    return get(urlBuilder.getRules(organizationId), Rules.class);
   }
 
   /**
@@ -1527,14 +1892,8 @@ public class ContrastSDK {
   public byte[] getAgent(AgentType type, String organizationId, String profileName)
       throws IOException, UnauthorizedException {
     try (InputStream is =
-            makeRequest(HttpMethod.GET, urlBuilder.getAgentUrl(type, organizationId, profileName));
-        ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-      final byte[] buffer = new byte[4096];
-      int read;
-      while ((read = is.read(buffer)) > 0) {
-        bos.write(buffer, 0, read);
-      }
-      return bos.toByteArray();
+        makeRequest(HttpMethod.GET, urlBuilder.getAgentUrl(type, organizationId, profileName))) {
+      return BufferPool.shared().readAllBytes(is);
     }
   }
 
@@ -1560,26 +1919,36 @@ public class ContrastSDK {
   public InputStream makeRequestWithBody(
       HttpMethod method, String path, String body, MediaType mediaType)
       throws IOException, UnauthorizedException {
-    String url = restApiURL + path;
-    HttpURLConnection connection = makeConnection(url, method.toString());
+    RequestBody requestBody = null;
     if (mediaType != null
         && body != null
         && (method.equals(HttpMethod.PUT)
             || method.equals(HttpMethod.POST)
             || method.equals(HttpMethod.DELETE))) {
-      connection.setDoOutput(true);
-      connection.setRequestProperty("Content-Type", mediaType.getType());
-      try (OutputStream os = connection.getOutputStream()) {
-        byte[] bodyByte = body.getBytes(StandardCharsets.UTF_8);
-        os.write(bodyByte, 0, bodyByte.length);
-      }
+      requestBody = RequestBody.of(body, mediaType);
     }
-    int rc = connection.getResponseCode();
-    if (rc >= HttpURLConnection.HTTP_BAD_REQUEST) {
-      throw HttpResponseException.fromConnection(
-          connection, "Received unexpected status code from Contrast");
+    return makeRequestWithBody(method, path, requestBody);
+  }
+
+  /**
+   * Makes a request with a body that writes itself directly to the connection, such as a {@link
+   * RequestBody#json(Gson, Object)} body that serializes a large filter without first building its
+   * JSON in memory.
+   *
+   * @param method the request method
+   * @param path the API path, starting with "/"
+   * @param body the request body, or {@code null} to send no body
+   * @return the response body, which the caller must close
+   * @throws HttpResponseException when Contrast responds with an error status code
+   * @throws IOException if there was a communication problem
+   */
+  public InputStream makeRequestWithBody(HttpMethod method, String path, RequestBody body)
+      throws IOException, UnauthorizedException {
+    TransportRequest.Builder request = newRequest(method, path);
+    if (body != null) {
+      request.body(body);
     }
-    return connection.getInputStream();
+    return send(request.build()).body();
   }
 
   public InputStream makeRequest(HttpMethod method, String path)
@@ -1589,17 +1958,10 @@ public class ContrastSDK {
 
   public MakeRequestResponse makeRequestWithResponse(HttpMethod method, String path)
       throws IOException, UnauthorizedException {
-    String url = restApiURL + path;
-
-    HttpURLConnection connection = makeConnection(url, method.toString());
-    int rc = connection.getResponseCode();
-    if (rc >= HttpURLConnection.HTTP_BAD_REQUEST) {
-      throw HttpResponseException.fromConnection(
-          connection, "Received unexpected status code from Contrast");
-    }
+    TransportResponse response = send(newRequest(method, path).build());
     MakeRequestResponse mrr = new MakeRequestResponse();
-    mrr.is = connection.getInputStream();
-    mrr.rc = rc;
+    mrr.is = response.body();
+    mrr.rc = response.code();
     return mrr;
   }
 
@@ -1607,19 +1969,15 @@ public class ContrastSDK {
       throws IOException, UnauthorizedException {
     String fileURL = restApiURL + path;
 
-    // URL url = new URL(fileURL);
-    // HttpURLConnection httpConn = (HttpURLConnection) url.openConnection();
-    HttpURLConnection connection = makeConnection(fileURL, method.toString());
-    connection.setRequestProperty("accept", "application/json, text/plain, */*");
-    connection.setRequestProperty("accept-encoding", "gzip, deflate, br");
-    int responseCode = connection.getResponseCode();
+    TransportRequest request =
+        newRequest(method, path).header("accept", "application/json, text/plain, */*").build();
+    TransportResponse response = transport.send(request);
+    int responseCode = response.code();
 
     // always check HTTP response code first
     if (responseCode == HttpURLConnection.HTTP_OK) {
       String fileName = "";
-      String disposition = connection.getHeaderField("Content-Disposition");
-      String contentType = connection.getContentType();
-      int contentLength = connection.getContentLength();
+      String disposition = response.header("Content-Disposition");
 
       if (disposition != null) {
         // extracts file name from header field
@@ -1635,17 +1993,13 @@ public class ContrastSDK {
       System.out.println("fileName = " + fileName);
 
       // opens input stream from the HTTP connection
-      InputStream inputStream = connection.getInputStream();
+      InputStream inputStream = response.body();
       String saveFilePath = saveDir + File.separator + fileName;
 
       // opens an output stream to save into file
       FileOutputStream outputStream = new FileOutputStream(saveFilePath);
 
-      int bytesRead = -1;
-      byte[] buffer = new byte[BUFFER_SIZE];
-      while ((bytesRead = inputStream.read(buffer)) != -1) {
-        outputStream.write(buffer, 0, bytesRead);
-      }
+      BufferPool.shared().transfer(inputStream, outputStream);
 
       outputStream.close();
       inputStream.close();
@@ -1654,7 +2008,182 @@ public class ContrastSDK {
     } else {
       System.out.println("No file to download. Server replied HTTP code: " + responseCode);
     }
-    connection.disconnect();
+    response.close();
+  }
+
+  /**
+   * Creates a new request builder for the given API path with the authentication headers and
+   * timeouts that apply to every request.
+   */
+  private TransportRequest.Builder newRequest(HttpMethod method, String path) {
+    TransportRequest.Builder request =
+        TransportRequest.builder(method, restApiURL + path)
+            .header(
+                RequestConstants.AUTHORIZATION,
+                ContrastSDKUtils.makeAuthorizationToken(user, serviceKey))
+            .header(RequestConstants.API_KEY, apiKey)
+            .header("User-Agent", userAgent)
+            .connectTimeout(connectionTimeout)
+            .readTimeout(readTimeout);
+    if (options != null) {
+      request.deadline(options.deadline()).cancellation(options.cancellation());
+    }
+    return request;
+  }
+
+  /**
+   * Makes a GET request for the given API path and deserializes the JSON response. When a {@link
+   * RequestCoalescer} is configured, callers that make the same request concurrently share the
+   * result of a single request.
+   */
+  private <T> T get(String path, Class<T> type) throws IOException {
+    if (coalescer == null) {
+      return fetch(path, type);
+    }
+    String key = user + " GET " + restApiURL + path + ' ' + type.getName() + projectionKey();
+    return coalescer.execute(key, options, () -> fetch(path, type));
+  }
+
+  /**
+   * Makes a GET request for the given API path and deserializes the JSON response. When a {@link
+   * ConditionalRequestCache} is configured, a previously cached response is revalidated with a
+   * conditional request, and the cached object is returned when Contrast reports it unchanged.
+   */
+  private <T> T fetch(String path, Class<T> type) throws IOException {
+    if (cache == null) {
+      try (InputStream is = makeRequest(HttpMethod.GET, path);
+          Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+        return gson.fromJson(reader, type);
+      }
+    }
+    String key = user + ' ' + type.getName() + ' ' + restApiURL + path + projectionKey();
+    ConditionalRequestCache.Entry cached = cache.lookup(key);
+    TransportRequest.Builder request = newRequest(HttpMethod.GET, path);
+    if (cached != null) {
+      cached.addValidators(request);
+    }
+    TransportResponse response = send(request.build());
+    if (cached != null && response.code() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+      response.close();
+      return cache.hit(cached, type);
+    }
+    ConditionalRequestCache.CountingInputStream body =
+        new ConditionalRequestCache.CountingInputStream(response.body());
+    try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+      T value = gson.fromJson(reader, type);
+      cache.store(key, response, value, body.count());
+      return value;
+    }
+  }
+
+  /**
+   * Copies the given form, which may be {@code null}, with the limit and offset of one page of a
+   * listing. The form itself is left unchanged.
+   */
+  private static TraceFilterForm copyWithPage(TraceFilterForm form, int offset, int limit) {
+    TraceFilterForm page = form == null ? new TraceFilterForm() : new TraceFilterForm(form);
+    page.setOffset(offset);
+    page.setLimit(limit);
+    return page;
+  }
+
+  private static PagedIterator.Page<Trace> tracePage(Traces traces) {
+    return new PagedIterator.Page<>(traces.getTraces(), traces.getCount());
+  }
+
+  /**
+   * Sets the limit and offset of one page of a listing on the given form, which the caller must
+   * have copied for the page, since it is modified.
+   */
+  private static <F extends FilterForm> F withPage(F page, int offset, int limit) {
+    page.setOffset(offset);
+    page.setLimit(limit);
+    return page;
+  }
+
+  private static PagedIterator.Page<Application> applicationPage(Applications applications) {
+    return new PagedIterator.Page<>(applications.getApplications(), applications.getCount());
+  }
+
+  private static PagedIterator.Page<Library> libraryPage(Libraries libraries) {
+    return new PagedIterator.Page<>(libraries.getLibraries(), libraries.getCount());
+  }
+
+  private static PagedIterator.Page<Server> serverPage(Servers servers) {
+    return new PagedIterator.Page<>(servers.getServers(), servers.getCount());
+  }
+
+  /**
+   * Opens an iterator over the "traces" array of the given Traces response. The iterator owns the
+   * stream and closes it when it is closed or exhausted.
+   */
+  private CloseableIterator<Trace> streamTraces(InputStream is) throws IOException {
+    return JsonArrayIterator.open(
+        gson, new InputStreamReader(is, StandardCharsets.UTF_8), "traces", Trace.class);
+  }
+
+  /**
+   * @return Gson that parses only the fields in the given projection. Without a string pool, every
+   *     SDK shares one instance per projection; with one, this SDK and its views do. Either way
+   *     only the most recently used projections are kept.
+   */
+  private Gson projected(Projection projection) {
+    if (stringPool == null) {
+      return GsonFactory.variant(projection, () -> GsonFactory.builder(models(projection)));
+    }
+    synchronized (projections) {
+      return projections.computeIfAbsent(
+          projection, ignored -> GsonFactory.builder(models(projection)).create());
+    }
+  }
+
+  /**
+   * @return empty map for the Gson of this SDK's projections, which keeps only the {@value
+   *     #MAX_PROJECTIONS} most recently used, so that projections made from caller input cannot
+   *     grow it without bound
+   */
+  private static Map<Projection, Gson> projectionCache() {
+    return new LinkedHashMap<Projection, Gson>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Projection, Gson> eldest) {
+        return size() > MAX_PROJECTIONS;
+      }
+    };
+  }
+
+  /**
+   * @return factory for the model adapters that applies the given projection, which may be {@code
+   *     null}, and this SDK's string pool
+   */
+  private ModelTypeAdapterFactory models(Projection projection) {
+    ModelTypeAdapterFactory models =
+        projection == null
+            ? new ModelTypeAdapterFactory()
+            : ModelTypeAdapterFactory.projecting(projection.fields());
+    return stringPool == null ? models : models.canonicalizing(stringPool::intern);
+  }
+
+  /**
+   * @return suffix that distinguishes the cache and coalescing keys of calls that parse only some
+   *     fields of their result
+   */
+  private String projectionKey() {
+    return options == null || options.projection() == null ? "" : " " + options.projection();
+  }
+
+  /**
+   * Sends the given request with the configured {@link HttpTransport}.
+   *
+   * @return response with a successful status code, which the caller is expected to close
+   * @throws HttpResponseException when Contrast responds with an error status code
+   */
+  private TransportResponse send(TransportRequest request) throws IOException {
+    TransportResponse response = transport.send(request);
+    if (response.code() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+      throw HttpResponseException.fromResponse(
+          request, response, "Received unexpected status code from Contrast");
+    }
+    return response;
   }
 
   public HttpURLConnection makeConnection(String url, String method) throws IOException {
@@ -1706,6 +2235,9 @@ public class ContrastSDK {
   private static final int BAD_REQUEST = 400;
   private static final int SERVER_ERROR = 500;
 
+  /** Maximum number of projections for which an SDK and its views keep a Gson. */
+  private static final int MAX_PROJECTIONS = 16;
+
   private static final List<Integer> CREATE_APPLICATION_ERROR_RESPONSE =
       Arrays.asList(400, 409, 412, 500);
 
@@ -0,0 +1,155 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link CloseableIterator} that reads the elements of one array field of a JSON object as the
+ * caller advances, so that only the current element is held in memory no matter how large the array
+ * is.
+ *
+ * <p>The other fields of the enclosing object are skipped without being deserialized.
+ *
+ * @param <T> type of the array elements
+ */
+final class JsonArrayIterator<T> implements CloseableIterator<T> {
+
+  /**
+   * Opens an iterator over the given array field of the JSON object read by {@code reader}. The
+   * iterator owns the reader and closes it when it is closed or exhausted, or when this method
+   * fails.
+   *
+   * @param gson used to deserialize each element
+   * @param reader reads a JSON object
+   * @param field name of the array field to iterate
+   * @param type type of the array elements
+   * @param <T> type of the array elements
+   * @return new iterator positioned before the first element
+   * @throws IOException when the JSON cannot be read
+   */
+  static <T> JsonArrayIterator<T> open(
+      final Gson gson, final Reader reader, final String field, final Class<T> type)
+      throws IOException {
+    final JsonArrayIterator<T> iterator =
+        new JsonArrayIterator<>(gson.getAdapter(type), new JsonReader(reader), field);
+    try {
+      iterator.seek();
+    } catch (final IOException | RuntimeException e) {
+      iterator.close();
+      throw e;
+    }
+    return iterator;
+  }
+
+  private final TypeAdapter<T> adapter;
+  private final JsonReader reader;
+  private final String field;
+  private boolean open = true;
+  private boolean inArray;
+
+  private JsonArrayIterator(
+      final TypeAdapter<T> adapter, final JsonReader reader, final String field) {
+    this.adapter = adapter;
+    this.reader = reader;
+    this.field = Objects.requireNonNull(field);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (!open) {
+      return false;
+    }
+    try {
+      if (inArray && reader.hasNext()) {
+        return true;
+      }
+      finish();
+      return false;
+    } catch (final IOException e) {
+      closeQuietly(e);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return adapter.read(reader);
+    } catch (final IOException e) {
+      closeQuietly(e);
+      throw new UncheckedIOException(e);
+    } catch (final RuntimeException e) {
+      closeQuietly(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (open) {
+      open = false;
+      reader.close();
+    }
+  }
+
+  /** Advances the reader to the first element of the array. */
+  private void seek() throws IOException {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (name.equals(field) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        inArray = true;
+        return;
+      }
+      reader.skipValue();
+    }
+  }
+
+  /** Verifies that the array is complete, then closes the reader. */
+  private void finish() throws IOException {
+    if (inArray) {
+      reader.endArray();
+      inArray = false;
+    }
+    close();
+  }
+
+  private void closeQuietly(final Exception cause) {
+    try {
+      close();
+    } catch (final IOException e) {
+      cause.addSuppressed(e);
+    }
+  }
+}
@@ -0,0 +1,620 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.exceptions.UnauthorizedException;
+import com.contrastsecurity.models.Application;
+import com.contrastsecurity.models.Library;
+import com.contrastsecurity.models.Server;
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.sdk.internal.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local copy of the applications, vulnerabilities, libraries and servers of an organization, for
+ * running many queries over the same data without a round trip to Contrast for each one.
+ *
+ * <p>{@link #refresh()} brings the mirror up to date. Applications, libraries and servers are read
+ * in full with the paged listings of {@link ContrastSDK}; vulnerabilities are synchronized per
+ * application with {@link TraceSync}, so a refresh requests only those seen since the previous one.
+ * A full refresh, with {@link #refresh(boolean)}, reads every vulnerability again and replaces
+ * those in the mirror, so it also drops vulnerabilities deleted in Contrast and picks up changes
+ * that incremental refreshes miss, such as a status changed without new activity. When the mirror
+ * has a directory, each refresh saves the mirror there as a single snapshot file, which {@link
+ * Builder#open()} loads, so a new process resumes from the last refresh instead of reading the
+ * organization again. The snapshot holds the synchronization marks too, so the mirror and its marks
+ * are always saved together.
+ *
+ * <p>Vulnerabilities are indexed by application, rule, severity and status, and queried with {@link
+ * #select()}, for example:
+ *
+ * <pre>{@code
+ * List<Trace> openCritical =
+ *     mirror
+ *         .select()
+ *         .where(LocalMirror.Index.SEVERITY, "Critical")
+ *         .where(LocalMirror.Index.STATUS, "Reported", "Confirmed")
+ *         .list();
+ * }</pre>
+ *
+ * <p>Queries run against the mirror as of the latest refresh and may run concurrently with a
+ * refresh. The returned models are shared by all callers, so callers must not modify them.
+ */
+public final class LocalMirror {
+
+  /** Indexed fields of the vulnerabilities in a {@link LocalMirror}. */
+  public enum Index {
+    /** ID of the application of the vulnerability. */
+    APPLICATION,
+    /** Name of the rule that the vulnerability violates, as in {@link Trace#getRule()}. */
+    RULE,
+    /** Severity of the vulnerability, as in {@link Trace#getSeverity()}. */
+    SEVERITY,
+    /** Status of the vulnerability, as in {@link Trace#getStatus()}. */
+    STATUS
+  }
+
+  /** Name of the snapshot file in the mirror's directory. */
+  static final String SNAPSHOT = "mirror.json";
+
+  /**
+   * @param sdk the SDK that reads the organization
+   * @param organizationId the ID of the organization
+   * @return new {@link Builder}
+   * @throws NullPointerException when either argument is {@code null}
+   */
+  public static Builder builder(final ContrastSDK sdk, final String organizationId) {
+    return new Builder(sdk, organizationId);
+  }
+
+  private final ContrastSDK sdk;
+  private final String organizationId;
+  private final Path snapshot;
+  private final Paging paging;
+  private final Duration overlap;
+  private final Gson gson = GsonFactory.shared();
+  private final Object refreshLock = new Object();
+  private volatile State state;
+
+  private LocalMirror(final Builder builder, final State state) {
+    this.sdk = builder.sdk;
+    this.organizationId = builder.organizationId;
+    this.snapshot = builder.directory == null ? null : builder.directory.resolve(SNAPSHOT);
+    this.paging = builder.paging;
+    this.overlap = builder.overlap;
+    this.state = state;
+  }
+
+  /**
+   * Brings the mirror up to date with the organization incrementally, as {@link #refresh(boolean)}
+   * does with {@code full} false.
+   *
+   * @return number of vulnerabilities received, including those received again from the overlap
+   *     window of {@link TraceSync}
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem, or the snapshot could not be saved
+   */
+  public int refresh() throws IOException, UnauthorizedException {
+    return refresh(false);
+  }
+
+  /**
+   * Brings the mirror up to date with the organization and saves it to the mirror's directory. The
+   * mirror keeps its previous content when the refresh fails.
+   *
+   * @param full {@code true} to read every vulnerability again and replace those of each
+   *     application, or {@code false} to read only those seen since the previous refresh and merge
+   *     them
+   * @return number of vulnerabilities received, including those received again from the overlap
+   *     window of {@link TraceSync}
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem, or the snapshot could not be saved
+   */
+  public int refresh(final boolean full) throws IOException, UnauthorizedException {
+    synchronized (refreshLock) {
+      final State current = state;
+      final Map<String, Instant> marks =
+          full ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(current.watermarks);
+      final TraceSync sync =
+          TraceSync.builder(sdk, organizationId)
+              .watermarks(watermarks(marks))
+              .overlap(overlap)
+              .paging(paging)
+              .build();
+      final List<Application> applications =
+          list(sdk.pageFilteredApplications(organizationId, null, paging));
+      final Map<String, Map<String, Trace>> traces = new LinkedHashMap<>();
+      int received = 0;
+      for (final Application application : applications) {
+        final Map<String, Trace> merged =
+            full
+                ? new LinkedHashMap<>()
+                : new LinkedHashMap<>(
+                    current.traces.getOrDefault(application.getId(), Collections.emptyMap()));
+        received +=
+            sync.sync(
+                    application.getId(),
+                    trace -> {
+                      if (trace.getUuid() != null) {
+                        merged.put(trace.getUuid(), trace);
+                      }
+                    })
+                .traces();
+        traces.put(application.getId(), merged);
+      }
+      for (final String removed : current.traces.keySet()) {
+        if (!traces.containsKey(removed)) {
+          sync.reset(removed);
+        }
+      }
+      final List<Library> libraries =
+          list(sdk.pageLibrariesWithFilter(organizationId, null, paging));
+      final List<Server> servers = list(sdk.pageServersWithFilter(organizationId, null, paging));
+      final State next = new State(Instant.now(), marks, applications, libraries, servers, traces);
+      if (snapshot != null) {
+        save(next);
+      }
+      state = next;
+      return received;
+    }
+  }
+
+  /**
+   * @return when the mirror was last refreshed, by the local clock, or {@code null} when it has
+   *     never been refreshed
+   */
+  public Instant refreshed() {
+    return state.refreshed;
+  }
+
+  /**
+   * @return the organization's applications
+   */
+  public List<Application> applications() {
+    return state.applications;
+  }
+
+  /**
+   * @param id the ID of the application
+   * @return the application, or {@code null} when the organization has no such application
+   */
+  public Application application(final String id) {
+    return state.applicationsById.get(id);
+  }
+
+  /**
+   * @return the organization's libraries
+   */
+  public List<Library> libraries() {
+    return state.libraries;
+  }
+
+  /**
+   * @return the organization's servers
+   */
+  public List<Server> servers() {
+    return state.servers;
+  }
+
+  /**
+   * @param uuid the UUID of the vulnerability
+   * @return the vulnerability, or {@code null} when the mirror has no such vulnerability
+   */
+  public Trace trace(final String uuid) {
+    return state.tracesByUuid.get(uuid);
+  }
+
+  /**
+   * @return new query over every vulnerability in the mirror
+   */
+  public Query select() {
+    return new Query(state, new EnumMap<>(Index.class));
+  }
+
+  @Override
+  public String toString() {
+    final State current = state;
+    return "LocalMirror{organization="
+        + organizationId
+        + ", applications="
+        + current.applications.size()
+        + ", traces="
+        + current.tracesByUuid.size()
+        + ", libraries="
+        + current.libraries.size()
+        + ", servers="
+        + current.servers.size()
+        + ", refreshed="
+        + current.refreshed
+        + "}";
+  }
+
+  private void save(final State state) throws IOException {
+    final Snapshot saved = new Snapshot();
+    saved.organizationId = organizationId;
+    saved.refreshed = state.refreshed;
+    saved.watermarks = state.watermarks;
+    saved.applications = state.applications;
+    saved.libraries = state.libraries;
+    saved.servers = state.servers;
+    saved.traces = new LinkedHashMap<>();
+    state.traces.forEach((id, traces) -> saved.traces.put(id, new ArrayList<>(traces.values())));
+    AtomicFiles.replace(
+        snapshot,
+        out -> {
+          final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+          gson.toJson(saved, Snapshot.class, writer);
+          writer.flush();
+        });
+  }
+
+  private static <T> List<T> list(final CloseableIterator<T> iterator) throws IOException {
+    try (CloseableIterator<T> results = iterator) {
+      final List<T> list = new ArrayList<>();
+      results.forEachRemaining(list::add);
+      return list;
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /** Store for the marks of a single refresh, which are saved with the rest of the mirror. */
+  private static WatermarkStore watermarks(final Map<String, Instant> marks) {
+    return new WatermarkStore() {
+      @Override
+      public Instant load(final String key) {
+        return marks.get(key);
+      }
+
+      @Override
+      public void save(final String key, final Instant mark) {
+        marks.put(key, mark);
+      }
+
+      @Override
+      public void remove(final String key) {
+        marks.remove(key);
+      }
+    };
+  }
+
+  /** Content of the mirror as of one refresh, with its indexes. Never modified once built. */
+  private static final class State {
+
+    private final Instant refreshed;
+    private final Map<String, Instant> watermarks;
+    private final List<Application> applications;
+    private final Map<String, Application> applicationsById;
+    private final List<Library> libraries;
+    private final List<Server> servers;
+    private final Map<String, Map<String, Trace>> traces;
+    private final Map<String, Trace> tracesByUuid;
+    private final Map<String, String> applicationIds;
+    private final Map<Index, Map<String, List<Trace>>> indexes;
+
+    private State(
+        final Instant refreshed,
+        final Map<String, Instant> watermarks,
+        final List<Application> applications,
+        final List<Library> libraries,
+        final List<Server> servers,
+        final Map<String, Map<String, Trace>> traces) {
+      this.refreshed = refreshed;
+      this.watermarks = Collections.unmodifiableMap(new HashMap<>(watermarks));
+      this.applications = Collections.unmodifiableList(applications);
+      this.applicationsById = new HashMap<>();
+      for (final Application application : applications) {
+        applicationsById.put(application.getId(), application);
+      }
+      this.libraries = Collections.unmodifiableList(libraries);
+      this.servers = Collections.unmodifiableList(servers);
+      this.traces = traces;
+      this.tracesByUuid = new HashMap<>();
+      this.applicationIds = new HashMap<>();
+      this.indexes = new EnumMap<>(Index.class);
+      for (final Index index : Index.values()) {
+        indexes.put(index, new HashMap<>());
+      }
+      traces.forEach(
+          (applicationId, byUuid) -> {
+            for (final Trace trace : byUuid.values()) {
+              tracesByUuid.put(trace.getUuid(), trace);
+              applicationIds.put(trace.getUuid(), applicationId);
+              for (final Index index : Index.values()) {
+                indexes
+                    .get(index)
+                    .computeIfAbsent(value(index, trace), ignored -> new ArrayList<>())
+                    .add(trace);
+              }
+            }
+          });
+    }
+
+    private static State empty() {
+      return new State(
+          null,
+          Collections.emptyMap(),
+          new ArrayList<>(),
+          new ArrayList<>(),
+          new ArrayList<>(),
+          new LinkedHashMap<>());
+    }
+
+    private static State of(final Snapshot snapshot) {
+      final Map<String, Map<String, Trace>> traces = new LinkedHashMap<>();
+      if (snapshot.traces != null) {
+        snapshot.traces.forEach(
+            (applicationId, list) -> {
+              final Map<String, Trace> byUuid = new LinkedHashMap<>();
+              for (final Trace trace : list) {
+                byUuid.put(trace.getUuid(), trace);
+              }
+              traces.put(applicationId, byUuid);
+            });
+      }
+      return new State(
+          snapshot.refreshed,
+          snapshot.watermarks == null ? Collections.emptyMap() : snapshot.watermarks,
+          orEmpty(snapshot.applications),
+          orEmpty(snapshot.libraries),
+          orEmpty(snapshot.servers),
+          traces);
+    }
+
+    private String value(final Index index, final Trace trace) {
+      switch (index) {
+        case APPLICATION:
+          return applicationIds.get(trace.getUuid());
+        case RULE:
+          return trace.getRule();
+        case SEVERITY:
+          return trace.getSeverity();
+        case STATUS:
+          return trace.getStatus();
+        default:
+          throw new AssertionError(index);
+      }
+    }
+
+    private static <T> List<T> orEmpty(final List<T> list) {
+      return list == null ? new ArrayList<>() : list;
+    }
+  }
+
+  /** Serialized form of a {@link State}. */
+  private static final class Snapshot {
+    private String organizationId;
+    private Instant refreshed;
+    private Map<String, Instant> watermarks;
+    private List<Application> applications;
+    private List<Library> libraries;
+    private List<Server> servers;
+    private Map<String, List<Trace>> traces;
+  }
+
+  /**
+   * Immutable query over the vulnerabilities in a {@link LocalMirror}. Each call to {@link #where}
+   * returns a new, narrower query; the query reads the mirror as of the refresh that preceded
+   * {@link #select()}.
+   */
+  public static final class Query {
+
+    private final State state;
+    private final Map<Index, Set<String>> filters;
+
+    private Query(final State state, final Map<Index, Set<String>> filters) {
+      this.state = state;
+      this.filters = filters;
+    }
+
+    /**
+     * Keeps the vulnerabilities whose indexed field has one of the given values.
+     *
+     * @param index indexed field
+     * @param values values to keep
+     * @return new query
+     */
+    public Query where(final Index index, final String... values) {
+      final Set<String> keep = new HashSet<>(Arrays.asList(values));
+      final Set<String> previous = filters.get(Objects.requireNonNull(index));
+      if (previous != null) {
+        keep.retainAll(previous);
+      }
+      final Map<Index, Set<String>> narrowed = new EnumMap<>(Index.class);
+      narrowed.putAll(filters);
+      narrowed.put(index, keep);
+      return new Query(state, narrowed);
+    }
+
+    /**
+     * @return number of vulnerabilities that match the query
+     */
+    public int count() {
+      return (int) stream().count();
+    }
+
+    /**
+     * @return the vulnerabilities that match the query
+     */
+    public List<Trace> list() {
+      return stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the vulnerabilities that match the query by the value of an indexed field.
+     *
+     * @param index indexed field by which to group
+     * @return number of vulnerabilities by value, ordered by descending count
+     */
+    public Map<String, Integer> countBy(final Index index) {
+      final Map<String, Integer> counts = new HashMap<>();
+      stream().forEach(trace -> counts.merge(state.value(index, trace), 1, Integer::sum));
+      return counts.entrySet().stream()
+          .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+          .collect(
+              Collectors.toMap(
+                  Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Returns the vulnerabilities that match the query. Reads only the vulnerabilities of the most
+     * selective filter, and checks the other filters against each of them.
+     *
+     * @return the vulnerabilities that match the query
+     */
+    public Stream<Trace> stream() {
+      if (filters.isEmpty()) {
+        return state.tracesByUuid.values().stream();
+      }
+      Index narrowest = null;
+      int fewest = Integer.MAX_VALUE;
+      for (final Map.Entry<Index, Set<String>> filter : filters.entrySet()) {
+        final Map<String, List<Trace>> index = state.indexes.get(filter.getKey());
+        int size = 0;
+        for (final String value : filter.getValue()) {
+          size += index.getOrDefault(value, Collections.emptyList()).size();
+        }
+        if (size < fewest) {
+          narrowest = filter.getKey();
+          fewest = size;
+        }
+      }
+      final Map<String, List<Trace>> index = state.indexes.get(narrowest);
+      final Index scanned = narrowest;
+      return filters.get(narrowest).stream()
+          .flatMap(value -> index.getOrDefault(value, Collections.emptyList()).stream())
+          .filter(
+              trace ->
+                  filters.entrySet().stream()
+                      .allMatch(
+                          filter ->
+                              filter.getKey() == scanned
+                                  || filter
+                                      .getValue()
+                                      .contains(state.value(filter.getKey(), trace))));
+    }
+  }
+
+  /** Builder for {@link LocalMirror}. */
+  public static final class Builder {
+
+    private final ContrastSDK sdk;
+    private final String organizationId;
+    private Path directory;
+    private Paging paging = Paging.defaults();
+    private Duration overlap = Duration.ofMinutes(5);
+
+    private Builder(final ContrastSDK sdk, final String organizationId) {
+      this.sdk = Objects.requireNonNull(sdk);
+      this.organizationId = Objects.requireNonNull(organizationId);
+    }
+
+    /**
+     * @param directory directory in which to save the mirror after each refresh, and from which to
+     *     load it when opened. By default the mirror is kept in memory only.
+     * @return this
+     */
+    public Builder directory(final Path directory) {
+      this.directory = Objects.requireNonNull(directory);
+      return this;
+    }
+
+    /**
+     * @param paging page size, pages in flight and executor of the listings read on each refresh.
+     *     Defaults to {@link Paging#defaults()}.
+     * @return this
+     */
+    public Builder paging(final Paging paging) {
+      this.paging = Objects.requireNonNull(paging);
+      return this;
+    }
+
+    /**
+     * @param overlap overlap window of the vulnerabilities synchronized on each refresh, as in
+     *     {@link TraceSync.Builder#overlap(Duration)}. Defaults to 5 minutes.
+     * @return this
+     * @throws IllegalArgumentException when {@code overlap} is negative
+     */
+    public Builder overlap(final Duration overlap) {
+      if (overlap.isNegative()) {
+        throw new IllegalArgumentException("overlap must not be negative");
+      }
+      this.overlap = overlap;
+      return this;
+    }
+
+    /**
+     * Opens the mirror, loading the snapshot saved in its directory by a previous refresh, if any.
+     * Call {@link LocalMirror#refresh()} to bring it up to date.
+     *
+     * @return new {@link LocalMirror}
+     * @throws IOException when the snapshot cannot be read, or belongs to another organization
+     */
+    public LocalMirror open() throws IOException {
+      return new LocalMirror(this, directory == null ? State.empty() : load());
+    }
+
+    private State load() throws IOException {
+      final Path file = directory.resolve(SNAPSHOT);
+      final Snapshot snapshot;
+      try (Reader reader =
+          new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+        snapshot = GsonFactory.shared().fromJson(reader, Snapshot.class);
+      } catch (final NoSuchFileException e) {
+        return State.empty();
+      } catch (final JsonParseException e) {
+        throw new IOException("invalid mirror snapshot " + file, e);
+      }
+      if (snapshot == null || !organizationId.equals(snapshot.organizationId)) {
+        throw new IOException(
+            "mirror snapshot " + file + " does not belong to organization " + organizationId);
+      }
+      return State.of(snapshot);
+    }
+  }
+}
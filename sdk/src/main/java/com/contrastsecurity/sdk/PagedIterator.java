@@ -0,0 +1,215 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link CloseableIterator} over a listing that is requested page by page with a limit and an
+ * offset. The first page, requested when the iterator is opened, reports the total number of
+ * results; the iterator then keeps up to {@link Paging#pagesInFlight()} later pages in flight on
+ * the executor and yields their results in order.
+ *
+ * <p>When Contrast returns fewer results than requested for the first page although more remain, it
+ * caps the page size, so later offsets advance by the size of the first page instead. When the
+ * response has no total, pages are requested one at a time until one is not full. Iteration stops
+ * at the first empty page.
+ *
+ * @param <T> type of the results
+ */
+final class PagedIterator<T> implements CloseableIterator<T> {
+
+  /**
+   * Requests one page of a listing. Called on the executor, possibly for several pages at once.
+   *
+   * @param <T> type of the results
+   */
+  @FunctionalInterface
+  interface PageSource<T> {
+
+    /**
+     * @param offset index of the first result to request
+     * @param limit number of results to request
+     * @return the page
+     * @throws IOException when the request fails
+     */
+    Page<T> fetch(int offset, int limit) throws IOException;
+  }
+
+  /**
+   * One page of results and the total number of results in the listing.
+   *
+   * @param <T> type of the results
+   */
+  static final class Page<T> {
+
+    private final List<T> results;
+    private final int total;
+
+    /**
+     * @param results results of the page, or {@code null} for none
+     * @param total total number of results in the listing, or {@code null} when unknown
+     */
+    Page(final List<T> results, final Integer total) {
+      this.results = results == null ? Collections.emptyList() : results;
+      this.total = total == null ? -1 : total;
+    }
+  }
+
+  /**
+   * Requests the first page on the calling thread and opens an iterator over the listing.
+   *
+   * @param source requests pages
+   * @param paging page size, pages in flight and executor
+   * @param <T> type of the results
+   * @return new iterator positioned before the first result
+   * @throws IOException when the first page cannot be requested
+   */
+  static <T> PagedIterator<T> open(final PageSource<T> source, final Paging paging)
+      throws IOException {
+    final Page<T> first = source.fetch(0, paging.pageSize());
+    return new PagedIterator<>(source, paging, first);
+  }
+
+  private final PageSource<T> source;
+  private final int pagesInFlight;
+  private final Executor executor;
+  private final int total;
+  private final int stride;
+  private final ArrayDeque<CompletableFuture<Page<T>>> pending = new ArrayDeque<>();
+  private Iterator<T> current;
+  private int nextOffset;
+  private boolean lastPageFull;
+  private boolean open = true;
+
+  private PagedIterator(final PageSource<T> source, final Paging paging, final Page<T> first) {
+    this.source = Objects.requireNonNull(source);
+    this.pagesInFlight = paging.pagesInFlight();
+    this.executor = paging.executor();
+    this.total = first.total;
+    final int size = first.results.size();
+    this.stride =
+        size > 0 && size < paging.pageSize() && (total < 0 || total > size)
+            ? size
+            : paging.pageSize();
+    this.nextOffset = stride;
+    this.lastPageFull = size >= stride;
+    this.current = first.results.iterator();
+    if (size == 0) {
+      open = false;
+    } else {
+      schedule();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (open) {
+      if (current.hasNext()) {
+        return true;
+      }
+      final CompletableFuture<Page<T>> next = pending.poll();
+      if (next == null) {
+        close();
+        return false;
+      }
+      final Page<T> page = await(next);
+      if (page.results.isEmpty()) {
+        close();
+        return false;
+      }
+      current = page.results.iterator();
+      lastPageFull = page.results.size() >= stride;
+      schedule();
+    }
+    return false;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /** Stops iterating and cancels the pages that have not yet been requested. */
+  @Override
+  public void close() {
+    open = false;
+    CompletableFuture<Page<T>> future;
+    while ((future = pending.poll()) != null) {
+      future.cancel(false);
+    }
+  }
+
+  /** Requests later pages until the configured number are in flight or none remain. */
+  private void schedule() {
+    while (pending.size() < pagesInFlight && hasMorePages()) {
+      final int offset = nextOffset;
+      nextOffset += stride;
+      pending.add(CompletableFuture.supplyAsync(() -> fetch(offset), executor));
+    }
+  }
+
+  private boolean hasMorePages() {
+    return total >= 0 ? nextOffset < total : lastPageFull && pending.isEmpty();
+  }
+
+  private Page<T> fetch(final int offset) {
+    try {
+      return source.fetch(offset, stride);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Waits for a page, closing the iterator and rethrowing the cause when it failed. */
+  private Page<T> await(final CompletableFuture<Page<T>> future) {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      close();
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    } catch (final CancellationException e) {
+      close();
+      throw e;
+    }
+  }
+}
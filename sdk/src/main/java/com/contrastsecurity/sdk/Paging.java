@@ -0,0 +1,159 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable options for reading a listing page by page, such as with {@link
+ * ContrastSDK#pageTracesInOrg}.
+ *
+ * <p>The first page is requested by the calling thread and reports the total number of results. The
+ * later pages are then requested on the executor, up to {@link #pagesInFlight()} at a time, while
+ * the caller consumes the results in order, so that reading many pages takes roughly the time of a
+ * few round trips rather than one round trip per page.
+ *
+ * <p>Unless an executor is given, pages are requested on a pool of daemon threads shared by the
+ * SDK, whose idle threads exit after a minute.
+ */
+public final class Paging {
+
+  /**
+   * @return new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return options with pages of 100 results, 4 pages in flight and the shared executor
+   */
+  public static Paging defaults() {
+    return builder().build();
+  }
+
+  private final int pageSize;
+  private final int pagesInFlight;
+  private final Executor executor;
+
+  private Paging(final Builder builder) {
+    this.pageSize = builder.pageSize;
+    this.pagesInFlight = builder.pagesInFlight;
+    this.executor = builder.executor;
+  }
+
+  /**
+   * @return number of results to request per page
+   */
+  public int pageSize() {
+    return pageSize;
+  }
+
+  /**
+   * @return maximum number of pages requested ahead of the page being consumed
+   */
+  public int pagesInFlight() {
+    return pagesInFlight;
+  }
+
+  /**
+   * @return executor that requests pages after the first
+   */
+  public Executor executor() {
+    return executor == null ? SharedExecutor.INSTANCE : executor;
+  }
+
+  @Override
+  public String toString() {
+    return "Paging{pageSize=" + pageSize + ", pagesInFlight=" + pagesInFlight + "}";
+  }
+
+  /** Builder for {@link Paging}. */
+  public static final class Builder {
+
+    private int pageSize = 100;
+    private int pagesInFlight = 4;
+    private Executor executor;
+
+    private Builder() {}
+
+    /**
+     * @param pageSize number of results to request per page
+     * @return this
+     * @throws IllegalArgumentException when {@code pageSize} is not positive
+     */
+    public Builder pageSize(final int pageSize) {
+      if (pageSize <= 0) {
+        throw new IllegalArgumentException("pageSize must be positive");
+      }
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /**
+     * @param pagesInFlight maximum number of pages requested ahead of the page being consumed
+     * @return this
+     * @throws IllegalArgumentException when {@code pagesInFlight} is not positive
+     */
+    public Builder pagesInFlight(final int pagesInFlight) {
+      if (pagesInFlight <= 0) {
+        throw new IllegalArgumentException("pagesInFlight must be positive");
+      }
+      this.pagesInFlight = pagesInFlight;
+      return this;
+    }
+
+    /**
+     * @param executor executor that requests pages after the first, or {@code null} for the pool
+     *     shared by the SDK
+     * @return this
+     */
+    public Builder executor(final Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * @return new {@link Paging}
+     */
+    public Paging build() {
+      return new Paging(this);
+    }
+  }
+
+  /** Holds the executor shared by the SDK, which is created when it is first used. */
+  private static final class SharedExecutor {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              final Thread thread =
+                  new Thread(runnable, "contrast-sdk-paging-" + THREADS.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+}
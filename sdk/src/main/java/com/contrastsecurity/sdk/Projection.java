@@ -0,0 +1,168 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.models.ModelTypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable set of the fields to keep when parsing models, for callers that need only a few fields
+ * of a large listing. Fields outside the projection are skipped in the response without being
+ * deserialized and are left {@code null} (or zero) in the returned models; the request sent to
+ * Contrast does not change.
+ *
+ * <p>Applies to {@code Trace}, {@code Library}, {@code Application} and {@code Server}, and to the
+ * {@code Traces}, {@code Libraries}, {@code Applications} and {@code Servers} responses that
+ * contain them. Models that are not included in the projection are read in full. Use it through
+ * {@link RequestOptions.Builder#projection(Projection)}, for example:
+ *
+ * <pre>{@code
+ * Projection summary =
+ *     Projection.builder().include(Trace.class, "uuid", "severity", "rule", "status").build();
+ * Traces traces =
+ *     contrast
+ *         .withOptions(RequestOptions.builder().projection(summary).build())
+ *         .getTracesInOrg(orgId, form);
+ * }</pre>
+ *
+ * <p>The SDK prepares a parser for each distinct projection on first use and keeps those of only
+ * the most recently used projections, so prefer reusing a few projections over building a new one
+ * for each call.
+ */
+public final class Projection {
+
+  /**
+   * @return new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final Map<Class<?>, Set<String>> fields;
+
+  private Projection(final Builder builder) {
+    final Map<Class<?>, Set<String>> copy = new HashMap<>();
+    builder.fields.forEach(
+        (type, names) -> copy.put(type, Collections.unmodifiableSet(new TreeSet<>(names))));
+    this.fields = Collections.unmodifiableMap(copy);
+  }
+
+  /**
+   * @param type model type
+   * @return serialized names of the fields of the given model to keep, or {@code null} when the
+   *     model is read in full
+   */
+  public Set<String> fields(final Class<?> type) {
+    return fields.get(type);
+  }
+
+  /**
+   * @return serialized names of the fields to keep, by model type
+   */
+  Map<Class<?>, Set<String>> fields() {
+    return fields;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return fields.equals(((Projection) o).fields);
+  }
+
+  @Override
+  public int hashCode() {
+    return fields.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    final Map<String, Set<String>> sorted = new TreeMap<>();
+    fields.forEach((type, names) -> sorted.put(type.getSimpleName(), names));
+    return "Projection" + sorted;
+  }
+
+  /** Builder for {@link Projection}. */
+  public static final class Builder {
+
+    private final Map<Class<?>, Set<String>> fields = new HashMap<>();
+
+    private Builder() {}
+
+    /**
+     * Keeps the given fields of a model. Fields may be named by their Java name, such as {@code
+     * rule} for {@code Trace#getRule()}, or by their name in the Contrast API, such as {@code
+     * rule_name}. Calling this more than once for the same model keeps the union of the fields.
+     *
+     * @param type model type
+     * @param names names of the fields to keep
+     * @return this
+     * @throws IllegalArgumentException when the model does not support projection or has no field
+     *     with one of the given names
+     */
+    public Builder include(final Class<?> type, final String... names) {
+      Objects.requireNonNull(type);
+      if (!ModelTypeAdapterFactory.supports(type)) {
+        throw new IllegalArgumentException(type.getName() + " does not support projection");
+      }
+      final Set<String> keep = fields.computeIfAbsent(type, ignored -> new TreeSet<>());
+      for (final String name : names) {
+        keep.add(serializedName(type, name));
+      }
+      return this;
+    }
+
+    /**
+     * @return new {@link Projection}
+     */
+    public Projection build() {
+      return new Projection(this);
+    }
+
+    private static String serializedName(final Class<?> type, final String name) {
+      for (final Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers())) {
+          continue;
+        }
+        final SerializedName annotation = field.getAnnotation(SerializedName.class);
+        final String serialized = annotation == null ? field.getName() : annotation.value();
+        if (name.equals(field.getName()) || name.equals(serialized)) {
+          return serialized;
+        }
+      }
+      throw new IllegalArgumentException(
+          type.getSimpleName() + " has no field named \"" + name + "\"");
+    }
+  }
+}
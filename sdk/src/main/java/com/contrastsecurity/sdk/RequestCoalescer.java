@@ -0,0 +1,206 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.http.CallCancelledException;
+import com.contrastsecurity.http.CancellationToken;
+import com.contrastsecurity.http.Deadline;
+import com.contrastsecurity.http.DeadlineExceededException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in coalescing of identical concurrent GET requests for {@link ContrastSDK}.
+ *
+ * <p>Requests are identical when they have the same method, URL, user and result type. While a
+ * request is in flight, other callers that make the identical request wait for it instead of
+ * sending their own, and receive the same deserialized result, or the same exception. When the
+ * request in flight fails only because its own caller's deadline expired or call was cancelled, the
+ * waiting callers make their own request instead, subject to their own options. Once the request
+ * completes, the next identical request goes to Contrast again; to reuse results for longer, see
+ * {@link CachingContrastSDK} and {@link ConditionalRequestCache}.
+ *
+ * <p>A coalescer may be shared by several {@code ContrastSDK} instances. Results are shared by all
+ * callers of a coalesced request, so callers must not modify them.
+ */
+public final class RequestCoalescer {
+
+  /**
+   * @return new {@link RequestCoalescer}
+   */
+  public static RequestCoalescer create() {
+    return new RequestCoalescer();
+  }
+
+  private final ConcurrentMap<String, CompletableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+
+  private RequestCoalescer() {}
+
+  /**
+   * @return number of requests made through this coalescer, including coalesced requests
+   */
+  public long requests() {
+    return requests.get();
+  }
+
+  /**
+   * @return number of requests that shared the result of another request in flight
+   */
+  public long coalesced() {
+    return coalesced.get();
+  }
+
+  /**
+   * @return fraction of requests that shared the result of another request in flight, or 0 when no
+   *     requests have been made
+   */
+  public double dedupRate() {
+    final long total = requests.get();
+    return total == 0 ? 0 : (double) coalesced.get() / total;
+  }
+
+  /**
+   * @return number of distinct requests currently in flight
+   */
+  public int inFlight() {
+    return inFlight.size();
+  }
+
+  /**
+   * Makes the request identified by the given key, or waits for the identical request already in
+   * flight.
+   *
+   * @param key identifies the request
+   * @param options options of the caller, whose deadline and cancellation token limit how long the
+   *     caller waits for an identical request in flight, or {@code null}
+   * @param request makes the request
+   * @return result of the request
+   * @throws IOException when the request fails
+   */
+  <T> T execute(final String key, final RequestOptions options, final Request<T> request)
+      throws IOException {
+    requests.incrementAndGet();
+    final CompletableFuture<Object> future = new CompletableFuture<>();
+    final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      coalesced.incrementAndGet();
+      try {
+        return await(existing, options);
+      } catch (final DeadlineExceededException | CallCancelledException e) {
+        if (!abandoned(existing)) {
+          throw e;
+        }
+        // the request in flight gave up on behalf of its own caller, which says nothing about this
+        // caller's request, so make it with this caller's options
+        coalesced.decrementAndGet();
+        return request.execute();
+      }
+    }
+    try {
+      final T result = request.execute();
+      future.complete(result);
+      return result;
+    } catch (final IOException | RuntimeException | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  /**
+   * @return true when the given request failed because its caller's deadline expired or call was
+   *     cancelled
+   */
+  private static boolean abandoned(final CompletableFuture<Object> future) {
+    if (!future.isCompletedExceptionally()) {
+      return false;
+    }
+    try {
+      future.getNow(null);
+      return false;
+    } catch (final CompletionException e) {
+      final Throwable cause = e.getCause();
+      return cause instanceof DeadlineExceededException || cause instanceof CallCancelledException;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T await(final CompletableFuture<Object> future, final RequestOptions options)
+      throws IOException {
+    final Deadline deadline = options == null ? null : options.deadline();
+    final CancellationToken token = options == null ? null : options.cancellation();
+    // complete a separate future on cancellation, so that the shared future is left intact for the
+    // other callers
+    final CompletableFuture<Object> waiter = token == null ? future : new CompletableFuture<>();
+    try (CancellationToken.Registration ignored =
+        token == null
+            ? () -> {}
+            : token.onCancel(
+                () -> waiter.completeExceptionally(new CallCancelledException("Call cancelled")))) {
+      if (waiter != future) {
+        future.whenComplete(
+            (result, e) -> {
+              if (e == null) {
+                waiter.complete(result);
+              } else {
+                waiter.completeExceptionally(e);
+              }
+            });
+      }
+      return (T)
+          (deadline == null
+              ? waiter.get()
+              : waiter.get(Math.max(0, deadline.remaining().toNanos()), TimeUnit.NANOSECONDS));
+    } catch (final TimeoutException e) {
+      throw new DeadlineExceededException("Deadline exceeded waiting for a coalesced request");
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a coalesced request");
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw (Error) cause;
+    }
+  }
+
+  /** Request that produces a result of type {@code T}. */
+  @FunctionalInterface
+  interface Request<T> {
+    T execute() throws IOException;
+  }
+}
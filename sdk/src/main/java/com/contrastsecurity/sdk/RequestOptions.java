@@ -0,0 +1,137 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.http.CancellationToken;
+import com.contrastsecurity.http.Deadline;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Immutable options that apply to calls made through {@link
+ * ContrastSDK#withOptions(RequestOptions)}.
+ *
+ * <p>The deadline bounds each whole call, including connecting, sending the request, reading the
+ * response and parsing it, as well as time spent waiting for a connection, the rate limit or a
+ * retry. When the deadline passes or the cancellation token is cancelled, the call fails at once
+ * with a {@link com.contrastsecurity.http.DeadlineExceededException} or {@link
+ * com.contrastsecurity.http.CallCancelledException} and its connection is closed, freeing both the
+ * calling thread and the connection.
+ *
+ * <p>The projection limits which fields of the returned models are parsed; see {@link Projection}.
+ */
+public final class RequestOptions {
+
+  /**
+   * @return new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final Deadline deadline;
+  private final CancellationToken cancellation;
+  private final Projection projection;
+
+  private RequestOptions(final Builder builder) {
+    this.deadline = builder.deadline;
+    this.cancellation = builder.cancellation;
+    this.projection = builder.projection;
+  }
+
+  /**
+   * @return deadline by which each call must complete, or {@code null} for no deadline
+   */
+  public Deadline deadline() {
+    return deadline;
+  }
+
+  /**
+   * @return token that aborts calls when cancelled, or {@code null}
+   */
+  public CancellationToken cancellation() {
+    return cancellation;
+  }
+
+  /**
+   * @return fields of the returned models to parse, or {@code null} to parse every field
+   */
+  public Projection projection() {
+    return projection;
+  }
+
+  /** Builder for {@link RequestOptions}. */
+  public static final class Builder {
+
+    private Deadline deadline;
+    private CancellationToken cancellation;
+    private Projection projection;
+
+    private Builder() {}
+
+    /**
+     * @param deadline deadline by which each call must complete, or {@code null} for no deadline
+     * @return this
+     */
+    public Builder deadline(final Deadline deadline) {
+      this.deadline = deadline;
+      return this;
+    }
+
+    /**
+     * Sets a deadline the given time from now.
+     *
+     * @param timeout time from now until the deadline
+     * @return this
+     * @throws NullPointerException when {@code timeout} is {@code null}
+     */
+    public Builder timeout(final Duration timeout) {
+      this.deadline = Deadline.after(Objects.requireNonNull(timeout));
+      return this;
+    }
+
+    /**
+     * @param cancellation token that aborts calls when cancelled, or {@code null}
+     * @return this
+     */
+    public Builder cancellation(final CancellationToken cancellation) {
+      this.cancellation = cancellation;
+      return this;
+    }
+
+    /**
+     * @param projection fields of the returned models to parse, or {@code null} to parse every
+     *     field
+     * @return this
+     */
+    public Builder projection(final Projection projection) {
+      this.projection = projection;
+      return this;
+    }
+
+    /**
+     * @return new {@link RequestOptions}
+     */
+    public RequestOptions build() {
+      return new RequestOptions(this);
+    }
+  }
+}
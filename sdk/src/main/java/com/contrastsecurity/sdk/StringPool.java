@@ -0,0 +1,148 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Opt-in pool of canonical strings for the values that repeat throughout large results, such as the
+ * severity, status, rule and language of each {@code Trace}, the grade of each {@code Library} and
+ * the environment of each {@code Server}. When {@link ContrastSDK.Builder#withStringPool} is given
+ * a pool, these values share a single {@code String} instance per distinct value instead of each
+ * occurrence keeping its own copy, which shrinks long-lived collections of results.
+ *
+ * <p>The pool is a fixed-size table indexed by hash code, so it never holds more than its capacity
+ * and costs no locking: when two distinct values share a slot, the most recent one replaces the
+ * other, which is then no longer deduplicated. Values longer than {@link #maxLength()} are never
+ * pooled, because they are unlikely to repeat. A pool may be shared by several {@code ContrastSDK}
+ * instances.
+ */
+public final class StringPool {
+
+  /** Estimated size of a {@code String} and its array, excluding the characters themselves. */
+  private static final int STRING_OVERHEAD_BYTES = 40;
+
+  /**
+   * @return new pool with capacity for 4096 strings of up to 64 characters
+   */
+  public static StringPool create() {
+    return create(4096, 64);
+  }
+
+  /**
+   * @param capacity maximum number of strings to hold; rounded up to a power of two
+   * @param maxLength length of the longest string to pool
+   * @return new pool
+   * @throws IllegalArgumentException when either argument is not positive, or the capacity exceeds
+   *     2<sup>30</sup>
+   */
+  public static StringPool create(final int capacity, final int maxLength) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+    }
+    if (maxLength <= 0) {
+      throw new IllegalArgumentException("maxLength must be positive");
+    }
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    return new StringPool(size, maxLength);
+  }
+
+  private final AtomicReferenceArray<String> table;
+  private final int mask;
+  private final int maxLength;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong bytesSaved = new AtomicLong();
+
+  private StringPool(final int size, final int maxLength) {
+    this.table = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * Returns the canonical instance of the given string: the pooled instance when the pool holds an
+   * equal string, or else the given string, which the pool then holds.
+   *
+   * @param value string to canonicalize, may be {@code null}
+   * @return canonical instance equal to {@code value}, or {@code null} when {@code value} is {@code
+   *     null}
+   */
+  public String intern(final String value) {
+    if (value == null || value.length() > maxLength) {
+      return value;
+    }
+    final int hash = value.hashCode();
+    final int index = (hash ^ (hash >>> 16)) & mask;
+    final String pooled = table.get(index);
+    if (value.equals(pooled)) {
+      hits.incrementAndGet();
+      if (pooled != value) {
+        bytesSaved.addAndGet(STRING_OVERHEAD_BYTES + 2L * value.length());
+      }
+      return pooled;
+    }
+    misses.incrementAndGet();
+    table.set(index, value);
+    return value;
+  }
+
+  /**
+   * @return maximum number of strings the pool holds
+   */
+  public int capacity() {
+    return table.length();
+  }
+
+  /**
+   * @return length of the longest string the pool holds
+   */
+  public int maxLength() {
+    return maxLength;
+  }
+
+  /**
+   * @return number of calls to {@link #intern(String)} that returned a pooled instance
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * @return number of calls to {@link #intern(String)} for a string of poolable length that the
+   *     pool did not hold
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * Estimates the memory saved by deduplication: for each duplicate replaced by its pooled
+   * instance, the size of a {@code String} object and its array of two-byte characters. The actual
+   * saving depends on the JVM and is lower when it stores strings as one byte per character.
+   *
+   * @return estimated number of bytes saved
+   */
+  public long bytesSaved() {
+    return bytesSaved.get();
+  }
+}
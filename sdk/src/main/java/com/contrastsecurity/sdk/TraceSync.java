@@ -0,0 +1,266 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.exceptions.UnauthorizedException;
+import com.contrastsecurity.http.TraceFilterForm;
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.models.TraceFilterBody;
+import com.contrastsecurity.models.TraceTimestampField;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a caller's copy of the vulnerabilities of Contrast applications up to date by requesting
+ * only those seen since the previous synchronization, so that each synchronization costs time in
+ * proportion to the changes rather than to the whole inventory.
+ *
+ * <p>For each application, the {@link WatermarkStore} keeps a high-water mark: the latest {@code
+ * last_time_seen} among the vulnerabilities synchronized so far. The first synchronization of an
+ * application requests all of its vulnerabilities; later ones request those last seen at or after
+ * the mark, less an overlap window. The mark is taken only from timestamps that Contrast reports,
+ * never from the local clock, and the overlap window catches vulnerabilities whose {@code
+ * last_time_seen} was recorded behind the mark, such as when an agent's clock lags or its reports
+ * arrive late. Vulnerabilities in the window are delivered again, so the caller's store must merge
+ * them by {@link Trace#getUuid()}.
+ *
+ * <p>The mark advances only once every vulnerability of a synchronization has been delivered, so a
+ * failed synchronization is repeated in full by the next one. The vulnerabilities are requested
+ * page by page, so that a synchronization delivers all of them however many there are. Changes that
+ * do not update {@code last_time_seen}, such as a status changed in Contrast without new activity,
+ * are only picked up by a full synchronization; use {@link #reset(String)} to schedule one.
+ */
+public final class TraceSync {
+
+  /**
+   * @param sdk the SDK that requests the vulnerabilities
+   * @param organizationId the ID of the organization
+   * @return new {@link Builder}
+   * @throws NullPointerException when either argument is {@code null}
+   */
+  public static Builder builder(final ContrastSDK sdk, final String organizationId) {
+    return new Builder(sdk, organizationId);
+  }
+
+  private final ContrastSDK sdk;
+  private final String organizationId;
+  private final WatermarkStore watermarks;
+  private final Duration overlap;
+  private final TraceFilterBody filters;
+  private final EnumSet<TraceFilterForm.TraceExpandValue> expand;
+  private final Paging paging;
+
+  private TraceSync(final Builder builder) {
+    this.sdk = builder.sdk;
+    this.organizationId = builder.organizationId;
+    this.watermarks = builder.watermarks;
+    this.overlap = builder.overlap;
+    this.filters = new TraceFilterBody(builder.filters);
+    this.expand = builder.expand == null ? null : EnumSet.copyOf(builder.expand);
+    this.paging = builder.paging;
+  }
+
+  /**
+   * Delivers the vulnerabilities of the application that changed since its previous synchronization
+   * to the given store, then advances the application's mark.
+   *
+   * @param appId the ID of the application
+   * @param store merges each Trace into the caller's copy, replacing any with the same UUID
+   * @return outcome of the synchronization
+   * @throws UnauthorizedException if the Contrast account failed to authorize
+   * @throws IOException if there was a communication problem, or the mark could not be loaded or
+   *     saved
+   */
+  public Result sync(final String appId, final Consumer<? super Trace> store)
+      throws IOException, UnauthorizedException {
+    Objects.requireNonNull(store);
+    final String key = key(appId);
+    final Instant mark = watermarks.load(key);
+    final TraceFilterBody body = new TraceFilterBody(filters);
+    if (mark != null) {
+      body.setStartDate(Date.from(mark.minus(overlap)));
+      body.setEndDate(null);
+      body.setTimestampFilter(TraceTimestampField.LAST);
+    }
+    long newest = mark == null ? Long.MIN_VALUE : mark.toEpochMilli();
+    int count = 0;
+    try (CloseableIterator<Trace> traces =
+        sdk.pageTraces(organizationId, appId, body, expand, paging)) {
+      while (traces.hasNext()) {
+        final Trace trace = traces.next();
+        store.accept(trace);
+        count++;
+        final Long lastTimeSeen = trace.getLastTimeSeen();
+        if (lastTimeSeen != null && lastTimeSeen > newest) {
+          newest = lastTimeSeen;
+        }
+      }
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+    final Instant watermark = newest == Long.MIN_VALUE ? null : Instant.ofEpochMilli(newest);
+    if (watermark != null && !watermark.equals(mark)) {
+      watermarks.save(key, watermark);
+    }
+    return new Result(mark == null, count, watermark);
+  }
+
+  /**
+   * Forgets the mark of the application, so that its next synchronization is a full one.
+   *
+   * @param appId the ID of the application
+   * @throws IOException when the mark cannot be removed
+   */
+  public void reset(final String appId) throws IOException {
+    watermarks.remove(key(appId));
+  }
+
+  private String key(final String appId) {
+    return organizationId + "/" + Objects.requireNonNull(appId);
+  }
+
+  /** Outcome of {@link TraceSync#sync}. */
+  public static final class Result {
+
+    private final boolean full;
+    private final int traces;
+    private final Instant watermark;
+
+    private Result(final boolean full, final int traces, final Instant watermark) {
+      this.full = full;
+      this.traces = traces;
+      this.watermark = watermark;
+    }
+
+    /**
+     * @return {@code true} when the application had no mark, so every vulnerability was requested
+     */
+    public boolean full() {
+      return full;
+    }
+
+    /**
+     * @return number of Trace's delivered to the store, including those delivered again from the
+     *     overlap window
+     */
+    public int traces() {
+      return traces;
+    }
+
+    /**
+     * @return the application's mark after the synchronization, or {@code null} when no
+     *     vulnerability has been synchronized yet
+     */
+    public Instant watermark() {
+      return watermark;
+    }
+
+    @Override
+    public String toString() {
+      return "Result{full=" + full + ", traces=" + traces + ", watermark=" + watermark + "}";
+    }
+  }
+
+  /** Builder for {@link TraceSync}. */
+  public static final class Builder {
+
+    private final ContrastSDK sdk;
+    private final String organizationId;
+    private WatermarkStore watermarks = WatermarkStore.inMemory();
+    private Duration overlap = Duration.ofMinutes(5);
+    private TraceFilterBody filters = new TraceFilterBody();
+    private EnumSet<TraceFilterForm.TraceExpandValue> expand;
+    private Paging paging = Paging.defaults();
+
+    private Builder(final ContrastSDK sdk, final String organizationId) {
+      this.sdk = Objects.requireNonNull(sdk);
+      this.organizationId = Objects.requireNonNull(organizationId);
+    }
+
+    /**
+     * @param watermarks store that persists the mark of each application between synchronizations.
+     *     Defaults to {@link WatermarkStore#inMemory()}.
+     * @return this
+     */
+    public Builder watermarks(final WatermarkStore watermarks) {
+      this.watermarks = Objects.requireNonNull(watermarks);
+      return this;
+    }
+
+    /**
+     * @param overlap how far before the mark to request vulnerabilities again, to tolerate clock
+     *     skew between agents and late reports. Defaults to 5 minutes.
+     * @return this
+     * @throws IllegalArgumentException when {@code overlap} is negative
+     */
+    public Builder overlap(final Duration overlap) {
+      if (overlap.isNegative()) {
+        throw new IllegalArgumentException("overlap must not be negative");
+      }
+      this.overlap = overlap;
+      return this;
+    }
+
+    /**
+     * @param filters filters for the vulnerabilities to synchronize, which are copied. Their start
+     *     date, end date and timestamp filter are replaced by the mark after the first
+     *     synchronization.
+     * @return this
+     */
+    public Builder filters(final TraceFilterBody filters) {
+      this.filters = Objects.requireNonNull(filters);
+      return this;
+    }
+
+    /**
+     * @param expand the fields to expand (e.g., SESSION_METADATA, SERVER_ENVIRONMENTS), or {@code
+     *     null}
+     * @return this
+     */
+    public Builder expand(final EnumSet<TraceFilterForm.TraceExpandValue> expand) {
+      this.expand = expand;
+      return this;
+    }
+
+    /**
+     * @param paging page size, pages in flight and executor of the listing read on each
+     *     synchronization. Defaults to {@link Paging#defaults()}.
+     * @return this
+     */
+    public Builder paging(final Paging paging) {
+      this.paging = Objects.requireNonNull(paging);
+      return this;
+    }
+
+    /**
+     * @return new {@link TraceSync}
+     */
+    public TraceSync build() {
+      return new TraceSync(this);
+    }
+  }
+}
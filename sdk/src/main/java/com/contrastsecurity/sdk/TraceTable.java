@@ -0,0 +1,523 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.models.Application;
+import com.contrastsecurity.models.Trace;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, column-oriented table of vulnerabilities for in-memory analytics over large result
+ * sets, such as counting the open findings of an organization by rule and severity.
+ *
+ * <p>Rather than one {@link Trace} per vulnerability, the table keeps one array per field: the
+ * timestamps are held in {@code long} arrays, and the severity, status, rule, application and
+ * server environments are dictionary-encoded as {@code int} codes into a small table of distinct
+ * values. A vulnerability therefore costs a few dozen bytes in addition to its UUID, instead of the
+ * objects, boxed {@code Long}s and strings of a {@code Trace}. Filtering and counting operate on
+ * the codes, without creating an object per row.
+ *
+ * <p>Build a table with {@link ContrastSDK#getTraceTableInOrg}, which reads the listing page by
+ * page and parses only the fields the table holds, or with a {@link Builder} from {@code Trace}s
+ * obtained elsewhere. Rows are numbered from zero in the order the vulnerabilities were added.
+ * Query the table with {@link #select()}, for example:
+ *
+ * <pre>{@code
+ * Map<String, Integer> openCriticalByRule =
+ *     table
+ *         .select()
+ *         .where(TraceTable.Column.SEVERITY, "Critical")
+ *         .missing(TraceTable.Timestamp.CLOSED_TIME)
+ *         .countBy(TraceTable.Column.RULE);
+ * }</pre>
+ *
+ * <p>Instances are safe for use by multiple threads.
+ */
+public final class TraceTable {
+
+  /** Value of a timestamp that the vulnerability does not have. */
+  public static final long ABSENT = Long.MIN_VALUE;
+
+  /** Dictionary-encoded columns of a {@link TraceTable}. */
+  public enum Column {
+    /** {@link Trace#getSeverity()} */
+    SEVERITY,
+    /** {@link Trace#getStatus()} */
+    STATUS,
+    /** {@link Trace#getRule()} */
+    RULE,
+    /**
+     * ID of {@link Trace#getApplication()}, which Contrast includes only when the request expands
+     * the application
+     */
+    APPLICATION,
+    /** {@link Trace#getServerEnvironments()}, of which each vulnerability may have several */
+    SERVER_ENVIRONMENT
+  }
+
+  /** Timestamp columns of a {@link TraceTable}, in milliseconds since the epoch. */
+  public enum Timestamp {
+    /** {@link Trace#getFirstTimeSeen()} */
+    FIRST_TIME_SEEN,
+    /** {@link Trace#getLastTimeSeen()} */
+    LAST_TIME_SEEN,
+    /** {@link Trace#getClosedTime()} */
+    CLOSED_TIME
+  }
+
+  /** Fields of the vulnerabilities that a table holds, for parsing only what it needs. */
+  static final Projection PROJECTION =
+      Projection.builder()
+          .include(
+              Trace.class,
+              "uuid",
+              "severity",
+              "status",
+              "rule",
+              "application",
+              "serverEnvironments",
+              "firstTimeSeen",
+              "lastTimeSeen",
+              "closedTime")
+          .include(Application.class, "id", "name")
+          .build();
+
+  /** Number of single-valued columns, which precede {@link Column#SERVER_ENVIRONMENT}. */
+  private static final int SINGLE_VALUED = Column.SERVER_ENVIRONMENT.ordinal();
+
+  /**
+   * @return new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds a table from the remaining vulnerabilities of the given iterator, such as one returned
+   * by {@link ContrastSDK#streamTracesInOrg}. The caller remains responsible for closing it.
+   *
+   * @param traces vulnerabilities to add
+   * @return new table
+   */
+  public static TraceTable from(final Iterator<Trace> traces) {
+    final Builder builder = builder();
+    traces.forEachRemaining(builder::add);
+    return builder.build();
+  }
+
+  private final int size;
+  private final String[] uuids;
+  private final long[][] times;
+  private final int[][] codes;
+  private final int[] environmentOffsets;
+  private final int[] environmentCodes;
+  private final String[][] dictionaries;
+  private final List<Map<String, Integer>> indexes;
+  private final Map<String, String> applicationNames;
+
+  private TraceTable(final Builder builder) {
+    size = builder.size;
+    uuids = Arrays.copyOf(builder.uuids, size);
+    times = new long[Timestamp.values().length][];
+    for (int i = 0; i < times.length; i++) {
+      times[i] = Arrays.copyOf(builder.times[i], size);
+    }
+    codes = new int[SINGLE_VALUED][];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = Arrays.copyOf(builder.codes[i], size);
+    }
+    environmentOffsets = Arrays.copyOf(builder.environmentOffsets, size + 1);
+    environmentCodes =
+        Arrays.copyOf(builder.environmentCodes, builder.environmentOffsets[builder.size]);
+    dictionaries = new String[Column.values().length][];
+    indexes = new ArrayList<>(dictionaries.length);
+    for (int i = 0; i < dictionaries.length; i++) {
+      final Dictionary dictionary = builder.dictionaries[i];
+      dictionaries[i] = dictionary.values.toArray(new String[0]);
+      indexes.add(new HashMap<>(dictionary.codes));
+    }
+    applicationNames = new HashMap<>(builder.applicationNames);
+  }
+
+  /**
+   * @return number of vulnerabilities in the table
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param row row number
+   * @return UUID of the vulnerability in the given row
+   * @throws IndexOutOfBoundsException when the row does not exist
+   */
+  public String uuid(final int row) {
+    checkRow(row);
+    return uuids[row];
+  }
+
+  /**
+   * @param column single-valued column
+   * @param row row number
+   * @return value of the column in the given row, or {@code null} when the vulnerability has none
+   * @throws IllegalArgumentException when the column is {@link Column#SERVER_ENVIRONMENT}, which
+   *     has several values; use {@link #environments(int)}
+   * @throws IndexOutOfBoundsException when the row does not exist
+   */
+  public String value(final Column column, final int row) {
+    if (column == Column.SERVER_ENVIRONMENT) {
+      throw new IllegalArgumentException("use environments(row) for " + column);
+    }
+    checkRow(row);
+    final int code = codes[column.ordinal()][row];
+    return code < 0 ? null : dictionaries[column.ordinal()][code];
+  }
+
+  /**
+   * @param row row number
+   * @return server environments of the vulnerability in the given row
+   * @throws IndexOutOfBoundsException when the row does not exist
+   */
+  public List<String> environments(final int row) {
+    checkRow(row);
+    final String[] dictionary = dictionaries[Column.SERVER_ENVIRONMENT.ordinal()];
+    final List<String> environments =
+        new ArrayList<>(environmentOffsets[row + 1] - environmentOffsets[row]);
+    for (int i = environmentOffsets[row]; i < environmentOffsets[row + 1]; i++) {
+      environments.add(dictionary[environmentCodes[i]]);
+    }
+    return environments;
+  }
+
+  /**
+   * @param timestamp timestamp column
+   * @param row row number
+   * @return timestamp of the vulnerability in the given row, in milliseconds since the epoch, or
+   *     {@link #ABSENT} when it has none
+   * @throws IndexOutOfBoundsException when the row does not exist
+   */
+  public long time(final Timestamp timestamp, final int row) {
+    checkRow(row);
+    return times[timestamp.ordinal()][row];
+  }
+
+  /**
+   * @param column column
+   * @return distinct values of the column, in the order they were first added
+   */
+  public List<String> values(final Column column) {
+    return Collections.unmodifiableList(Arrays.asList(dictionaries[column.ordinal()].clone()));
+  }
+
+  /**
+   * @param applicationId value of the {@link Column#APPLICATION} column
+   * @return name of the application, or {@code null} when the table has no vulnerability in it
+   */
+  public String applicationName(final String applicationId) {
+    return applicationNames.get(applicationId);
+  }
+
+  /**
+   * @return query over every row of the table
+   */
+  public Query select() {
+    final BitSet rows = new BitSet(size);
+    rows.set(0, size);
+    return new Query(this, rows);
+  }
+
+  @Override
+  public String toString() {
+    return "TraceTable{size=" + size + "}";
+  }
+
+  private void checkRow(final int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("row " + row + " of " + size);
+    }
+  }
+
+  /**
+   * Immutable selection of the rows of a {@link TraceTable}. Each filter returns a new query over
+   * the rows of this one that match it.
+   */
+  public static final class Query {
+
+    private final TraceTable table;
+    private final BitSet rows;
+
+    private Query(final TraceTable table, final BitSet rows) {
+      this.table = table;
+      this.rows = rows;
+    }
+
+    /**
+     * Keeps the rows whose column has one of the given values. A row matches {@link
+     * Column#SERVER_ENVIRONMENT} when any of its environments is one of the given values.
+     *
+     * @param column column to filter on
+     * @param values values to keep
+     * @return new query
+     */
+    public Query where(final Column column, final String... values) {
+      final boolean[] accepted = new boolean[table.dictionaries[column.ordinal()].length];
+      final Map<String, Integer> index = table.indexes.get(column.ordinal());
+      for (final String value : values) {
+        final Integer code = index.get(value);
+        if (code != null) {
+          accepted[code] = true;
+        }
+      }
+      final BitSet matching = new BitSet(table.size);
+      if (column == Column.SERVER_ENVIRONMENT) {
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+          for (int i = table.environmentOffsets[row]; i < table.environmentOffsets[row + 1]; i++) {
+            if (accepted[table.environmentCodes[i]]) {
+              matching.set(row);
+              break;
+            }
+          }
+        }
+      } else {
+        final int[] codes = table.codes[column.ordinal()];
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+          final int code = codes[row];
+          if (code >= 0 && accepted[code]) {
+            matching.set(row);
+          }
+        }
+      }
+      return new Query(table, matching);
+    }
+
+    /**
+     * Keeps the rows whose timestamp falls in the given range.
+     *
+     * @param timestamp timestamp column to filter on
+     * @param from start of the range in milliseconds since the epoch, inclusive
+     * @param to end of the range in milliseconds since the epoch, exclusive
+     * @return new query
+     */
+    public Query between(final Timestamp timestamp, final long from, final long to) {
+      final long[] times = table.times[timestamp.ordinal()];
+      final BitSet matching = new BitSet(table.size);
+      for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+        final long time = times[row];
+        if (time != ABSENT && time >= from && time < to) {
+          matching.set(row);
+        }
+      }
+      return new Query(table, matching);
+    }
+
+    /**
+     * Keeps the rows that do not have the given timestamp, such as the vulnerabilities that have no
+     * {@link Timestamp#CLOSED_TIME}.
+     *
+     * @param timestamp timestamp column to filter on
+     * @return new query
+     */
+    public Query missing(final Timestamp timestamp) {
+      final long[] times = table.times[timestamp.ordinal()];
+      final BitSet matching = new BitSet(table.size);
+      for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+        if (times[row] == ABSENT) {
+          matching.set(row);
+        }
+      }
+      return new Query(table, matching);
+    }
+
+    /**
+     * @return number of rows selected
+     */
+    public int count() {
+      return rows.cardinality();
+    }
+
+    /**
+     * Counts the selected rows by the value of the given column. Rows without a value are not
+     * counted, and a row is counted once for each of its {@link Column#SERVER_ENVIRONMENT}s.
+     *
+     * @param column column to group by
+     * @return number of rows for each value that occurs in the selected rows, from the most to the
+     *     least frequent
+     */
+    public Map<String, Integer> countBy(final Column column) {
+      final String[] dictionary = table.dictionaries[column.ordinal()];
+      final int[] counts = new int[dictionary.length];
+      if (column == Column.SERVER_ENVIRONMENT) {
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+          for (int i = table.environmentOffsets[row]; i < table.environmentOffsets[row + 1]; i++) {
+            counts[table.environmentCodes[i]]++;
+          }
+        }
+      } else {
+        final int[] codes = table.codes[column.ordinal()];
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+          if (codes[row] >= 0) {
+            counts[codes[row]]++;
+          }
+        }
+      }
+      final List<Integer> present = new ArrayList<>();
+      for (int code = 0; code < counts.length; code++) {
+        if (counts[code] > 0) {
+          present.add(code);
+        }
+      }
+      present.sort(Comparator.comparingInt((Integer code) -> counts[code]).reversed());
+      final Map<String, Integer> result = new LinkedHashMap<>();
+      for (final int code : present) {
+        result.put(dictionary[code], counts[code]);
+      }
+      return result;
+    }
+
+    /**
+     * @return numbers of the selected rows, in ascending order
+     */
+    public IntStream rows() {
+      return rows.stream();
+    }
+  }
+
+  /** Builder for {@link TraceTable}. Not safe for use by multiple threads. */
+  public static final class Builder {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private String[] uuids = new String[INITIAL_CAPACITY];
+    private final long[][] times = new long[Timestamp.values().length][INITIAL_CAPACITY];
+    private final int[][] codes = new int[SINGLE_VALUED][INITIAL_CAPACITY];
+    private int[] environmentOffsets = new int[INITIAL_CAPACITY + 1];
+    private int[] environmentCodes = new int[INITIAL_CAPACITY];
+    private final Dictionary[] dictionaries = new Dictionary[Column.values().length];
+    private final Map<String, String> applicationNames = new HashMap<>();
+
+    private Builder() {
+      for (int i = 0; i < dictionaries.length; i++) {
+        dictionaries[i] = new Dictionary();
+      }
+    }
+
+    /**
+     * Adds a row for the given vulnerability. The table keeps only the fields it has columns for,
+     * so the {@code Trace} may be discarded afterwards.
+     *
+     * @param trace vulnerability to add
+     * @return this
+     */
+    public Builder add(final Trace trace) {
+      Objects.requireNonNull(trace);
+      if (size == uuids.length) {
+        grow();
+      }
+      uuids[size] = trace.getUuid();
+      times[Timestamp.FIRST_TIME_SEEN.ordinal()][size] = time(trace.getFirstTimeSeen());
+      times[Timestamp.LAST_TIME_SEEN.ordinal()][size] = time(trace.getLastTimeSeen());
+      times[Timestamp.CLOSED_TIME.ordinal()][size] = time(trace.getClosedTime());
+      encode(Column.SEVERITY, trace.getSeverity());
+      encode(Column.STATUS, trace.getStatus());
+      encode(Column.RULE, trace.getRule());
+      final Application application = trace.getApplication();
+      final String applicationId = application == null ? null : application.getId();
+      encode(Column.APPLICATION, applicationId);
+      if (applicationId != null && application.getName() != null) {
+        applicationNames.putIfAbsent(applicationId, application.getName());
+      }
+      int end = environmentOffsets[size];
+      final List<String> environments = trace.getServerEnvironments();
+      if (environments != null) {
+        final Dictionary dictionary = dictionaries[Column.SERVER_ENVIRONMENT.ordinal()];
+        for (final String environment : environments) {
+          if (environment == null) {
+            continue;
+          }
+          if (end == environmentCodes.length) {
+            environmentCodes = Arrays.copyOf(environmentCodes, end + (end >> 1) + 1);
+          }
+          environmentCodes[end++] = dictionary.code(environment);
+        }
+      }
+      size++;
+      environmentOffsets[size] = end;
+      return this;
+    }
+
+    /**
+     * @return new {@link TraceTable} with the rows added so far
+     */
+    public TraceTable build() {
+      return new TraceTable(this);
+    }
+
+    private void encode(final Column column, final String value) {
+      codes[column.ordinal()][size] =
+          value == null ? -1 : dictionaries[column.ordinal()].code(value);
+    }
+
+    private void grow() {
+      final int capacity = size + (size >> 1);
+      uuids = Arrays.copyOf(uuids, capacity);
+      for (int i = 0; i < times.length; i++) {
+        times[i] = Arrays.copyOf(times[i], capacity);
+      }
+      for (int i = 0; i < codes.length; i++) {
+        codes[i] = Arrays.copyOf(codes[i], capacity);
+      }
+      environmentOffsets = Arrays.copyOf(environmentOffsets, capacity + 1);
+    }
+
+    private static long time(final Long value) {
+      return value == null ? ABSENT : value;
+    }
+  }
+
+  /** Distinct values of a column, numbered in the order they were first added. */
+  private static final class Dictionary {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    private int code(final String value) {
+      final Integer code = codes.get(value);
+      if (code != null) {
+        return code;
+      }
+      codes.put(value, values.size());
+      values.add(value);
+      return values.size() - 1;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists the high-water marks of {@link TraceSync}, one per synchronized listing. Implementations
+ * must be safe for concurrent use.
+ */
+public interface WatermarkStore {
+
+  /**
+   * @return new store that keeps marks in memory only, so that each new instance starts with a full
+   *     synchronization
+   */
+  static WatermarkStore inMemory() {
+    final Map<String, Instant> marks = new ConcurrentHashMap<>();
+    return new WatermarkStore() {
+      @Override
+      public Instant load(final String key) {
+        return marks.get(Objects.requireNonNull(key));
+      }
+
+      @Override
+      public void save(final String key, final Instant mark) {
+        marks.put(Objects.requireNonNull(key), Objects.requireNonNull(mark));
+      }
+
+      @Override
+      public void remove(final String key) {
+        marks.remove(Objects.requireNonNull(key));
+      }
+    };
+  }
+
+  /**
+   * Returns a store that keeps marks in the given properties file. The file is created on the first
+   * save, and each save replaces it with a complete new copy, so an interrupted save leaves the
+   * previous marks intact. Stores for the same file must not be used by several processes at once.
+   *
+   * @param file properties file in which to keep the marks
+   * @return new store
+   */
+  static WatermarkStore file(final Path file) {
+    Objects.requireNonNull(file);
+    return new WatermarkStore() {
+      @Override
+      public synchronized Instant load(final String key) throws IOException {
+        final String value = read().getProperty(Objects.requireNonNull(key));
+        if (value == null) {
+          return null;
+        }
+        try {
+          return Instant.parse(value);
+        } catch (final DateTimeParseException e) {
+          throw new IOException("invalid watermark for " + key + " in " + file, e);
+        }
+      }
+
+      @Override
+      public synchronized void save(final String key, final Instant mark) throws IOException {
+        final Properties marks = read();
+        marks.setProperty(Objects.requireNonNull(key), mark.toString());
+        write(marks);
+      }
+
+      @Override
+      public synchronized void remove(final String key) throws IOException {
+        final Properties marks = read();
+        if (marks.remove(Objects.requireNonNull(key)) != null) {
+          write(marks);
+        }
+      }
+
+      private Properties read() throws IOException {
+        final Properties marks = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+          marks.load(in);
+        } catch (final NoSuchFileException e) {
+          // no marks saved yet
+        }
+        return marks;
+      }
+
+      private void write(final Properties marks) throws IOException {
+        AtomicFiles.replace(
+            file, out -> marks.store(out, "Contrast trace synchronization watermarks"));
+      }
+    };
+  }
+
+  /**
+   * @param key identifies the synchronized listing
+   * @return the saved mark, or {@code null} when none was saved
+   * @throws IOException when the mark cannot be read
+   */
+  Instant load(String key) throws IOException;
+
+  /**
+   * @param key identifies the synchronized listing
+   * @param mark mark to save, replacing any saved before
+   * @throws IOException when the mark cannot be saved
+   */
+  void save(String key, Instant mark) throws IOException;
+
+  /**
+   * Forgets the mark of a listing, so that its next synchronization is a full one.
+   *
+   * @param key identifies the synchronized listing
+   * @throws IOException when the mark cannot be removed
+   */
+  void remove(String key) throws IOException;
+}
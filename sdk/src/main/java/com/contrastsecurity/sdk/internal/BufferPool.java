@@ -0,0 +1,172 @@
+package com.contrastsecurity.sdk.internal;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Bounded pool of reusable byte buffers for reading response bodies, so that each request does not
+ * allocate and discard its own copy buffer.
+ *
+ * <p>Bodies are read directly into a pooled buffer, which grows only when the body does not fit,
+ * and are then copied once into the result, rather than through an intermediate {@code
+ * ByteArrayOutputStream}. The pool holds a fixed number of buffers; when they are all in use,
+ * callers get a new buffer, which the pool keeps on release only if it has room for it. Safe for
+ * use by multiple threads.
+ */
+public final class BufferPool {
+
+  /** Largest array size that the JVM can be relied upon to allocate. */
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  private static final BufferPool SHARED = new BufferPool(32, 8192);
+
+  /**
+   * @return pool shared by the SDK, which holds up to 32 buffers of 8 KiB
+   */
+  public static BufferPool shared() {
+    return SHARED;
+  }
+
+  /**
+   * @param buffers maximum number of idle buffers the pool holds
+   * @param bufferSize size of each buffer in bytes
+   * @return new pool
+   * @throws IllegalArgumentException when either argument is not positive
+   */
+  public static BufferPool create(final int buffers, final int bufferSize) {
+    if (buffers <= 0) {
+      throw new IllegalArgumentException("buffers must be positive");
+    }
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive");
+    }
+    return new BufferPool(buffers, bufferSize);
+  }
+
+  private final ArrayBlockingQueue<byte[]> idle;
+  private final int bufferSize;
+
+  private BufferPool(final int buffers, final int bufferSize) {
+    this.idle = new ArrayBlockingQueue<>(buffers);
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * @return idle buffer from the pool, or a new one when the pool has none
+   */
+  public byte[] acquire() {
+    final byte[] buffer = idle.poll();
+    return buffer == null ? new byte[bufferSize] : buffer;
+  }
+
+  /**
+   * Returns a buffer obtained from {@link #acquire()} to the pool. The caller must not use it
+   * afterwards.
+   *
+   * @param buffer buffer to return
+   */
+  public void release(final byte[] buffer) {
+    if (buffer.length == bufferSize) {
+      idle.offer(buffer);
+    }
+  }
+
+  /**
+   * Reads the given stream to its end without closing it.
+   *
+   * @param is stream to read
+   * @return bytes read
+   * @throws IOException when the stream cannot be read
+   */
+  public byte[] readAllBytes(final InputStream is) throws IOException {
+    return read(is, (bytes, length) -> Arrays.copyOf(bytes, length));
+  }
+
+  /**
+   * Reads the given stream to its end without closing it, and decodes it as UTF-8.
+   *
+   * @param is stream to read
+   * @return text read
+   * @throws IOException when the stream cannot be read
+   */
+  public String readString(final InputStream is) throws IOException {
+    return read(is, (bytes, length) -> new String(bytes, 0, length, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Copies the given input stream to its end into the given output stream, closing neither.
+   *
+   * @param is stream to read
+   * @param os stream to write
+   * @return number of bytes copied
+   * @throws IOException when either stream fails
+   */
+  public long transfer(final InputStream is, final OutputStream os) throws IOException {
+    final byte[] buffer = acquire();
+    try {
+      long total = 0;
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        os.write(buffer, 0, read);
+        total += read;
+      }
+      return total;
+    } finally {
+      release(buffer);
+    }
+  }
+
+  private <T> T read(final InputStream is, final Decoder<T> decoder) throws IOException {
+    final byte[] pooled = acquire();
+    try {
+      byte[] buffer = pooled;
+      int length = 0;
+      int read;
+      while ((read = is.read(buffer, length, buffer.length - length)) != -1) {
+        length += read;
+        if (length == buffer.length) {
+          buffer = Arrays.copyOf(buffer, grow(length));
+        }
+      }
+      return decoder.decode(buffer, length);
+    } finally {
+      release(pooled);
+    }
+  }
+
+  private static int grow(final int length) {
+    if (length >= MAX_ARRAY_SIZE) {
+      throw new OutOfMemoryError("Response body is too large to read into memory");
+    }
+    return (int) Math.min((long) length << 1, MAX_ARRAY_SIZE);
+  }
+
+  /** Converts the bytes read into the result. */
+  private interface Decoder<T> {
+    T decode(byte[] bytes, int length);
+  }
+}
@@ -0,0 +1,216 @@
+package com.contrastsecurity.sdk.internal;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.models.Chapter;
+import com.contrastsecurity.models.PropertyResource;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code TypeAdapter} for the {@link Chapter}s of a vulnerability story.
+ *
+ * <p>Contrast returns the properties of a chapter as a JSON object whose values each have a {@code
+ * name} and a {@code value}, such as {@code "properties": {"0": {"name": "Header", "value":
+ * "Accept"}}}. This adapter reads them into {@link Chapter#getPropertyResources()} while it reads
+ * the rest of the chapter, so that a story is deserialized in a single pass over the response.
+ */
+final class ChapterTypeAdapter extends TypeAdapter<Chapter> {
+
+  @Override
+  public void write(final JsonWriter writer, final Chapter chapter) throws IOException {
+    writer.beginObject();
+    writer.name("type").value(chapter.getType());
+    writer.name("introText").value(chapter.getIntroText());
+    writer.name("introTextFormat").value(chapter.getIntroTextFormat());
+    writeStringMap(writer.name("introTextVariables"), chapter.getIntroTextVariables());
+    writer.name("body").value(chapter.getBody());
+    writer.name("bodyFormat").value(chapter.getBodyFormat());
+    writeStringMap(writer.name("bodyFormatVariables"), chapter.getBodyFormatVariables());
+    final List<PropertyResource> resources = chapter.getPropertyResources();
+    writer.name("propertyResources");
+    if (resources == null) {
+      writer.nullValue();
+    } else {
+      writer.beginArray();
+      for (final PropertyResource resource : resources) {
+        writer.beginObject();
+        writer.name("name").value(resource.getName());
+        writer.name("value").value(resource.getValue());
+        writer.endObject();
+      }
+      writer.endArray();
+    }
+    writer.endObject();
+  }
+
+  @Override
+  public Chapter read(final JsonReader reader) throws IOException {
+    final Chapter chapter = new Chapter();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+      switch (name) {
+        case "type":
+          chapter.setType(reader.nextString());
+          break;
+        case "introText":
+          chapter.setIntroText(reader.nextString());
+          break;
+        case "introTextFormat":
+          chapter.setIntroTextFormat(reader.nextString());
+          break;
+        case "introTextVariables":
+          chapter.setIntroTextVariables(readStringMap(reader));
+          break;
+        case "body":
+          chapter.setBody(reader.nextString());
+          break;
+        case "bodyFormat":
+          chapter.setBodyFormat(reader.nextString());
+          break;
+        case "bodyFormatVariables":
+          chapter.setBodyFormatVariables(readStringMap(reader));
+          break;
+        case "propertyResources":
+          if (chapter.getPropertyResources() == null) {
+            chapter.setPropertyResources(readPropertyArray(reader));
+          } else {
+            reader.skipValue();
+          }
+          break;
+        case "properties":
+          chapter.setPropertyResources(readPropertyObject(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return chapter;
+  }
+
+  /** Reads the {@code properties} object, keeping the values that have a name and a value. */
+  private static List<PropertyResource> readPropertyObject(final JsonReader reader)
+      throws IOException {
+    final List<PropertyResource> resources = new ArrayList<>();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      reader.nextName();
+      readProperty(reader, resources);
+    }
+    reader.endObject();
+    return resources;
+  }
+
+  private static List<PropertyResource> readPropertyArray(final JsonReader reader)
+      throws IOException {
+    final List<PropertyResource> resources = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      readProperty(reader, resources);
+    }
+    reader.endArray();
+    return resources;
+  }
+
+  private static void readProperty(final JsonReader reader, final List<PropertyResource> resources)
+      throws IOException {
+    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+      reader.skipValue();
+      return;
+    }
+    String name = null;
+    String value = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "name":
+          name = readScalar(reader);
+          break;
+        case "value":
+          value = readScalar(reader);
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (name != null && value != null) {
+      final PropertyResource resource = new PropertyResource();
+      resource.setName(name);
+      resource.setValue(value);
+      resources.add(resource);
+    }
+  }
+
+  private static Map<String, String> readStringMap(final JsonReader reader) throws IOException {
+    final Map<String, String> map = new LinkedHashMap<>();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String key = reader.nextName();
+      map.put(key, readScalar(reader));
+    }
+    reader.endObject();
+    return map;
+  }
+
+  /**
+   * @return the next value as a string, or {@code null} when it is {@code null}, an object or an
+   *     array
+   */
+  private static String readScalar(final JsonReader reader) throws IOException {
+    switch (reader.peek()) {
+      case STRING:
+      case NUMBER:
+        return reader.nextString();
+      case BOOLEAN:
+        return Boolean.toString(reader.nextBoolean());
+      default:
+        reader.skipValue();
+        return null;
+    }
+  }
+
+  private static void writeStringMap(final JsonWriter writer, final Map<String, String> map)
+      throws IOException {
+    if (map == null) {
+      writer.nullValue();
+      return;
+    }
+    writer.beginObject();
+    for (final Map.Entry<String, String> entry : map.entrySet()) {
+      writer.name(entry.getKey()).value(entry.getValue());
+    }
+    writer.endObject();
+  }
+}
@@ -20,6 +20,10 @@ package com.contrastsecurity.sdk.internal;
  * #L%
  */
 
+import com.contrastsecurity.models.Chapter;
+import com.contrastsecurity.models.MetadataEntity;
+import com.contrastsecurity.models.MetadataEntityTypeAdapter;
+import com.contrastsecurity.models.ModelTypeAdapterFactory;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
@@ -27,18 +31,47 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAccessor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /** Factory for configuring an instance of GSON that is compatible with the Contrast API */
 public final class GsonFactory {
 
+  /** Maximum number of instances that {@link #variant(Object, Supplier)} keeps. */
+  static final int MAX_VARIANTS = 32;
+
+  /**
+   * Gson instances built by {@link #variant(Object, Supplier)}, by key, evicting the least recently
+   * used beyond {@link #MAX_VARIANTS}.
+   */
+  private static final Map<Object, Gson> VARIANTS =
+      new LinkedHashMap<Object, Gson>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Object, Gson> eldest) {
+          return size() > MAX_VARIANTS;
+        }
+      };
+
   /**
    * @return new {@code GsonBuilder}
    */
   public static GsonBuilder builder() {
+    return builder(new ModelTypeAdapterFactory());
+  }
+
+  /**
+   * @param models factory for the model adapters, configured with a projection or a string
+   *     canonicalizer
+   * @return new {@code GsonBuilder}
+   */
+  public static GsonBuilder builder(final ModelTypeAdapterFactory models) {
     return new GsonBuilder()
-        .registerTypeAdapter(Instant.class, new InstantTypeAdapter().nullSafe());
+        .registerTypeAdapter(Instant.class, new InstantTypeAdapter().nullSafe())
+        .registerTypeAdapter(Chapter.class, new ChapterTypeAdapter().nullSafe())
+        .registerTypeAdapter(MetadataEntity.class, new MetadataEntityTypeAdapter())
+        .registerTypeAdapterFactory(Objects.requireNonNull(models));
   }
 
   /**
@@ -48,23 +81,59 @@ public final class GsonFactory {
     return builder().create();
   }
 
+  /**
+   * Returns the {@code Gson} configured by {@link #builder()} that the SDK shares across all
+   * requests and threads, so that the adapters it prepares for each type are reused rather than
+   * prepared again for each new instance. {@code Gson} is immutable and thread-safe.
+   *
+   * @return shared {@code Gson}
+   */
+  public static Gson shared() {
+    return Shared.INSTANCE;
+  }
+
+  /**
+   * Returns the shared {@code Gson} registered under the given key, building it with the given
+   * configuration the first time the key is used. Use this for each configuration that differs from
+   * {@link #shared()}, such as one with another field naming policy or exclusion strategy or a
+   * projecting {@link ModelTypeAdapterFactory}, so that it too is built once and its adapters are
+   * reused. Later calls with an equal key return the same instance and ignore their configuration,
+   * so keys must identify the configuration. The registry keeps only the {@value #MAX_VARIANTS}
+   * most recently used instances, so that keys made from caller input cannot grow it without bound;
+   * a key that was evicted is built again on its next use.
+   *
+   * @param key identifies the configuration, compared with {@link Object#equals(Object)}
+   * @param configuration returns the builder for the {@code Gson}, typically starting from {@link
+   *     #builder()}
+   * @return shared {@code Gson} for the key
+   */
+  public static Gson variant(final Object key, final Supplier<GsonBuilder> configuration) {
+    Objects.requireNonNull(configuration);
+    synchronized (VARIANTS) {
+      return VARIANTS.computeIfAbsent(
+          Objects.requireNonNull(key), ignored -> configuration.get().create());
+    }
+  }
+
   /** static members only */
   private GsonFactory() {}
 
-  /** {@code TypeAdapter} for (de)serializing {@code Instant} in ISO8601 */
+  /** Holds the shared {@code Gson}, which is built when it is first used. */
+  private static final class Shared {
+    private static final Gson INSTANCE = create();
+  }
+
+  /** {@code TypeAdapter} for (de)serializing {@code Instant} in ISO8601 with {@link Rfc3339} */
   private static final class InstantTypeAdapter extends TypeAdapter<Instant> {
 
     @Override
     public void write(final JsonWriter writer, final Instant value) throws IOException {
-      final String formatted = DateTimeFormatter.ISO_INSTANT.format(value);
-      writer.value(formatted);
+      writer.value(Rfc3339.format(value));
     }
 
     @Override
     public Instant read(final JsonReader reader) throws IOException {
-      final String rfc3339 = reader.nextString();
-      final TemporalAccessor accessor = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(rfc3339);
-      return Instant.from(accessor);
+      return Rfc3339.parse(reader.nextString());
     }
   }
 }
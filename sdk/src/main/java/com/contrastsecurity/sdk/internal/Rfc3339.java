@@ -0,0 +1,282 @@
+package com.contrastsecurity.sdk.internal;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses and formats RFC 3339 timestamps, such as {@code 2022-03-14T15:09:26.535Z}, for the {@code
+ * Instant} fields of the scan models.
+ *
+ * <p>{@link DateTimeFormatter} creates a {@code TemporalAccessor} and resolves every field of each
+ * value it parses, and formats through a {@code StringBuilder}. Contrast writes its timestamps in
+ * one fixed form: four-digit year, seconds, an optional fraction and a {@code Z} or {@code +HH:MM}
+ * offset. This class parses and formats that form by hand, and falls back to {@link
+ * DateTimeFormatter#ISO_OFFSET_DATE_TIME} and {@link DateTimeFormatter#ISO_INSTANT} for everything
+ * else, so that it accepts, rejects and produces exactly what those formatters do.
+ */
+final class Rfc3339 {
+
+  private static final long SECONDS_PER_DAY = 86_400;
+
+  /** Days from 0000-01-01 to 1970-01-01 in the proleptic Gregorian calendar. */
+  private static final long DAYS_0000_TO_1970 = 719_528;
+
+  /** Days in a 400 year cycle. */
+  private static final long DAYS_PER_CYCLE = 146_097;
+
+  /** First second of the year 0000, the earliest that {@link #format(Instant)} writes by hand. */
+  private static final long MIN_FAST_SECOND = -DAYS_0000_TO_1970 * SECONDS_PER_DAY;
+
+  /** Last second of the year 9999, the latest that {@link #format(Instant)} writes by hand. */
+  private static final long MAX_FAST_SECOND = 253_402_300_799L;
+
+  private static final int[] POWERS_OF_TEN = {
+    1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000
+  };
+
+  /**
+   * Parses a timestamp as {@code Instant.from(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text))}
+   * does.
+   *
+   * @param text timestamp with an offset
+   * @return instant the timestamp represents
+   * @throws DateTimeParseException when the text is not a valid timestamp
+   */
+  static Instant parse(final String text) {
+    final Instant instant = parseFast(text);
+    return instant != null
+        ? instant
+        : Instant.from(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text));
+  }
+
+  /**
+   * Formats an instant as {@code DateTimeFormatter.ISO_INSTANT.format(instant)} does: in UTC, with
+   * the fraction of a second written in groups of three digits when it is not zero.
+   *
+   * @param instant instant to format
+   * @return RFC 3339 timestamp
+   */
+  static String format(final Instant instant) {
+    final long seconds = instant.getEpochSecond();
+    if (seconds < MIN_FAST_SECOND || seconds > MAX_FAST_SECOND) {
+      return DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+    final int nano = instant.getNano();
+    final int fractionDigits =
+        nano == 0 ? 0 : nano % 1_000_000 == 0 ? 3 : nano % 1_000 == 0 ? 6 : 9;
+    final char[] chars = new char[20 + (fractionDigits == 0 ? 0 : fractionDigits + 1)];
+
+    // civil date from the day number, as LocalDate.ofEpochDay computes it
+    final long epochDay = Math.floorDiv(seconds, SECONDS_PER_DAY);
+    final int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+    long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+    long adjust = 0;
+    if (zeroDay < 0) {
+      final long cycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+      adjust = cycles * 400;
+      zeroDay += -cycles * DAYS_PER_CYCLE;
+    }
+    long yearEstimate = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+    long dayOfYearEstimate =
+        zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+    if (dayOfYearEstimate < 0) {
+      yearEstimate--;
+      dayOfYearEstimate =
+          zeroDay
+              - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+    }
+    yearEstimate += adjust;
+    final int marchDayOfYear = (int) dayOfYearEstimate;
+    final int marchMonth = (marchDayOfYear * 5 + 2) / 153;
+    final int month = (marchMonth + 2) % 12 + 1;
+    final int day = marchDayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+    final int year = (int) (yearEstimate + marchMonth / 10);
+
+    writeDigits(chars, 0, year, 4);
+    chars[4] = '-';
+    writeDigits(chars, 5, month, 2);
+    chars[7] = '-';
+    writeDigits(chars, 8, day, 2);
+    chars[10] = 'T';
+    writeDigits(chars, 11, secondOfDay / 3600, 2);
+    chars[13] = ':';
+    writeDigits(chars, 14, secondOfDay / 60 % 60, 2);
+    chars[16] = ':';
+    writeDigits(chars, 17, secondOfDay % 60, 2);
+    int end = 19;
+    if (fractionDigits > 0) {
+      chars[end++] = '.';
+      writeDigits(chars, end, nano / POWERS_OF_TEN[9 - fractionDigits], fractionDigits);
+      end += fractionDigits;
+    }
+    chars[end] = 'Z';
+    return new String(chars);
+  }
+
+  /**
+   * @return instant the text represents when it has the form {@code yyyy-MM-ddTHH:mm:ss[.S+]}
+   *     followed by {@code Z} or {@code ±HH:MM} and every field is in range, or else {@code null}
+   */
+  private static Instant parseFast(final String text) {
+    final int length = text.length();
+    if (length < 20
+        || text.charAt(4) != '-'
+        || text.charAt(7) != '-'
+        || text.charAt(10) != 'T'
+        || text.charAt(13) != ':'
+        || text.charAt(16) != ':') {
+      return null;
+    }
+    final int year = digits(text, 0, 4);
+    final int month = digits(text, 5, 2);
+    final int day = digits(text, 8, 2);
+    final int hour = digits(text, 11, 2);
+    final int minute = digits(text, 14, 2);
+    final int second = digits(text, 17, 2);
+    if (year < 0
+        || month < 1
+        || month > 12
+        || day < 1
+        || day > lengthOfMonth(year, month)
+        || hour < 0
+        || hour > 23
+        || minute < 0
+        || minute > 59
+        || second < 0
+        || second > 59) {
+      return null;
+    }
+
+    int position = 19;
+    int nano = 0;
+    if (text.charAt(position) == '.') {
+      final int start = ++position;
+      while (position < length && position - start < 10 && isDigit(text.charAt(position))) {
+        position++;
+      }
+      final int fractionDigits = position - start;
+      if (fractionDigits == 0 || fractionDigits > 9) {
+        return null;
+      }
+      nano = digits(text, start, fractionDigits) * POWERS_OF_TEN[9 - fractionDigits];
+    }
+
+    if (position == length) {
+      return null;
+    }
+    final int offsetSeconds;
+    final int remaining = length - position;
+    final char sign = text.charAt(position);
+    if (remaining == 1 && sign == 'Z') {
+      offsetSeconds = 0;
+    } else if (remaining == 6 && (sign == '+' || sign == '-') && text.charAt(position + 3) == ':') {
+      final int offsetHours = digits(text, position + 1, 2);
+      final int offsetMinutes = digits(text, position + 4, 2);
+      if (offsetHours < 0
+          || offsetMinutes < 0
+          || offsetMinutes > 59
+          || offsetHours > 18
+          || (offsetHours == 18 && offsetMinutes > 0)
+          || (sign == '-' && offsetHours == 0 && offsetMinutes == 0)) {
+        return null;
+      }
+      final int magnitude = offsetHours * 3600 + offsetMinutes * 60;
+      offsetSeconds = sign == '-' ? -magnitude : magnitude;
+    } else {
+      return null;
+    }
+
+    final long epochSecond =
+        epochDay(year, month, day) * SECONDS_PER_DAY
+            + hour * 3600
+            + minute * 60
+            + second
+            - offsetSeconds;
+    return Instant.ofEpochSecond(epochSecond, nano);
+  }
+
+  /** Computes the day number of a date as {@code LocalDate.toEpochDay()} does. */
+  private static long epochDay(final int year, final int month, final int day) {
+    long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      total--;
+      if (!isLeapYear(year)) {
+        total--;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  private static int lengthOfMonth(final int year, final int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static boolean isLeapYear(final int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /**
+   * @return value of the given number of decimal digits at the given position, or {@code -1} when
+   *     any of them is not a digit
+   */
+  private static int digits(final String text, final int start, final int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      final char c = text.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static void writeDigits(
+      final char[] chars, final int start, final int value, final int count) {
+    int remaining = value;
+    for (int i = start + count - 1; i >= start; i--) {
+      chars[i] = (char) ('0' + remaining % 10);
+      remaining /= 10;
+    }
+  }
+
+  /** static members only */
+  private Rfc3339() {}
+}
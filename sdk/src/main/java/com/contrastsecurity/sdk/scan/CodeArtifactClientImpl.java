@@ -101,7 +101,8 @@ final class CodeArtifactClientImpl implements CodeArtifactClient {
       throw HttpResponseException.fromConnection(
           connection, "Failed to upload code artifact to Contrast Scan");
     }
-    try (Reader reader = new InputStreamReader(connection.getInputStream())) {
+    try (Reader reader =
+        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
       return gson.fromJson(reader, AutoValue_CodeArtifactInner.class);
     } catch (JsonParseException e) {
       throw new ServerResponseException("Failed to parse Contrast API response", e);
@@ -23,7 +23,7 @@ package com.contrastsecurity.sdk.scan;
 import com.contrastsecurity.exceptions.ContrastException;
 import com.contrastsecurity.exceptions.ServerResponseException;
 import com.contrastsecurity.http.HttpMethod;
-import com.contrastsecurity.http.MediaType;
+import com.contrastsecurity.http.RequestBody;
 import com.contrastsecurity.sdk.ContrastSDK;
 import com.contrastsecurity.sdk.internal.URIBuilder;
 import com.google.gson.Gson;
@@ -32,6 +32,7 @@ import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -54,10 +55,10 @@ final class ProjectClientImpl implements ProjectClient {
         new URIBuilder()
             .appendPathSegments("sast", "organizations", organizationId, "projects")
             .toURIString();
-    final String json = gson.toJson(create);
     try (Reader reader =
         new InputStreamReader(
-            contrast.makeRequestWithBody(HttpMethod.POST, path, json, MediaType.JSON))) {
+            contrast.makeRequestWithBody(HttpMethod.POST, path, RequestBody.json(gson, create)),
+            StandardCharsets.UTF_8)) {
       return gson.fromJson(reader, AutoValue_ProjectInner.class);
     } catch (JsonParseException e) {
       throw new ServerResponseException("Failed to parse Contrast API response", e);
@@ -75,7 +76,8 @@ final class ProjectClientImpl implements ProjectClient {
             .appendQueryParam("unique", query.unique())
             .toURIString();
     final ScanPagedResult<ProjectInner> page;
-    try (Reader reader = new InputStreamReader(contrast.makeRequest(HttpMethod.GET, uri))) {
+    try (Reader reader =
+        new InputStreamReader(contrast.makeRequest(HttpMethod.GET, uri), StandardCharsets.UTF_8)) {
       page =
           gson.fromJson(
               reader, new TypeToken<ScanPagedResult<AutoValue_ProjectInner>>() {}.getType());
@@ -22,7 +22,7 @@ package com.contrastsecurity.sdk.scan;
 
 import com.contrastsecurity.exceptions.ServerResponseException;
 import com.contrastsecurity.http.HttpMethod;
-import com.contrastsecurity.http.MediaType;
+import com.contrastsecurity.http.RequestBody;
 import com.contrastsecurity.sdk.ContrastSDK;
 import com.contrastsecurity.sdk.internal.URIBuilder;
 import com.google.gson.Gson;
@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /** Implementation of {@link ScanClient}. */
@@ -54,7 +55,7 @@ final class ScanClientImpl implements ScanClient {
                 "sast", "organizations", organizationId, "projects", projectId, "scans", scanId)
             .toURIString();
     try (InputStream is = contrast.makeRequest(HttpMethod.GET, uri);
-        Reader reader = new InputStreamReader(is)) {
+        Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
       return gson.fromJson(reader, AutoValue_ScanInner.class);
     } catch (JsonParseException e) {
       throw new ServerResponseException("Failed to parse Contrast API response", e);
@@ -68,12 +69,10 @@ final class ScanClientImpl implements ScanClient {
             .appendPathSegments(
                 "sast", "organizations", organizationId, "projects", projectId, "scans")
             .toURIString();
-    // TODO add a makeRequestWithBody method that gives callers access to the OutputStream
-    // directly
-    final String json = gson.toJson(create);
     try (Reader reader =
         new InputStreamReader(
-            contrast.makeRequestWithBody(HttpMethod.POST, uri, json, MediaType.JSON))) {
+            contrast.makeRequestWithBody(HttpMethod.POST, uri, RequestBody.json(gson, create)),
+            StandardCharsets.UTF_8)) {
       return gson.fromJson(reader, AutoValue_ScanInner.class);
     } catch (JsonParseException e) {
       throw new ServerResponseException("Failed to parse Contrast API response", e);
@@ -112,7 +111,8 @@ final class ScanClientImpl implements ScanClient {
                 scanId,
                 "summary")
             .toURIString();
-    try (Reader reader = new InputStreamReader(contrast.makeRequest(HttpMethod.GET, uri))) {
+    try (Reader reader =
+        new InputStreamReader(contrast.makeRequest(HttpMethod.GET, uri), StandardCharsets.UTF_8)) {
       return gson.fromJson(reader, AutoValue_ScanSummaryInner.class);
     } catch (JsonParseException e) {
       throw new ServerResponseException("Failed to parse Contrast API response", e);
@@ -27,6 +27,13 @@ import com.contrastsecurity.models.PointOfContactMetadata;
 import com.google.gson.*;
 import java.lang.reflect.Type;
 
+/**
+ * {@code JsonDeserializer} for {@link MetadataEntity}.
+ *
+ * @deprecated use {@link com.contrastsecurity.models.MetadataEntityTypeAdapter}, which reads the
+ *     same values without first building a {@code JsonElement} tree for each metadata field
+ */
+@Deprecated
 public class MetadataDeserializer implements JsonDeserializer<MetadataEntity> {
   @Override
   public MetadataEntity deserialize(
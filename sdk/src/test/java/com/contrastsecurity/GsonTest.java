@@ -45,7 +45,6 @@ import com.contrastsecurity.models.Trace;
 import com.contrastsecurity.models.TraceResponse;
 import com.contrastsecurity.models.Traces;
 import com.contrastsecurity.models.VulnerabilityTrend;
-import com.contrastsecurity.utils.MetadataDeserializer;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.util.List;
@@ -61,10 +60,12 @@ final class GsonTest {
   private static Gson gson;
 
   @BeforeAll
+  @SuppressWarnings("deprecation")
   static void before() {
     gson =
         new GsonBuilder()
-            .registerTypeAdapter(MetadataEntity.class, new MetadataDeserializer())
+            .registerTypeAdapter(
+                MetadataEntity.class, new com.contrastsecurity.utils.MetadataDeserializer())
             .create();
   }
 
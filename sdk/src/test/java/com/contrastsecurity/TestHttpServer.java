@@ -0,0 +1,90 @@
+package com.contrastsecurity;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Test HTTP server bound to an ephemeral port on localhost, for testing real HTTP exchanges with
+ * the SDK. Close the server when the test completes.
+ */
+public final class TestHttpServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  /** Creates and starts a new server. */
+  public TestHttpServer() {
+    try {
+      server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    } catch (final IOException e) {
+      throw new IllegalStateException("failed to create new server", e);
+    }
+    executor = Executors.newCachedThreadPool();
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  /**
+   * @param path context path
+   * @param handler handler for requests to the path
+   * @return this
+   */
+  public TestHttpServer handle(final String path, final HttpHandler handler) {
+    server.createContext(path, handler);
+    return this;
+  }
+
+  /**
+   * @return base URL of the server e.g. http://localhost:1234
+   */
+  public String url() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  /**
+   * @param body JSON body to send
+   * @return handler that responds with the given JSON body and 200 OK
+   */
+  public static HttpHandler json(final String body) {
+    return exchange -> {
+      final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, bytes.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(bytes);
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
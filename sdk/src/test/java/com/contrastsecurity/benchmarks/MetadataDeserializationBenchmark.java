@@ -0,0 +1,129 @@
+package com.contrastsecurity.benchmarks;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.models.Applications;
+import com.contrastsecurity.models.MetadataEntity;
+import com.contrastsecurity.models.MetadataEntityTypeAdapter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares deserializing {@link Applications} with many metadata fields using the tree-based {@link
+ * com.contrastsecurity.utils.MetadataDeserializer} against the streaming {@link
+ * MetadataEntityTypeAdapter}. Run with {@code mvn -P jmh test-compile exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class MetadataDeserializationBenchmark {
+
+  @Param({"100", "1000"})
+  public int applications;
+
+  @Param({"20"})
+  public int fields;
+
+  @SuppressWarnings("deprecation")
+  private final Gson tree =
+      new GsonBuilder()
+          .registerTypeAdapter(
+              MetadataEntity.class, new com.contrastsecurity.utils.MetadataDeserializer())
+          .create();
+
+  private final Gson streaming =
+      new GsonBuilder()
+          .registerTypeAdapter(MetadataEntity.class, new MetadataEntityTypeAdapter())
+          .create();
+  private String json;
+
+  @Setup
+  public void setUp() {
+    json = applications(applications, fields);
+  }
+
+  @Benchmark
+  public Applications tree() {
+    return tree.fromJson(json, Applications.class);
+  }
+
+  @Benchmark
+  public Applications streaming() {
+    return streaming.fromJson(json, Applications.class);
+  }
+
+  private static String applications(final int count, final int fields) {
+    final StringBuilder json = new StringBuilder("{\"applications\":[");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"app_id\":\"app-")
+          .append(i)
+          .append("\",\"name\":\"WebGoat\",\"language\":\"Java\",\"metadataEntities\":[");
+      for (int j = 0; j < fields; j++) {
+        if (j > 0) {
+          json.append(',');
+        }
+        switch (j % 3) {
+          case 0:
+            json.append("{\"fieldName\":\"Business Unit ")
+                .append(j)
+                .append("\",\"fieldValue\":\"Payments\",\"type\":\"STRING\",\"unique\":false}");
+            break;
+          case 1:
+            json.append("{\"fieldName\":\"Ask ID ")
+                .append(j)
+                .append("\",\"fieldValue\":\"")
+                .append(i * 1000 + j)
+                .append("\",\"type\":\"NUMERIC\",\"unique\":false}");
+            break;
+          default:
+            json.append("{\"fieldName\":\"Contact\",\"fieldValue\":\"\"")
+                .append(",\"type\":\"PERSON_OF_CONTACT\",\"unique\":false,\"subfields\":[")
+                .append("{\"fieldName\":\"Contact Name\",\"fieldValue\":\"Contrast User\"")
+                .append(",\"type\":\"CONTACT_NAME\"},{\"fieldName\":\"Contact Email\"")
+                .append(",\"fieldValue\":\"support@contrastsecurity.com\",\"type\":\"EMAIL\"}")
+                .append(",{\"fieldName\":\"Contact Phone\",\"fieldValue\":\"1234567890\"")
+                .append(",\"type\":\"PHONE\"}]}");
+        }
+      }
+      json.append("]}");
+    }
+    return json.append("]}").toString();
+  }
+}
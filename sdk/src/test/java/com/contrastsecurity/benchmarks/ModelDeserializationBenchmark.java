@@ -0,0 +1,153 @@
+package com.contrastsecurity.benchmarks;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.models.Libraries;
+import com.contrastsecurity.models.Traces;
+import com.contrastsecurity.sdk.internal.GsonFactory;
+import com.google.gson.Gson;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares deserializing large {@link Traces} and {@link Libraries} responses with Gson's
+ * reflective adapters against the SDK's {@code GsonFactory}, which registers streaming adapters for
+ * these models. Run with {@code mvn -P jmh test-compile exec:exec}; add {@code -Djmh.args="-prof
+ * gc"} to compare allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelDeserializationBenchmark {
+
+  @Param({"100", "5000"})
+  public int size;
+
+  private final Gson reflective = new Gson();
+  private final Gson generated = GsonFactory.create();
+  private String traces;
+  private String libraries;
+  private String single;
+
+  @Setup
+  public void setUp() {
+    traces = traces(size);
+    libraries = libraries(size);
+    single = traces(1);
+  }
+
+  @Benchmark
+  public Traces traces_reflective() {
+    return reflective.fromJson(traces, Traces.class);
+  }
+
+  @Benchmark
+  public Traces traces_generated() {
+    return generated.fromJson(traces, Traces.class);
+  }
+
+  @Benchmark
+  public Libraries libraries_reflective() {
+    return reflective.fromJson(libraries, Libraries.class);
+  }
+
+  @Benchmark
+  public Libraries libraries_generated() {
+    return generated.fromJson(libraries, Libraries.class);
+  }
+
+  /** Measures the one-time cost of preparing the adapters, which reflection makes expensive. */
+  @Benchmark
+  public Traces first_use_reflective() {
+    return new Gson().fromJson(single, Traces.class);
+  }
+
+  @Benchmark
+  public Traces first_use_generated() {
+    return GsonFactory.create().fromJson(single, Traces.class);
+  }
+
+  private static String traces(final int count) {
+    final StringBuilder json =
+        new StringBuilder("{\"count\":").append(count).append(",\"traces\":[");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"uuid\":\"ABCD-")
+          .append(i)
+          .append(
+              "\",\"title\":\"SQL Injection from \\\"id\\\" Parameter on \\\"/search\\\" page\"")
+          .append(
+              ",\"rule_name\":\"sql-injection\",\"severity\":\"Critical\",\"status\":\"Reported\"")
+          .append(",\"language\":\"Java\",\"likelihood\":\"High\",\"impact\":\"High\"")
+          .append(",\"confidence\":\"High\",\"category\":\"Injection\",\"platform\":\"Java\"")
+          .append(",\"hash\":\"")
+          .append(Integer.toHexString(i * 31))
+          .append("\",\"first_time_seen\":1600000000000,\"last_time_seen\":1700000000000")
+          .append(",\"total_traces_received\":42,\"visible\":true")
+          .append(",\"server_environments\":[\"PRODUCTION\",\"QA\"],\"tags\":[\"triage\"]")
+          .append(",\"application\":{\"app_id\":\"app-")
+          .append(i % 10)
+          .append("\",\"name\":\"WebGoat\",\"language\":\"Java\",\"importance\":2")
+          .append(",\"archived\":false,\"created\":1600000000000,\"path\":\"/WebGoat\"}}");
+    }
+    return json.append("]}").toString();
+  }
+
+  private static String libraries(final int count) {
+    final StringBuilder json =
+        new StringBuilder("{\"averageScoreLetter\":\"B\",\"averageScore\":80,\"libraries\":[");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"file_name\":\"library-")
+          .append(i)
+          .append(".jar\",\"version\":\"1.")
+          .append(i)
+          .append(".0\",\"library_id\":")
+          .append(i)
+          .append(",\"grade\":\"A\",\"hash\":\"")
+          .append(Integer.toHexString(i * 17))
+          .append("\",\"group\":\"com.example\",\"file_version\":\"1.0\"")
+          .append(",\"latest_version\":\"2.0\",\"release_date\":1500000000000")
+          .append(",\"latest_release_date\":1700000000000,\"class_count\":250")
+          .append(",\"classes_used\":17,\"total_vulnerabilities\":3,\"high_vulnerabilities\":1")
+          .append(",\"custom\":false,\"lib_score\":87.5,\"months_outdated\":14")
+          .append(",\"app_language\":\"Java\",\"manifest\":\"Manifest-Version: 1.0\"}");
+    }
+    return json.append("]}").toString();
+  }
+}
@@ -0,0 +1,113 @@
+package com.contrastsecurity.benchmarks;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.contrastsecurity.sdk.internal.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading and writing arrays of RFC 3339 timestamps with the {@code Instant} adapter of
+ * {@code GsonFactory} against an adapter that uses {@code DateTimeFormatter}, as {@code
+ * GsonFactory} once did. Run with {@code mvn -P jmh test-compile exec:exec}; add {@code
+ * -Djmh.args="-prof gc"} to compare allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampCodecBenchmark {
+
+  private static final int COUNT = 1000;
+
+  private final Gson formatter =
+      new GsonBuilder()
+          .registerTypeAdapter(Instant.class, new FormatterInstantTypeAdapter().nullSafe())
+          .create();
+  private final Gson codec = GsonFactory.create();
+  private String json;
+  private Instant[] instants;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(0);
+    instants = new Instant[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      instants[i] =
+          Instant.ofEpochSecond(
+              1_500_000_000L + random.nextInt(200_000_000), random.nextInt(1000) * 1_000_000);
+    }
+    json = formatter.toJson(instants);
+  }
+
+  @Benchmark
+  public Instant[] parse_formatter() {
+    return formatter.fromJson(json, Instant[].class);
+  }
+
+  @Benchmark
+  public Instant[] parse_codec() {
+    return codec.fromJson(json, Instant[].class);
+  }
+
+  @Benchmark
+  public String format_formatter() {
+    return formatter.toJson(instants);
+  }
+
+  @Benchmark
+  public String format_codec() {
+    return codec.toJson(instants);
+  }
+
+  private static final class FormatterInstantTypeAdapter extends TypeAdapter<Instant> {
+
+    @Override
+    public void write(final JsonWriter writer, final Instant value) throws IOException {
+      writer.value(DateTimeFormatter.ISO_INSTANT.format(value));
+    }
+
+    @Override
+    public Instant read(final JsonReader reader) throws IOException {
+      return Instant.from(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(reader.nextString()));
+    }
+  }
+}
@@ -146,4 +146,18 @@ final class LibraryFilterFormTest {
   public void severities_should_be_empty_by_default() {
     assertThat(form.getSeverities()).isEmpty();
   }
+
+  @Test
+  public void copy_should_produce_same_query() {
+    form.setQ("log4j");
+    form.setStatuses(Arrays.asList("CURRENT"));
+    form.setEnvironments(EnumSet.of(ServerEnvironment.QA));
+    form.setSeverities(Arrays.asList("HIGH"));
+    form.setIncludeUsed(true);
+    form.setSort("name");
+    form.setLimit(25);
+    form.setOffset(50);
+
+    assertThat(new LibraryFilterForm(form).toString()).isEqualTo(form.toString());
+  }
 }
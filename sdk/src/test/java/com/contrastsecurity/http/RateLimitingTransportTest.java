@@ -0,0 +1,183 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contrastsecurity.TestHttpServer;
+import java.io.IOException;
+import java.net.Proxy;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link RateLimitingTransport}. */
+final class RateLimitingTransportTest {
+
+  private TestHttpServer server;
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+  }
+
+  @AfterEach
+  void after() {
+    server.close();
+  }
+
+  @Test
+  void limits_rate_after_burst() throws IOException {
+    // GIVEN limiter that allows a burst of 2 requests and 20 requests per second thereafter
+    server.handle("/api/ng/org-id/rules", TestHttpServer.json("{}"));
+    final RateLimitingTransport transport =
+        limiter(RateLimitPolicy.builder().rate(20, 20, 20).burst(2));
+
+    // WHEN send more requests than the burst allows
+    final long start = System.nanoTime();
+    for (int i = 0; i < 6; i++) {
+      transport.send(get("/api/ng/org-id/rules")).close();
+    }
+
+    // THEN the surplus requests wait for the rate limit
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+        .isGreaterThanOrEqualTo(150);
+  }
+
+  @Test
+  void decreases_rate_on_too_many_requests() throws IOException {
+    // GIVEN server that throttles one organization
+    server.handle(
+        "/api/ng/busy-org/rules",
+        exchange -> {
+          exchange.sendResponseHeaders(429, -1);
+          exchange.close();
+        });
+    server.handle("/api/ng/idle-org/rules", TestHttpServer.json("{}"));
+    final RateLimitingTransport transport =
+        limiter(RateLimitPolicy.builder().rate(10, 1, 100).aimd(1, 0.5));
+
+    // WHEN send requests to both organizations
+    transport.send(get("/api/ng/busy-org/rules")).close();
+    transport.send(get("/api/ng/idle-org/rules")).close();
+
+    // THEN only the throttled organization's rate decreases
+    assertThat(transport.rate("busy-org")).isEqualTo(5);
+    assertThat(transport.rate("idle-org")).isGreaterThan(10);
+    assertThat(transport.organizations()).containsExactlyInAnyOrder("busy-org", "idle-org");
+    assertThat(transport.queueDepth("busy-org")).isZero();
+  }
+
+  @Test
+  void decreases_rate_on_slow_responses() throws IOException {
+    // GIVEN server that responds slowly
+    server.handle(
+        "/api/ng/org-id/rules",
+        exchange -> {
+          try {
+            Thread.sleep(50);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          TestHttpServer.json("{}").handle(exchange);
+        });
+    final RateLimitingTransport transport =
+        limiter(
+            RateLimitPolicy.builder()
+                .rate(10, 1, 100)
+                .aimd(1, 0.5)
+                .latencyThreshold(Duration.ofMillis(10)));
+
+    // WHEN send request
+    transport.send(get("/api/ng/org-id/rules")).close();
+
+    // THEN rate decreases
+    assertThat(transport.rate("org-id")).isEqualTo(5);
+  }
+
+  @Test
+  void does_not_count_wait_for_pooled_connection_as_latency() throws Exception {
+    // GIVEN limiter over a pool of one connection, which another request holds for a while
+    server.handle("/api/ng/org-id/rules", TestHttpServer.json("{}"));
+    final RateLimitingTransport transport =
+        new RateLimitingTransport(
+            URLConnectionTransport.pooled(Proxy.NO_PROXY, 1),
+            RateLimitPolicy.builder()
+                .rate(10, 1, 100)
+                .aimd(1, 0.5)
+                .latencyThreshold(Duration.ofMillis(50))
+                .build());
+    final TransportResponse held = transport.send(get("/api/ng/org-id/rules"));
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> waiting =
+          executor.submit(
+              () -> {
+                transport.send(get("/api/ng/org-id/rules")).close();
+                return null;
+              });
+
+      // WHEN the second request waits longer than the latency threshold for the connection
+      Thread.sleep(200);
+      held.close();
+      waiting.get(5, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // THEN neither response counts as slow, so the rate increases
+    assertThat(transport.rate("org-id")).isGreaterThan(10);
+  }
+
+  @Test
+  void extracts_organization_id() {
+    assertThat(RateLimitingTransport.organizationId("https://host/Contrast/api/ng/org-id/rules"))
+        .isEqualTo("org-id");
+    assertThat(
+            RateLimitingTransport.organizationId(
+                "https://host/Contrast/api/ng/integrations/organizations/org-id/applications"))
+        .isEqualTo("org-id");
+    assertThat(
+            RateLimitingTransport.organizationId(
+                "https://host/Contrast/api/sast/organizations/org-id/projects"))
+        .isEqualTo("org-id");
+    assertThat(
+            RateLimitingTransport.organizationId(
+                "https://host/Contrast/api/ng/profile/organizations/default"))
+        .isNull();
+    assertThat(
+            RateLimitingTransport.organizationId("https://host/Contrast/api/ng/global/properties"))
+        .isNull();
+  }
+
+  private RateLimitingTransport limiter(final RateLimitPolicy.Builder policy) {
+    return new RateLimitingTransport(URLConnectionTransport.create(Proxy.NO_PROXY), policy.build());
+  }
+
+  private TransportRequest get(final String path) {
+    return TransportRequest.builder(HttpMethod.GET, server.url() + path).build();
+  }
+}
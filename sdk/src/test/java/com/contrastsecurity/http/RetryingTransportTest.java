@@ -0,0 +1,226 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Proxy;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link RetryingTransport}. */
+final class RetryingTransportTest {
+
+  private TestHttpServer server;
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+  }
+
+  @AfterEach
+  void after() {
+    server.close();
+  }
+
+  @Test
+  void retries_until_success() throws IOException {
+    // GIVEN server that is unavailable for the first two attempts
+    final AtomicInteger attempts = new AtomicInteger();
+    server.handle("/flaky", failFirst(2, attempts));
+
+    // WHEN send request
+    final HttpTransport transport = retrying(RetryPolicy.builder().maxAttempts(3));
+    try (TransportResponse response = transport.send(get("/flaky"))) {
+      // THEN succeeds on the third attempt
+      assertThat(response.code()).isEqualTo(200);
+    }
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  void returns_last_failure_when_attempts_run_out() throws IOException {
+    // GIVEN server that is unavailable for more attempts than the policy allows
+    final AtomicInteger attempts = new AtomicInteger();
+    server.handle("/flaky", failFirst(5, attempts));
+
+    // WHEN send request
+    final HttpTransport transport = retrying(RetryPolicy.builder().maxAttempts(2));
+    try (TransportResponse response = transport.send(get("/flaky"))) {
+      // THEN receives the failure from the last attempt
+      assertThat(response.code()).isEqualTo(503);
+    }
+    assertThat(attempts).hasValue(2);
+  }
+
+  @Test
+  void does_not_retry_non_idempotent_methods() throws IOException {
+    // GIVEN server that is unavailable for the first attempt
+    final AtomicInteger attempts = new AtomicInteger();
+    server.handle("/flaky", failFirst(1, attempts));
+
+    // WHEN send POST request
+    final HttpTransport transport = retrying(RetryPolicy.builder());
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.POST, server.url() + "/flaky")
+            .body(RequestBody.of("{}", MediaType.JSON))
+            .build();
+    try (TransportResponse response = transport.send(request)) {
+      // THEN does not retry
+      assertThat(response.code()).isEqualTo(503);
+    }
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  void does_not_retry_when_retry_after_exceeds_budget() throws IOException {
+    // GIVEN server that asks the client to come back much later
+    final AtomicInteger attempts = new AtomicInteger();
+    server.handle(
+        "/throttled",
+        exchange -> {
+          attempts.incrementAndGet();
+          exchange.getResponseHeaders().set("Retry-After", "3600");
+          exchange.sendResponseHeaders(429, -1);
+          exchange.close();
+        });
+
+    // WHEN send request
+    final HttpTransport transport =
+        retrying(RetryPolicy.builder().maxRetryTime(Duration.ofSeconds(5)));
+    try (TransportResponse response = transport.send(get("/throttled"))) {
+      // THEN gives up right away instead of waiting an hour
+      assertThat(response.code()).isEqualTo(429);
+    }
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  void does_not_retry_past_deadline() throws IOException {
+    // GIVEN server that asks the client to come back in 10 seconds
+    final AtomicInteger attempts = new AtomicInteger();
+    server.handle(
+        "/throttled",
+        exchange -> {
+          attempts.incrementAndGet();
+          exchange.getResponseHeaders().set("Retry-After", "10");
+          exchange.sendResponseHeaders(503, -1);
+          exchange.close();
+        });
+
+    // WHEN send request whose deadline is sooner than that
+    final HttpTransport transport = retrying(RetryPolicy.builder());
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.GET, server.url() + "/throttled")
+            .deadline(Deadline.after(Duration.ofSeconds(5)))
+            .build();
+    try (TransportResponse response = transport.send(request)) {
+      // THEN returns the failure rather than waiting past the deadline
+      assertThat(response.code()).isEqualTo(503);
+    }
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  void throttle_stops_retries_during_outage() throws IOException {
+    // GIVEN server that is down
+    final AtomicInteger attempts = new AtomicInteger();
+    server.handle("/down", failFirst(Integer.MAX_VALUE, attempts));
+    final RetryingTransport transport =
+        new RetryingTransport(
+            URLConnectionTransport.create(Proxy.NO_PROXY),
+            RetryPolicy.builder()
+                .maxAttempts(10)
+                .backoff(Duration.ZERO, Duration.ZERO, 1)
+                .throttle(4, 0.1)
+                .build());
+
+    // WHEN send several requests
+    for (int i = 0; i < 5; i++) {
+      transport.send(get("/down")).close();
+    }
+
+    // THEN throttle limits retries to far fewer than 10 attempts per request
+    assertThat(attempts.get()).isLessThan(10);
+    assertThat(transport.throttleTokens()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void retries_connection_failures() {
+    // GIVEN transport that fails to connect
+    final AtomicInteger attempts = new AtomicInteger();
+    final HttpTransport failing =
+        request -> {
+          attempts.incrementAndGet();
+          throw new ConnectException("Connection refused");
+        };
+    final HttpTransport transport =
+        new RetryingTransport(
+            failing,
+            RetryPolicy.builder().maxAttempts(3).backoff(Duration.ZERO, Duration.ZERO, 1).build());
+
+    // WHEN send request THEN throws the last failure after exhausting attempts
+    assertThatThrownBy(() -> transport.send(get("/any"))).isInstanceOf(ConnectException.class);
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  void parses_retry_after() {
+    assertThat(RetryingTransport.retryAfterMillis("120")).isEqualTo(120_000L);
+    assertThat(RetryingTransport.retryAfterMillis("-1")).isEqualTo(0L);
+    assertThat(RetryingTransport.retryAfterMillis("garbage")).isNull();
+    assertThat(RetryingTransport.retryAfterMillis(null)).isNull();
+    final String date =
+        DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusMinutes(1));
+    assertThat(RetryingTransport.retryAfterMillis(date)).isBetween(1L, 60_000L);
+  }
+
+  private HttpTransport retrying(final RetryPolicy.Builder policy) {
+    return new RetryingTransport(
+        URLConnectionTransport.create(Proxy.NO_PROXY),
+        policy.backoff(Duration.ofMillis(1), Duration.ofMillis(5), 2).build());
+  }
+
+  private TransportRequest get(final String path) {
+    return TransportRequest.builder(HttpMethod.GET, server.url() + path).build();
+  }
+
+  private static com.sun.net.httpserver.HttpHandler failFirst(
+      final int failures, final AtomicInteger attempts) {
+    return exchange -> {
+      if (attempts.incrementAndGet() <= failures) {
+        exchange.sendResponseHeaders(503, -1);
+        exchange.close();
+      } else {
+        TestHttpServer.json("{}").handle(exchange);
+      }
+    };
+  }
+}
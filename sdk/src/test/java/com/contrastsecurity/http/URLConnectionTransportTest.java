@@ -0,0 +1,324 @@
+package com.contrastsecurity.http;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.contrastsecurity.TestHttpServer;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link URLConnectionTransport}. */
+final class URLConnectionTransportTest {
+
+  private TestHttpServer server;
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+  }
+
+  @AfterEach
+  void after() {
+    server.close();
+  }
+
+  @Test
+  void sends_headers_and_body() throws IOException {
+    // GIVEN server that echoes the request body and captures the request headers
+    final AtomicReference<String> apiKey = new AtomicReference<>();
+    final AtomicReference<String> contentType = new AtomicReference<>();
+    server.handle(
+        "/echo",
+        exchange -> {
+          apiKey.set(exchange.getRequestHeaders().getFirst("API-Key"));
+          contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+          final byte[] body = read(exchange.getRequestBody()).getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+          }
+        });
+
+    // WHEN send request with a body
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.POST, server.url() + "/echo")
+            .header("API-Key", "api-key")
+            .body(RequestBody.of("{\"foo\":\"bar\"}", MediaType.JSON))
+            .build();
+    final HttpTransport transport = URLConnectionTransport.create(Proxy.NO_PROXY);
+    try (TransportResponse response = transport.send(request)) {
+      // THEN server receives headers and body
+      assertThat(response.code()).isEqualTo(200);
+      assertThat(read(response.body())).isEqualTo("{\"foo\":\"bar\"}");
+    }
+    assertThat(apiKey).hasValue("api-key");
+    assertThat(contentType).hasValue(MediaType.JSON.getType());
+  }
+
+  @Test
+  void streams_json_body_in_chunks() throws IOException {
+    // GIVEN server that echoes the request body and captures the transfer encoding
+    final AtomicReference<String> transferEncoding = new AtomicReference<>();
+    server.handle(
+        "/echo",
+        exchange -> {
+          transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+          final byte[] body = read(exchange.getRequestBody()).getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+          }
+        });
+
+    // WHEN send request with a JSON body that Gson writes to the connection
+    final Map<String, List<String>> filter =
+        Collections.singletonMap("servers", Arrays.asList("1", "2"));
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.POST, server.url() + "/echo")
+            .body(RequestBody.json(new Gson(), filter))
+            .build();
+    final HttpTransport transport = URLConnectionTransport.create(Proxy.NO_PROXY);
+    try (TransportResponse response = transport.send(request)) {
+      // THEN server receives the serialized object in chunks
+      assertThat(read(response.body())).isEqualTo("{\"servers\":[\"1\",\"2\"]}");
+    }
+    assertThat(transferEncoding).hasValue("chunked");
+  }
+
+  @Test
+  void decodes_gzip_responses() throws IOException {
+    // GIVEN server that compresses responses for clients that accept gzip
+    final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    server.handle(
+        "/compressed",
+        exchange -> {
+          acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+          final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+          try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8));
+          }
+          exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+          exchange.sendResponseHeaders(200, compressed.size());
+          try (OutputStream os = exchange.getResponseBody()) {
+            compressed.writeTo(os);
+          }
+        });
+
+    // WHEN send request
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.GET, server.url() + "/compressed").build();
+    final HttpTransport transport = URLConnectionTransport.create(Proxy.NO_PROXY);
+    try (TransportResponse response = transport.send(request)) {
+      // THEN transport negotiates compression and decodes the body
+      assertThat(read(response.body())).isEqualTo("{\"foo\":\"bar\"}");
+      assertThat(response.header("Content-Encoding")).isNull();
+    }
+    assertThat(acceptEncoding).hasValue("gzip, deflate");
+  }
+
+  @Test
+  void decodes_deflate_responses() throws IOException {
+    // GIVEN server that sends a raw deflate body, without the zlib header HTTP calls for
+    server.handle(
+        "/compressed",
+        exchange -> {
+          final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+          try (OutputStream deflate =
+              new DeflaterOutputStream(
+                  compressed, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+            deflate.write("{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8));
+          }
+          exchange.getResponseHeaders().set("Content-Encoding", "deflate");
+          exchange.sendResponseHeaders(200, compressed.size());
+          try (OutputStream os = exchange.getResponseBody()) {
+            compressed.writeTo(os);
+          }
+        });
+
+    // WHEN send request
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.GET, server.url() + "/compressed").build();
+    final HttpTransport transport = URLConnectionTransport.create(Proxy.NO_PROXY);
+    try (TransportResponse response = transport.send(request)) {
+      // THEN transport decodes the body
+      assertThat(read(response.body())).isEqualTo("{\"foo\":\"bar\"}");
+    }
+  }
+
+  @Test
+  void aborts_slow_response_at_deadline() throws IOException {
+    // GIVEN server that drips its response one byte at a time
+    server.handle("/slow", dripping());
+
+    // WHEN send request with a deadline
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.GET, server.url() + "/slow")
+            .readTimeout(60_000)
+            .deadline(Deadline.after(Duration.ofMillis(300)))
+            .build();
+    final HttpTransport transport = URLConnectionTransport.create(Proxy.NO_PROXY);
+
+    // THEN fails soon after the deadline even though every read completes within the read timeout
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5),
+        () ->
+            assertThatThrownBy(
+                    () -> {
+                      try (TransportResponse response = transport.send(request)) {
+                        read(response.body());
+                      }
+                    })
+                .isInstanceOf(DeadlineExceededException.class));
+  }
+
+  @Test
+  void aborts_response_when_cancelled() throws IOException {
+    // GIVEN server that drips its response one byte at a time
+    server.handle("/slow", dripping());
+
+    // WHEN cancel request while reading the response
+    final CancellationToken token = CancellationToken.create();
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.GET, server.url() + "/slow")
+            .cancellation(token)
+            .build();
+    final HttpTransport transport = URLConnectionTransport.create(Proxy.NO_PROXY);
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    try {
+      scheduler.schedule(token::cancel, 200, TimeUnit.MILLISECONDS);
+
+      // THEN fails with cancellation
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(5),
+          () ->
+              assertThatThrownBy(
+                      () -> {
+                        try (TransportResponse response = transport.send(request)) {
+                          read(response.body());
+                        }
+                      })
+                  .isInstanceOf(CallCancelledException.class));
+    } finally {
+      scheduler.shutdownNow();
+    }
+
+    // AND requests with the cancelled token fail at once
+    assertThatThrownBy(() -> transport.send(request)).isInstanceOf(CallCancelledException.class);
+  }
+
+  @Test
+  void returns_error_responses() throws IOException {
+    // GIVEN server that fails with a body
+    server.handle(
+        "/fails",
+        exchange -> {
+          final byte[] body = "nope".getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(503, body.length);
+          try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+          }
+        });
+
+    // WHEN send request
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.GET, server.url() + "/fails").build();
+    final HttpTransport transport = URLConnectionTransport.create(Proxy.NO_PROXY);
+    try (TransportResponse response = transport.send(request)) {
+      // THEN response has error status and body
+      assertThat(response.code()).isEqualTo(503);
+      assertThat(response.status()).isEqualTo("Service Unavailable");
+      assertThat(read(response.body())).isEqualTo("nope");
+    }
+  }
+
+  @Test
+  void pooled_transport_releases_connections_when_responses_close() {
+    // GIVEN pooled transport that allows a single connection at a time
+    server.handle("/ok", TestHttpServer.json("{}"));
+    final HttpTransport transport = URLConnectionTransport.pooled(Proxy.NO_PROXY, 1);
+    final TransportRequest request =
+        TransportRequest.builder(HttpMethod.GET, server.url() + "/ok").build();
+
+    // WHEN send more requests than there are connections
+    // THEN does not block, because closing each response releases its connection
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> {
+          for (int i = 0; i < 5; i++) {
+            try (InputStream is = transport.send(request).body()) {
+              assertThat(read(is)).isEqualTo("{}");
+            }
+          }
+        });
+  }
+
+  /**
+   * @return handler that sends a long response one byte every 50ms
+   */
+  private static HttpHandler dripping() {
+    return exchange -> {
+      exchange.sendResponseHeaders(200, 0);
+      try (OutputStream os = exchange.getResponseBody()) {
+        for (int i = 0; i < 200; i++) {
+          os.write('x');
+          os.flush();
+          Thread.sleep(50);
+        }
+      } catch (final InterruptedException | IOException e) {
+        // client went away
+      }
+    };
+  }
+
+  private static String read(final InputStream is) throws IOException {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[4096];
+    int read;
+    while ((read = is.read(buffer)) > 0) {
+      bos.write(buffer, 0, read);
+    }
+    return bos.toString(StandardCharsets.UTF_8.name());
+  }
+}
@@ -164,6 +164,20 @@ final class UrlBuilderTest {
         .isEqualTo(expectedUrl);
   }
 
+  @Test
+  public void testGetTracesWithBodyUrlWithPage() {
+    String expectedUrl =
+        "/ng/test-org/traces/test-app/filter?expand=session_metadata&limit=25&offset=50";
+
+    EnumSet<TraceFilterForm.TraceExpandValue> expand =
+        EnumSet.of(TraceFilterForm.TraceExpandValue.SESSION_METADATA);
+
+    assertThat(urlBuilder.getTracesWithBodyUrl(organizationId, applicationId, expand, 50, 25))
+        .isEqualTo(expectedUrl);
+    assertThat(urlBuilder.getTracesWithBodyUrl(organizationId, applicationId, null, 0, 25))
+        .isEqualTo("/ng/test-org/traces/test-app/filter?limit=25&offset=0");
+  }
+
   @Test
   public void testGetTracesWithBodyUrlWithMultipleExpand() {
     String expectedUrl = "/ng/test-org/traces/test-app/filter?expand=servers,session_metadata";
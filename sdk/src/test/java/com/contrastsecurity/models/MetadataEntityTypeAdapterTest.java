@@ -0,0 +1,130 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@link MetadataEntityTypeAdapter}. The adapter must read the same values as the
+ * {@link com.contrastsecurity.utils.MetadataDeserializer} it replaces, so most tests compare the
+ * two.
+ */
+@SuppressWarnings("deprecation")
+final class MetadataEntityTypeAdapterTest {
+
+  private static final Gson TREE =
+      new GsonBuilder()
+          .registerTypeAdapter(
+              MetadataEntity.class, new com.contrastsecurity.utils.MetadataDeserializer())
+          .create();
+  private static final Gson STREAMING =
+      new GsonBuilder()
+          .registerTypeAdapter(MetadataEntity.class, new MetadataEntityTypeAdapter())
+          .create();
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{\"fieldName\":\"bU\",\"fieldValue\":\"PEDS\",\"type\":\"STRING\"}",
+        "{\"type\":\"STRING\",\"fieldName\":\"bU\",\"fieldValue\":\"PEDS\",\"unique\":true}",
+        "{\"type\":\"STRING\",\"fieldName\":\"count\",\"fieldValue\":42}",
+        "{\"type\":\"STRING\",\"fieldName\":\"flag\",\"fieldValue\":true}",
+        "{\"type\":\"STRING\",\"fieldName\":\"empty\",\"fieldValue\":null}",
+        "{\"fieldName\":\"askId\",\"fieldValue\":\"123456789\",\"type\":\"NUMERIC\"}",
+        "{\"type\":\"NUMERIC\",\"fieldName\":\"askId\",\"fieldValue\":123456789}",
+        "{\"type\":\"NUMERIC\",\"fieldName\":\"askId\",\"fieldValue\":1.0E3}",
+        "{\"type\":\"NUMERIC\",\"fieldName\":\"askId\"}",
+        "{\"fieldName\":\"Contact\",\"fieldValue\":\"\",\"type\":\"PERSON_OF_CONTACT\",\"unique\":false,"
+            + "\"subfields\":[{\"fieldName\":\"Contact Name\",\"fieldValue\":\"Contrast User\","
+            + "\"type\":\"CONTACT_NAME\"},{\"fieldName\":\"Contact Email\","
+            + "\"fieldValue\":\"support@contrastsecurity.com\",\"type\":\"EMAIL\"},"
+            + "{\"fieldName\":\"Contact Phone\",\"fieldValue\":\"1234567890\",\"type\":\"PHONE\"}]}",
+        "{\"subfields\":[{\"type\":\"PHONE\",\"fieldValue\":5551234},{\"type\":\"FAX\","
+            + "\"fieldValue\":\"ignored\"}],\"type\":\"PERSON_OF_CONTACT\",\"fieldName\":\"Owner\"}",
+        "{\"type\":\"DATE\",\"fieldName\":\"released\",\"fieldValue\":\"2020-01-01\"}",
+        "{\"fieldName\":\"untyped\",\"fieldValue\":\"value\"}"
+      })
+  void reads_like_metadata_deserializer(final String json) {
+    // WHEN read with each adapter
+    final MetadataEntity tree = TREE.fromJson(json, MetadataEntity.class);
+    final MetadataEntity streaming = STREAMING.fromJson(json, MetadataEntity.class);
+
+    // THEN both produce the same subclass with the same values
+    if (tree == null) {
+      assertThat(streaming).isNull();
+    } else {
+      assertThat(streaming).isExactlyInstanceOf(tree.getClass());
+      assertThat(streaming).usingRecursiveComparison().isEqualTo(tree);
+    }
+  }
+
+  @Test
+  void reads_metadata_of_applications() {
+    // GIVEN applications whose metadata declares its type after its values
+    final String json =
+        "{\"applications\":[{\"app_id\":\"app\",\"metadataEntities\":["
+            + "{\"fieldName\":\"bU\",\"fieldValue\":\"PEDS\",\"type\":\"STRING\"},"
+            + "{\"fieldName\":\"askId\",\"fieldValue\":\"7\",\"type\":\"NUMERIC\"}]}]}";
+
+    // WHEN read
+    final Applications applications = STREAMING.fromJson(json, Applications.class);
+
+    // THEN each entry has the subclass for its type
+    final MetadataEntity[] entities = applications.getApplications().get(0).getMetadataEntities();
+    assertThat(entities).hasSize(2);
+    assertThat(((FreeformMetadata) entities[0]).getFieldValue()).isEqualTo("PEDS");
+    assertThat(((NumericMetadata) entities[1]).getFieldValue()).isEqualTo(7L);
+  }
+
+  @Test
+  void writes_values_it_reads() {
+    // GIVEN a point of contact
+    final PointOfContactMetadata contact = new PointOfContactMetadata();
+    contact.setFieldName("Contact");
+    contact.setContactName("Contrast User");
+    contact.setEmail("support@contrastsecurity.com");
+
+    // WHEN written and read back
+    final MetadataEntity read =
+        STREAMING.fromJson(STREAMING.toJson(contact, MetadataEntity.class), MetadataEntity.class);
+
+    // THEN the values survive
+    assertThat(read).usingRecursiveComparison().isEqualTo(contact);
+  }
+
+  @Test
+  void rejects_numeric_value_that_is_not_a_whole_number() {
+    final String json = "{\"type\":\"NUMERIC\",\"fieldName\":\"askId\",\"fieldValue\":\"1.5\"}";
+
+    assertThatThrownBy(() -> STREAMING.fromJson(json, MetadataEntity.class))
+        .isInstanceOf(JsonSyntaxException.class);
+    assertThatThrownBy(() -> TREE.fromJson(json, MetadataEntity.class))
+        .isInstanceOf(JsonSyntaxException.class);
+  }
+}
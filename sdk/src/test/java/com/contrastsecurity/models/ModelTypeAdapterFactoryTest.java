@@ -0,0 +1,187 @@
+package com.contrastsecurity.models;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Unit tests for {@link ModelTypeAdapterFactory}. Each adapter must read and write its model
+ * exactly as Gson's reflective adapter does, so the tests compare the two on randomly generated
+ * payloads that exercise every field.
+ */
+final class ModelTypeAdapterFactoryTest {
+
+  private static final Gson REFLECTIVE = new Gson();
+  private static final Gson GENERATED =
+      new GsonBuilder().registerTypeAdapterFactory(new ModelTypeAdapterFactory()).create();
+
+  static Stream<Class<?>> models() {
+    return Stream.of(
+        Trace.class,
+        Traces.class,
+        Library.class,
+        Libraries.class,
+        Application.class,
+        Applications.class,
+        Server.class,
+        Servers.class);
+  }
+
+  @ParameterizedTest
+  @MethodSource("models")
+  void reads_and_writes_like_reflective_adapter(final Class<?> type) {
+    final Random random = new Random(type.getName().hashCode());
+    for (int i = 0; i < 50; i++) {
+      // GIVEN random payload for the model
+      final String json = randomObject(type, random, 2).toString();
+
+      // WHEN read with each adapter
+      final Object reflective = REFLECTIVE.fromJson(json, type);
+      final Object generated = GENERATED.fromJson(json, type);
+
+      // THEN both produce the same object, and write it the same way
+      assertThat(REFLECTIVE.toJson(generated)).isEqualTo(REFLECTIVE.toJson(reflective));
+      assertThat(GENERATED.toJson(generated)).isEqualTo(REFLECTIVE.toJson(reflective));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("models")
+  void rejects_values_of_the_wrong_type(final Class<?> type) {
+    // GIVEN payload whose first field is an object although it should be a scalar or array
+    final String name = serializedName(type.getDeclaredFields()[0]);
+    final String json = "{\"" + name + "\":{\"nested\":true}}";
+
+    // WHEN read THEN both adapters report a syntax error
+    assertThatThrownBy(() -> REFLECTIVE.fromJson(json, type))
+        .isInstanceOf(JsonSyntaxException.class);
+    assertThatThrownBy(() -> GENERATED.fromJson(json, type))
+        .isInstanceOf(JsonSyntaxException.class);
+  }
+
+  /**
+   * Builds a JSON object with a random value, or {@code null}, for each serialized field of the
+   * given model. Nested models are generated recursively down to the given depth; other nested
+   * types are left empty.
+   */
+  private static JsonObject randomObject(
+      final Class<?> type, final Random random, final int depth) {
+    final JsonObject object = new JsonObject();
+    for (final Field field : type.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers()) || random.nextInt(10) == 0) {
+        continue;
+      }
+      object.add(serializedName(field), randomValue(field, random, depth));
+    }
+    if (random.nextBoolean()) {
+      object.addProperty("unknown_field", random.nextInt());
+    }
+    return object;
+  }
+
+  private static JsonElement randomValue(final Field field, final Random random, final int depth) {
+    if (random.nextInt(8) == 0) {
+      return JsonNull.INSTANCE;
+    }
+    final Class<?> type = field.getType();
+    if (type == String.class) {
+      return random.nextInt(4) == 0
+          ? new JsonPrimitive(random.nextBoolean())
+          : new JsonPrimitive("s" + random.nextInt());
+    }
+    if (type == int.class || type == Integer.class) {
+      return random.nextInt(4) == 0
+          ? new JsonPrimitive(Integer.toString(random.nextInt()))
+          : new JsonPrimitive(random.nextInt());
+    }
+    if (type == long.class || type == Long.class) {
+      return new JsonPrimitive(random.nextLong());
+    }
+    if (type == double.class) {
+      return new JsonPrimitive(random.nextDouble() * 100);
+    }
+    if (type == boolean.class) {
+      return random.nextInt(4) == 0
+          ? new JsonPrimitive(Boolean.toString(random.nextBoolean()))
+          : new JsonPrimitive(random.nextBoolean());
+    }
+    if (type == String[].class) {
+      return randomStrings(random);
+    }
+    if (type == List.class) {
+      final Class<?> element =
+          (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+      if (element == String.class) {
+        return randomStrings(random);
+      }
+      final JsonArray array = new JsonArray();
+      if (depth > 0 && isModel(element)) {
+        for (int i = random.nextInt(3); i > 0; i--) {
+          array.add(randomObject(element, random, depth - 1));
+        }
+      }
+      return array;
+    }
+    if (type.isArray()) {
+      return new JsonArray();
+    }
+    if (depth > 0 && isModel(type)) {
+      return randomObject(type, random, depth - 1);
+    }
+    return new JsonObject();
+  }
+
+  private static JsonArray randomStrings(final Random random) {
+    final JsonArray array = new JsonArray();
+    for (int i = random.nextInt(3); i > 0; i--) {
+      array.add("s" + random.nextInt());
+    }
+    return array;
+  }
+
+  private static boolean isModel(final Class<?> type) {
+    return models().anyMatch(type::equals);
+  }
+
+  private static String serializedName(final Field field) {
+    final SerializedName annotation = field.getAnnotation(SerializedName.class);
+    return annotation == null ? field.getName() : annotation.value();
+  }
+}
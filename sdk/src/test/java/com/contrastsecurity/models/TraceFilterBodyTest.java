@@ -26,6 +26,7 @@ import com.contrastsecurity.http.RuleSeverity;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import java.util.Collections;
+import java.util.Date;
 import org.junit.jupiter.api.Test;
 
 public class TraceFilterBodyTest {
@@ -79,4 +80,20 @@ public class TraceFilterBodyTest {
     assertThat(jsonObject.has("severities")).isTrue();
     assertThat(jsonObject.has("appVersionTags")).isTrue();
   }
+
+  @Test
+  public void dates_should_be_serialized_as_epoch_millis() {
+    // GIVEN a TraceFilterBody with a start date
+    TraceFilterBody body = new TraceFilterBody();
+    body.setStartDate(new Date(1_700_000_000_000L));
+
+    // WHEN serialized to JSON and read back
+    JsonObject jsonObject = gson.fromJson(gson.toJson(body), JsonObject.class);
+    TraceFilterBody read = gson.fromJson(jsonObject, TraceFilterBody.class);
+
+    // THEN the start date is milliseconds since the epoch, and the end date is omitted
+    assertThat(jsonObject.get("startDate").getAsLong()).isEqualTo(1_700_000_000_000L);
+    assertThat(jsonObject.has("endDate")).isFalse();
+    assertThat(read.getStartDate()).isEqualTo(body.getStartDate());
+  }
 }
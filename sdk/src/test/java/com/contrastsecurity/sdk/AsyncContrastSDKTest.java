@@ -0,0 +1,93 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.exceptions.ResourceNotFoundException;
+import com.contrastsecurity.models.Rules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link AsyncContrastSDK}. */
+final class AsyncContrastSDKTest {
+
+  private TestHttpServer server;
+  private ExecutorService executor;
+  private AsyncContrastSDK sdk;
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+    executor = Executors.newFixedThreadPool(4);
+    sdk =
+        new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+            .withApiUrl(server.url() + "/Contrast/api")
+            .withConnectionPool(4)
+            .buildAsync(executor);
+  }
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+    server.close();
+  }
+
+  @Test
+  void completes_many_calls_on_few_threads() {
+    // GIVEN server that returns rules
+    server.handle(
+        "/Contrast/api/ng/org-id/rules",
+        TestHttpServer.json("{\"rules\":[{\"name\":\"sql-injection\"}]}"));
+
+    // WHEN make more calls than there are threads
+    final List<CompletableFuture<Rules>> futures = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      futures.add(sdk.getRules("org-id"));
+    }
+
+    // THEN every call completes with the parsed result
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    for (final CompletableFuture<Rules> future : futures) {
+      assertThat(future.join().getRules()).hasSize(1);
+    }
+  }
+
+  @Test
+  void completes_exceptionally_with_sdk_exception() {
+    // WHEN request a resource that does not exist
+    final CompletableFuture<Rules> future = sdk.getRules("missing");
+
+    // THEN future fails with the exception the synchronous SDK throws
+    assertThatThrownBy(future::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ResourceNotFoundException.class);
+  }
+}
@@ -0,0 +1,249 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.exceptions.HttpResponseException;
+import com.contrastsecurity.models.Trace;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link BulkIterator}. */
+final class BulkIteratorTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void before() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void limits_requests_in_flight() throws IOException {
+    // GIVEN 50 keys whose requests take a moment each
+    final List<Integer> keys = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    // WHEN request them with a concurrency of 4
+    final List<Integer> results = new ArrayList<>();
+    try (BulkIterator<Integer, Integer> iterator =
+        BulkIterator.open(
+            keys,
+            4,
+            executor,
+            key -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              Thread.sleep(2);
+              inFlight.decrementAndGet();
+              return key * 10;
+            })) {
+      iterator.forEachRemaining(result -> results.add(result.value()));
+    }
+
+    // THEN yields the result of every key, with no more than 4 requests at once
+    assertThat(results)
+        .containsExactlyInAnyOrderElementsOf(
+            keys.stream().map(key -> key * 10).collect(Collectors.toList()));
+    assertThat(maxInFlight.get()).isBetween(1, 4);
+  }
+
+  @Test
+  void yields_results_in_completion_order() throws InterruptedException {
+    // GIVEN a request for the first key that completes only once the second has been consumed
+    final CountDownLatch secondConsumed = new CountDownLatch(1);
+    final BulkIterator<String, String> iterator =
+        BulkIterator.open(
+            Arrays.asList("slow", "fast"),
+            2,
+            executor,
+            key -> {
+              if (key.equals("slow")) {
+                assertThat(secondConsumed.await(5, TimeUnit.SECONDS)).isTrue();
+              }
+              return key.toUpperCase();
+            });
+
+    // WHEN consume the results THEN the fast result comes first
+    assertThat(iterator.next().value()).isEqualTo("FAST");
+    secondConsumed.countDown();
+    assertThat(iterator.next().value()).isEqualTo("SLOW");
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  void captures_failure_of_each_key() {
+    // GIVEN a request that fails for odd keys
+    final BulkIterator<Integer, Integer> iterator =
+        BulkIterator.open(
+            Arrays.asList(1, 2, 3, 4),
+            2,
+            executor,
+            key -> {
+              if (key % 2 == 1) {
+                throw new IOException("failed " + key);
+              }
+              return key;
+            });
+
+    // WHEN consume the results
+    final List<BulkResult<Integer, Integer>> results = new ArrayList<>();
+    iterator.forEachRemaining(results::add);
+
+    // THEN each failure is reported with its key, and the other keys succeed
+    assertThat(results).hasSize(4);
+    assertThat(results.stream().filter(BulkResult::succeeded).map(BulkResult::value))
+        .containsExactlyInAnyOrder(2, 4);
+    assertThat(results.stream().filter(result -> !result.succeeded()))
+        .allSatisfy(
+            result ->
+                assertThat(result.error())
+                    .isInstanceOf(IOException.class)
+                    .hasMessage("failed " + result.key()));
+  }
+
+  @Test
+  void does_not_request_keys_after_close() throws InterruptedException {
+    // GIVEN 100 keys requested one at a time, the first of which blocks
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger requests = new AtomicInteger();
+    final BulkIterator<Integer, Integer> iterator =
+        BulkIterator.open(
+            IntStream.range(0, 100).boxed().collect(Collectors.toList()),
+            1,
+            executor,
+            key -> {
+              requests.incrementAndGet();
+              release.await();
+              return key;
+            });
+
+    // WHEN closed while the first request is in flight
+    iterator.close();
+    release.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+    // THEN no further key was requested
+    assertThat(requests.get()).isLessThanOrEqualTo(1);
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  void stops_requesting_while_outcomes_are_not_consumed() throws InterruptedException {
+    // GIVEN 100 keys requested two at a time
+    final AtomicInteger requests = new AtomicInteger();
+    final BulkIterator<Integer, Integer> iterator =
+        BulkIterator.open(
+            IntStream.range(0, 100).boxed().collect(Collectors.toList()),
+            2,
+            executor,
+            key -> {
+              requests.incrementAndGet();
+              return key;
+            });
+
+    // WHEN the caller does not consume the outcomes
+    Thread.sleep(200);
+
+    // THEN only two outcomes are queued and two more wait to be, until the iterator is closed
+    assertThat(requests.get()).isEqualTo(4);
+    iterator.close();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(requests.get()).isEqualTo(4);
+  }
+
+  @Test
+  void rejects_non_positive_concurrency() {
+    assertThatThrownBy(
+            () -> BulkIterator.open(Collections.singletonList(1), 0, executor, key -> key))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void gets_traces_by_id_from_sdk() throws IOException {
+    // GIVEN server with traces T-0 to T-9, except T-5
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/traces/app-id/filter/",
+          exchange -> {
+            final String path = exchange.getRequestURI().getPath();
+            final String traceId = path.substring(path.lastIndexOf('/') + 1);
+            if (traceId.equals("T-5")) {
+              exchange.sendResponseHeaders(404, -1);
+              exchange.close();
+              return;
+            }
+            TestHttpServer.json("{\"success\":true,\"trace\":{\"uuid\":\"" + traceId + "\"}}")
+                .handle(exchange);
+          });
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .build();
+      final List<String> ids =
+          IntStream.range(0, 10).mapToObj(i -> "T-" + i).collect(Collectors.toList());
+
+      // WHEN get the traces with a concurrency of 3
+      final List<BulkResult<String, Trace>> results = new ArrayList<>();
+      try (CloseableIterator<BulkResult<String, Trace>> traces =
+          sdk.getTracesById("org-id", "app-id", ids, null, 3, executor)) {
+        traces.forEachRemaining(results::add);
+      }
+
+      // THEN yields every trace that exists, and the failure of the one that does not
+      assertThat(results)
+          .filteredOn(BulkResult::succeeded)
+          .extracting(result -> result.value().getUuid())
+          .containsExactlyInAnyOrder("T-0", "T-1", "T-2", "T-3", "T-4", "T-6", "T-7", "T-8", "T-9");
+      assertThat(results)
+          .filteredOn(result -> !result.succeeded())
+          .singleElement()
+          .satisfies(
+              result -> {
+                assertThat(result.key()).isEqualTo("T-5");
+                assertThat(result.error()).isInstanceOf(HttpResponseException.class);
+              });
+    }
+  }
+}
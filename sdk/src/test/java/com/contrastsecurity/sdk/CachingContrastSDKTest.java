@@ -0,0 +1,182 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.exceptions.ResourceNotFoundException;
+import com.contrastsecurity.models.Rules;
+import com.sun.net.httpserver.HttpHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link CachingContrastSDK}. */
+final class CachingContrastSDKTest {
+
+  private TestHttpServer server;
+  private ContrastSDK sdk;
+  private AtomicInteger fetches;
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+    sdk =
+        new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+            .withApiUrl(server.url() + "/Contrast/api")
+            .build();
+    fetches = new AtomicInteger();
+  }
+
+  @AfterEach
+  void after() {
+    server.close();
+  }
+
+  @Test
+  void caches_results_until_they_expire() throws Exception {
+    // GIVEN cache with a long time-to-live for rules
+    server.handle("/Contrast/api/ng/org-id/rules", counting(TestHttpServer.json(RULES)));
+    final CachingContrastSDK cache =
+        CachingContrastSDK.builder(sdk)
+            .ttl(CachingContrastSDK.Operation.RULES, Duration.ofMinutes(1))
+            .build();
+
+    // WHEN get rules three times
+    final Rules first = cache.getRules("org-id");
+    cache.getRules("org-id");
+    final Rules third = cache.getRules("org-id");
+
+    // THEN fetches rules once
+    assertThat(third).isSameAs(first);
+    assertThat(fetches).hasValue(1);
+    final CacheStats stats = cache.stats();
+    assertThat(stats.misses()).isEqualTo(1);
+    assertThat(stats.hits()).isEqualTo(2);
+  }
+
+  @Test
+  void coalesces_concurrent_calls() throws Exception {
+    // GIVEN slow server
+    final HttpHandler json = TestHttpServer.json(RULES);
+    server.handle(
+        "/Contrast/api/ng/org-id/rules",
+        counting(
+            exchange -> {
+              try {
+                Thread.sleep(200);
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              json.handle(exchange);
+            }));
+    final CachingContrastSDK cache = CachingContrastSDK.builder(sdk).build();
+
+    // WHEN many threads get rules at once
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Rules>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> cache.getRules("org-id")));
+      }
+      for (final Future<Rules> future : futures) {
+        assertThat(future.get().getRules()).hasSize(1);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // THEN fetches rules once
+    assertThat(fetches).hasValue(1);
+  }
+
+  @Test
+  void returns_stale_result_while_refreshing() throws Exception {
+    // GIVEN cache whose rules expire immediately but may be served stale for a minute
+    server.handle("/Contrast/api/ng/org-id/rules", counting(TestHttpServer.json(RULES)));
+    final CachingContrastSDK cache =
+        CachingContrastSDK.builder(sdk)
+            .ttl(CachingContrastSDK.Operation.RULES, Duration.ZERO)
+            .staleWhileRevalidate(Duration.ofMinutes(1), Runnable::run)
+            .build();
+
+    // WHEN get rules twice
+    final Rules first = cache.getRules("org-id");
+    final Rules second = cache.getRules("org-id");
+
+    // THEN second call returns the stale result and refreshes it
+    assertThat(second).isSameAs(first);
+    assertThat(fetches).hasValue(2);
+    final CacheStats stats = cache.stats();
+    assertThat(stats.staleHits()).isEqualTo(1);
+    assertThat(stats.refreshes()).isEqualTo(1);
+  }
+
+  @Test
+  void evicts_least_recently_used_results_over_maximum_weight() throws Exception {
+    // GIVEN cache with room for one result
+    server.handle("/Contrast/api/ng/org-1/rules", counting(TestHttpServer.json(RULES)));
+    server.handle("/Contrast/api/ng/org-2/rules", counting(TestHttpServer.json(RULES)));
+    final CachingContrastSDK cache =
+        CachingContrastSDK.builder(sdk).maximumWeight(1, value -> 1).build();
+
+    // WHEN get rules for two organizations and then the first again
+    cache.getRules("org-1");
+    cache.getRules("org-2");
+    cache.getRules("org-1");
+
+    // THEN first result was evicted
+    assertThat(fetches).hasValue(3);
+    assertThat(cache.stats().evictions()).isEqualTo(2);
+    assertThat(cache.stats().weight()).isEqualTo(1);
+  }
+
+  @Test
+  void does_not_cache_failures() {
+    // GIVEN cache
+    final CachingContrastSDK cache = CachingContrastSDK.builder(sdk).build();
+
+    // WHEN get missing rules twice THEN both calls fail and fetch
+    assertThatThrownBy(() -> cache.getRules("missing"))
+        .isInstanceOf(ResourceNotFoundException.class);
+    assertThatThrownBy(() -> cache.getRules("missing"))
+        .isInstanceOf(ResourceNotFoundException.class);
+    assertThat(cache.stats().misses()).isEqualTo(2);
+  }
+
+  private HttpHandler counting(final HttpHandler handler) {
+    return exchange -> {
+      fetches.incrementAndGet();
+      handler.handle(exchange);
+    };
+  }
+
+  private static final String RULES = "{\"rules\":[{\"name\":\"sql-injection\"}]}";
+}
@@ -0,0 +1,178 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.models.Rules;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link ConditionalRequestCache}. */
+final class ConditionalRequestCacheTest {
+
+  private TestHttpServer server;
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+  }
+
+  @AfterEach
+  void after() {
+    server.close();
+  }
+
+  @Test
+  void returns_cached_object_when_not_modified() throws IOException {
+    // GIVEN server that supports conditional requests
+    final AtomicInteger downloads = new AtomicInteger();
+    server.handle("/Contrast/api/ng/org-id/rules", etagHandler("\"v1\"", downloads));
+    final ConditionalRequestCache cache = ConditionalRequestCache.create(10);
+    final ContrastSDK sdk = sdk(cache);
+
+    // WHEN get the same resource twice
+    final Rules first = sdk.getRules("org-id");
+    final Rules second = sdk.getRules("org-id");
+
+    // THEN second call reuses the deserialized object without downloading the body again
+    assertThat(second).isSameAs(first);
+    assertThat(second.getRules()).hasSize(1);
+    assertThat(downloads).hasValue(1);
+    assertThat(cache.hits()).isEqualTo(1);
+    assertThat(cache.misses()).isEqualTo(1);
+  }
+
+  @Test
+  void does_not_cache_responses_without_validators() throws IOException {
+    // GIVEN server that does not send validators
+    server.handle("/Contrast/api/ng/org-id/rules", TestHttpServer.json(RULES));
+    final ConditionalRequestCache cache = ConditionalRequestCache.create(10);
+    final ContrastSDK sdk = sdk(cache);
+
+    // WHEN get the same resource twice
+    final Rules first = sdk.getRules("org-id");
+    final Rules second = sdk.getRules("org-id");
+
+    // THEN each call downloads and parses the response
+    assertThat(second).isNotSameAs(first);
+    assertThat(cache.size()).isZero();
+    assertThat(cache.misses()).isEqualTo(2);
+  }
+
+  @Test
+  void evicts_least_recently_used_entry() throws IOException {
+    // GIVEN cache with room for one entry
+    final AtomicInteger downloads = new AtomicInteger();
+    server.handle("/Contrast/api/ng/org-1/rules", etagHandler("\"v1\"", downloads));
+    server.handle("/Contrast/api/ng/org-2/rules", etagHandler("\"v1\"", downloads));
+    final ConditionalRequestCache cache = ConditionalRequestCache.create(1);
+    final ContrastSDK sdk = sdk(cache);
+
+    // WHEN get two resources and then the first again
+    sdk.getRules("org-1");
+    sdk.getRules("org-2");
+    sdk.getRules("org-1");
+
+    // THEN the first resource was evicted and downloaded again
+    assertThat(downloads).hasValue(3);
+    assertThat(cache.evictions()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void evicts_least_recently_used_entries_beyond_byte_bound() throws IOException {
+    // GIVEN cache with room for many entries but the bytes of only one response
+    final AtomicInteger downloads = new AtomicInteger();
+    server.handle("/Contrast/api/ng/org-1/rules", etagHandler("\"v1\"", downloads));
+    server.handle("/Contrast/api/ng/org-2/rules", etagHandler("\"v1\"", downloads));
+    final int size = RULES.getBytes(StandardCharsets.UTF_8).length;
+    final ConditionalRequestCache cache = ConditionalRequestCache.create(10, size + size / 2);
+    final ContrastSDK sdk = sdk(cache);
+
+    // WHEN get two resources and then the first again
+    sdk.getRules("org-1");
+    sdk.getRules("org-2");
+    sdk.getRules("org-1");
+
+    // THEN entries were evicted to stay within the byte bound
+    assertThat(downloads).hasValue(3);
+    assertThat(cache.evictions()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.bytes()).isEqualTo(size);
+  }
+
+  @Test
+  void does_not_cache_response_larger_than_byte_bound() throws IOException {
+    // GIVEN cache with room for fewer bytes than one response
+    final AtomicInteger downloads = new AtomicInteger();
+    server.handle("/Contrast/api/ng/org-1/rules", etagHandler("\"v1\"", downloads));
+    final int size = RULES.getBytes(StandardCharsets.UTF_8).length;
+    final ConditionalRequestCache cache = ConditionalRequestCache.create(10, size - 1);
+    final ContrastSDK sdk = sdk(cache);
+
+    // WHEN get the resource twice
+    sdk.getRules("org-1");
+    sdk.getRules("org-1");
+
+    // THEN it is downloaded each time
+    assertThat(downloads).hasValue(2);
+    assertThat(cache.size()).isZero();
+    assertThat(cache.bytes()).isZero();
+  }
+
+  private ContrastSDK sdk(final ConditionalRequestCache cache) {
+    return new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+        .withApiUrl(server.url() + "/Contrast/api")
+        .withConditionalRequestCache(cache)
+        .build();
+  }
+
+  /**
+   * @return handler that responds with {@code 304 Not Modified} when the request carries the given
+   *     ETag, else with the rules and the ETag
+   */
+  private static HttpHandler etagHandler(final String etag, final AtomicInteger downloads) {
+    return exchange -> {
+      if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return;
+      }
+      downloads.incrementAndGet();
+      final byte[] bytes = RULES.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("ETag", etag);
+      exchange.sendResponseHeaders(200, bytes.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(bytes);
+      }
+    };
+  }
+
+  private static final String RULES = "{\"rules\":[{\"name\":\"sql-injection\"}]}";
+}
@@ -21,11 +21,26 @@ package com.contrastsecurity.sdk;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.exceptions.ResourceNotFoundException;
+import com.contrastsecurity.http.Deadline;
+import com.contrastsecurity.http.DeadlineExceededException;
 import com.contrastsecurity.http.HttpMethod;
+import com.contrastsecurity.http.HttpTransport;
+import com.contrastsecurity.http.TransportRequest;
+import com.contrastsecurity.http.URLConnectionTransport;
+import com.contrastsecurity.models.EventSummaryResponse;
+import com.contrastsecurity.models.GlobalProperties;
+import com.contrastsecurity.models.Trace;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.net.Proxy;
 import java.net.URLConnection;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -116,4 +131,116 @@ final class ContrastSDKTest {
         .matches(
             "INTELLIJ_INTEGRATION/1.0.0 contrast-sdk-java/\\d\\.\\d(\\.\\d)?(-SNAPSHOT)? Java/\\d+.*");
   }
+
+  @Test
+  void sends_requests_with_custom_transport() throws IOException {
+    // GIVEN SDK configured with a custom transport that records requests
+    final AtomicReference<TransportRequest> captured = new AtomicReference<>();
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle("/Contrast/api/ng/global/properties", TestHttpServer.json("{}"));
+      final HttpTransport delegate = URLConnectionTransport.create(Proxy.NO_PROXY);
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .withTransport(
+                  request -> {
+                    captured.set(request);
+                    return delegate.send(request);
+                  })
+              .build();
+
+      // WHEN make request
+      final GlobalProperties properties = sdk.getGlobalProperties();
+
+      // THEN transport sends the request with authentication headers
+      assertThat(properties).isNotNull();
+      assertThat(captured.get().method()).isEqualTo(HttpMethod.GET);
+      assertThat(captured.get().headers()).containsEntry("API-Key", "testApiKey");
+      assertThat(captured.get().headers()).containsKey("Authorization");
+    }
+  }
+
+  @Test
+  void throws_http_response_exception_for_error_status() {
+    // GIVEN server that does not know the requested resource
+    try (TestHttpServer server = new TestHttpServer()) {
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .withConnectionPool(2)
+              .build();
+
+      // WHEN make request THEN throws exception that reflects the status code
+      assertThatThrownBy(sdk::getGlobalProperties)
+          .isInstanceOf(ResourceNotFoundException.class)
+          .hasMessageContaining("GET /Contrast/api/ng/global/properties");
+    }
+  }
+
+  @Test
+  void gets_event_summary_with_single_pooled_connection() throws IOException {
+    // GIVEN server with an event summary whose events have details, and SDK with one connection
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/traces/trace-id/events/summary",
+          TestHttpServer.json("{\"success\":true,\"events\":[{\"id\":\"1\"},{\"id\":\"2\"}]}"));
+      server.handle(
+          "/Contrast/api/ng/org-id/traces/trace-id/events/",
+          TestHttpServer.json("{\"success\":true,\"event\":{}}"));
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .withConnectionPool(1)
+              .build();
+
+      // WHEN get the event summary
+      final EventSummaryResponse summary =
+          assertTimeoutPreemptively(
+              Duration.ofSeconds(10), () -> sdk.getEventSummary("org-id", "trace-id"));
+
+      // THEN requests the details of each event without waiting for the summary's connection
+      assertThat(summary.getEvents()).hasSize(2).allMatch(event -> event.getEvent() != null);
+    }
+  }
+
+  @Test
+  void applies_request_options_to_calls_made_through_view() {
+    // GIVEN SDK with a view that has an expired deadline
+    final AtomicReference<TransportRequest> captured = new AtomicReference<>();
+    final ContrastSDK sdk =
+        new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+            .withTransport(
+                request -> {
+                  captured.set(request);
+                  throw new DeadlineExceededException("Deadline exceeded: " + request);
+                })
+            .build();
+    final Deadline deadline = Deadline.after(Duration.ZERO);
+    final ContrastSDK view = sdk.withOptions(RequestOptions.builder().deadline(deadline).build());
+
+    // WHEN make request through the view THEN request carries the deadline
+    assertThatThrownBy(view::getGlobalProperties).isInstanceOf(DeadlineExceededException.class);
+    assertThat(captured.get().deadline()).isSameAs(deadline);
+  }
+
+  @Test
+  void streams_traces_from_response() throws IOException {
+    // GIVEN server that returns traces in an organization
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/orgtraces/filter/",
+          TestHttpServer.json(
+              "{\"success\":true,\"traces\":[{\"uuid\":\"A\"},{\"uuid\":\"B\"}],\"count\":2}"));
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .build();
+
+      // WHEN stream traces
+      try (CloseableIterator<Trace> traces = sdk.streamTracesInOrg("org-id", null)) {
+        // THEN iterator yields each trace in order
+        assertThat(traces).toIterable().extracting(Trace::getUuid).containsExactly("A", "B");
+      }
+    }
+  }
 }
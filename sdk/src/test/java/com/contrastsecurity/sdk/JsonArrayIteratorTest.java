@@ -0,0 +1,124 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.sdk.internal.GsonFactory;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link JsonArrayIterator}. */
+final class JsonArrayIteratorTest {
+
+  private final Gson gson = GsonFactory.create();
+
+  @Test
+  void iterates_array_after_skipping_other_fields() throws IOException {
+    // GIVEN response with fields before and after the array
+    final String json =
+        "{\"success\":true,\"messages\":[\"ok\"],\"links\":{\"self\":\"x\"},"
+            + "\"traces\":[{\"uuid\":\"A\"},{\"uuid\":\"B\"}],\"count\":2}";
+
+    // WHEN iterate
+    try (CloseableIterator<Trace> traces = open(json)) {
+      // THEN yields each element and nothing more
+      assertThat(traces.next().getUuid()).isEqualTo("A");
+      assertThat(traces.next().getUuid()).isEqualTo("B");
+      assertThat(traces.hasNext()).isFalse();
+      assertThatThrownBy(traces::next).isInstanceOf(NoSuchElementException.class);
+    }
+  }
+
+  @Test
+  void is_empty_when_field_is_missing_or_null() throws IOException {
+    try (CloseableIterator<Trace> traces = open("{\"success\":true,\"count\":0}")) {
+      assertThat(traces.hasNext()).isFalse();
+    }
+    try (CloseableIterator<Trace> traces = open("{\"traces\":null}")) {
+      assertThat(traces.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void closes_reader_when_exhausted() throws IOException {
+    // GIVEN reader that records whether it was closed
+    final AtomicBoolean closed = new AtomicBoolean();
+    final StringReader reader =
+        new StringReader("{\"traces\":[{\"uuid\":\"A\"}]}") {
+          @Override
+          public void close() {
+            closed.set(true);
+            super.close();
+          }
+        };
+
+    // WHEN consume every element
+    final CloseableIterator<Trace> traces =
+        JsonArrayIterator.open(gson, reader, "traces", Trace.class);
+    traces.forEachRemaining(trace -> {});
+
+    // THEN reader is closed without the caller closing the iterator
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void stream_yields_elements_and_closes_iterator() throws IOException {
+    // GIVEN iterator over two elements
+    final CloseableIterator<Trace> traces =
+        open("{\"traces\":[{\"uuid\":\"A\"},{\"uuid\":\"B\"}]}");
+
+    // WHEN collect from stream
+    final List<String> uuids;
+    try (Stream<Trace> stream = traces.stream()) {
+      uuids = stream.map(Trace::getUuid).collect(Collectors.toList());
+    }
+
+    // THEN stream yields each element
+    assertThat(uuids).containsExactly("A", "B");
+    assertThat(traces.hasNext()).isFalse();
+  }
+
+  @Test
+  void throws_unchecked_exception_for_truncated_response() throws IOException {
+    // GIVEN response that ends in the middle of the array
+    try (CloseableIterator<Trace> traces = open("{\"traces\":[{\"uuid\":\"A\"},")) {
+      traces.next();
+
+      // WHEN advance past the truncation THEN throws
+      assertThatThrownBy(traces::hasNext).isInstanceOf(UncheckedIOException.class);
+    }
+  }
+
+  private CloseableIterator<Trace> open(final String json) throws IOException {
+    return JsonArrayIterator.open(gson, new StringReader(json), "traces", Trace.class);
+  }
+}
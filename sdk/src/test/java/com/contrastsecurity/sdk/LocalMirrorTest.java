@@ -0,0 +1,264 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.models.Application;
+import com.contrastsecurity.models.Library;
+import com.contrastsecurity.models.Server;
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.sdk.LocalMirror.Index;
+import com.contrastsecurity.sdk.internal.BufferPool;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for {@link LocalMirror}. */
+final class LocalMirrorTest {
+
+  private static final Pattern TRACES_PATH = Pattern.compile("/traces/([^/]+)/filter");
+
+  private TestHttpServer server;
+  private ExecutorService executor;
+  private ContrastSDK sdk;
+  private final Map<String, List<String>> traces = new ConcurrentHashMap<>();
+  private final List<JsonObject> traceRequests = new ArrayList<>();
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+    server.handle(
+        "/Contrast/api/ng/org-id/applications/filter",
+        TestHttpServer.json(
+            "{\"success\":true,\"count\":2,\"applications\":["
+                + "{\"app_id\":\"app-1\",\"name\":\"WebGoat\"},"
+                + "{\"app_id\":\"app-2\",\"name\":\"Petclinic\"}]}"));
+    server.handle(
+        "/Contrast/api/ng/org-id/traces/",
+        exchange -> {
+          final Matcher matcher = TRACES_PATH.matcher(exchange.getRequestURI().getPath());
+          final String appId = matcher.find() ? matcher.group(1) : "";
+          final String body = BufferPool.shared().readString(exchange.getRequestBody());
+          synchronized (traceRequests) {
+            traceRequests.add(JsonParser.parseString(body).getAsJsonObject());
+          }
+          final List<String> appTraces = traces.getOrDefault(appId, Collections.emptyList());
+          TestHttpServer.json(
+                  "{\"success\":true,\"count\":"
+                      + appTraces.size()
+                      + ",\"traces\":["
+                      + String.join(",", appTraces)
+                      + "]}")
+              .handle(exchange);
+        });
+    server.handle(
+        "/Contrast/api/ng/org-id/libraries/filter",
+        TestHttpServer.json(
+            "{\"success\":true,\"count\":1,\"libraries\":[{\"file_name\":\"log4j-core.jar\"}]}"));
+    server.handle(
+        "/Contrast/api/ng/org-id/servers/filter",
+        TestHttpServer.json(
+            "{\"success\":true,\"count\":1,\"servers\":[{\"server_id\":7,\"name\":\"web-1\"}]}"));
+    executor = Executors.newCachedThreadPool();
+    sdk = sdk(server.url());
+  }
+
+  @AfterEach
+  void after() {
+    server.close();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void queries_traces_by_index() throws IOException {
+    // GIVEN mirror refreshed from an organization with two applications
+    traces.put(
+        "app-1",
+        Arrays.asList(
+            trace("T-1", "sql-injection", "Critical", "Reported", 1_000),
+            trace("T-2", "xss", "High", "Reported", 2_000),
+            trace("T-3", "sql-injection", "Critical", "Fixed", 3_000)));
+    traces.put(
+        "app-2", Arrays.asList(trace("T-4", "sql-injection", "Critical", "Confirmed", 4_000)));
+    final LocalMirror mirror = LocalMirror.builder(sdk, "org-id").paging(paging()).open();
+    final int received = mirror.refresh();
+
+    // WHEN query by several indexes
+    final List<Trace> open =
+        mirror
+            .select()
+            .where(Index.RULE, "sql-injection")
+            .where(Index.STATUS, "Reported", "Confirmed")
+            .list();
+
+    // THEN returns the matching traces, and every listing is held locally
+    assertThat(received).isEqualTo(4);
+    assertThat(open).extracting(Trace::getUuid).containsExactlyInAnyOrder("T-1", "T-4");
+    assertThat(mirror.select().where(Index.APPLICATION, "app-2").count()).isEqualTo(1);
+    assertThat(mirror.select().where(Index.SEVERITY, "Low").count()).isZero();
+    assertThat(mirror.select().where(Index.STATUS, "Fixed").where(Index.STATUS, "Reported").count())
+        .isZero();
+    assertThat(mirror.select().where(Index.SEVERITY, "Critical").countBy(Index.APPLICATION))
+        .containsExactly(entry("app-1", 2), entry("app-2", 1));
+    final LocalMirror.Query critical = mirror.select().where(Index.SEVERITY, "Critical");
+    assertThat(critical.where(Index.APPLICATION, "app-2").count()).isEqualTo(1);
+    assertThat(critical.count()).isEqualTo(3);
+    assertThat(mirror.trace("T-2").getRule()).isEqualTo("xss");
+    assertThat(mirror.applications())
+        .extracting(Application::getId)
+        .containsExactly("app-1", "app-2");
+    assertThat(mirror.application("app-2").getName()).isEqualTo("Petclinic");
+    assertThat(mirror.libraries())
+        .extracting(Library::getFilename)
+        .containsExactly("log4j-core.jar");
+    assertThat(mirror.servers()).extracting(Server::getServerId).containsExactly(7L);
+  }
+
+  @Test
+  void refreshes_incrementally() throws IOException {
+    // GIVEN mirror refreshed once
+    traces.put("app-1", Arrays.asList(trace("T-1", "xss", "High", "Reported", 1_000)));
+    final LocalMirror mirror = LocalMirror.builder(sdk, "org-id").paging(paging()).open();
+    mirror.refresh();
+
+    // WHEN refresh after the trace changed and another appeared
+    traces.put(
+        "app-1",
+        Arrays.asList(
+            trace("T-1", "xss", "High", "Confirmed", 5_000),
+            trace("T-5", "xss", "High", "Reported", 6_000)));
+    mirror.refresh();
+
+    // THEN requests only the traces seen since the first refresh, and merges them
+    assertThat(traceRequests.get(0).has("startDate")).isFalse();
+    assertThat(traceRequests.get(2).has("startDate")).isTrue();
+    assertThat(mirror.select().where(Index.STATUS, "Confirmed").list())
+        .extracting(Trace::getUuid)
+        .containsExactly("T-1");
+    assertThat(mirror.select().count()).isEqualTo(2);
+  }
+
+  @Test
+  void full_refresh_replaces_traces() throws IOException {
+    // GIVEN mirror refreshed once
+    traces.put(
+        "app-1",
+        Arrays.asList(
+            trace("T-1", "xss", "High", "Reported", 1_000),
+            trace("T-2", "xss", "High", "Reported", 2_000)));
+    final LocalMirror mirror = LocalMirror.builder(sdk, "org-id").paging(paging()).open();
+    mirror.refresh();
+
+    // WHEN one trace was deleted and the other fixed without new activity, and refresh in full
+    traces.put("app-1", Arrays.asList(trace("T-1", "xss", "High", "Fixed", 1_000)));
+    final int received = mirror.refresh(true);
+
+    // THEN requests every trace again, and replaces those in the mirror
+    assertThat(received).isEqualTo(1);
+    assertThat(traceRequests.get(2).has("startDate")).isFalse();
+    assertThat(mirror.select().list()).extracting(Trace::getUuid).containsExactly("T-1");
+    assertThat(mirror.trace("T-1").getStatus()).isEqualTo("Fixed");
+    assertThat(mirror.trace("T-2")).isNull();
+  }
+
+  @Test
+  void reopens_from_snapshot_without_requests(@TempDir final Path tmp) throws IOException {
+    // GIVEN mirror refreshed and saved to a directory
+    traces.put("app-1", Arrays.asList(trace("T-1", "xss", "High", "Reported", 1_000)));
+    LocalMirror.builder(sdk, "org-id").directory(tmp).paging(paging()).open().refresh();
+    server.close();
+
+    // WHEN opened again, with Contrast unreachable
+    final LocalMirror reopened =
+        LocalMirror.builder(sdk("http://localhost:1"), "org-id").directory(tmp).open();
+
+    // THEN queries the saved mirror
+    assertThat(reopened.refreshed()).isNotNull();
+    assertThat(reopened.select().where(Index.APPLICATION, "app-1").list())
+        .extracting(Trace::getUuid)
+        .containsExactly("T-1");
+    assertThat(reopened.servers()).hasSize(1);
+    try (Stream<Path> files = Files.list(tmp)) {
+      assertThat(files).containsExactly(tmp.resolve(LocalMirror.SNAPSHOT));
+    }
+  }
+
+  @Test
+  void rejects_snapshot_of_other_organization(@TempDir final Path tmp) throws IOException {
+    // GIVEN mirror of an organization saved to a directory
+    LocalMirror.builder(sdk, "org-id").directory(tmp).paging(paging()).open().refresh();
+
+    // WHEN opened for another organization THEN fails
+    assertThatThrownBy(() -> LocalMirror.builder(sdk, "other-org").directory(tmp).open())
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("other-org");
+  }
+
+  private Paging paging() {
+    return Paging.builder().pageSize(10).executor(executor).build();
+  }
+
+  private static ContrastSDK sdk(final String url) {
+    return new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+        .withApiUrl(url + "/Contrast/api")
+        .build();
+  }
+
+  private static String trace(
+      final String uuid,
+      final String rule,
+      final String severity,
+      final String status,
+      final long lastTimeSeen) {
+    return "{\"uuid\":\""
+        + uuid
+        + "\",\"rule_name\":\""
+        + rule
+        + "\",\"severity\":\""
+        + severity
+        + "\",\"status\":\""
+        + status
+        + "\",\"last_time_seen\":"
+        + lastTimeSeen
+        + "}";
+  }
+}
@@ -0,0 +1,287 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.http.LibraryFilterForm;
+import com.contrastsecurity.models.Library;
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.sdk.PagedIterator.Page;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link PagedIterator}. */
+final class PagedIteratorTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void before() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void yields_every_result_in_order_with_pages_in_flight() throws IOException {
+    // GIVEN listing of 1000 results whose pages respond slowly, in any order
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final PagedIterator.PageSource<Integer> source =
+        (offset, limit) -> {
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep((offset * 7) % 20);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          inFlight.decrementAndGet();
+          return page(offset, limit, 1000, 1000);
+        };
+
+    // WHEN iterate with 4 pages in flight
+    final List<Integer> results = new ArrayList<>();
+    try (PagedIterator<Integer> iterator = PagedIterator.open(source, paging(50, 4))) {
+      iterator.forEachRemaining(results::add);
+    }
+
+    // THEN yields each result once, in order, with no more than 4 later pages requested at a time
+    assertThat(results).isEqualTo(range(0, 1000));
+    assertThat(maxInFlight.get()).isBetween(1, 4);
+  }
+
+  @Test
+  void advances_by_capped_page_size() throws IOException {
+    // GIVEN listing that returns at most 30 results per page
+    final PagedIterator.PageSource<Integer> source =
+        (offset, limit) -> page(offset, Math.min(limit, 30), 100, 100);
+
+    // WHEN iterate with larger pages THEN yields every result once
+    try (PagedIterator<Integer> iterator = PagedIterator.open(source, paging(50, 2))) {
+      assertThat(iterator).toIterable().containsExactlyElementsOf(range(0, 100));
+    }
+  }
+
+  @Test
+  void reads_sequentially_when_total_is_unknown() throws IOException {
+    // GIVEN listing of 25 results that does not report its total
+    final AtomicInteger requests = new AtomicInteger();
+    final PagedIterator.PageSource<Integer> source =
+        (offset, limit) -> {
+          requests.incrementAndGet();
+          return new Page<>(pageResults(offset, limit, 25), null);
+        };
+
+    // WHEN iterate THEN stops after the first page that is not full
+    try (PagedIterator<Integer> iterator = PagedIterator.open(source, paging(10, 4))) {
+      assertThat(iterator).toIterable().containsExactlyElementsOf(range(0, 25));
+    }
+    assertThat(requests).hasValue(3);
+  }
+
+  @Test
+  void stops_at_empty_page() throws IOException {
+    // GIVEN listing whose total claims more results than it has
+    final PagedIterator.PageSource<Integer> source =
+        (offset, limit) -> page(offset, limit, 15, 1000);
+
+    // WHEN iterate THEN yields the results that exist
+    try (PagedIterator<Integer> iterator = PagedIterator.open(source, paging(10, 1))) {
+      assertThat(iterator).toIterable().containsExactlyElementsOf(range(0, 15));
+    }
+  }
+
+  @Test
+  void throws_failure_of_later_page() throws IOException {
+    // GIVEN listing whose second page fails
+    final PagedIterator.PageSource<Integer> source =
+        (offset, limit) -> {
+          if (offset > 0) {
+            throw new IOException("page failed");
+          }
+          return page(offset, limit, 100, 100);
+        };
+
+    // WHEN iterate past the first page THEN throws the failure
+    try (PagedIterator<Integer> iterator = PagedIterator.open(source, paging(10, 2))) {
+      for (int i = 0; i < 10; i++) {
+        iterator.next();
+      }
+      assertThatThrownBy(iterator::hasNext)
+          .isInstanceOf(UncheckedIOException.class)
+          .hasRootCauseMessage("page failed");
+      assertThat(iterator.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void does_not_request_pages_after_close() throws IOException, InterruptedException {
+    // GIVEN listing of many pages that blocks later pages until released
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger requests = new AtomicInteger();
+    final PagedIterator.PageSource<Integer> source =
+        (offset, limit) -> {
+          requests.incrementAndGet();
+          if (offset > 0) {
+            try {
+              release.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          return page(offset, limit, 10_000, 10_000);
+        };
+
+    // WHEN close after the first result
+    final PagedIterator<Integer> iterator = PagedIterator.open(source, paging(10, 2));
+    iterator.next();
+    iterator.close();
+    release.countDown();
+    executor.shutdown();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+
+    // THEN only the first page and those already in flight were requested
+    assertThat(requests.get()).isLessThanOrEqualTo(3);
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  void pages_traces_from_sdk() throws IOException {
+    // GIVEN server with 7 traces in an organization, 3 per page
+    final Pattern offsetParameter = Pattern.compile("offset=(\\d+)");
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/orgtraces/filter/",
+          exchange -> {
+            final URI uri = exchange.getRequestURI();
+            final Matcher matcher = offsetParameter.matcher(uri.getRawQuery());
+            final int offset = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+            final String traces =
+                IntStream.range(offset, Math.min(offset + 3, 7))
+                    .mapToObj(i -> "{\"uuid\":\"T-" + i + "\"}")
+                    .collect(Collectors.joining(","));
+            TestHttpServer.json("{\"success\":true,\"traces\":[" + traces + "],\"count\":7}")
+                .handle(exchange);
+          });
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .build();
+
+      // WHEN page through the traces
+      try (CloseableIterator<Trace> traces = sdk.pageTracesInOrg("org-id", null, paging(3, 2))) {
+        // THEN yields every trace in order
+        assertThat(traces)
+            .toIterable()
+            .extracting(Trace::getUuid)
+            .containsExactly("T-0", "T-1", "T-2", "T-3", "T-4", "T-5", "T-6");
+      }
+    }
+  }
+
+  @Test
+  void pages_libraries_from_sdk_until_count() throws IOException {
+    // GIVEN server with 5 libraries matching the filter, which always returns full pages
+    final Pattern offsetParameter = Pattern.compile("offset=(\\d+)");
+    final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/libraries/filter",
+          exchange -> {
+            final String query = exchange.getRequestURI().getRawQuery();
+            queries.add(query);
+            final Matcher matcher = offsetParameter.matcher(query);
+            final int offset = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+            final String libraries =
+                IntStream.range(offset, offset + 2)
+                    .mapToObj(i -> "{\"file_name\":\"lib-" + i + ".jar\"}")
+                    .collect(Collectors.joining(","));
+            TestHttpServer.json("{\"success\":true,\"libraries\":[" + libraries + "],\"count\":5}")
+                .handle(exchange);
+          });
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .build();
+      final LibraryFilterForm form = new LibraryFilterForm();
+      form.setStatuses(Collections.singletonList("CURRENT"));
+
+      // WHEN page through the libraries
+      try (CloseableIterator<Library> libraries =
+          sdk.pageLibrariesWithFilter("org-id", form, paging(2, 4))) {
+        // THEN yields the results of each page in order, and requests no page beyond the count
+        assertThat(libraries)
+            .toIterable()
+            .extracting(Library::getFilename)
+            .containsExactly(
+                "lib-0.jar", "lib-1.jar", "lib-2.jar", "lib-3.jar", "lib-4.jar", "lib-5.jar");
+      }
+      assertThat(queries)
+          .hasSize(3)
+          .allMatch(query -> query.contains("statuses=CURRENT") && query.contains("limit=2"));
+      assertThat(form.getOffset()).isZero();
+    }
+  }
+
+  private Paging paging(final int pageSize, final int pagesInFlight) {
+    return Paging.builder()
+        .pageSize(pageSize)
+        .pagesInFlight(pagesInFlight)
+        .executor(executor)
+        .build();
+  }
+
+  /** Page of the consecutive integers from {@code offset} in a listing of {@code size}. */
+  private static Page<Integer> page(
+      final int offset, final int limit, final int size, final int total) {
+    return new Page<>(pageResults(offset, limit, size), total);
+  }
+
+  private static List<Integer> pageResults(final int offset, final int limit, final int size) {
+    return offset >= size ? Collections.emptyList() : range(offset, Math.min(offset + limit, size));
+  }
+
+  private static List<Integer> range(final int from, final int to) {
+    return IntStream.range(from, to).boxed().collect(Collectors.toList());
+  }
+}
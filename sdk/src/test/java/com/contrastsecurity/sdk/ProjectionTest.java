@@ -0,0 +1,115 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.models.Application;
+import com.contrastsecurity.models.ModelTypeAdapterFactory;
+import com.contrastsecurity.models.Rules;
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.models.Traces;
+import com.contrastsecurity.sdk.internal.GsonFactory;
+import com.google.gson.Gson;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link Projection}. */
+final class ProjectionTest {
+
+  private static final String TRACES =
+      "{\"count\":1,\"traces\":[{\"uuid\":\"A\",\"severity\":\"High\",\"rule_name\":\"xss\","
+          + "\"status\":\"Reported\",\"title\":\"XSS\",\"events\":[{\"type\":\"Creation\"}],"
+          + "\"request\":{\"text\":\"GET /\"},\"application\":{\"app_id\":\"app\",\"name\":\"Web\"},"
+          + "\"servers\":[{\"server_id\":1}],\"notes\":[{\"note\":\"n\"}],\"visible\":true}]}";
+
+  @Test
+  void accepts_java_and_serialized_field_names() {
+    final Projection projection =
+        Projection.builder().include(Trace.class, "uuid", "rule", "last_time_seen").build();
+
+    assertThat(projection.fields(Trace.class))
+        .containsExactlyInAnyOrder("uuid", "rule_name", "last_time_seen");
+    assertThat(projection.fields(Application.class)).isNull();
+  }
+
+  @Test
+  void rejects_unknown_fields_and_unsupported_models() {
+    assertThatThrownBy(() -> Projection.builder().include(Trace.class, "nonsense"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("nonsense");
+    assertThatThrownBy(() -> Projection.builder().include(Rules.class, "rules"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void skips_fields_outside_projection() {
+    // GIVEN projection that keeps only the summary fields of a trace
+    final Projection projection =
+        Projection.builder().include(Trace.class, "uuid", "severity", "rule", "status").build();
+
+    // WHEN parse traces
+    final Gson gson =
+        GsonFactory.builder(ModelTypeAdapterFactory.projecting(projection.fields())).create();
+    final Traces traces = gson.fromJson(TRACES, Traces.class);
+
+    // THEN keeps the projected fields and leaves the others unset
+    assertThat(traces.getCount()).isEqualTo(1);
+    final Trace trace = traces.getTraces().get(0);
+    assertThat(trace.getUuid()).isEqualTo("A");
+    assertThat(trace.getSeverity()).isEqualTo("High");
+    assertThat(trace.getRule()).isEqualTo("xss");
+    assertThat(trace.getStatus()).isEqualTo("Reported");
+    assertThat(trace.getTitle()).isNull();
+    assertThat(trace.getEvents()).isNull();
+    assertThat(trace.getRequest()).isNull();
+    assertThat(trace.getApplication()).isNull();
+    assertThat(trace.getServers()).isNull();
+    assertThat(trace.getTraceNotes()).isNull();
+    assertThat(trace.getVisible()).isFalse();
+  }
+
+  @Test
+  void applies_to_calls_made_through_view() throws IOException {
+    // GIVEN server that returns full traces
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle("/Contrast/api/ng/org-id/orgtraces/filter/", TestHttpServer.json(TRACES));
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .build();
+      final Projection projection = Projection.builder().include(Trace.class, "uuid").build();
+
+      // WHEN get traces through a view with the projection
+      final Traces projected =
+          sdk.withOptions(RequestOptions.builder().projection(projection).build())
+              .getTracesInOrg("org-id", null);
+      final Traces full = sdk.getTracesInOrg("org-id", null);
+
+      // THEN only the view parses the projection
+      assertThat(projected.getTraces().get(0).getUuid()).isEqualTo("A");
+      assertThat(projected.getTraces().get(0).getTitle()).isNull();
+      assertThat(full.getTraces().get(0).getTitle()).isEqualTo("XSS");
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.http.DeadlineExceededException;
+import com.contrastsecurity.models.Rules;
+import com.sun.net.httpserver.HttpHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link RequestCoalescer}. */
+final class RequestCoalescerTest {
+
+  private TestHttpServer server;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+    executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+    server.close();
+  }
+
+  @Test
+  void concurrent_identical_requests_share_one_request() throws Exception {
+    // GIVEN server that holds the first request until all callers are waiting
+    final AtomicInteger requests = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final HttpHandler json = TestHttpServer.json("{\"rules\":[{\"name\":\"sql-injection\"}]}");
+    server.handle(
+        "/Contrast/api/ng/org-id/rules",
+        exchange -> {
+          requests.incrementAndGet();
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          json.handle(exchange);
+        });
+    final RequestCoalescer coalescer = RequestCoalescer.create();
+    final ContrastSDK sdk =
+        new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+            .withApiUrl(server.url() + "/Contrast/api")
+            .withRequestCoalescing(coalescer)
+            .build();
+
+    // WHEN many threads request the same rules at once
+    final List<Future<Rules>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(executor.submit(() -> sdk.getRules("org-id")));
+    }
+    while (coalescer.requests() < 8) {
+      Thread.sleep(10);
+    }
+    release.countDown();
+
+    // THEN all callers share the result of one request
+    final Rules first = futures.get(0).get();
+    for (final Future<Rules> future : futures) {
+      assertThat(future.get()).isSameAs(first);
+    }
+    assertThat(requests).hasValue(1);
+    assertThat(coalescer.coalesced()).isEqualTo(7);
+    assertThat(coalescer.dedupRate()).isEqualTo(7 / 8.0);
+    assertThat(coalescer.inFlight()).isZero();
+  }
+
+  @Test
+  void waiting_callers_make_own_request_when_request_in_flight_exceeds_its_deadline()
+      throws Exception {
+    // GIVEN server that holds the first request until its caller's deadline expires
+    final AtomicInteger requests = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final HttpHandler json = TestHttpServer.json("{\"rules\":[{\"name\":\"sql-injection\"}]}");
+    server.handle(
+        "/Contrast/api/ng/org-id/rules",
+        exchange -> {
+          if (requests.incrementAndGet() == 1) {
+            try {
+              release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          json.handle(exchange);
+        });
+    final RequestCoalescer coalescer = RequestCoalescer.create();
+    final ContrastSDK sdk =
+        new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+            .withApiUrl(server.url() + "/Contrast/api")
+            .withRequestCoalescing(coalescer)
+            .build();
+
+    // WHEN a caller with a short deadline makes the request and a caller without one joins it
+    final Future<Rules> leader =
+        executor.submit(
+            () ->
+                sdk.withOptions(RequestOptions.builder().timeout(Duration.ofMillis(500)).build())
+                    .getRules("org-id"));
+    while (coalescer.requests() < 1) {
+      Thread.sleep(10);
+    }
+    final Future<Rules> follower = executor.submit(() -> sdk.getRules("org-id"));
+    while (coalescer.requests() < 2) {
+      Thread.sleep(10);
+    }
+
+    // THEN the first caller fails on its own deadline, and the second caller makes its own request
+    try {
+      assertThatThrownBy(leader::get).hasCauseInstanceOf(DeadlineExceededException.class);
+      assertThat(follower.get(5, TimeUnit.SECONDS).getRules()).hasSize(1);
+    } finally {
+      release.countDown();
+    }
+    assertThat(requests).hasValue(2);
+    assertThat(coalescer.requests()).isEqualTo(2);
+    assertThat(coalescer.coalesced()).isZero();
+  }
+}
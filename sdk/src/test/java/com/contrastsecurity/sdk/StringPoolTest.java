@@ -0,0 +1,119 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.models.Trace;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link StringPool}. */
+final class StringPoolTest {
+
+  @Test
+  void returns_pooled_instance_for_equal_strings() {
+    // GIVEN pool that holds a string
+    final StringPool pool = StringPool.create();
+    final String first = pool.intern(new String("Critical"));
+
+    // WHEN intern an equal string
+    final String second = pool.intern(new String("Critical"));
+
+    // THEN returns the pooled instance and counts the saving
+    assertThat(second).isSameAs(first);
+    assertThat(pool.hits()).isEqualTo(1);
+    assertThat(pool.misses()).isEqualTo(1);
+    assertThat(pool.bytesSaved()).isPositive();
+  }
+
+  @Test
+  void does_not_pool_long_strings_or_null() {
+    final StringPool pool = StringPool.create(16, 4);
+
+    assertThat(pool.intern(null)).isNull();
+    final String longer = new String("longer");
+    assertThat(pool.intern(longer)).isSameAs(longer);
+    assertThat(pool.intern(new String("longer"))).isNotSameAs(longer);
+    assertThat(pool.hits() + pool.misses()).isZero();
+  }
+
+  @Test
+  void never_exceeds_capacity() {
+    // GIVEN small pool
+    final StringPool pool = StringPool.create(5, 64);
+
+    // WHEN intern many distinct strings
+    for (int i = 0; i < 1000; i++) {
+      pool.intern("value-" + i);
+    }
+
+    // THEN capacity is rounded up to a power of two, and values still intern correctly
+    assertThat(pool.capacity()).isEqualTo(8);
+    final String value = pool.intern(new String("value-1"));
+    assertThat(pool.intern(new String("value-1"))).isSameAs(value);
+  }
+
+  @Test
+  void rejects_invalid_arguments() {
+    assertThatThrownBy(() -> StringPool.create(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> StringPool.create(1, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void deduplicates_repeated_values_in_results() throws IOException {
+    // GIVEN server that returns traces that share their severity and server environments
+    final StringBuilder json = new StringBuilder("{\"traces\":[");
+    for (int i = 0; i < 10; i++) {
+      json.append(i == 0 ? "" : ",")
+          .append("{\"uuid\":\"")
+          .append(i)
+          .append("\",\"severity\":\"High\",\"server_environments\":[\"PRODUCTION\"]}");
+    }
+    json.append("]}");
+    final StringPool pool = StringPool.create();
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/orgtraces/filter/", TestHttpServer.json(json.toString()));
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .withStringPool(pool)
+              .build();
+
+      // WHEN get traces
+      final List<Trace> traces = sdk.getTracesInOrg("org-id", null).getTraces();
+
+      // THEN repeated values share one instance
+      assertThat(traces).hasSize(10);
+      for (final Trace trace : traces) {
+        assertThat(trace.getSeverity()).isSameAs(traces.get(0).getSeverity());
+        assertThat(trace.getServerEnvironments().get(0))
+            .isSameAs(traces.get(0).getServerEnvironments().get(0));
+      }
+      assertThat(pool.hits()).isEqualTo(18);
+      assertThat(pool.bytesSaved()).isPositive();
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.models.TraceFilterBody;
+import com.contrastsecurity.sdk.internal.BufferPool;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link TraceSync}. */
+final class TraceSyncTest {
+
+  private TestHttpServer server;
+  private ContrastSDK sdk;
+  private final List<JsonObject> requests = new ArrayList<>();
+  private final List<String> queries = new ArrayList<>();
+  private final AtomicReference<List<String>> traces = new AtomicReference<>();
+
+  @BeforeEach
+  void before() {
+    server = new TestHttpServer();
+    server.handle(
+        "/Contrast/api/ng/org-id/traces/app-id/filter",
+        exchange -> {
+          final String body = BufferPool.shared().readString(exchange.getRequestBody());
+          synchronized (requests) {
+            requests.add(JsonParser.parseString(body).getAsJsonObject());
+            queries.add(exchange.getRequestURI().getQuery());
+          }
+          TestHttpServer.json(page(exchange.getRequestURI().getQuery())).handle(exchange);
+        });
+    sdk =
+        new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+            .withApiUrl(server.url() + "/Contrast/api")
+            .build();
+  }
+
+  @AfterEach
+  void after() {
+    server.close();
+  }
+
+  @Test
+  void requests_only_traces_seen_since_mark_less_overlap() throws IOException {
+    // GIVEN sync with a one second overlap, and filters of the caller
+    final TraceFilterBody filters = new TraceFilterBody();
+    filters.setFilterText("sql");
+    final WatermarkStore watermarks = WatermarkStore.inMemory();
+    final TraceSync sync =
+        TraceSync.builder(sdk, "org-id")
+            .watermarks(watermarks)
+            .overlap(Duration.ofSeconds(1))
+            .filters(filters)
+            .build();
+    final Map<String, Long> store = new HashMap<>();
+
+    // WHEN synchronize the application for the first time
+    respond(trace("T-1", 1_000), trace("T-2", 5_000));
+    final TraceSync.Result first =
+        sync.sync("app-id", t -> store.put(t.getUuid(), t.getLastTimeSeen()));
+
+    // THEN requests every trace, and saves the latest time seen as the mark
+    assertThat(first.full()).isTrue();
+    assertThat(first.traces()).isEqualTo(2);
+    assertThat(first.watermark()).isEqualTo(Instant.ofEpochMilli(5_000));
+    assertThat(watermarks.load("org-id/app-id")).isEqualTo(Instant.ofEpochMilli(5_000));
+    assertThat(requests.get(0).has("startDate")).isFalse();
+    assertThat(requests.get(0).get("filterText").getAsString()).isEqualTo("sql");
+
+    // WHEN synchronize again
+    respond(trace("T-2", 5_000), trace("T-3", 9_000));
+    final TraceSync.Result second =
+        sync.sync("app-id", t -> store.put(t.getUuid(), t.getLastTimeSeen()));
+
+    // THEN requests traces last seen since the mark less the overlap, and merges them by UUID
+    assertThat(second.full()).isFalse();
+    assertThat(second.traces()).isEqualTo(2);
+    assertThat(second.watermark()).isEqualTo(Instant.ofEpochMilli(9_000));
+    assertThat(requests.get(1).get("startDate").getAsLong()).isEqualTo(4_000);
+    assertThat(requests.get(1).get("timestampFilter").getAsString()).isEqualTo("LAST");
+    assertThat(requests.get(1).get("filterText").getAsString()).isEqualTo("sql");
+    assertThat(store).containsOnlyKeys("T-1", "T-2", "T-3").containsEntry("T-3", 9_000L);
+    assertThat(filters.getStartDate()).isNull();
+  }
+
+  @Test
+  void does_not_advance_mark_when_store_fails() throws IOException {
+    // GIVEN application synchronized up to 5 seconds
+    final WatermarkStore watermarks = WatermarkStore.inMemory();
+    watermarks.save("org-id/app-id", Instant.ofEpochMilli(5_000));
+    final TraceSync sync = TraceSync.builder(sdk, "org-id").watermarks(watermarks).build();
+    respond(trace("T-3", 9_000), trace("T-4", 12_000));
+
+    // WHEN the caller's store fails during synchronization
+    assertThatThrownBy(
+            () ->
+                sync.sync(
+                    "app-id",
+                    t -> {
+                      if (t.getUuid().equals("T-4")) {
+                        throw new IllegalStateException("store unavailable");
+                      }
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // THEN the mark is unchanged, so the next synchronization requests the same traces
+    assertThat(watermarks.load("org-id/app-id")).isEqualTo(Instant.ofEpochMilli(5_000));
+  }
+
+  @Test
+  void reset_schedules_full_sync() throws IOException {
+    // GIVEN application synchronized once
+    final TraceSync sync = TraceSync.builder(sdk, "org-id").build();
+    respond(trace("T-1", 1_000));
+    sync.sync("app-id", t -> {});
+
+    // WHEN reset and synchronize again
+    sync.reset("app-id");
+    final TraceSync.Result result = sync.sync("app-id", t -> {});
+
+    // THEN requests every trace again
+    assertThat(result.full()).isTrue();
+    assertThat(requests.get(1).has("startDate")).isFalse();
+  }
+
+  @Test
+  void keeps_mark_when_nothing_changed() throws IOException {
+    // GIVEN application synchronized up to 5 seconds, with no trace seen since
+    final WatermarkStore watermarks = WatermarkStore.inMemory();
+    watermarks.save("org-id/app-id", Instant.ofEpochMilli(5_000));
+    final TraceSync sync = TraceSync.builder(sdk, "org-id").watermarks(watermarks).build();
+    respond();
+
+    // WHEN synchronize
+    final TraceSync.Result result = sync.sync("app-id", t -> {});
+
+    // THEN delivers nothing and keeps the mark
+    assertThat(result.traces()).isZero();
+    assertThat(result.watermark()).isEqualTo(Instant.ofEpochMilli(5_000));
+  }
+
+  @Test
+  void delivers_every_page_before_advancing_mark() throws IOException {
+    // GIVEN application with more traces than fit in one page
+    final TraceSync sync =
+        TraceSync.builder(sdk, "org-id").paging(Paging.builder().pageSize(2).build()).build();
+    respond(
+        trace("T-1", 1_000),
+        trace("T-2", 9_000),
+        trace("T-3", 3_000),
+        trace("T-4", 4_000),
+        trace("T-5", 5_000));
+    final List<String> store = new ArrayList<>();
+
+    // WHEN synchronize
+    final TraceSync.Result result = sync.sync("app-id", t -> store.add(t.getUuid()));
+
+    // THEN requests each page, and delivers every trace in order
+    assertThat(queries).containsOnly("limit=2&offset=0", "limit=2&offset=2", "limit=2&offset=4");
+    assertThat(queries).hasSize(3);
+    assertThat(store).containsExactly("T-1", "T-2", "T-3", "T-4", "T-5");
+    assertThat(result.traces()).isEqualTo(5);
+    assertThat(result.watermark()).isEqualTo(Instant.ofEpochMilli(9_000));
+  }
+
+  private void respond(final String... traces) {
+    this.traces.set(Arrays.asList(traces));
+  }
+
+  /** Responds with the page of the traces that the given limit and offset query requests. */
+  private String page(final String query) {
+    final List<String> all = traces.get();
+    int limit = all.size();
+    int offset = 0;
+    if (query != null) {
+      for (final String parameter : query.split("&")) {
+        final String[] pair = parameter.split("=");
+        if (pair[0].equals("limit")) {
+          limit = Integer.parseInt(pair[1]);
+        } else if (pair[0].equals("offset")) {
+          offset = Integer.parseInt(pair[1]);
+        }
+      }
+    }
+    final List<String> page =
+        all.subList(Math.min(offset, all.size()), Math.min(offset + limit, all.size()));
+    return "{\"success\":true,\"traces\":["
+        + String.join(",", page)
+        + "],\"count\":"
+        + all.size()
+        + "}";
+  }
+
+  private static String trace(final String uuid, final long lastTimeSeen) {
+    return "{\"uuid\":\"" + uuid + "\",\"last_time_seen\":" + lastTimeSeen + "}";
+  }
+}
@@ -0,0 +1,206 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.contrastsecurity.TestHttpServer;
+import com.contrastsecurity.models.Trace;
+import com.contrastsecurity.sdk.TraceTable.Column;
+import com.contrastsecurity.sdk.TraceTable.Timestamp;
+import com.contrastsecurity.sdk.internal.GsonFactory;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link TraceTable}. */
+final class TraceTableTest {
+
+  private static final Gson GSON = GsonFactory.create();
+
+  @Test
+  void stores_values_of_each_trace() {
+    // GIVEN traces with and without optional values
+    final TraceTable table =
+        TraceTable.builder()
+            .add(
+                trace(
+                    "{\"uuid\":\"A\",\"severity\":\"Critical\",\"status\":\"Reported\","
+                        + "\"rule_name\":\"sql-injection\",\"first_time_seen\":100,"
+                        + "\"last_time_seen\":200,\"server_environments\":[\"QA\",\"PRODUCTION\"],"
+                        + "\"application\":{\"app_id\":\"app-1\",\"name\":\"WebGoat\"}}"))
+            .add(trace("{\"uuid\":\"B\"}"))
+            .build();
+
+    // THEN each row returns the values of its trace
+    assertThat(table.size()).isEqualTo(2);
+    assertThat(table.uuid(0)).isEqualTo("A");
+    assertThat(table.value(Column.SEVERITY, 0)).isEqualTo("Critical");
+    assertThat(table.value(Column.RULE, 0)).isEqualTo("sql-injection");
+    assertThat(table.value(Column.APPLICATION, 0)).isEqualTo("app-1");
+    assertThat(table.applicationName("app-1")).isEqualTo("WebGoat");
+    assertThat(table.environments(0)).containsExactly("QA", "PRODUCTION");
+    assertThat(table.time(Timestamp.FIRST_TIME_SEEN, 0)).isEqualTo(100);
+    assertThat(table.time(Timestamp.CLOSED_TIME, 0)).isEqualTo(TraceTable.ABSENT);
+    assertThat(table.value(Column.SEVERITY, 1)).isNull();
+    assertThat(table.environments(1)).isEmpty();
+    assertThat(table.time(Timestamp.LAST_TIME_SEEN, 1)).isEqualTo(TraceTable.ABSENT);
+    assertThatThrownBy(() -> table.value(Column.SERVER_ENVIRONMENT, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> table.uuid(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void filters_and_counts_like_traces() {
+    // GIVEN many generated traces, enough to grow the builder's columns
+    final String[] severities = {"Critical", "High", "Medium", "Low"};
+    final String[] rules = {"sql-injection", "xss", "path-traversal"};
+    final String[] environments = {"DEVELOPMENT", "QA", "PRODUCTION"};
+    final List<Trace> traces = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      traces.add(
+          trace(
+              "{\"uuid\":\"T-"
+                  + i
+                  + "\",\"severity\":\""
+                  + severities[i % severities.length]
+                  + "\",\"rule_name\":\""
+                  + rules[i % rules.length]
+                  + "\",\"last_time_seen\":"
+                  + i
+                  + (i % 5 == 0 ? ",\"closed_time\":" + i : "")
+                  + ",\"server_environments\":[\""
+                  + environments[i % environments.length]
+                  + "\""
+                  + (i % 2 == 0 ? ",\"PRODUCTION\"" : "")
+                  + "]}"));
+    }
+    final TraceTable table = TraceTable.from(traces.iterator());
+
+    // WHEN filter and count
+    final TraceTable.Query open =
+        table
+            .select()
+            .where(Column.SEVERITY, "Critical", "High")
+            .missing(Timestamp.CLOSED_TIME)
+            .between(Timestamp.LAST_TIME_SEEN, 100, 900);
+
+    // THEN results agree with the same computation over the traces
+    final List<Trace> expected =
+        traces.stream()
+            .filter(t -> t.getSeverity().equals("Critical") || t.getSeverity().equals("High"))
+            .filter(t -> t.getClosedTime() == null)
+            .filter(t -> t.getLastTimeSeen() >= 100 && t.getLastTimeSeen() < 900)
+            .collect(Collectors.toList());
+    assertThat(open.count()).isEqualTo(expected.size());
+    assertThat(open.rows().mapToObj(table::uuid))
+        .containsExactlyElementsOf(
+            expected.stream().map(Trace::getUuid).collect(Collectors.toList()));
+    assertThat(open.countBy(Column.RULE))
+        .containsExactlyInAnyOrderEntriesOf(
+            expected.stream()
+                .collect(Collectors.groupingBy(Trace::getRule, Collectors.summingInt(t -> 1))));
+    assertThat(table.select().where(Column.SERVER_ENVIRONMENT, "PRODUCTION").count())
+        .isEqualTo(
+            (int)
+                traces.stream()
+                    .filter(t -> t.getServerEnvironments().contains("PRODUCTION"))
+                    .count());
+  }
+
+  @Test
+  void counts_from_most_to_least_frequent() {
+    final TraceTable table =
+        TraceTable.builder()
+            .add(trace("{\"uuid\":\"A\",\"status\":\"Fixed\"}"))
+            .add(trace("{\"uuid\":\"B\",\"status\":\"Reported\"}"))
+            .add(trace("{\"uuid\":\"C\",\"status\":\"Reported\"}"))
+            .add(trace("{\"uuid\":\"D\"}"))
+            .build();
+
+    assertThat(table.select().countBy(Column.STATUS))
+        .containsExactly(entry("Reported", 2), entry("Fixed", 1));
+    assertThat(table.select().where(Column.STATUS, "Unknown").count()).isZero();
+    assertThat(table.values(Column.STATUS)).containsExactly("Fixed", "Reported");
+  }
+
+  @Test
+  void reads_table_from_response() throws IOException {
+    // GIVEN server that returns traces in an organization
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/orgtraces/filter/",
+          TestHttpServer.json(
+              "{\"success\":true,\"traces\":[{\"uuid\":\"A\",\"severity\":\"High\","
+                  + "\"title\":\"ignored\"},{\"uuid\":\"B\",\"severity\":\"High\"}],\"count\":2}"));
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .build();
+
+      // WHEN read table
+      final TraceTable table = sdk.getTraceTableInOrg("org-id", null);
+
+      // THEN table holds each trace
+      assertThat(table.size()).isEqualTo(2);
+      assertThat(table.select().countBy(Column.SEVERITY)).containsExactly(entry("High", 2));
+    }
+  }
+
+  @Test
+  void reads_table_page_by_page() throws IOException {
+    // GIVEN server that returns the traces in an organization in pages of two
+    try (TestHttpServer server = new TestHttpServer()) {
+      server.handle(
+          "/Contrast/api/ng/org-id/orgtraces/filter/",
+          exchange ->
+              TestHttpServer.json(
+                      exchange.getRequestURI().getQuery().contains("offset=2")
+                          ? "{\"success\":true,\"traces\":[{\"uuid\":\"C\",\"severity\":\"Low\"}],"
+                              + "\"count\":3}"
+                          : "{\"success\":true,\"traces\":[{\"uuid\":\"A\",\"severity\":\"High\"},"
+                              + "{\"uuid\":\"B\",\"severity\":\"High\"}],\"count\":3}")
+                  .handle(exchange));
+      final ContrastSDK sdk =
+          new ContrastSDK.Builder("test_user", "testServiceKey", "testApiKey")
+              .withApiUrl(server.url() + "/Contrast/api")
+              .build();
+
+      // WHEN read table
+      final TraceTable table =
+          sdk.getTraceTableInOrg("org-id", null, Paging.builder().pageSize(2).build());
+
+      // THEN table holds the traces of every page
+      assertThat(table.size()).isEqualTo(3);
+      assertThat(table.select().countBy(Column.SEVERITY))
+          .containsExactly(entry("High", 2), entry("Low", 1));
+    }
+  }
+
+  private static Trace trace(final String json) {
+    return GSON.fromJson(json, Trace.class);
+  }
+}
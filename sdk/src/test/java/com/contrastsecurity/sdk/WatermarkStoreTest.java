@@ -0,0 +1,96 @@
+package com.contrastsecurity.sdk;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for {@link WatermarkStore}. */
+final class WatermarkStoreTest {
+
+  @Test
+  void file_store_keeps_marks_across_instances(@TempDir final Path tmp) throws IOException {
+    // GIVEN marks saved to a file in a directory that does not exist yet
+    final Path file = tmp.resolve("state").resolve("watermarks.properties");
+    final WatermarkStore store = WatermarkStore.file(file);
+    store.save("org/app-1", Instant.ofEpochMilli(1_000));
+    store.save("org/app-2", Instant.ofEpochMilli(2_000));
+    store.save("org/app-1", Instant.ofEpochMilli(3_000));
+
+    // WHEN read by another store for the same file
+    final WatermarkStore reopened = WatermarkStore.file(file);
+
+    // THEN has the latest mark of each key, and no temporary files are left behind
+    assertThat(reopened.load("org/app-1")).isEqualTo(Instant.ofEpochMilli(3_000));
+    assertThat(reopened.load("org/app-2")).isEqualTo(Instant.ofEpochMilli(2_000));
+    assertThat(reopened.load("org/app-3")).isNull();
+    try (Stream<Path> files = Files.list(file.getParent())) {
+      assertThat(files).containsExactly(file);
+    }
+  }
+
+  @Test
+  void file_store_removes_marks(@TempDir final Path tmp) throws IOException {
+    // GIVEN a saved mark
+    final WatermarkStore store = WatermarkStore.file(tmp.resolve("watermarks.properties"));
+    store.save("org/app", Instant.ofEpochMilli(1_000));
+
+    // WHEN removed
+    store.remove("org/app");
+
+    // THEN is no longer loaded
+    assertThat(store.load("org/app")).isNull();
+  }
+
+  @Test
+  void file_store_rejects_invalid_marks(@TempDir final Path tmp) throws IOException {
+    // GIVEN file with a mark that is not an instant
+    final Path file = tmp.resolve("watermarks.properties");
+    Files.write(file, Collections.singletonList("org/app=yesterday"), StandardCharsets.ISO_8859_1);
+
+    // WHEN loaded THEN fails
+    assertThatThrownBy(() -> WatermarkStore.file(file).load("org/app"))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("org/app");
+  }
+
+  @Test
+  void in_memory_store_keeps_marks() throws IOException {
+    // GIVEN a saved mark
+    final WatermarkStore store = WatermarkStore.inMemory();
+    store.save("org/app", Instant.ofEpochMilli(1_000));
+
+    // WHEN loaded THEN is the saved mark, until removed
+    assertThat(store.load("org/app")).isEqualTo(Instant.ofEpochMilli(1_000));
+    store.remove("org/app");
+    assertThat(store.load("org/app")).isNull();
+  }
+}
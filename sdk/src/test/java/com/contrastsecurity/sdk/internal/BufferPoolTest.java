@@ -0,0 +1,114 @@
+package com.contrastsecurity.sdk.internal;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link BufferPool}. */
+final class BufferPoolTest {
+
+  @Test
+  void reads_bodies_larger_than_a_buffer() throws IOException {
+    // GIVEN pool of small buffers and a body that needs several of them
+    final BufferPool pool = BufferPool.create(2, 16);
+    final byte[] body = new byte[1000];
+    new Random(0).nextBytes(body);
+
+    // WHEN read in small chunks
+    final byte[] read = pool.readAllBytes(new TrickleInputStream(body));
+
+    // THEN reads the whole body
+    assertThat(read).isEqualTo(body);
+  }
+
+  @Test
+  void decodes_utf8() throws IOException {
+    final BufferPool pool = BufferPool.create(1, 4);
+    final String text = "{\"message\":\"résumé — ✓ 🎉\"}";
+
+    final String read =
+        pool.readString(new TrickleInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(read).isEqualTo(text);
+    assertThat(pool.readString(new ByteArrayInputStream(new byte[0]))).isEmpty();
+  }
+
+  @Test
+  void reuses_released_buffers() throws IOException {
+    // GIVEN pool holding a released buffer
+    final BufferPool pool = BufferPool.create(1, 64);
+    final byte[] first = pool.acquire();
+    pool.release(first);
+
+    // WHEN acquire again THEN returns the released buffer
+    assertThat(pool.acquire()).isSameAs(first);
+    // AND ignores buffers of another size
+    pool.release(new byte[32]);
+    assertThat(pool.acquire()).hasSize(64).isNotSameAs(first);
+  }
+
+  @Test
+  void transfers_stream() throws IOException {
+    final BufferPool pool = BufferPool.create(1, 8);
+    final byte[] body = "contrast.jar contents".getBytes(StandardCharsets.UTF_8);
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+    final long copied = pool.transfer(new TrickleInputStream(body), os);
+
+    assertThat(copied).isEqualTo(body.length);
+    assertThat(os.toByteArray()).isEqualTo(body);
+  }
+
+  @Test
+  void rejects_invalid_sizes() {
+    assertThatThrownBy(() -> BufferPool.create(0, 16)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BufferPool.create(1, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /** Returns at most 3 bytes from each read, as a slow network connection may. */
+  private static final class TrickleInputStream extends InputStream {
+
+    private final ByteArrayInputStream delegate;
+
+    private TrickleInputStream(final byte[] bytes) {
+      this.delegate = new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public int read() {
+      return delegate.read();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      return delegate.read(b, off, Math.min(len, 3));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.contrastsecurity.sdk.internal;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.contrastsecurity.models.Chapter;
+import com.contrastsecurity.models.PropertyResource;
+import com.contrastsecurity.models.StoryResponse;
+import com.google.gson.Gson;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link ChapterTypeAdapter}. */
+final class ChapterTypeAdapterTest {
+
+  private final Gson gson = GsonFactory.create();
+
+  @Test
+  void reads_story_with_properties_in_one_pass() {
+    // GIVEN story whose chapter has properties keyed by index
+    final String json =
+        "{\"success\":\"true\",\"messages\":[\"ok\"],\"story\":{\"traceId\":\"T\",\"chapters\":["
+            + "{\"type\":\"properties\",\"introText\":\"intro\",\"introTextVariables\":{\"a\":\"b\"},"
+            + "\"properties\":{\"0\":{\"name\":\"Header\",\"value\":\"Accept\"},"
+            + "\"1\":{\"name\":\"Count\",\"value\":3},\"2\":{\"name\":\"Missing\"},\"3\":\"junk\"}},"
+            + "{\"type\":\"source\",\"body\":\"b\",\"bodyFormatVariables\":null,\"extra\":[1,2]}]}}";
+
+    // WHEN deserialize
+    final StoryResponse response = gson.fromJson(json, StoryResponse.class);
+
+    // THEN chapters and their property resources are populated
+    assertThat(response.getMessages()).containsExactly("ok");
+    assertThat(response.getStory().getTraceId()).isEqualTo("T");
+    final List<Chapter> chapters = response.getStory().getChapters();
+    assertThat(chapters).hasSize(2);
+    assertThat(chapters.get(0).getIntroText()).isEqualTo("intro");
+    assertThat(chapters.get(0).getIntroTextVariables()).containsEntry("a", "b");
+    assertThat(chapters.get(0).getPropertyResources())
+        .extracting(PropertyResource::getName, PropertyResource::getValue)
+        .containsExactly(tuple("Header", "Accept"), tuple("Count", "3"));
+    assertThat(chapters.get(1).getBody()).isEqualTo("b");
+    assertThat(chapters.get(1).getBodyFormatVariables()).isNull();
+    assertThat(chapters.get(1).getPropertyResources()).isNull();
+  }
+
+  @Test
+  void round_trips_chapter() {
+    // GIVEN chapter with property resources
+    final Chapter chapter = new Chapter();
+    chapter.setType("properties");
+    final PropertyResource resource = new PropertyResource();
+    resource.setName("Header");
+    resource.setValue("Accept");
+    chapter.setPropertyResources(Collections.singletonList(resource));
+
+    // WHEN serialize and deserialize
+    final Chapter copy = gson.fromJson(gson.toJson(chapter), Chapter.class);
+
+    // THEN copy has the same values
+    assertThat(copy.getType()).isEqualTo("properties");
+    assertThat(copy.getPropertyResources())
+        .singleElement()
+        .extracting(PropertyResource::getName, PropertyResource::getValue)
+        .containsExactly("Header", "Accept");
+  }
+}
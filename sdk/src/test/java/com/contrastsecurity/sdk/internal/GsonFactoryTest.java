@@ -0,0 +1,97 @@
+package com.contrastsecurity.sdk.internal;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link GsonFactory}. */
+final class GsonFactoryTest {
+
+  @Test
+  void shares_one_instance() {
+    assertThat(GsonFactory.shared()).isSameAs(GsonFactory.shared());
+  }
+
+  @Test
+  void builds_each_variant_once() {
+    // GIVEN variant with another naming policy
+    final AtomicInteger builds = new AtomicInteger();
+    final String key = "GsonFactoryTest.upper-camel-case";
+
+    // WHEN requested twice
+    final Gson first =
+        GsonFactory.variant(
+            key,
+            () -> {
+              builds.incrementAndGet();
+              return GsonFactory.builder().setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE);
+            });
+    final Gson second = GsonFactory.variant(key, () -> GsonFactory.builder().serializeNulls());
+
+    // THEN the first configuration is built once and shared
+    assertThat(second).isSameAs(first);
+    assertThat(builds).hasValue(1);
+    assertThat(first.toJson(new Named("value"))).isEqualTo("{\"Name\":\"value\"}");
+  }
+
+  @Test
+  void evicts_least_recently_used_variant() {
+    // GIVEN a variant, followed by as many other variants as the registry keeps
+    final AtomicInteger builds = new AtomicInteger();
+    final String key = "GsonFactoryTest.evicted";
+    final Gson first =
+        GsonFactory.variant(
+            key,
+            () -> {
+              builds.incrementAndGet();
+              return GsonFactory.builder();
+            });
+    for (int i = 0; i < GsonFactory.MAX_VARIANTS; i++) {
+      GsonFactory.variant("GsonFactoryTest.filler-" + i, GsonFactory::builder);
+    }
+
+    // WHEN requested again
+    final Gson again =
+        GsonFactory.variant(
+            key,
+            () -> {
+              builds.incrementAndGet();
+              return GsonFactory.builder();
+            });
+
+    // THEN the first variant was evicted and is built again
+    assertThat(again).isNotSameAs(first);
+    assertThat(builds).hasValue(2);
+  }
+
+  private static final class Named {
+    private final String name;
+
+    private Named(final String name) {
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.contrastsecurity.sdk.internal;
+
+/*-
+ * #%L
+ * Contrast Java SDK
+ * %%
+ * Copyright (C) 2022 - 2026 Contrast Security, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Rfc3339}. The codec must behave exactly as the {@code DateTimeFormatter}s
+ * it replaces, so each property is checked against them on many randomly generated values.
+ */
+final class Rfc3339Test {
+
+  private static final int SAMPLES = 20_000;
+
+  private static final String MUTATIONS = "0123456789-+:.TZtz ";
+
+  @Test
+  void parses_valid_timestamps_like_formatter() {
+    final Random random = new Random(3339);
+    for (int i = 0; i < SAMPLES; i++) {
+      // GIVEN random valid timestamp
+      final String text = randomTimestamp(random);
+
+      // WHEN parsed THEN same instant as the formatter
+      assertThat(Rfc3339.parse(text)).as(text).isEqualTo(reference(text));
+    }
+  }
+
+  @Test
+  void parses_malformed_timestamps_like_formatter() {
+    final Random random = new Random(1337);
+    for (int i = 0; i < SAMPLES; i++) {
+      // GIVEN random valid timestamp with one character replaced, removed or inserted
+      final StringBuilder text = new StringBuilder(randomTimestamp(random));
+      final int position = random.nextInt(text.length());
+      final char c = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+      switch (random.nextInt(3)) {
+        case 0:
+          text.setCharAt(position, c);
+          break;
+        case 1:
+          text.deleteCharAt(position);
+          break;
+        default:
+          text.insert(position, c);
+      }
+
+      final String mutated = text.toString();
+
+      // WHEN parsed THEN same instant or same exception as the formatter
+      assertThat(outcome(() -> Rfc3339.parse(mutated)))
+          .as(mutated)
+          .isEqualTo(outcome(() -> reference(mutated)));
+    }
+  }
+
+  @Test
+  void formats_like_iso_instant() {
+    final Random random = new Random(8601);
+    for (int i = 0; i < SAMPLES; i++) {
+      // GIVEN random instant, mostly within the years 0000 to 9999
+      final long range = i % 10 == 0 ? 1_000_000_000_000L : 320_000_000_000L;
+      final long seconds = (long) ((random.nextDouble() - 0.2) * range);
+      final Instant instant = Instant.ofEpochSecond(seconds, randomNano(random));
+
+      // WHEN formatted THEN same text as ISO_INSTANT, which parses back to the instant
+      final String text = Rfc3339.format(instant);
+      assertThat(text).isEqualTo(DateTimeFormatter.ISO_INSTANT.format(instant));
+      if (!text.startsWith("+") && !text.startsWith("-")) {
+        assertThat(Rfc3339.parse(text)).isEqualTo(instant);
+      }
+    }
+  }
+
+  @Test
+  void formats_boundaries_of_hand_written_range() {
+    for (final String text :
+        new String[] {
+          "0000-01-01T00:00:00Z",
+          "9999-12-31T23:59:59.999999999Z",
+          "1970-01-01T00:00:00Z",
+          "2000-02-29T12:00:00.100Z",
+          "1969-12-31T23:59:59.000001Z"
+        }) {
+      final Instant instant = reference(text);
+      assertThat(Rfc3339.format(instant)).isEqualTo(DateTimeFormatter.ISO_INSTANT.format(instant));
+    }
+    final Instant after = Instant.parse("9999-12-31T23:59:59Z").plusSeconds(1);
+    assertThat(Rfc3339.format(after)).isEqualTo("+10000-01-01T00:00:00Z");
+  }
+
+  private static Instant reference(final String text) {
+    return Instant.from(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text));
+  }
+
+  /**
+   * @return the parsed instant, or the class of the exception thrown
+   */
+  private static Object outcome(final Supplier<Instant> parse) {
+    try {
+      return parse.get();
+    } catch (final RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
+  private static String randomTimestamp(final Random random) {
+    final int year = random.nextInt(10) == 0 ? random.nextInt(10_000) : 1950 + random.nextInt(100);
+    final int month = 1 + random.nextInt(12);
+    final int day = 1 + random.nextInt(YearMonth.of(year, month).lengthOfMonth());
+    final StringBuilder text =
+        new StringBuilder(
+            String.format(
+                "%04d-%02d-%02d%c%02d:%02d:%02d",
+                year,
+                month,
+                day,
+                random.nextInt(20) == 0 ? 't' : 'T',
+                random.nextInt(24),
+                random.nextInt(60),
+                random.nextInt(60)));
+    final int fractionDigits = random.nextInt(10);
+    if (fractionDigits > 0) {
+      text.append('.');
+      for (int i = 0; i < fractionDigits; i++) {
+        text.append((char) ('0' + random.nextInt(10)));
+      }
+    }
+    switch (random.nextInt(6)) {
+      case 0:
+        text.append(random.nextBoolean() ? 'Z' : 'z');
+        break;
+      case 1:
+        text.append(String.format("%+03d:%02d:%02d", random.nextInt(35) - 17, 0, 30));
+        break;
+      case 2:
+        text.append(random.nextBoolean() ? "+00:00" : "-00:00");
+        break;
+      default:
+        final int hours = random.nextInt(19);
+        final int minutes = hours == 18 ? 0 : random.nextInt(60);
+        text.append(random.nextBoolean() ? '+' : '-')
+            .append(String.format("%02d:%02d", hours, minutes));
+    }
+    return text.toString();
+  }
+
+  private static int randomNano(final Random random) {
+    switch (random.nextInt(4)) {
+      case 0:
+        return 0;
+      case 1:
+        return random.nextInt(1_000) * 1_000_000;
+      case 2:
+        return random.nextInt(1_000_000) * 1_000;
+      default:
+        return random.nextInt(1_000_000_000);
+    }
+  }
+}